@@ -35,6 +35,7 @@ package com.asc.authorization.application.configuration.authorization;
 
 import com.asc.authorization.application.configuration.properties.SecurityConfigurationProperties;
 import com.asc.authorization.application.security.filter.BasicSignatureAuthenticationFilter;
+import com.asc.authorization.application.security.filter.JwkSetEndpointFilter;
 import com.asc.authorization.application.security.filter.RateLimiterFilter;
 import com.asc.authorization.application.security.oauth.converter.FallbackScopeAuthorizationCodeRequestConverter;
 import com.asc.authorization.application.security.oauth.converter.PersonalAccessTokenAuthenticationConverter;
@@ -104,6 +105,7 @@ public class AuthorizationServerConfiguration {
 
   private final Optional<RateLimiterFilter> rateLimiterFilter;
   private final BasicSignatureAuthenticationFilter authenticationFilter;
+  private final JwkSetEndpointFilter jwkSetEndpointFilter;
 
   private final PersonalAccessTokenAuthenticationProvider personalAccessTokenAuthenticationProvider;
   private final SignatureAuthenticationProvider codeAuthenticationProvider;
@@ -262,6 +264,7 @@ public class AuthorizationServerConfiguration {
                 },
                 PathPatternRequestMatcher.withDefaults().matcher(formConfiguration.getLogin())));
     rateLimiterFilter.ifPresent(filter -> http.addFilterBefore(filter, CsrfFilter.class));
+    http.addFilterBefore(jwkSetEndpointFilter, CsrfFilter.class);
     http.addFilterBefore(authenticationFilter, LogoutFilter.class);
 
     http.cors(c -> c.configurationSource(corsConfigurationSource()));
@@ -73,4 +73,12 @@ public class RegisteredClientConfigurationProperties {
    * minute.
    */
   private int authorizationCodeMinutesTTL = 1;
+
+  /**
+   * Time-to-live (TTL) for authorization requests awaiting the user's consent, in minutes.
+   *
+   * <p>This property specifies how long a pending authorization request is kept in the short-lived
+   * authorization request store. The default value is 10 minutes.
+   */
+  private int authorizationRequestMinutesTTL = 10;
 }
@@ -0,0 +1,88 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.controller;
+
+import com.asc.authorization.application.security.oauth.revocation.RevocationFeed;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Controller serving the list of revoked access tokens from the precomputed {@link RevocationFeed}.
+ *
+ * <p>Resource servers validating access tokens locally poll this endpoint instead of introspecting
+ * every token. Responses carry a strong {@code ETag} of their own body and a {@code Cache-Control}
+ * maximum age, and conditional requests whose {@code If-None-Match} header matches the list that
+ * would be returned get a {@code 304 Not Modified} without a body.
+ */
+@RestController
+@RequiredArgsConstructor
+public class RevocationFeedController {
+  private final RevocationFeed revocationFeed;
+
+  /**
+   * Returns the revoked access tokens that have not expired yet.
+   *
+   * @param since the version of the list the client already holds, if any
+   * @param request the current {@link WebRequest}, used to evaluate conditional requests
+   * @return the whole list, or the revocations made since the given version, with HTTP 200 OK;
+   *     {@code null} if the client already holds the current list; or HTTP 503 Service Unavailable
+   *     if the list has not been built yet
+   * @throws JsonProcessingException if the revocations cannot be serialized
+   */
+  @GetMapping(value = "/oauth2/revocations", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getRevocations(
+      @RequestParam(name = "since", defaultValue = "0") long since, WebRequest request)
+      throws JsonProcessingException {
+    var snapshot = revocationFeed.getSnapshot().orElse(null);
+    if (snapshot == null) return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+
+    var revocations = revocationFeed.since(snapshot, since);
+    if (request.checkNotModified(revocations.etag())) return null;
+
+    return ResponseEntity.ok()
+        .eTag(revocations.etag())
+        .cacheControl(
+            CacheControl.maxAge(Duration.ofSeconds(snapshot.maxAgeSeconds())).cachePublic())
+        .body(revocations.body());
+  }
+}
@@ -343,19 +343,6 @@ public class AuthorizationMapper {
     return builder.build();
   }
 
-  /**
-   * Merges the fields of the updated {@link AuthorizationEntity} into the existing one.
-   *
-   * @param existing the existing {@link AuthorizationEntity}.
-   * @param update the updated {@link AuthorizationEntity}.
-   * @return the merged {@link AuthorizationEntity}.
-   */
-  public AuthorizationEntity merge(AuthorizationEntity existing, AuthorizationEntity update) {
-    if (update.getTenantId() < 1) update.setTenantId(existing.getTenantId());
-
-    return update;
-  }
-
   /**
    * Parses a JSON string into a {@link Map}.
    *
@@ -0,0 +1,126 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.filter;
+
+import com.asc.authorization.application.security.oauth.jwks.PublicJwkSet;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter serving the JSON Web Key set endpoint from the precomputed {@link PublicJwkSet}.
+ *
+ * <p>Responses carry a strong {@code ETag} and a {@code Cache-Control} maximum age, and conditional
+ * requests whose {@code If-None-Match} header matches the current set get a {@code 304 Not
+ * Modified} without a body. Until the set has been built for the first time, requests fall through
+ * to the default endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwkSetEndpointFilter extends OncePerRequestFilter {
+  private static final String JWK_SET_ENDPOINT = "/oauth2/jwks";
+
+  private final PublicJwkSet publicJwkSet;
+
+  /**
+   * Skips every request but {@code GET} and {@code HEAD} requests to the JWK set endpoint.
+   *
+   * @param request the {@link HttpServletRequest}.
+   * @return {@code true} if the request is not a JWK set request.
+   */
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    var method = request.getMethod();
+    return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method))
+        || !JWK_SET_ENDPOINT.equals(
+            request.getRequestURI().substring(request.getContextPath().length()));
+  }
+
+  /**
+   * Writes the precomputed JWK set, or a {@code 304 Not Modified} if the client already has it.
+   *
+   * @param request the {@link HttpServletRequest}.
+   * @param response the {@link HttpServletResponse}.
+   * @param chain the {@link FilterChain}.
+   * @throws ServletException if an error occurs during the filter process.
+   * @throws IOException if an I/O error occurs during the filter process.
+   */
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    var snapshot = publicJwkSet.getSnapshot().orElse(null);
+    if (snapshot == null) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    response.setHeader(HttpHeaders.ETAG, snapshot.etag());
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + snapshot.maxAgeSeconds());
+
+    if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), snapshot.etag())) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(snapshot.body().length);
+    if (HttpMethod.GET.matches(request.getMethod()))
+      response.getOutputStream().write(snapshot.body());
+  }
+
+  /**
+   * Checks an {@code If-None-Match} header against an entity tag using the weak comparison required
+   * for it.
+   *
+   * @param ifNoneMatch the header value, may be {@code null}
+   * @param etag the current entity tag
+   * @return {@code true} if the header lists the entity tag or is {@code *}
+   */
+  private boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+    return Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+        .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+  }
+}
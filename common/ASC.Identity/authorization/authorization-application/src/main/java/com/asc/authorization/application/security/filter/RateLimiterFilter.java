@@ -33,10 +33,11 @@
 
 package com.asc.authorization.application.security.filter;
 
+import com.asc.common.autoconfigurations.limiter.HybridRateLimiter;
+import com.asc.common.autoconfigurations.limiter.RateLimitDecision;
 import com.asc.common.utilities.HttpUtils;
+import com.asc.common.utilities.network.ClientIpResolver;
 import io.github.bucket4j.BucketConfiguration;
-import io.github.bucket4j.ConsumptionProbe;
-import io.github.bucket4j.distributed.proxy.ProxyManager;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -77,7 +78,8 @@ public class RateLimiterFilter extends OncePerRequestFilter {
   private static final String X_RATE_RESET = "X-Ratelimit-Reset";
 
   private final Function<HttpMethod, Supplier<BucketConfiguration>> bucketFactory;
-  private final ProxyManager<String> proxyManager;
+  private final HybridRateLimiter rateLimiter;
+  private final ClientIpResolver clientIpResolver;
   private final HttpUtils httpUtils;
 
   /**
@@ -113,18 +115,14 @@ public class RateLimiterFilter extends OncePerRequestFilter {
                   })
               .orElse(null);
     if (clientIp != null) {
-      var bucket =
-          proxyManager
-              .builder()
-              .build(
-                  String.format("identity:authorization:%s:%s", method, clientIp),
-                  bucketConfiguration);
-      var probe = bucket.tryConsumeAndReturnRemaining(1);
-      if (probe.isConsumed()) {
-        addRateLimitHeaders(response, probe);
+      var decision =
+          rateLimiter.tryConsume(
+              "identity:authorization:" + method + ':' + clientIp, bucketConfiguration);
+      if (decision.consumed()) {
+        addRateLimitHeaders(response, decision);
         chain.doFilter(request, response);
       } else {
-        handleRateLimitExceeded(response, probe);
+        handleRateLimitExceeded(response, decision);
       }
     } else {
       chain.doFilter(request, response);
@@ -138,13 +136,13 @@ public class RateLimiterFilter extends OncePerRequestFilter {
    * provide feedback about the remaining tokens and the reset time.
    *
    * @param response the {@link HttpServletResponse} to set the headers on.
-   * @param probe the {@link ConsumptionProbe} containing rate limit information.
+   * @param decision the {@link RateLimitDecision} containing rate limit information.
    */
-  private void addRateLimitHeaders(HttpServletResponse response, ConsumptionProbe probe) {
-    response.setHeader(X_RATE_REMAINING, String.valueOf(probe.getRemainingTokens()));
+  private void addRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+    response.setHeader(X_RATE_REMAINING, String.valueOf(decision.remainingTokens()));
     response.setHeader(
         X_RATE_RESET,
-        String.valueOf(TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill())));
+        String.valueOf(TimeUnit.NANOSECONDS.toSeconds(decision.nanosToWaitForRefill())));
   }
 
   /**
@@ -154,45 +152,28 @@ public class RateLimiterFilter extends OncePerRequestFilter {
    * tokens and reset time, along with a JSON content type.
    *
    * @param response the {@link HttpServletResponse}.
-   * @param probe the {@link ConsumptionProbe} containing rate limit information.
+   * @param decision the {@link RateLimitDecision} containing rate limit information.
    * @throws IOException if an I/O error occurs during the response handling.
    */
-  private void handleRateLimitExceeded(HttpServletResponse response, ConsumptionProbe probe)
+  private void handleRateLimitExceeded(HttpServletResponse response, RateLimitDecision decision)
       throws IOException {
     response.setContentType("application/json");
-    response.setHeader(X_RATE_REMAINING, String.valueOf(probe.getRemainingTokens()));
-    response.setHeader(X_RATE_RESET, String.valueOf(probe.getNanosToWaitForRefill()));
+    response.setHeader(X_RATE_REMAINING, String.valueOf(decision.remainingTokens()));
+    response.setHeader(X_RATE_RESET, String.valueOf(decision.nanosToWaitForRefill()));
     response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
   }
 
   /**
-   * Retrieves the client IP address from the request.
+   * Retrieves the public client IP address from the request.
    *
-   * <p>If the {@code X-Forwarded-For} header is present, the first IP address is used. Otherwise,
-   * the remote address from the request is used.
+   * <p>Forwarded headers are only honored for requests coming from trusted proxies. Addresses
+   * within private or reserved ranges are not used as rate limit keys.
    *
    * @param request the {@link HttpServletRequest}.
-   * @return the client IP address.
+   * @return the public client IP address, or {@code null} if there is none.
    */
   private String getClientIp(HttpServletRequest request) {
-    var xRealAddress = request.getHeader("X-Real-IP");
-    if (xRealAddress != null && !xRealAddress.isBlank()) {
-      var realAddress = xRealAddress.split(",")[0];
-      if (httpUtils.isValidPublicIp(realAddress)) return realAddress;
-    }
-
-    var xForwardedAddress = request.getHeader("X-Forwarded-For");
-    if (xForwardedAddress != null && !xForwardedAddress.isBlank()) {
-      var forwardedAddress = xForwardedAddress.split(",")[0];
-      if (httpUtils.isValidPublicIp(forwardedAddress)) return forwardedAddress;
-    }
-
-    var remoteAddress = request.getRemoteAddr();
-    if (remoteAddress != null && !remoteAddress.isBlank()) {
-      var trimmedAddress = remoteAddress.trim();
-      if (httpUtils.isValidPublicIp(trimmedAddress)) return trimmedAddress;
-    }
-
-    return null;
+    var clientIp = clientIpResolver.resolve(request);
+    return clientIp != null && clientIpResolver.isPublic(clientIp) ? clientIp : null;
   }
 }
@@ -120,8 +120,9 @@ public class AuthorizationSuccessResponseHandler implements AuthenticationSucces
   private void publishAudit(HttpServletRequest request, BasicSignature signature, String clientId) {
     var eventDate = ZonedDateTime.now();
     var clientIP = httpUtils.extractHostFromUrl(httpUtils.getFirstRequestIP(request));
-    var browser = httpUtils.getClientBrowser(request);
-    var platform = httpUtils.getClientOS(request);
+    var fingerprint = httpUtils.getClientFingerprint(request);
+    var browser = fingerprint.browserLabel();
+    var platform = fingerprint.platform();
     var fullUrl = httpUtils.getFullURL(request);
 
     authorizationLoginEventRegistrationService.registerLogin(
@@ -121,6 +121,23 @@ public class EcGenerator implements JwksKeyPairGenerator {
     return new ECKey.Builder(curve, ecPublicKey).privateKey(ecPrivateKey).keyID(id).build();
   }
 
+  /**
+   * Constructs a public-only JWK from the provided Base64-encoded public key string.
+   *
+   * @param id the key ID to associate with the JWK.
+   * @param publicKey the Base64-encoded public key string.
+   * @return the constructed public {@link JWK}.
+   * @throws NoSuchAlgorithmException if the EC algorithm is not available in the current
+   *     environment.
+   * @throws InvalidKeySpecException if the provided key specification is invalid.
+   */
+  public JWK buildPublicKey(String id, String publicKey)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    var ecPublicKey = (ECPublicKey) keyMapper.toPublicKey(publicKey, "EC");
+    var curve = Curve.forECParameterSpec(ecPublicKey.getParams());
+    return new ECKey.Builder(curve, ecPublicKey).keyID(id).build();
+  }
+
   /**
    * Returns the type of key pair generated by this class.
    *
@@ -87,6 +87,20 @@ public interface JwksKeyPairGenerator {
   JWK buildKey(String id, String publicKey, String privateKey)
       throws NoSuchAlgorithmException, InvalidKeySpecException;
 
+  /**
+   * Builds a public-only JWK from the provided Base64-encoded public key string.
+   *
+   * <p>This method never needs the private key, so it is suitable for publishing the key set.
+   *
+   * @param id the key ID to associate with the JWK.
+   * @param publicKey the Base64-encoded public key string.
+   * @return the constructed public {@link JWK}.
+   * @throws NoSuchAlgorithmException if the required algorithm is not available in the environment.
+   * @throws InvalidKeySpecException if the provided key specification is invalid.
+   */
+  JWK buildPublicKey(String id, String publicKey)
+      throws NoSuchAlgorithmException, InvalidKeySpecException;
+
   /**
    * Returns the type of key pair supported by the implementation.
    *
@@ -41,6 +41,7 @@ import com.asc.authorization.application.security.oauth.service.KeyPairService;
 import com.asc.authorization.data.key.entity.KeyPair;
 import com.asc.common.core.domain.value.KeyPairType;
 import com.asc.common.messaging.configuration.AuthorizationMessagingConfiguration;
+import com.asc.common.messaging.converter.RpcMessageProperties;
 import com.asc.common.service.transfer.message.KeyPairRetrievedEvent;
 import com.asc.common.service.transfer.message.RetrieveKeyPairMessage;
 import com.asc.common.utilities.crypto.EncryptionService;
@@ -62,7 +63,6 @@ import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.MDC;
-import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -74,6 +74,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
 import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
 import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
@@ -101,11 +102,13 @@ public class KeyPairRepositoryJWKSource
 
   @Nullable private final RabbitTemplate rpcRabbitTemplate;
   @Nullable private final MessageConverter messageConverter;
+  private final RpcMessageProperties rpcMessageProperties;
 
   private final KeyPairMapper keyPairMapper;
 
   private final KeyPairService keyPairService;
   private final EncryptionService encryptionService;
+  private final PublicJwkSet publicJwkSet;
 
   @Resource(name = "${spring.application.signature.jwks}")
   private JwksKeyPairGenerator keyPairGenerator;
@@ -120,17 +123,21 @@ public class KeyPairRepositoryJWKSource
       RegisteredClientConfigurationProperties registeredClientConfiguration,
       @Autowired(required = false) @Qualifier("rpcRabbitTemplate") RabbitTemplate rpcRabbitTemplate,
       @Autowired(required = false) MessageConverter messageConverter,
+      RpcMessageProperties rpcMessageProperties,
       KeyPairMapper keyPairMapper,
       KeyPairService keyPairService,
-      EncryptionService encryptionService) {
+      EncryptionService encryptionService,
+      PublicJwkSet publicJwkSet) {
     this.cacheManager = cacheManager;
     this.environment = environment;
     this.registeredClientConfiguration = registeredClientConfiguration;
     this.rpcRabbitTemplate = rpcRabbitTemplate;
     this.messageConverter = messageConverter;
+    this.rpcMessageProperties = rpcMessageProperties;
     this.keyPairMapper = keyPairMapper;
     this.keyPairService = keyPairService;
     this.encryptionService = encryptionService;
+    this.publicJwkSet = publicJwkSet;
   }
 
   /**
@@ -178,7 +185,8 @@ public class KeyPairRepositoryJWKSource
   /**
    * Scheduled task for rotating and invalidating keys, running every 30 minutes.
    *
-   * <p>This method ensures old keys are invalidated and new keys are generated if needed.
+   * <p>This method ensures old keys are invalidated and new keys are generated if needed, then
+   * republishes the {@link PublicJwkSet}.
    */
   @EventListener(ApplicationReadyEvent.class)
   @Scheduled(fixedDelayString = "PT30M")
@@ -189,6 +197,8 @@ public class KeyPairRepositoryJWKSource
       invalidateKeys();
     } catch (Exception e) {
       log.error("Critical error during key rotation and cleanup", e);
+    } finally {
+      publicJwkSet.refresh();
     }
   }
 
@@ -260,7 +270,7 @@ public class KeyPairRepositoryJWKSource
           rpcRabbitTemplate.sendAndReceive(
               AuthorizationMessagingConfiguration.AUTHORIZATION_RPC_EXCHANGE,
               routingKey,
-              messageConverter.toMessage(request, new MessageProperties()));
+              messageConverter.toMessage(request, rpcMessageProperties.forRegion(region)));
 
       if (response == null) {
         log.warn("No response received from remote region: {}", region);
@@ -297,7 +307,9 @@ public class KeyPairRepositoryJWKSource
   /**
    * Customizes the JWT encoding context with additional claims and header information.
    *
-   * <p>Includes client ID, tenant details, region, issuer, and audience claims.
+   * <p>Includes client ID, tenant details, region, issuer, and audience claims. Every token gets a
+   * {@code jti} claim, so that its revocation can be published to resource servers validating it
+   * locally.
    *
    * @param context the {@link JwtEncodingContext}.
    */
@@ -361,6 +373,9 @@ public class KeyPairRepositoryJWKSource
 
     if (tokenRegion != null && !tokenRegion.isBlank() && isSaaS)
       context.getClaims().claim("region", tokenRegion);
+    context
+        .getClaims()
+        .claims(claims -> claims.putIfAbsent(JwtClaimNames.JTI, UUID.randomUUID().toString()));
 
     context
         .getJwsHeader()
@@ -0,0 +1,170 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.jwks;
+
+import com.asc.authorization.application.configuration.properties.RegisteredClientConfigurationProperties;
+import com.asc.authorization.application.security.oauth.service.KeyPairService;
+import com.asc.authorization.data.key.entity.PublicKeyView;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import jakarta.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the published JSON Web Key set, serialized ahead of time.
+ *
+ * <p>The set is rebuilt from the public keys of the active key pairs after every local key rotation
+ * and periodically, to pick up rotations made by other instances. Private keys are never loaded,
+ * and serving the set touches neither the database nor any key material.
+ */
+@Slf4j
+@Component
+public class PublicJwkSet {
+  private final KeyPairService keyPairService;
+  private final Duration rotationPeriod;
+  private final Duration deprecationPeriod;
+
+  @Resource(name = "${spring.application.signature.jwks}")
+  private JwksKeyPairGenerator keyPairGenerator;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructs a new {@link PublicJwkSet}.
+   *
+   * @param keyPairService the key pair service
+   * @param registeredClientConfiguration the client settings the key rotation periods derive from
+   */
+  public PublicJwkSet(
+      KeyPairService keyPairService,
+      RegisteredClientConfigurationProperties registeredClientConfiguration) {
+    this.keyPairService = keyPairService;
+    this.rotationPeriod =
+        Duration.ofMinutes(registeredClientConfiguration.getAccessTokenMinutesTTL() * 4L);
+    this.deprecationPeriod =
+        Duration.ofMinutes(registeredClientConfiguration.getAccessTokenMinutesTTL());
+  }
+
+  /**
+   * Returns the serialized key set.
+   *
+   * @return the current {@link Snapshot}, or empty if the set has not been built yet
+   */
+  public Optional<Snapshot> getSnapshot() {
+    return Optional.ofNullable(snapshot);
+  }
+
+  /**
+   * Rebuilds the serialized key set from the public keys of the active key pairs.
+   *
+   * <p>The previous snapshot, and thus its ETag, is kept if the set has not changed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${spring.application.signature.jwks-refresh-interval:PT30S}",
+      initialDelayString = "${spring.application.signature.jwks-refresh-interval:PT30S}")
+  public void refresh() {
+    try {
+      var cutoff = ZonedDateTime.now(ZoneOffset.UTC).minus(rotationPeriod).minus(deprecationPeriod);
+      var keys = new ArrayList<JWK>();
+      for (var key :
+          keyPairService.findActivePublicKeys(cutoff).stream()
+              .filter(key -> key.getPairType().equals(keyPairGenerator.type()))
+              .sorted(
+                  Comparator.comparing(PublicKeyView::getCreatedAt)
+                      .reversed()
+                      .thenComparing(PublicKeyView::getId))
+              .toList()) {
+        try {
+          keys.add(keyPairGenerator.buildPublicKey(key.getId(), key.getPublicKey()));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+          log.error("Error building public JWK {}", key.getId(), e);
+        }
+      }
+
+      var set = new JWKSet(keys);
+      var body = set.toString(true).getBytes(StandardCharsets.UTF_8);
+      var etag = etag(body);
+      var current = snapshot;
+      if (current != null && current.etag().equals(etag)) return;
+
+      snapshot = new Snapshot(body, etag, deprecationPeriod.toSeconds(), set);
+      log.debug("Published a JWK set with {} keys", keys.size());
+    } catch (Exception e) {
+      log.error("Could not refresh the published JWK set", e);
+    }
+  }
+
+  /**
+   * Computes a strong entity tag from the SHA-256 digest of the serialized set.
+   *
+   * @param body the serialized set
+   * @return the quoted entity tag
+   * @throws NoSuchAlgorithmException if SHA-256 is not available
+   */
+  private String etag(byte[] body) throws NoSuchAlgorithmException {
+    var digest = MessageDigest.getInstance("SHA-256").digest(body);
+    return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+  }
+
+  /**
+   * Serialized JSON Web Key set.
+   *
+   * <p>The maximum age equals the deprecation period, a quarter of the rotation period. A replaced
+   * key stays published for that long after its successor is created, so a cached set keeps
+   * verifying tokens signed with it, while a token signed with an unknown key makes clients fetch
+   * the set again.
+   *
+   * @param body the JSON representation of the public key set
+   * @param etag the strong entity tag of the body
+   * @param maxAgeSeconds how long clients may cache the set, in seconds
+   * @param keys the public key set, used to verify tokens locally
+   */
+  public record Snapshot(byte[] body, String etag, long maxAgeSeconds, JWKSet keys) {}
+}
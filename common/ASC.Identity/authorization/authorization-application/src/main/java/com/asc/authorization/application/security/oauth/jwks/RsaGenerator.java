@@ -119,6 +119,23 @@ public class RsaGenerator implements JwksKeyPairGenerator {
     return new RSAKey.Builder(rsaPublicKey).privateKey(rsaPrivateKey).keyID(id).build();
   }
 
+  /**
+   * Constructs a public-only JWK from the provided Base64-encoded public key string.
+   *
+   * @param id the key ID to associate with the JWK.
+   * @param publicKey the Base64-encoded public key string.
+   * @return the constructed public {@link JWK}.
+   * @throws NoSuchAlgorithmException if the RSA algorithm is not available in the current
+   *     environment.
+   * @throws InvalidKeySpecException if the provided key specification is invalid.
+   */
+  public JWK buildPublicKey(String id, String publicKey)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    var rsaPublicKey = (RSAPublicKey) keyMapper.toPublicKey(publicKey, "RSA");
+
+    return new RSAKey.Builder(rsaPublicKey).keyID(id).build();
+  }
+
   /**
    * Returns the type of key pair generated by this class.
    *
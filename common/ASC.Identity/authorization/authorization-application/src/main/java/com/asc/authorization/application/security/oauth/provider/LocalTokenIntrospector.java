@@ -0,0 +1,149 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.provider;
+
+import com.asc.authorization.application.security.oauth.jwks.PublicJwkSet;
+import com.asc.authorization.application.security.oauth.revocation.RecentRevocations;
+import com.asc.authorization.application.security.oauth.revocation.RevocationFeed;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenIntrospection;
+import org.springframework.stereotype.Component;
+
+/**
+ * Introspects JWT access tokens without reading their authorization.
+ *
+ * <p>The signature is verified against the in-memory {@link PublicJwkSet}, the expiration and
+ * revocation are checked against the claims and the {@link RevocationFeed}, and the response is
+ * built from the claims. Tokens that can't be decided this way, such as opaque or refresh tokens,
+ * ID tokens, tokens signed with a key that has not been published yet, or tokens whose client,
+ * principal or tenant has been revoked too recently to be on the feed, are left to the database
+ * lookup. So is every token while the feed is stale, as it can't be trusted to list recent
+ * revocations.
+ */
+@Slf4j
+@Component
+public class LocalTokenIntrospector {
+  private static final String CLIENT_ID_CLAIM = "cid";
+  private static final String TENANT_ID_CLAIM = "tid";
+
+  private final RevocationFeed revocationFeed;
+  private final RecentRevocations recentRevocations;
+  private final JwtDecoder jwtDecoder;
+
+  /**
+   * Constructs a new {@link LocalTokenIntrospector}.
+   *
+   * @param publicJwkSet the published key set tokens are verified against
+   * @param revocationFeed the list of revoked tokens
+   * @param recentRevocations the recently revoked clients, principals, tenants and tokens
+   */
+  public LocalTokenIntrospector(
+      PublicJwkSet publicJwkSet,
+      RevocationFeed revocationFeed,
+      RecentRevocations recentRevocations) {
+    this.revocationFeed = revocationFeed;
+    this.recentRevocations = recentRevocations;
+
+    var decoder =
+        NimbusJwtDecoder.withJwkSource(
+                (selector, context) ->
+                    publicJwkSet
+                        .getSnapshot()
+                        .map(snapshot -> selector.select(snapshot.keys()))
+                        .orElse(List.of()))
+            .jwsAlgorithms(
+                algorithms -> {
+                  algorithms.add(SignatureAlgorithm.ES256);
+                  algorithms.add(SignatureAlgorithm.RS256);
+                })
+            .build();
+    decoder.setJwtValidator(jwt -> OAuth2TokenValidatorResult.success());
+    this.jwtDecoder = decoder;
+  }
+
+  /**
+   * Introspects a token locally.
+   *
+   * @param token the token value
+   * @return the introspection response, or empty if the token must be looked up in the database
+   */
+  public Optional<OAuth2TokenIntrospection> introspect(String token) {
+    var feed = revocationFeed.getFreshSnapshot().orElse(null);
+    if (feed == null || token.chars().filter(c -> c == '.').count() != 2) return Optional.empty();
+
+    Jwt jwt;
+    try {
+      jwt = jwtDecoder.decode(token);
+    } catch (JwtException e) {
+      log.debug("Could not verify token locally: {}", e.getMessage());
+      return Optional.empty();
+    }
+
+    if (jwt.getId() == null || jwt.hasClaim(IdTokenClaimNames.AZP)) return Optional.empty();
+
+    var now = Instant.now();
+    if ((jwt.getExpiresAt() != null && now.isAfter(jwt.getExpiresAt()))
+        || (jwt.getNotBefore() != null && now.isBefore(jwt.getNotBefore()))
+        || feed.contains(jwt.getId()))
+      return Optional.of(OAuth2TokenIntrospection.builder().build());
+
+    var clientId = jwt.getClaimAsString(CLIENT_ID_CLAIM);
+    if (clientId == null
+        || recentRevocations.isRevoked(
+            Objects.toString(jwt.getClaims().get(TENANT_ID_CLAIM), null),
+            clientId,
+            jwt.getSubject(),
+            jwt.getId())) return Optional.empty();
+
+    return Optional.of(
+        OAuth2TokenIntrospection.withClaims(
+                TokenIntrospectionAuthenticationProvider.convertClaimsIfNecessary(jwt.getClaims()))
+            .active(true)
+            .clientId(clientId)
+            .tokenType(OAuth2AccessToken.TokenType.BEARER.getValue())
+            .build());
+  }
+}
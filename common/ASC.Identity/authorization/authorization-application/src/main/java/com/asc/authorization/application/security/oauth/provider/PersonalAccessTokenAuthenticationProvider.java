@@ -197,8 +197,9 @@ public class PersonalAccessTokenAuthenticationProvider implements Authentication
       String clientId) {
     var eventDate = ZonedDateTime.now();
     var clientIP = httpUtils.extractHostFromUrl(httpUtils.getFirstRequestIP(request));
-    var browser = httpUtils.getClientBrowser(request);
-    var platform = httpUtils.getClientOS(request);
+    var fingerprint = httpUtils.getClientFingerprint(request);
+    var browser = fingerprint.browserLabel();
+    var platform = fingerprint.platform();
     var fullUrl = httpUtils.getFullURL(request);
 
     authorizationLoginEventRegistrationService.registerLogin(
@@ -35,8 +35,13 @@ package com.asc.authorization.application.security.oauth.provider;
 
 import static com.asc.authorization.application.security.RegionUtils.JWT_REGION_EXTRACTOR;
 
+import com.asc.authorization.application.configuration.properties.IntrospectionConfigurationProperties;
 import com.asc.authorization.application.security.RegionUtils;
+import com.asc.authorization.application.security.oauth.service.AuthorizationService;
+import com.asc.authorization.application.security.oauth.service.RemoteLookupBatcher;
+import com.asc.authorization.application.security.oauth.service.RemoteLookupCache;
 import com.asc.common.messaging.configuration.ClientRegistrationMessagingConfiguration;
+import com.asc.common.messaging.converter.RpcMessageProperties;
 import com.asc.common.service.transfer.message.ClientRetrievedEvent;
 import com.asc.common.service.transfer.message.RetrieveClientMessage;
 import com.asc.common.utilities.crypto.EncryptionService;
@@ -45,7 +50,8 @@ import java.util.*;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.MDC;
-import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -73,6 +79,9 @@ import org.springframework.util.CollectionUtils;
  * <p>This provider handles authentication of token introspection requests by validating the token
  * against stored authorizations and registered clients. It builds and returns introspection details
  * for active tokens, including claims and metadata.
+ *
+ * <p>When local verification is enabled, JWT access tokens issued by this region are introspected
+ * by the {@link LocalTokenIntrospector} first, and only looked up when it can't decide them.
  */
 @Slf4j
 @Component
@@ -87,25 +96,40 @@ public class TokenIntrospectionAuthenticationProvider implements AuthenticationP
   private final Environment environment;
   @Nullable private final RabbitTemplate rpcRabbitTemplate;
   @Nullable private final MessageConverter messageConverter;
+  private final RpcMessageProperties rpcMessageProperties;
 
   private final EncryptionService encryptionService;
   private final OAuth2AuthorizationService authorizationService;
   private final RegisteredClientRepository registeredClientRepository;
+  private final RemoteLookupCache remoteLookupCache;
+  private final RemoteLookupBatcher remoteLookupBatcher;
+  private final IntrospectionConfigurationProperties introspectionProperties;
+  private final LocalTokenIntrospector localTokenIntrospector;
 
   @Autowired
   public TokenIntrospectionAuthenticationProvider(
       Environment environment,
       @Autowired(required = false) @Qualifier("rpcRabbitTemplate") RabbitTemplate rpcRabbitTemplate,
       @Autowired(required = false) MessageConverter messageConverter,
+      RpcMessageProperties rpcMessageProperties,
       EncryptionService encryptionService,
       OAuth2AuthorizationService authorizationService,
-      RegisteredClientRepository registeredClientRepository) {
+      RegisteredClientRepository registeredClientRepository,
+      RemoteLookupCache remoteLookupCache,
+      RemoteLookupBatcher remoteLookupBatcher,
+      IntrospectionConfigurationProperties introspectionProperties,
+      LocalTokenIntrospector localTokenIntrospector) {
     this.environment = environment;
     this.rpcRabbitTemplate = rpcRabbitTemplate;
     this.messageConverter = messageConverter;
+    this.rpcMessageProperties = rpcMessageProperties;
     this.encryptionService = encryptionService;
     this.authorizationService = authorizationService;
     this.registeredClientRepository = registeredClientRepository;
+    this.remoteLookupCache = remoteLookupCache;
+    this.remoteLookupBatcher = remoteLookupBatcher;
+    this.introspectionProperties = introspectionProperties;
+    this.localTokenIntrospector = localTokenIntrospector;
   }
 
   /**
@@ -148,7 +172,8 @@ public class TokenIntrospectionAuthenticationProvider implements AuthenticationP
    *
    * <p>This method sends an RPC request to the specified remote region to retrieve the client
    * information. It's used during token introspection when a token from a different region needs to
-   * be validated.
+   * be validated. Results are served from the {@link RemoteLookupCache} for a short time, and a
+   * previously fetched client keeps being served while the remote region can't be reached.
    *
    * @param clientId the ID of the client to retrieve
    * @param targetRegion the region to fetch the client from
@@ -164,30 +189,8 @@ public class TokenIntrospectionAuthenticationProvider implements AuthenticationP
     try {
       MDC.put("client_id", clientId);
       MDC.put("region", targetRegion);
-      log.info("Retrieving client from remote region");
-
-      var routingKey =
-          ClientRegistrationMessagingConfiguration.CLIENT_RPC_ROUTING_KEY_PREFIX + targetRegion;
-      var message =
-          messageConverter.toMessage(
-              RetrieveClientMessage.builder().clientId(clientId).build(), new MessageProperties());
-
-      var response =
-          rpcRabbitTemplate.sendAndReceive(
-              ClientRegistrationMessagingConfiguration.CLIENT_RPC_EXCHANGE, routingKey, message);
-
-      if (response == null) {
-        log.warn("Received an empty response from remote region");
-        return Optional.empty();
-      }
-
-      var data = messageConverter.fromMessage(response);
-      if (data instanceof ClientRetrievedEvent clientEvent) {
-        var registeredClient = toRegisteredClient(clientEvent);
-        return Optional.of(registeredClient);
-      }
-
-      return Optional.empty();
+      return remoteLookupCache.getClient(
+          targetRegion, clientId, () -> retrieveRemoteClient(clientId, targetRegion));
     } catch (Exception e) {
       log.error("Error fetching client from remote region: {}", targetRegion, e);
       return Optional.empty();
@@ -196,6 +199,47 @@ public class TokenIntrospectionAuthenticationProvider implements AuthenticationP
     }
   }
 
+  /**
+   * Sends the RPC request retrieving a registered client from a remote region.
+   *
+   * <p>When batching is enabled, the request is coalesced with other lookups for the same region by
+   * the {@link RemoteLookupBatcher}.
+   *
+   * @param clientId the ID of the client to retrieve
+   * @param targetRegion the region to fetch the client from
+   * @return an {@link Optional} containing the {@link RegisteredClient} if found, or empty if the
+   *     remote region does not know the client
+   * @throws AmqpException if the remote region does not respond in time or fails the lookup
+   */
+  private Optional<RegisteredClient> retrieveRemoteClient(String clientId, String targetRegion) {
+    log.info("Retrieving client from remote region");
+
+    if (remoteLookupBatcher.isEnabled())
+      return remoteLookupBatcher
+          .retrieveClient(targetRegion, clientId)
+          .map(this::toRegisteredClient);
+
+    var routingKey =
+        ClientRegistrationMessagingConfiguration.CLIENT_RPC_ROUTING_KEY_PREFIX + targetRegion;
+    var message =
+        messageConverter.toMessage(
+            RetrieveClientMessage.builder().clientId(clientId).build(),
+            rpcMessageProperties.forRegion(targetRegion));
+
+    var response =
+        rpcRabbitTemplate.sendAndReceive(
+            ClientRegistrationMessagingConfiguration.CLIENT_RPC_EXCHANGE, routingKey, message);
+
+    if (response == null)
+      throw new AmqpTimeoutException("Received no response from region " + targetRegion);
+
+    var data = messageConverter.fromMessage(response);
+    if (data instanceof ClientRetrievedEvent clientEvent)
+      return Optional.of(toRegisteredClient(clientEvent));
+
+    return Optional.empty();
+  }
+
   /**
    * Authenticates the provided token introspection request.
    *
@@ -231,7 +275,19 @@ public class TokenIntrospectionAuthenticationProvider implements AuthenticationP
       }
     }
 
-    var authorization = authorizationService.findByToken(token, null);
+    if (introspectionProperties.isLocalVerification() && tokenRgn == null) {
+      var introspection = localTokenIntrospector.introspect(token);
+      if (introspection.isPresent()) {
+        log.trace("Introspected token locally");
+        return new OAuth2TokenIntrospectionAuthenticationToken(
+            token, authentication, introspection.get());
+      }
+    }
+
+    var authorization =
+        authorizationService instanceof AuthorizationService service
+            ? service.findByTokenForInspection(token)
+            : authorizationService.findByToken(token, null);
     if (authorization == null) {
       log.debug("Did not authenticate token introspection request since token was not found");
       // Return the authentication request when token not found
@@ -329,7 +385,7 @@ public class TokenIntrospectionAuthenticationProvider implements AuthenticationP
    * @param claims the original token claims.
    * @return the converted claims.
    */
-  private static Map<String, Object> convertClaimsIfNecessary(Map<String, Object> claims) {
+  static Map<String, Object> convertClaimsIfNecessary(Map<String, Object> claims) {
     var convertedClaims = new HashMap<String, Object>(claims);
 
     var value = claims.get(OAuth2TokenIntrospectionClaimNames.ISS);
@@ -0,0 +1,199 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.revocation;
+
+import com.asc.authorization.application.configuration.properties.IntrospectionConfigurationProperties;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
+import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local, short-lived list of recently revoked clients, principals, tenants and tokens.
+ *
+ * <p>Revocations reach the {@link RevocationFeed} only once it is refreshed. Until then, tokens
+ * matching a revocation made on this instance, or reported by the cleanup messages fanned out to
+ * every instance, must not be verified locally but looked up in the database. Entries therefore
+ * expire after a time-to-live exceeding the refresh interval of the feed.
+ */
+@Component
+public class RecentRevocations {
+  private final Cache<Key, Boolean> revocations;
+
+  /**
+   * Constructs a new {@link RecentRevocations}.
+   *
+   * @param properties the introspection settings
+   */
+  @Autowired
+  public RecentRevocations(IntrospectionConfigurationProperties properties) {
+    this(properties, Ticker.systemTicker());
+  }
+
+  /**
+   * Constructs a new {@link RecentRevocations} measuring time with the given ticker.
+   *
+   * @param properties the introspection settings
+   * @param ticker the time source
+   */
+  RecentRevocations(IntrospectionConfigurationProperties properties, Ticker ticker) {
+    this.revocations =
+        Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.getRecentRevocationMaximumSize())
+            .expireAfterWrite(properties.getRecentRevocationTtl())
+            .build();
+  }
+
+  /**
+   * Records a revoked token.
+   *
+   * @param jti the {@code jti} claim of the token
+   */
+  public void revokeToken(String jti) {
+    revocations.put(new Key(Kind.TOKEN, jti), Boolean.TRUE);
+  }
+
+  /**
+   * Records the revoked authorizations of a principal for a registered client.
+   *
+   * @param registeredClientId the registered client identifier
+   * @param principalId the principal identifier
+   */
+  public void revokeAuthorizations(String registeredClientId, String principalId) {
+    revocations.put(
+        new Key(Kind.AUTHORIZATION, registeredClientId + ':' + principalId), Boolean.TRUE);
+  }
+
+  /**
+   * Checks whether a token may have been revoked recently.
+   *
+   * @param tenantId the tenant the token was issued for, may be {@code null}
+   * @param registeredClientId the client the token was issued to, may be {@code null}
+   * @param principalId the principal the token was issued for, may be {@code null}
+   * @param jti the {@code jti} claim of the token
+   * @return {@code true} if the token, or its client, principal or tenant, has been revoked
+   *     recently
+   */
+  public boolean isRevoked(
+      String tenantId, String registeredClientId, String principalId, String jti) {
+    return contains(Kind.TOKEN, jti)
+        || contains(Kind.TENANT, tenantId)
+        || contains(Kind.CLIENT, registeredClientId)
+        || contains(Kind.PRINCIPAL, principalId)
+        || (registeredClientId != null
+            && principalId != null
+            && contains(Kind.AUTHORIZATION, registeredClientId + ':' + principalId));
+  }
+
+  /**
+   * Records a removed client.
+   *
+   * @param event the client removal event
+   */
+  @EventListener
+  public void onClientRemoved(ClientRemovedEvent event) {
+    revocations.put(new Key(Kind.CLIENT, event.getClientId()), Boolean.TRUE);
+  }
+
+  /**
+   * Records a user whose clients have been removed.
+   *
+   * @param event the user clients removal event
+   */
+  @EventListener
+  public void onUserClientsRemoved(UserClientsRemovedEvent event) {
+    revocations.put(new Key(Kind.PRINCIPAL, event.getUserId()), Boolean.TRUE);
+  }
+
+  /**
+   * Records a tenant whose clients have been removed.
+   *
+   * @param event the tenant clients removal event
+   */
+  @EventListener
+  public void onTenantClientsRemoved(TenantClientsRemovedEvent event) {
+    revocations.put(new Key(Kind.TENANT, String.valueOf(event.getTenantId())), Boolean.TRUE);
+  }
+
+  /**
+   * Records the clients and principals of a bulk revocation, or its whole tenant if neither is
+   * given.
+   *
+   * @param event the authorizations revoked event
+   */
+  @EventListener
+  public void onAuthorizationsRevoked(AuthorizationsRevokedEvent event) {
+    if (event.getClientIds().isEmpty() && event.getPrincipalIds().isEmpty())
+      revocations.put(new Key(Kind.TENANT, String.valueOf(event.getTenantId())), Boolean.TRUE);
+    event.getClientIds().forEach(id -> revocations.put(new Key(Kind.CLIENT, id), Boolean.TRUE));
+    event
+        .getPrincipalIds()
+        .forEach(id -> revocations.put(new Key(Kind.PRINCIPAL, id), Boolean.TRUE));
+  }
+
+  /**
+   * Checks whether an identifier has been recorded.
+   *
+   * @param kind the kind of the identifier
+   * @param id the identifier, may be {@code null}
+   * @return {@code true} if the identifier has been recorded
+   */
+  private boolean contains(Kind kind, String id) {
+    return id != null && revocations.getIfPresent(new Key(kind, id)) != null;
+  }
+
+  /** Kind of a revoked identifier. */
+  private enum Kind {
+    TOKEN,
+    AUTHORIZATION,
+    CLIENT,
+    PRINCIPAL,
+    TENANT
+  }
+
+  /**
+   * Key of a revoked identifier.
+   *
+   * @param kind the kind of the identifier
+   * @param id the identifier
+   */
+  private record Key(Kind kind, String id) {}
+}
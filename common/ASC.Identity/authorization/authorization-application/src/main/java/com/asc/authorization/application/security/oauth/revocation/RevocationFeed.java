@@ -0,0 +1,310 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.revocation;
+
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the published list of revoked access tokens, serialized ahead of time.
+ *
+ * <p>The list is rebuilt periodically from the revoked tokens that have not expired yet, so every
+ * entry is published for at most the lifetime of its token. Entries are sorted by their {@code
+ * jti}, and the list is versioned by the time of its latest revocation. Clients that already hold a
+ * version may ask for the revocations made since, which include a short settle period to cover
+ * revocations committed after a later one was published.
+ *
+ * <p>Each snapshot records when it was last confirmed against the database. A snapshot that has not
+ * been confirmed for {@value #STALE_AFTER_REFRESHES} refresh intervals, for instance because the
+ * database is unavailable, is no longer offered for local decisions.
+ */
+@Slf4j
+@Component
+public class RevocationFeed {
+  /** How long a revocation may take to commit after it was recorded. */
+  static final Duration SETTLE_PERIOD = Duration.ofSeconds(10);
+
+  /** How many refresh intervals a snapshot may go unconfirmed before it is considered stale. */
+  static final int STALE_AFTER_REFRESHES = 3;
+
+  private final JpaRevokedTokenRepository jpaRevokedTokenRepository;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Duration staleAfter;
+  private final long maxAgeSeconds;
+  private final Clock clock;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructs a new {@link RevocationFeed}.
+   *
+   * @param jpaRevokedTokenRepository the revoked token repository
+   * @param refreshInterval how often the list is rebuilt, which clients may cache it for
+   */
+  @Autowired
+  public RevocationFeed(
+      JpaRevokedTokenRepository jpaRevokedTokenRepository,
+      @Value("${spring.application.revocation-feed.refresh-interval:PT10S}")
+          Duration refreshInterval) {
+    this(jpaRevokedTokenRepository, refreshInterval, Clock.systemUTC());
+  }
+
+  /**
+   * Constructs a new {@link RevocationFeed} reading time from the given clock.
+   *
+   * @param jpaRevokedTokenRepository the revoked token repository
+   * @param refreshInterval how often the list is rebuilt, which clients may cache it for
+   * @param clock the time source
+   */
+  RevocationFeed(
+      JpaRevokedTokenRepository jpaRevokedTokenRepository, Duration refreshInterval, Clock clock) {
+    this.jpaRevokedTokenRepository = jpaRevokedTokenRepository;
+    this.staleAfter = refreshInterval.multipliedBy(STALE_AFTER_REFRESHES);
+    this.maxAgeSeconds = refreshInterval.toSeconds();
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the serialized list.
+   *
+   * @return the current {@link Snapshot}, or empty if the list has not been built yet
+   */
+  public Optional<Snapshot> getSnapshot() {
+    return Optional.ofNullable(snapshot);
+  }
+
+  /**
+   * Returns the serialized list if it has been confirmed against the database recently enough to
+   * decide on tokens without reading it.
+   *
+   * @return the current {@link Snapshot}, or empty if the list has not been built yet or is stale
+   */
+  public Optional<Snapshot> getFreshSnapshot() {
+    var current = snapshot;
+    if (current == null || current.refreshedAt().isBefore(clock.instant().minus(staleAfter)))
+      return Optional.empty();
+    return Optional.of(current);
+  }
+
+  /**
+   * Rebuilds the serialized list from the revoked tokens that have not expired yet.
+   *
+   * <p>The previous snapshot, and thus its ETag, is kept if the list has not changed, only
+   * recording that it has been confirmed. A failed refresh leaves the snapshot unconfirmed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${spring.application.revocation-feed.refresh-interval:PT10S}",
+      initialDelayString = "${spring.application.revocation-feed.refresh-interval:PT10S}")
+  public void refresh() {
+    try {
+      var refreshedAt = clock.instant();
+      var tokens =
+          jpaRevokedTokenRepository.findAllByExpiresAtAfter(ZonedDateTime.now(clock)).stream()
+              .map(
+                  token ->
+                      new RevokedToken(
+                          token.getJti(),
+                          token.getExpiresAt().toEpochSecond(),
+                          token.getRevokedAt().toInstant().toEpochMilli()))
+              .sorted(Comparator.comparing(RevokedToken::jti))
+              .toList();
+      var version = tokens.stream().mapToLong(RevokedToken::revokedAt).max().orElse(0);
+
+      var body = serialize(version, false, tokens);
+      var etag = etag(body);
+      var current = snapshot;
+      if (current != null && current.etag().equals(etag)) {
+        snapshot = current.confirmedAt(refreshedAt);
+        return;
+      }
+
+      snapshot = new Snapshot(version, tokens, body, etag, maxAgeSeconds, refreshedAt);
+      log.debug("Published a revocation list with {} tokens", tokens.size());
+    } catch (Exception e) {
+      log.error("Could not refresh the published revocation list", e);
+    }
+  }
+
+  /**
+   * Serializes the revocations of a snapshot made since a version a client already holds.
+   *
+   * <p>The whole list is returned if the version is unknown, or newer than the snapshot. A partial
+   * list carries the entity tag of its own body, so that it never validates a cached whole list or
+   * a partial list for another version.
+   *
+   * @param snapshot the snapshot to serialize
+   * @param since the version the client holds
+   * @return the serialized revocations and their entity tag
+   * @throws JsonProcessingException if the revocations cannot be serialized
+   */
+  public Serialized since(Snapshot snapshot, long since) throws JsonProcessingException {
+    if (since <= 0 || since > snapshot.version())
+      return new Serialized(snapshot.body(), snapshot.etag());
+
+    var cutoff = since - SETTLE_PERIOD.toMillis();
+    var body =
+        serialize(
+            snapshot.version(),
+            true,
+            snapshot.tokens().stream().filter(token -> token.revokedAt() >= cutoff).toList());
+    return new Serialized(body, etag(body));
+  }
+
+  /**
+   * Serializes a list of revoked tokens.
+   *
+   * @param version the version of the list
+   * @param delta whether the list holds only the revocations made since a previous version
+   * @param tokens the revoked tokens
+   * @return the JSON representation of the list
+   * @throws JsonProcessingException if the list cannot be serialized
+   */
+  private byte[] serialize(long version, boolean delta, List<RevokedToken> tokens)
+      throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(new RevocationList(version, delta, tokens));
+  }
+
+  /**
+   * Computes a strong entity tag from the SHA-256 digest of the serialized list.
+   *
+   * @param body the serialized list
+   * @return the quoted entity tag
+   * @throws IllegalStateException if SHA-256 is not available
+   */
+  private String etag(byte[] body) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Revoked access token.
+   *
+   * @param jti the {@code jti} claim of the token
+   * @param expiresAt the expiration time of the token, in seconds since the epoch
+   * @param revokedAt the revocation time of the token, in milliseconds since the epoch
+   */
+  public record RevokedToken(
+      @JsonProperty("jti") String jti,
+      @JsonProperty("exp") long expiresAt,
+      @JsonIgnore long revokedAt) {}
+
+  /**
+   * JSON representation of the list.
+   *
+   * @param version the version of the list
+   * @param delta whether the list holds only the revocations made since a previous version
+   * @param revoked the revoked tokens
+   */
+  private record RevocationList(
+      @JsonProperty("version") long version,
+      @JsonProperty("delta") boolean delta,
+      @JsonProperty("revoked") List<RevokedToken> revoked) {}
+
+  /**
+   * Serialized list, whole or partial, as returned to a client.
+   *
+   * @param body the JSON representation of the list
+   * @param etag the strong entity tag of the body
+   */
+  public record Serialized(byte[] body, String etag) {}
+
+  /**
+   * Serialized list of revoked access tokens.
+   *
+   * <p>The maximum age equals the refresh interval, so clients fetch the list about as often as it
+   * may change.
+   *
+   * @param version the time of the latest revocation, in milliseconds since the epoch
+   * @param tokens the revoked tokens, sorted by their {@code jti}
+   * @param body the JSON representation of the whole list
+   * @param etag the strong entity tag of the body
+   * @param maxAgeSeconds how long clients may cache the list, in seconds
+   * @param refreshedAt when the list was last confirmed against the database
+   */
+  public record Snapshot(
+      long version,
+      List<RevokedToken> tokens,
+      byte[] body,
+      String etag,
+      long maxAgeSeconds,
+      Instant refreshedAt) {
+    /**
+     * Returns this list as confirmed against the database at the given time.
+     *
+     * @param refreshedAt when the list was confirmed
+     * @return a snapshot of the same list
+     */
+    Snapshot confirmedAt(Instant refreshedAt) {
+      return new Snapshot(version, tokens, body, etag, maxAgeSeconds, refreshedAt);
+    }
+
+    /**
+     * Checks whether a token is on the list.
+     *
+     * @param jti the {@code jti} claim of the token
+     * @return {@code true} if the token has been revoked
+     */
+    public boolean contains(String jti) {
+      return Collections.binarySearch(
+              tokens, new RevokedToken(jti, 0, 0), Comparator.comparing(RevokedToken::jti))
+          >= 0;
+    }
+  }
+}
@@ -0,0 +1,251 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import com.asc.authorization.application.configuration.properties.BulkRevocationConfigurationProperties;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service revoking the authorizations and consents of many clients or principals of a tenant at
+ * once.
+ *
+ * <p>The identifiers are bound to set-based delete statements in chunks, and each statement removes
+ * a bounded number of rows in its own short transaction, so that offboarding a large tenant neither
+ * issues a statement per client or user nor holds locks on the whole set at once. Consents are
+ * removed first, since they are matched through the tenant's authorizations, so that consents of
+ * principals revoked in other tenants are kept. The unexpired access tokens of each chunk are
+ * recorded as revoked before any of its rows are deleted, so that resource servers validating them
+ * locally learn about the revocation.
+ *
+ * <p>Once the whole batch has been revoked, a single {@link AuthorizationsRevokedEvent} is
+ * published to the local caches and broadcast to the other instances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorizationRevocationService {
+  private final PlatformTransactionManager transactionManager;
+  private final JpaAuthorizationRepository jpaAuthorizationRepository;
+  private final JpaConsentRepository jpaConsentRepository;
+  private final JpaRevokedTokenRepository jpaRevokedTokenRepository;
+  private final BulkRevocationConfigurationProperties properties;
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final AuthorizationMessagePublisher<AuthorizationsRevokedEvent> revokedMessagePublisher;
+
+  /**
+   * Revokes the authorizations and consents of a tenant matching the given clients and principals.
+   *
+   * <p>An empty set matches any client or principal, but at least one of them must be given.
+   *
+   * @param tenantId the tenant identifier
+   * @param clientIds the registered client identifiers
+   * @param principalIds the principal identifiers
+   * @return the number of revoked authorizations and consents
+   * @throws IllegalArgumentException if the tenant is invalid or neither set is given
+   */
+  public RevocationResult revoke(
+      long tenantId, Collection<String> clientIds, Collection<String> principalIds) {
+    if (tenantId < 1) throw new IllegalArgumentException("Tenant id must be positive");
+
+    var clients = Set.copyOf(clientIds);
+    var principals = Set.copyOf(principalIds);
+    if (clients.isEmpty() && principals.isEmpty())
+      throw new IllegalArgumentException("Either client or principal ids must be provided");
+
+    try {
+      MDC.put("tenant_id", String.valueOf(tenantId));
+      log.info(
+          "Revoking authorizations of {} clients and {} principals",
+          clients.size(),
+          principals.size());
+
+      var limit = properties.getRowsPerStatement();
+      long consents = 0;
+      long authorizations = 0;
+      for (var clientChunk : chunk(clients)) {
+        for (var principalChunk : chunk(principals)) {
+          if (clientChunk.isEmpty()) {
+            revokeAccessTokens(
+                () ->
+                    jpaRevokedTokenRepository.revokeAccessTokensByTenantIdAndPrincipalIds(
+                        tenantId, principalChunk));
+            consents +=
+                deleteInChunks(
+                    () ->
+                        jpaConsentRepository.deleteConsentsByTenantIdAndPrincipalIds(
+                            tenantId, principalChunk, limit));
+            authorizations +=
+                deleteInChunks(
+                    () ->
+                        jpaAuthorizationRepository.deleteAuthorizationsByTenantIdAndPrincipalIds(
+                            tenantId, principalChunk, limit));
+          } else if (principalChunk.isEmpty()) {
+            revokeAccessTokens(
+                () ->
+                    jpaRevokedTokenRepository.revokeAccessTokensByTenantIdAndClientIds(
+                        tenantId, clientChunk));
+            consents +=
+                deleteInChunks(
+                    () ->
+                        jpaConsentRepository.deleteConsentsByTenantIdAndClientIds(
+                            tenantId, clientChunk, limit));
+            authorizations +=
+                deleteInChunks(
+                    () ->
+                        jpaAuthorizationRepository.deleteAuthorizationsByTenantIdAndClientIds(
+                            tenantId, clientChunk, limit));
+          } else {
+            revokeAccessTokens(
+                () ->
+                    jpaRevokedTokenRepository
+                        .revokeAccessTokensByTenantIdAndClientIdsAndPrincipalIds(
+                            tenantId, clientChunk, principalChunk));
+            consents +=
+                deleteInChunks(
+                    () ->
+                        jpaConsentRepository.deleteConsentsByTenantIdAndClientIdsAndPrincipalIds(
+                            tenantId, clientChunk, principalChunk, limit));
+            authorizations +=
+                deleteInChunks(
+                    () ->
+                        jpaAuthorizationRepository
+                            .deleteAuthorizationsByTenantIdAndClientIdsAndPrincipalIds(
+                                tenantId, clientChunk, principalChunk, limit));
+          }
+        }
+      }
+
+      var event =
+          AuthorizationsRevokedEvent.builder()
+              .tenantId(tenantId)
+              .clientIds(clients)
+              .principalIds(principals)
+              .build();
+      applicationEventPublisher.publishEvent(event);
+      revokedMessagePublisher.publish(event);
+
+      log.info("Revoked {} authorizations and {} consents", authorizations, consents);
+      return new RevocationResult(authorizations, consents);
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  /**
+   * Splits identifiers into chunks bound to a single statement each.
+   *
+   * @param ids the identifiers
+   * @return the chunks, or a single empty chunk if there are no identifiers
+   */
+  private List<List<String>> chunk(Set<String> ids) {
+    if (ids.isEmpty()) return List.of(List.of());
+
+    var size = properties.getIdsPerStatement();
+    var chunks = new ArrayList<List<String>>();
+    var chunk = new ArrayList<String>(size);
+    for (var id : ids) {
+      chunk.add(id);
+      if (chunk.size() == size) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>(size);
+      }
+    }
+    if (!chunk.isEmpty()) chunks.add(chunk);
+    return chunks;
+  }
+
+  /**
+   * Records the unexpired access tokens of a chunk as revoked in its own transaction.
+   *
+   * @param revoke the insert statement, returning the number of recorded tokens
+   */
+  private void revokeAccessTokens(IntSupplier revoke) {
+    transactionTemplate().execute(status -> revoke.getAsInt());
+  }
+
+  /**
+   * Runs a limited delete statement in its own transaction until it removes fewer rows than its
+   * limit.
+   *
+   * @param delete the delete statement, returning the number of removed rows
+   * @return the total number of removed rows
+   */
+  private long deleteInChunks(IntSupplier delete) {
+    var template = transactionTemplate();
+    long total = 0;
+    int deleted;
+    do {
+      deleted = template.execute(status -> delete.getAsInt());
+      total += deleted;
+    } while (deleted >= properties.getRowsPerStatement());
+    return total;
+  }
+
+  /**
+   * Creates a template for the short transactions the revocation runs in.
+   *
+   * @return the {@link TransactionTemplate}
+   */
+  private TransactionTemplate transactionTemplate() {
+    var template = new TransactionTemplate(transactionManager);
+    template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    template.setTimeout(5);
+    return template;
+  }
+
+  /**
+   * Outcome of a bulk revocation.
+   *
+   * @param authorizations the number of revoked authorizations
+   * @param consents the number of revoked consents
+   */
+  public record RevocationResult(long authorizations, long consents) {}
+}
@@ -35,36 +35,48 @@ package com.asc.authorization.application.security.oauth.service;
 
 import static com.asc.authorization.application.security.RegionUtils.JWT_REGION_EXTRACTOR;
 
+import com.asc.authorization.application.configuration.properties.RegisteredClientConfigurationProperties;
 import com.asc.authorization.application.configuration.properties.SecurityConfigurationProperties;
 import com.asc.authorization.application.exception.authorization.AuthorizationCleanupException;
 import com.asc.authorization.application.exception.authorization.AuthorizationPersistenceException;
 import com.asc.authorization.application.mapper.AuthorizationMapper;
 import com.asc.authorization.application.security.RegionUtils;
 import com.asc.authorization.application.security.authentication.BasicSignature;
+import com.asc.authorization.application.security.oauth.revocation.RecentRevocations;
 import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.AuthorizationRequestStore;
 import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
 import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
 import com.asc.common.messaging.configuration.AuthorizationMessagingConfiguration;
+import com.asc.common.messaging.converter.RpcMessageProperties;
 import com.asc.common.service.transfer.message.RetrieveAuthorizationMessage;
 import com.asc.common.service.transfer.message.SaveAuthorizationMessage;
 import com.asc.common.utilities.crypto.EncryptionService;
 import com.asc.common.utilities.crypto.HashingService;
 import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.MDC;
-import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.OAuth2AccessToken;
 import org.springframework.security.oauth2.core.OAuth2RefreshToken;
 import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
 import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
@@ -72,7 +84,6 @@ import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -97,10 +108,12 @@ public class AuthorizationService
   private final Environment environment;
 
   private final SecurityConfigurationProperties securityConfigurationProperties;
+  private final RegisteredClientConfigurationProperties registeredClientConfigurationProperties;
   private final PlatformTransactionManager transactionManager;
 
   @Nullable private final RabbitTemplate rpcRabbitTemplate;
   @Nullable private final MessageConverter messageConverter;
+  private final RpcMessageProperties rpcMessageProperties;
 
   private final AuthorizationMapper authorizationMapper;
   private final EncryptionService encryptionService;
@@ -108,37 +121,62 @@ public class AuthorizationService
 
   private final JpaConsentRepository jpaConsentRepository;
   private final JpaAuthorizationRepository jpaAuthorizationRepository;
+  private final JpaRevokedTokenRepository jpaRevokedTokenRepository;
+  private final RecentRevocations recentRevocations;
   private final RegisteredClientAccessibilityService registeredClientAccessibilityRepository;
   private final RegisteredClientRepository registeredClientRepository;
+  private final RemoteLookupCache remoteLookupCache;
+  private final RemoteLookupBatcher remoteLookupBatcher;
+  private final AuthorizationRequestStore authorizationRequestStore;
 
   @Autowired
   public AuthorizationService(
       Environment environment,
       SecurityConfigurationProperties securityConfigurationProperties,
+      RegisteredClientConfigurationProperties registeredClientConfigurationProperties,
       PlatformTransactionManager transactionManager,
       @Autowired(required = false) @Qualifier("rpcRabbitTemplate") RabbitTemplate rpcRabbitTemplate,
       @Autowired(required = false) MessageConverter messageConverter,
+      RpcMessageProperties rpcMessageProperties,
       AuthorizationMapper authorizationMapper,
       EncryptionService encryptionService,
       HashingService hashingService,
       JpaConsentRepository jpaConsentRepository,
       JpaAuthorizationRepository jpaAuthorizationRepository,
+      JpaRevokedTokenRepository jpaRevokedTokenRepository,
+      RecentRevocations recentRevocations,
       RegisteredClientAccessibilityService registeredClientAccessibilityRepository,
-      RegisteredClientRepository registeredClientRepository) {
+      RegisteredClientRepository registeredClientRepository,
+      RemoteLookupCache remoteLookupCache,
+      RemoteLookupBatcher remoteLookupBatcher,
+      AuthorizationRequestStore authorizationRequestStore) {
     this.environment = environment;
     this.securityConfigurationProperties = securityConfigurationProperties;
+    this.registeredClientConfigurationProperties = registeredClientConfigurationProperties;
     this.transactionManager = transactionManager;
     this.rpcRabbitTemplate = rpcRabbitTemplate;
     this.messageConverter = messageConverter;
+    this.rpcMessageProperties = rpcMessageProperties;
     this.authorizationMapper = authorizationMapper;
     this.encryptionService = encryptionService;
     this.hashingService = hashingService;
     this.jpaConsentRepository = jpaConsentRepository;
     this.jpaAuthorizationRepository = jpaAuthorizationRepository;
+    this.jpaRevokedTokenRepository = jpaRevokedTokenRepository;
+    this.recentRevocations = recentRevocations;
     this.registeredClientAccessibilityRepository = registeredClientAccessibilityRepository;
     this.registeredClientRepository = registeredClientRepository;
+    this.remoteLookupCache = remoteLookupCache;
+    this.remoteLookupBatcher = remoteLookupBatcher;
+    this.authorizationRequestStore = authorizationRequestStore;
   }
 
+  /**
+   * Forwards an authorization to the region that issued it via RPC messaging.
+   *
+   * @param authorizationMessage the authorization to save.
+   * @param targetRegion the region to send the request to.
+   */
   private void saveRemote(SaveAuthorizationMessage authorizationMessage, String targetRegion) {
     if (rpcRabbitTemplate == null || messageConverter == null) {
       log.warn(
@@ -156,7 +194,9 @@ public class AuthorizationService
 
       var routingKey =
           AuthorizationMessagingConfiguration.AUTHORIZATION_RPC_ROUTING_KEY_PREFIX + targetRegion;
-      var message = messageConverter.toMessage(authorizationMessage, new MessageProperties());
+      var message =
+          messageConverter.toMessage(
+              authorizationMessage, rpcMessageProperties.forRegion(targetRegion));
 
       var response =
           rpcRabbitTemplate.sendAndReceive(
@@ -167,9 +207,10 @@ public class AuthorizationService
             "Received an empty response when saving to remote region");
 
       var result = messageConverter.fromMessage(response);
-      if (result instanceof Boolean success && success)
+      if (result instanceof Boolean success && success) {
+        remoteLookupCache.invalidateAuthorization(authorizationMessage.getId());
         log.info("Authorization saved successfully to remote region");
-      else
+      } else
         throw new AuthorizationPersistenceException(
             "Could not persist authorization to a remote region");
     } finally {
@@ -180,8 +221,16 @@ public class AuthorizationService
   /**
    * Saves an OAuth2 authorization to the database.
    *
-   * <p>The authorization is encrypted, hashed, and stored. If the authorization already exists, it
-   * is merged with the new data.
+   * <p>The authorization is encrypted, hashed, and stored with a single upsert. If an authorization
+   * already exists for the same client, principal, and grant type, it is overwritten with the new
+   * data, keeping its tenant when the request carries none.
+   *
+   * <p>Authorizations that carry no tokens yet, only an OAuth2 state or an authorization code, are
+   * kept in the short-lived {@link AuthorizationRequestStore} instead. They are promoted to the
+   * database once the authorization code is exchanged for tokens, which is when the save is made by
+   * an {@code authorization_code} token request. The promotion consumes the code from the store
+   * first, and is rejected if the code has already been consumed, so that each code yields tokens
+   * only once. Later saves, such as refreshes, do not touch the store.
    *
    * @param authorization the OAuth2 authorization to save.
    * @throws AuthorizationPersistenceException if an error occurs while saving.
@@ -221,6 +270,8 @@ public class AuthorizationService
                       ? RegionUtils.extract(
                           accessToken.getToken().getTokenValue(), JWT_REGION_EXTRACTOR)
                       : Optional.<String>empty();
+      var exchangingCode =
+          authorizationCode != null && accessToken != null && isAuthorizationCodeGrantRequest();
 
       if (tokenRegion.isPresent() && !tokenRegion.get().equalsIgnoreCase(region) && isSaaS) {
         var authorizationMessage = authorizationMapper.toMessage(authorization);
@@ -237,51 +288,52 @@ public class AuthorizationService
           authorizationMessage.setTenantId(signature.getTenantId());
         authorizationMessage.setAccessTokenValue(atoken);
         authorizationMessage.setRefreshTokenValue(rtoken);
+        authorizationMessage.setExchangingCode(exchangingCode);
 
         saveRemote(authorizationMessage, tokenRegion.get());
         return;
       }
 
-      var template = new TransactionTemplate(transactionManager);
-      template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
-      template.setTimeout(2);
-      template.execute(
-          status -> {
-            try {
-              var existingAuthorizationOpt =
-                  jpaAuthorizationRepository
-                      .findByRegisteredClientIdAndPrincipalIdAndAuthorizationGrantType(
-                          authorization.getRegisteredClientId(),
-                          authorization.getPrincipalName(),
-                          authorization.getAuthorizationGrantType().getValue());
-
-              var mappedAuthorization = authorizationMapper.toEntity(authorization);
-              var entity =
-                  authorizationMapper.merge(
-                      existingAuthorizationOpt.orElseGet(() -> mappedAuthorization),
-                      authorizationMapper.toEntity(authorization));
-
-              if (accessToken != null && accessToken.getToken() != null)
-                entity.setAccessTokenHash(
-                    hashingService.hash(accessToken.getToken().getTokenValue()));
-
-              if (refreshToken != null && refreshToken.getToken() != null)
-                entity.setRefreshTokenHash(
-                    hashingService.hash(refreshToken.getToken().getTokenValue()));
-
-              if (signature != null && signature.getTenantId() > 0)
-                entity.setTenantId(signature.getTenantId());
-              entity.setAccessTokenValue(atoken);
-              entity.setRefreshTokenValue(rtoken);
-
-              jpaAuthorizationRepository.save(entity);
-              log.info("Authorization saved successfully");
-              return null;
-            } catch (Exception ex) {
-              status.setRollbackOnly();
-              throw ex;
-            }
-          });
+      if (accessToken == null && refreshToken == null && isAuthorizationRequest(authorization)) {
+        var entity = authorizationMapper.toEntity(authorization);
+        if (signature != null && signature.getTenantId() > 0)
+          entity.setTenantId(signature.getTenantId());
+
+        authorizationRequestStore.save(entity, getAuthorizationRequestTimeToLive(authorization));
+        log.info("Authorization request saved successfully");
+        return;
+      }
+
+      if (exchangingCode
+          && !authorizationRequestStore.consumeAuthorizationCode(
+              authorization.getId(), authorizationCode.getToken().getTokenValue()))
+        throw new AuthorizationPersistenceException(
+            "Authorization code has already been exchanged");
+
+      var authorizationRequest =
+          exchangingCode && (signature == null || signature.getTenantId() < 1)
+              ? authorizationRequestStore.findById(authorization.getId())
+              : Optional.<AuthorizationEntity>empty();
+
+      var entity = authorizationMapper.toEntity(authorization);
+      if (accessToken != null && accessToken.getToken() != null)
+        entity.setAccessTokenHash(hashingService.hash(accessToken.getToken().getTokenValue()));
+
+      if (refreshToken != null && refreshToken.getToken() != null)
+        entity.setRefreshTokenHash(hashingService.hash(refreshToken.getToken().getTokenValue()));
+
+      if (signature != null && signature.getTenantId() > 0)
+        entity.setTenantId(signature.getTenantId());
+      else
+        authorizationRequest.map(AuthorizationEntity::getTenantId).ifPresent(entity::setTenantId);
+      entity.setAccessTokenValue(atoken);
+      entity.setRefreshTokenValue(rtoken);
+
+      jpaAuthorizationRepository.upsert(entity);
+      if (accessToken != null && accessToken.isInvalidated()) revokeAccessToken(accessToken);
+      log.info("Authorization saved successfully");
+
+      if (exchangingCode) authorizationRequestStore.remove(authorization.getId());
     } catch (Exception e) {
       log.error("Could not save authorization", e);
       throw new AuthorizationPersistenceException(e);
@@ -293,6 +345,8 @@ public class AuthorizationService
   /**
    * Removes an OAuth2 authorization from the database.
    *
+   * <p>Its access token, if it has not expired yet, is recorded as revoked.
+   *
    * @param authorization the OAuth2 authorization to remove.
    * @throws AuthorizationCleanupException if an error occurs while removing.
    */
@@ -304,6 +358,9 @@ public class AuthorizationService
       MDC.put("id", authorization.getId());
       log.info("Removing authorization by id");
 
+      remoteLookupCache.invalidateAuthorization(authorization.getId());
+      authorizationRequestStore.remove(authorization.getId());
+      revokeAccessToken(authorization.getAccessToken());
       jpaAuthorizationRepository.deleteById(
           new AuthorizationEntity.AuthorizationId(
               authorization.getRegisteredClientId(),
@@ -322,6 +379,8 @@ public class AuthorizationService
   /**
    * Removes all OAuth2 authorizations and consents for a given principal and client.
    *
+   * <p>The access tokens of the authorizations that have not expired yet are recorded as revoked.
+   *
    * @param principalId the ID of the principal whose authorizations are to be removed.
    * @param clientId the ID of the client whose authorizations are to be removed.
    */
@@ -329,11 +388,43 @@ public class AuthorizationService
       timeout = 2,
       rollbackFor = {Exception.class})
   public void remove(String principalId, String clientId) {
+    recentRevocations.revokeAuthorizations(clientId, principalId);
+    jpaRevokedTokenRepository.revokeAccessTokensByPrincipalIdAndClientId(principalId, clientId);
     jpaAuthorizationRepository.deleteAllAuthorizationsByPrincipalIdAndClientId(
         principalId, clientId);
     jpaConsentRepository.deleteAllConsentsByPrincipalIdAndClientId(principalId, clientId);
   }
 
+  /**
+   * Records an access token as revoked until it expires, so that resource servers validating it
+   * locally learn about the revocation.
+   *
+   * <p>Tokens without a {@code jti} claim or that have already expired are skipped. Tokens without
+   * an expiration time are kept for the maximum access token lifetime.
+   *
+   * @param accessToken the access token to record, may be {@code null}.
+   */
+  private void revokeAccessToken(
+      OAuth2Authorization.@Nullable Token<OAuth2AccessToken> accessToken) {
+    if (accessToken == null || accessToken.getClaims() == null) return;
+
+    var jti = accessToken.getClaims().get(JwtClaimNames.JTI);
+    var expiresAt =
+        Optional.ofNullable(accessToken.getToken().getExpiresAt())
+            .orElseGet(
+                () ->
+                    Instant.now()
+                        .plus(
+                            Duration.ofMinutes(
+                                registeredClientConfigurationProperties
+                                    .getAccessTokenMinutesTTL())));
+    if (jti == null || expiresAt.isBefore(Instant.now())) return;
+
+    recentRevocations.revokeToken(jti.toString());
+    jpaRevokedTokenRepository.revokeToken(
+        jti.toString(), ZonedDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+  }
+
   /**
    * Retrieves an OAuth2 authorization by its ID.
    *
@@ -346,24 +437,14 @@ public class AuthorizationService
     log.info("Retrieving authorization by id");
 
     try {
-      return jpaAuthorizationRepository
-          .findByAuthorizationId(id)
+      return authorizationRequestStore
+          .findById(id)
+          .or(() -> jpaAuthorizationRepository.findByAuthorizationId(id))
           .filter(
               e ->
                   registeredClientAccessibilityRepository.validateClientAccessibility(
                       e.getRegisteredClientId()))
-          .map(
-              entity -> {
-                var accessToken = entity.getAccessTokenValue();
-                var refreshToken = entity.getRefreshTokenValue();
-                if (accessToken != null && !accessToken.isBlank())
-                  entity.setAccessTokenValue(encryptionService.decrypt(accessToken));
-                if (refreshToken != null && !refreshToken.isBlank())
-                  entity.setRefreshTokenValue(encryptionService.decrypt(refreshToken));
-                return authorizationMapper.fromEntity(
-                    entity,
-                    registeredClientRepository.findByClientId(entity.getRegisteredClientId()));
-              })
+          .map(this::toAuthorization)
           .orElse(null);
     } catch (Exception e) {
       log.error("Could not find authorization by id", e);
@@ -373,18 +454,44 @@ public class AuthorizationService
     }
   }
 
+  /**
+   * Looks up an authorization entity of this region in the database by any of its tokens.
+   *
+   * <p>The lookup always runs in a read-write transaction, so that it is served by the primary. A
+   * read replica may still hold the authorization of a token that has just been revoked, possibly
+   * by another instance, and would report it as active.
+   *
+   * @param hashedToken the state, the authorization code or the hashed access or refresh token.
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found.
+   */
+  private Optional<AuthorizationEntity> findAuthorizationEntity(String hashedToken) {
+    var template = new TransactionTemplate(transactionManager);
+    template.setTimeout(2);
+    return template.execute(
+        status ->
+            jpaAuthorizationRepository
+                .findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(
+                    hashedToken));
+  }
+
   /**
    * Fetches an authorization entity from a remote region via RPC messaging.
    *
    * <p>This method extracts the region identifier from the hashed token and sends an RPC request to
-   * the corresponding remote region to retrieve the authorization entity.
+   * the corresponding remote region to retrieve the authorization entity. When batching is enabled,
+   * batchable requests are coalesced with other lookups for the same region by the {@link
+   * RemoteLookupBatcher}. Authorization codes are never batched, since only the single lookup finds
+   * them in the remote region's {@link AuthorizationRequestStore}.
    *
    * @param hashedToken the hashed token containing a region prefix.
+   * @param targetRegion the region to send the request to.
+   * @param batchable whether the request may be coalesced with other lookups.
    * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, or empty if
    *     the token has no region prefix or the remote region returns no result.
+   * @throws AmqpException if the remote region does not respond in time or fails the lookup.
    */
   private Optional<AuthorizationEntity> fetchFromRemoteRegion(
-      String hashedToken, String targetRegion) {
+      String hashedToken, String targetRegion, boolean batchable) {
     if (rpcRabbitTemplate == null || messageConverter == null) {
       log.warn(
           "RabbitMQ not available, cannot fetch authorization from remote region: {}",
@@ -397,22 +504,23 @@ public class AuthorizationService
       MDC.put("region", targetRegion);
       log.info("Retrieving authorization by hashed token from a remote region");
 
+      if (batchable && remoteLookupBatcher.isEnabled())
+        return remoteLookupBatcher.retrieveAuthorization(targetRegion, hashedToken);
+
       var routingKey =
           AuthorizationMessagingConfiguration.AUTHORIZATION_RPC_ROUTING_KEY_PREFIX + targetRegion;
 
       var message =
           messageConverter.toMessage(
               RetrieveAuthorizationMessage.builder().token(hashedToken).build(),
-              new MessageProperties());
+              rpcMessageProperties.forRegion(targetRegion));
 
       var response =
           rpcRabbitTemplate.sendAndReceive(
               AuthorizationMessagingConfiguration.AUTHORIZATION_RPC_EXCHANGE, routingKey, message);
 
-      if (response == null) {
-        log.warn("Received an empty response from a remote region");
-        return Optional.empty();
-      }
+      if (response == null)
+        throw new AmqpTimeoutException("Received no response from region " + targetRegion);
 
       var data = messageConverter.fromMessage(response);
       return data instanceof AuthorizationEntity entity ? Optional.of(entity) : Optional.empty();
@@ -426,13 +534,50 @@ public class AuthorizationService
    *
    * <p>For multi-region deployments, if the token's region doesn't match the current region, the
    * request is forwarded to the appropriate remote region via RPC. The region is extracted from the
-   * JWT's 'region' claim for access tokens, or from the prefix for refresh tokens.
+   * JWT's 'region' claim for access tokens, or from the prefix for refresh tokens. These lookups
+   * may lead to the authorization being changed and saved back, as done by token revocation, so
+   * they always ask the remote region and never use the {@link RemoteLookupCache}.
+   *
+   * <p>States and authorization codes issued by this region are looked up in the {@link
+   * AuthorizationRequestStore} first. Looking up an authorization code does not consume it, since a
+   * single token request resolves its code more than once, first to authenticate the client and
+   * then to exchange the code. Codes are consumed by {@link #save(OAuth2Authorization)} instead.
    *
    * @param token the token associated with the authorization.
    * @param tokenType the type of the token (e.g., access token, refresh token).
    * @return the OAuth2 authorization, or {@code null} if not found.
    */
   public OAuth2Authorization findByToken(String token, OAuth2TokenType tokenType) {
+    return findByToken(token, tokenType, false);
+  }
+
+  /**
+   * Retrieves an OAuth2 authorization by its token for inspection only, as done by token
+   * introspection.
+   *
+   * <p>Unlike {@link #findByToken(String, OAuth2TokenType)}, tokens of remote regions are served
+   * from the {@link RemoteLookupCache}. Tokens of this region are still looked up on the primary
+   * database, since a read replica lagging behind a revocation would report a revoked token as
+   * active. The returned authorization must not be saved back.
+   *
+   * @param token the token associated with the authorization.
+   * @return the OAuth2 authorization, or {@code null} if not found.
+   */
+  public OAuth2Authorization findByTokenForInspection(String token) {
+    return findByToken(token, null, true);
+  }
+
+  /**
+   * Retrieves an OAuth2 authorization by its token, locally or from the region that issued it.
+   *
+   * @param token the token associated with the authorization.
+   * @param tokenType the type of the token, or {@code null} if unknown.
+   * @param forInspection whether the authorization is only inspected, which allows cached remote
+   *     results.
+   * @return the OAuth2 authorization, or {@code null} if not found.
+   */
+  private OAuth2Authorization findByToken(
+      String token, OAuth2TokenType tokenType, boolean forInspection) {
     MDC.put("token", token);
     log.info("Retrieving authorization by token");
 
@@ -450,50 +595,33 @@ public class AuthorizationService
             : token;
 
     try {
-      if (targetRegion.isPresent() && !targetRegion.get().equalsIgnoreCase(region) && isSaaS)
-        return fetchFromRemoteRegion(hashedToken, targetRegion.get())
+      if (targetRegion.isPresent() && !targetRegion.get().equalsIgnoreCase(region) && isSaaS) {
+        var remoteRegion = targetRegion.get();
+        var batchable =
+            tokenType == null || !tokenType.getValue().equals(OAuth2ParameterNames.CODE);
+        var remoteAuthorization =
+            forInspection
+                ? remoteLookupCache.getAuthorization(
+                    remoteRegion,
+                    hashedToken,
+                    () -> fetchFromRemoteRegion(hashedToken, remoteRegion, batchable))
+                : fetchFromRemoteRegion(hashedToken, remoteRegion, batchable);
+        return remoteAuthorization
             .filter(
                 e ->
                     registeredClientAccessibilityRepository.validateClientAccessibility(
                         e.getRegisteredClientId()))
-            .map(
-                (entity) -> {
-                  var accessToken = entity.getAccessTokenValue();
-                  var refreshToken = entity.getRefreshTokenValue();
-                  if (accessToken != null && !accessToken.isBlank())
-                    entity.setAccessTokenValue(encryptionService.decrypt(accessToken));
-                  if (refreshToken != null && !refreshToken.isBlank())
-                    entity.setRefreshTokenValue(encryptionService.decrypt(refreshToken));
-                  return authorizationMapper.fromEntity(
-                      entity,
-                      registeredClientRepository.findByClientId(entity.getRegisteredClientId()));
-                })
+            .map(this::toAuthorization)
             .orElse(null);
+      }
 
-      var template = new TransactionTemplate(transactionManager);
-      template.setTimeout(2);
-      return template
-          .execute(
-              status ->
-                  jpaAuthorizationRepository
-                      .findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(
-                          hashedToken))
+      return findAuthorizationRequest(token, tokenType)
+          .or(() -> findAuthorizationEntity(hashedToken))
           .filter(
               e ->
                   registeredClientAccessibilityRepository.validateClientAccessibility(
                       e.getRegisteredClientId()))
-          .map(
-              (entity) -> {
-                var accessToken = entity.getAccessTokenValue();
-                var refreshToken = entity.getRefreshTokenValue();
-                if (accessToken != null && !accessToken.isBlank())
-                  entity.setAccessTokenValue(encryptionService.decrypt(accessToken));
-                if (refreshToken != null && !refreshToken.isBlank())
-                  entity.setRefreshTokenValue(encryptionService.decrypt(refreshToken));
-                return authorizationMapper.fromEntity(
-                    entity,
-                    registeredClientRepository.findByClientId(entity.getRegisteredClientId()));
-              })
+          .map(this::toAuthorization)
           .orElse(null);
     } catch (Exception e) {
       log.error("Could not find authorization by token", e);
@@ -503,6 +631,74 @@ public class AuthorizationService
     }
   }
 
+  /**
+   * Looks up an in-flight authorization request by its state or authorization code.
+   *
+   * @param token the state or authorization code value.
+   * @param tokenType the type of the token.
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, or empty for
+   *     other token types.
+   */
+  private Optional<AuthorizationEntity> findAuthorizationRequest(
+      String token, OAuth2TokenType tokenType) {
+    if (tokenType == null) return Optional.empty();
+
+    return switch (tokenType.getValue()) {
+      case OAuth2ParameterNames.STATE -> authorizationRequestStore.findByState(token);
+      case OAuth2ParameterNames.CODE -> authorizationRequestStore.findByAuthorizationCode(token);
+      default -> Optional.empty();
+    };
+  }
+
+  /**
+   * Checks whether an authorization is still an in-flight authorization request, i.e. it awaits the
+   * user's consent or holds an authorization code that has not been exchanged yet.
+   *
+   * @param authorization the OAuth2 authorization to check.
+   * @return {@code true} if the authorization belongs in the {@link AuthorizationRequestStore}.
+   */
+  private boolean isAuthorizationRequest(OAuth2Authorization authorization) {
+    var authorizationCode = authorization.getToken(OAuth2AuthorizationCode.class);
+    if (authorizationCode != null) return !authorizationCode.isInvalidated();
+    return authorization.getAttribute(OAuth2ParameterNames.STATE) != null;
+  }
+
+  /**
+   * Calculates how long an in-flight authorization request is kept.
+   *
+   * <p>Requests holding an authorization code are kept until the code expires; requests awaiting
+   * consent are kept for the configured authorization request time-to-live.
+   *
+   * @param authorization the in-flight OAuth2 authorization.
+   * @return the time-to-live of the request, at least one second.
+   */
+  private Duration getAuthorizationRequestTimeToLive(OAuth2Authorization authorization) {
+    var authorizationCode = authorization.getToken(OAuth2AuthorizationCode.class);
+    var timeToLive =
+        authorizationCode != null && authorizationCode.getToken().getExpiresAt() != null
+            ? Duration.between(Instant.now(), authorizationCode.getToken().getExpiresAt())
+            : Duration.ofMinutes(
+                registeredClientConfigurationProperties.getAuthorizationRequestMinutesTTL());
+    return timeToLive.compareTo(Duration.ofSeconds(1)) < 0 ? Duration.ofSeconds(1) : timeToLive;
+  }
+
+  /**
+   * Maps an authorization entity to an OAuth2 authorization, decrypting its tokens.
+   *
+   * @param entity the authorization entity.
+   * @return the OAuth2 authorization, or {@code null} if its client could not be found.
+   */
+  private OAuth2Authorization toAuthorization(AuthorizationEntity entity) {
+    var accessToken = entity.getAccessTokenValue();
+    var refreshToken = entity.getRefreshTokenValue();
+    if (accessToken != null && !accessToken.isBlank())
+      entity.setAccessTokenValue(encryptionService.decrypt(accessToken));
+    if (refreshToken != null && !refreshToken.isBlank())
+      entity.setRefreshTokenValue(encryptionService.decrypt(refreshToken));
+    return authorizationMapper.fromEntity(
+        entity, registeredClientRepository.findByClientId(entity.getRegisteredClientId()));
+  }
+
   /**
    * Sets the client state cookie for the authorization.
    *
@@ -524,6 +720,20 @@ public class AuthorizationService
     }
   }
 
+  /**
+   * Checks whether the current request is a token request exchanging an authorization code.
+   *
+   * @return {@code true} if the request carries the {@code authorization_code} grant type.
+   */
+  private boolean isAuthorizationCodeGrantRequest() {
+    var ctx = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+    if (ctx == null) return false;
+
+    return AuthorizationGrantType.AUTHORIZATION_CODE
+        .getValue()
+        .equals(ctx.getRequest().getParameter(OAuth2ParameterNames.GRANT_TYPE));
+  }
+
   /**
    * Retrieves the tenant signature information from the current request.
    *
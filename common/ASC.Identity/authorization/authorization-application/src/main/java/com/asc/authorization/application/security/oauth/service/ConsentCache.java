@@ -0,0 +1,284 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import com.asc.authorization.application.configuration.properties.ConsentCacheConfigurationProperties;
+import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import com.asc.common.service.transfer.message.ConsentChangedEvent;
+import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
+import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Local, bounded cache of authorization consents.
+ *
+ * <p>The consent of a client and principal is read on every authorization request, while it only
+ * changes when the user grants or revokes it. Consents are therefore served from memory for a
+ * time-to-live, and evicted as soon as they are saved, removed or revoked, or when a cleanup
+ * message reports that their client, user or tenant has been removed, or that they have been
+ * revoked in bulk. Only found consents are cached.
+ *
+ * <p>A consent changed on this instance is evicted locally and a {@link ConsentChangedEvent} is
+ * broadcast, so that the other instances evict it as well. Evictions requested within a transaction
+ * are applied, and broadcast, once it completes, so that a concurrent lookup can't cache the state
+ * the transaction is about to change.
+ */
+@Slf4j
+@Component
+public class ConsentCache {
+  private final Cache<Key, OAuth2AuthorizationConsent> consents;
+  private final AuthorizationMessagePublisher<ConsentChangedEvent> consentChangedPublisher;
+
+  /**
+   * Incremented by every invalidation, so that a lookup started before an invalidation does not
+   * cache its now possibly outdated result.
+   */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  /**
+   * Constructs a new {@link ConsentCache}.
+   *
+   * @param properties the cache settings
+   * @param consentChangedPublisher broadcasts the consents changed on this instance
+   */
+  @Autowired
+  public ConsentCache(
+      ConsentCacheConfigurationProperties properties,
+      AuthorizationMessagePublisher<ConsentChangedEvent> consentChangedPublisher) {
+    this(properties, consentChangedPublisher, Ticker.systemTicker());
+  }
+
+  /**
+   * Constructs a new {@link ConsentCache} measuring time with the given ticker.
+   *
+   * @param properties the cache settings
+   * @param consentChangedPublisher broadcasts the consents changed on this instance
+   * @param ticker the time source
+   */
+  ConsentCache(
+      ConsentCacheConfigurationProperties properties,
+      AuthorizationMessagePublisher<ConsentChangedEvent> consentChangedPublisher,
+      Ticker ticker) {
+    this.consentChangedPublisher = consentChangedPublisher;
+    this.consents =
+        Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+  }
+
+  /**
+   * Returns the consent a principal has granted to a registered client.
+   *
+   * @param registeredClientId the registered client identifier
+   * @param principalName the principal name
+   * @param loader reads the consent, returning {@code null} if it does not exist
+   * @return the consent, or {@code null} if not found
+   */
+  public OAuth2AuthorizationConsent get(
+      String registeredClientId,
+      String principalName,
+      Supplier<OAuth2AuthorizationConsent> loader) {
+    var key = new Key(registeredClientId, principalName);
+    var cached = consents.getIfPresent(key);
+    if (cached != null) return cached;
+
+    var generation = invalidations.get();
+    var loaded = loader.get();
+    if (loaded != null && invalidations.get() == generation) consents.put(key, loaded);
+    return loaded;
+  }
+
+  /**
+   * Evicts the consent a principal has granted to a registered client on this and every other
+   * instance.
+   *
+   * @param registeredClientId the registered client identifier
+   * @param principalName the principal name
+   */
+  public void invalidate(String registeredClientId, String principalName) {
+    var key = new Key(registeredClientId, principalName);
+    var event =
+        ConsentChangedEvent.builder()
+            .clientId(registeredClientId)
+            .principalId(principalName)
+            .build();
+    invalidate(() -> evict(key), () -> broadcast(event));
+  }
+
+  /**
+   * Evicts the consents matching a condition, right away and, within a transaction, once more after
+   * it has completed. Every cached consent is scanned, so this is meant for client, user or tenant
+   * wide evictions only.
+   *
+   * @param condition the condition
+   */
+  private void invalidate(Predicate<Key> condition) {
+    invalidate(() -> evict(condition), () -> {});
+  }
+
+  /**
+   * Runs an eviction right away and, within a transaction, once more after it has completed, then
+   * runs an action once the eviction is final.
+   *
+   * @param eviction the eviction
+   * @param afterEviction the action to run after the final eviction
+   */
+  private void invalidate(Runnable eviction, Runnable afterEviction) {
+    eviction.run();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      afterEviction.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            eviction.run();
+            afterEviction.run();
+          }
+        });
+  }
+
+  /**
+   * Broadcasts a consent change to the other instances. A failure is only logged, as the consent
+   * has already been changed and remote caches still expire it after their time-to-live.
+   *
+   * @param event the consent changed event
+   */
+  private void broadcast(ConsentChangedEvent event) {
+    try {
+      consentChangedPublisher.publish(event);
+    } catch (Exception e) {
+      log.warn("Could not broadcast a consent change for client {}", event.getClientId(), e);
+    }
+  }
+
+  /**
+   * Evicts a single consent by its key.
+   *
+   * @param key the cache key
+   */
+  private void evict(Key key) {
+    invalidations.incrementAndGet();
+    consents.invalidate(key);
+  }
+
+  /**
+   * Evicts the consents matching a condition.
+   *
+   * @param condition the condition
+   */
+  private void evict(Predicate<Key> condition) {
+    invalidations.incrementAndGet();
+    consents.asMap().keySet().removeIf(condition);
+  }
+
+  /**
+   * Evicts a consent changed on another instance.
+   *
+   * @param event the consent changed event
+   */
+  @EventListener
+  public void onConsentChanged(ConsentChangedEvent event) {
+    var key = new Key(event.getClientId(), event.getPrincipalId());
+    invalidate(() -> evict(key), () -> {});
+  }
+
+  /**
+   * Evicts the consents granted to a removed client.
+   *
+   * @param event the client removal event
+   */
+  @EventListener
+  public void onClientRemoved(ClientRemovedEvent event) {
+    invalidate(key -> Objects.equals(key.registeredClientId(), event.getClientId()));
+  }
+
+  /**
+   * Evicts the consents granted by a user whose clients have been removed.
+   *
+   * @param event the user clients removal event
+   */
+  @EventListener
+  public void onUserClientsRemoved(UserClientsRemovedEvent event) {
+    invalidate(key -> Objects.equals(key.principalName(), event.getUserId()));
+  }
+
+  /**
+   * Evicts every consent once the clients of a tenant have been removed, as consents don't carry
+   * the tenant they belong to.
+   *
+   * @param event the tenant clients removal event
+   */
+  @EventListener
+  public void onTenantClientsRemoved(TenantClientsRemovedEvent event) {
+    invalidate(key -> true);
+  }
+
+  /**
+   * Evicts the consents covered by a bulk revocation, regardless of their tenant.
+   *
+   * @param event the authorizations revoked event
+   */
+  @EventListener
+  public void onAuthorizationsRevoked(AuthorizationsRevokedEvent event) {
+    invalidate(key -> event.covers(key.registeredClientId(), key.principalName()));
+  }
+
+  /**
+   * Cache key of a consent.
+   *
+   * @param registeredClientId the registered client identifier
+   * @param principalName the principal name
+   */
+  private record Key(String registeredClientId, String principalName) {}
+}
@@ -49,7 +49,8 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>This service provides functionality to save, remove, and find OAuth2AuthorizationConsent
  * objects. It handles persistence operations using a JPA repository and maps entities to domain
- * objects using a {@link ConsentMapper}.
+ * objects using a {@link ConsentMapper}. Lookups are served through the {@link ConsentCache}, which
+ * is invalidated whenever a consent is saved or removed.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -57,6 +58,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ConsentService implements OAuth2AuthorizationConsentService {
   private final JpaConsentRepository jpaConsentRepository;
   private final ConsentMapper consentMapper;
+  private final ConsentCache consentCache;
 
   /**
    * Saves the provided OAuth2AuthorizationConsent.
@@ -76,6 +78,8 @@ public class ConsentService implements OAuth2AuthorizationConsentService {
       log.info("Saving an authorization consent");
 
       jpaConsentRepository.save(consentMapper.toEntity(authorizationConsent));
+      consentCache.invalidate(
+          authorizationConsent.getRegisteredClientId(), authorizationConsent.getPrincipalName());
     } catch (Exception e) {
       log.error("Failed to save an authorization consent", e);
     } finally {
@@ -104,6 +108,8 @@ public class ConsentService implements OAuth2AuthorizationConsentService {
           new ConsentEntity.ConsentId(
               authorizationConsent.getRegisteredClientId(),
               authorizationConsent.getPrincipalName()));
+      consentCache.invalidate(
+          authorizationConsent.getRegisteredClientId(), authorizationConsent.getPrincipalName());
     } catch (Exception e) {
       log.error("Failed to remove an authorization consent", e);
     } finally {
@@ -115,7 +121,8 @@ public class ConsentService implements OAuth2AuthorizationConsentService {
    * Finds an OAuth2AuthorizationConsent by its registered client ID and principal name.
    *
    * <p>This method retrieves a consent record from the database if it exists and is not marked as
-   * invalidated. It maps the retrieved entity to a domain object using the {@link ConsentMapper}.
+   * invalidated. It maps the retrieved entity to a domain object using the {@link ConsentMapper}
+   * and keeps found consents in the {@link ConsentCache}.
    *
    * @param registeredClientId the registered client ID associated with the consent.
    * @param principalName the principal name associated with the consent.
@@ -123,10 +130,14 @@ public class ConsentService implements OAuth2AuthorizationConsentService {
    *     not found or invalidated.
    */
   public OAuth2AuthorizationConsent findById(String registeredClientId, String principalName) {
-    return jpaConsentRepository
-        .findById(new ConsentEntity.ConsentId(registeredClientId, principalName))
-        .filter(c -> !c.isInvalidated())
-        .map(consentMapper::toConsent)
-        .orElse(null);
+    return consentCache.get(
+        registeredClientId,
+        principalName,
+        () ->
+            jpaConsentRepository
+                .findById(new ConsentEntity.ConsentId(registeredClientId, principalName))
+                .filter(c -> !c.isInvalidated())
+                .map(consentMapper::toConsent)
+                .orElse(null));
   }
 }
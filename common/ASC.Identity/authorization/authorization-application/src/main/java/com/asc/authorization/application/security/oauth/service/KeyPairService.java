@@ -34,10 +34,12 @@
 package com.asc.authorization.application.security.oauth.service;
 
 import com.asc.authorization.data.key.entity.KeyPair;
+import com.asc.authorization.data.key.entity.PublicKeyView;
 import com.asc.authorization.data.key.repository.JpaKeyPairRepository;
 import com.asc.common.utilities.crypto.DecryptionException;
 import com.asc.common.utilities.crypto.EncryptionService;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -75,6 +77,18 @@ public class KeyPairService {
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Retrieves the public attributes of active key pairs created before a specified cutoff time.
+   *
+   * <p>Private keys are neither loaded nor decrypted.
+   *
+   * @param cutoff the cutoff time for filtering active key pairs.
+   * @return a list of {@link PublicKeyView} objects.
+   */
+  public List<PublicKeyView> findActivePublicKeys(ZonedDateTime cutoff) {
+    return jpaKeyPairRepository.findActivePublicKeys(cutoff);
+  }
+
   /**
    * Saves a key pair to the repository with an encrypted private key.
    *
@@ -0,0 +1,228 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.AuthorizationRequestStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis implementation of {@link AuthorizationRequestStore}.
+ *
+ * <p>Every request is written as a JSON value under its authorization id, with its state and
+ * authorization code stored as separate keys pointing at that id. All keys share the request's
+ * time-to-live, so abandoned requests are dropped by Redis itself. Codes are consumed with a
+ * compare-and-delete script, which lets exactly one instance exchange a given code.
+ *
+ * <p>This store is only loaded when Redis classes are available on the classpath.
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(RedisConnectionFactory.class)
+public class RedisAuthorizationRequestStore implements AuthorizationRequestStore {
+  private static final String ID_KEY_PREFIX = "identity:authorization_request:id:";
+  private static final String STATE_KEY_PREFIX = "identity:authorization_request:state:";
+  private static final String CODE_KEY_PREFIX = "identity:authorization_request:code:";
+  private static final RedisScript<Long> COMPARE_AND_DELETE =
+      new DefaultRedisScript<>(
+          "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end"
+              + " return 0",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructs a new {@link RedisAuthorizationRequestStore}.
+   *
+   * @param redisTemplate the template used to access Redis
+   */
+  public RedisAuthorizationRequestStore(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  }
+
+  /**
+   * Stores an in-flight authorization request together with its state and code keys.
+   *
+   * @param entity the {@link AuthorizationEntity} holding the state or authorization code
+   * @param timeToLive how long the request remains available
+   */
+  @Override
+  public void save(AuthorizationEntity entity, Duration timeToLive) {
+    var stale = new ArrayList<String>();
+    findById(entity.getId())
+        .ifPresent(
+            previous -> {
+              if (previous.getState() != null
+                  && !Objects.equals(previous.getState(), entity.getState()))
+                stale.add(STATE_KEY_PREFIX + previous.getState());
+              if (previous.getAuthorizationCodeValue() != null
+                  && !Objects.equals(
+                      previous.getAuthorizationCodeValue(), entity.getAuthorizationCodeValue()))
+                stale.add(CODE_KEY_PREFIX + previous.getAuthorizationCodeValue());
+            });
+
+    if (!stale.isEmpty()) redisTemplate.delete(stale);
+
+    var operations = redisTemplate.opsForValue();
+    operations.set(ID_KEY_PREFIX + entity.getId(), write(entity), timeToLive);
+    if (entity.getState() != null)
+      operations.set(STATE_KEY_PREFIX + entity.getState(), entity.getId(), timeToLive);
+    if (entity.getAuthorizationCodeValue() != null)
+      operations.set(
+          CODE_KEY_PREFIX + entity.getAuthorizationCodeValue(), entity.getId(), timeToLive);
+  }
+
+  /**
+   * Finds an in-flight authorization request by its authorization id.
+   *
+   * @param id the authorization id
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  @Override
+  public Optional<AuthorizationEntity> findById(String id) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(ID_KEY_PREFIX + id))
+        .flatMap(this::read);
+  }
+
+  /**
+   * Finds an in-flight authorization request by its OAuth2 state.
+   *
+   * @param state the state value
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  @Override
+  public Optional<AuthorizationEntity> findByState(String state) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(STATE_KEY_PREFIX + state))
+        .flatMap(this::findById);
+  }
+
+  /**
+   * Finds an in-flight authorization request by its authorization code, leaving the code in place.
+   *
+   * @param code the authorization code value
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  @Override
+  public Optional<AuthorizationEntity> findByAuthorizationCode(String code) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(CODE_KEY_PREFIX + code))
+        .flatMap(this::findById);
+  }
+
+  /**
+   * Deletes the authorization code key if it still points at the given request, in a single script.
+   *
+   * @param id the authorization id of the request the code was issued for
+   * @param code the authorization code value
+   * @return {@code true} if the code key was deleted by this call
+   */
+  @Override
+  public boolean consumeAuthorizationCode(String id, String code) {
+    var deleted = redisTemplate.execute(COMPARE_AND_DELETE, List.of(CODE_KEY_PREFIX + code), id);
+    return deleted != null && deleted > 0;
+  }
+
+  /**
+   * Removes an in-flight authorization request along with its state and code keys.
+   *
+   * @param id the authorization id
+   */
+  @Override
+  public void remove(String id) {
+    var keys = new ArrayList<String>();
+    keys.add(ID_KEY_PREFIX + id);
+    findById(id)
+        .ifPresent(
+            entity -> {
+              if (entity.getState() != null) keys.add(STATE_KEY_PREFIX + entity.getState());
+              if (entity.getAuthorizationCodeValue() != null)
+                keys.add(CODE_KEY_PREFIX + entity.getAuthorizationCodeValue());
+            });
+    redisTemplate.delete(keys);
+  }
+
+  /**
+   * Serializes an authorization request to JSON.
+   *
+   * @param entity the {@link AuthorizationEntity} to serialize
+   * @return the JSON representation
+   */
+  private String write(AuthorizationEntity entity) {
+    try {
+      return objectMapper.writeValueAsString(entity);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Deserializes an authorization request from JSON.
+   *
+   * @param value the JSON representation
+   * @return an {@link Optional} containing the {@link AuthorizationEntity}, or empty if the value
+   *     could not be read
+   */
+  private Optional<AuthorizationEntity> read(String value) {
+    try {
+      return Optional.of(objectMapper.readValue(value, AuthorizationEntity.class));
+    } catch (JsonProcessingException e) {
+      log.warn("Could not read a stored authorization request: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
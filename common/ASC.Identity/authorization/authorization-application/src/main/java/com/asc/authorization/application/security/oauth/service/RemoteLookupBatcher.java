@@ -0,0 +1,229 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import com.asc.authorization.application.configuration.properties.RemoteLookupBatchingConfigurationProperties;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.messaging.message.AuthorizationsRetrievedEvent;
+import com.asc.common.messaging.configuration.AuthorizationMessagingConfiguration;
+import com.asc.common.messaging.configuration.ClientRegistrationMessagingConfiguration;
+import com.asc.common.messaging.converter.RpcMessageProperties;
+import com.asc.common.messaging.rpc.RpcBatcher;
+import com.asc.common.service.transfer.message.ClientRetrievedEvent;
+import com.asc.common.service.transfer.message.ClientsRetrievedEvent;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationsMessage;
+import com.asc.common.service.transfer.message.RetrieveClientsMessage;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends authorization and client lookups to remote regions in batches.
+ *
+ * <p>Lookups for the same region made within the configured window are coalesced into a single RPC
+ * message, which the remote region resolves with a single query. Every lookup still gets its own
+ * result: a lookup the remote region could not resolve fails on its own, while a batch that gets no
+ * reply fails all of its lookups with an {@link AmqpTimeoutException}.
+ *
+ * <p>Batching is disabled unless enabled in the configuration and RabbitMQ is available; callers
+ * should check {@link #isEnabled()} and send single lookups otherwise.
+ */
+@Slf4j
+@Component
+public class RemoteLookupBatcher implements DisposableBean {
+  @Nullable private final RabbitTemplate rpcRabbitTemplate;
+  @Nullable private final MessageConverter messageConverter;
+  private final RpcMessageProperties rpcMessageProperties;
+  @Nullable private final RpcBatcher<AuthorizationEntity> authorizations;
+  @Nullable private final RpcBatcher<ClientRetrievedEvent> clients;
+
+  @Autowired
+  public RemoteLookupBatcher(
+      RemoteLookupBatchingConfigurationProperties properties,
+      @Autowired(required = false) @Qualifier("rpcRabbitTemplate") RabbitTemplate rpcRabbitTemplate,
+      @Autowired(required = false) MessageConverter messageConverter,
+      RpcMessageProperties rpcMessageProperties) {
+    this.rpcRabbitTemplate = rpcRabbitTemplate;
+    this.messageConverter = messageConverter;
+    this.rpcMessageProperties = rpcMessageProperties;
+    if (properties.isEnabled() && rpcRabbitTemplate != null && messageConverter != null) {
+      this.authorizations =
+          new RpcBatcher<>(
+              "authorization-rpc-batcher",
+              properties.getWindow(),
+              properties.getMaxSize(),
+              this::sendAuthorizations);
+      this.clients =
+          new RpcBatcher<>(
+              "client-rpc-batcher",
+              properties.getWindow(),
+              properties.getMaxSize(),
+              this::sendClients);
+    } else {
+      this.authorizations = null;
+      this.clients = null;
+    }
+  }
+
+  /**
+   * Checks whether lookups are sent in batches.
+   *
+   * @return {@code true} if batching is enabled and RabbitMQ is available
+   */
+  public boolean isEnabled() {
+    return authorizations != null && clients != null;
+  }
+
+  /**
+   * Retrieves an authorization by hashed token from a remote region as part of the next batch.
+   *
+   * @param region the region the token was issued in
+   * @param hashedToken the hashed token
+   * @return the authorization, or an empty {@link Optional} if the remote region does not know it
+   * @throws AmqpException if the remote region could not be reached or could not look up the token
+   */
+  public Optional<AuthorizationEntity> retrieveAuthorization(String region, String hashedToken) {
+    if (authorizations == null)
+      throw new IllegalStateException("Remote lookup batching is disabled");
+    return await(authorizations.submit(region, hashedToken));
+  }
+
+  /**
+   * Retrieves a registered client from a remote region as part of the next batch.
+   *
+   * @param region the region the client is registered in
+   * @param clientId the client identifier
+   * @return the client, or an empty {@link Optional} if the remote region does not know it
+   * @throws AmqpException if the remote region could not be reached or could not look up the client
+   */
+  public Optional<ClientRetrievedEvent> retrieveClient(String region, String clientId) {
+    if (clients == null) throw new IllegalStateException("Remote lookup batching is disabled");
+    return await(clients.submit(region, clientId));
+  }
+
+  /**
+   * Waits for a batched lookup, rethrowing its failure as is.
+   *
+   * @param future the lookup
+   * @param <V> the type of the looked up value
+   * @return the looked up value, if found
+   */
+  private <V> Optional<V> await(CompletableFuture<Optional<V>> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      throw e;
+    }
+  }
+
+  /**
+   * Sends a batch of authorization lookups to a remote region.
+   *
+   * @param region the remote region
+   * @param tokens the hashed tokens
+   * @return the result of the lookups
+   */
+  private RpcBatcher.Result<AuthorizationEntity> sendAuthorizations(
+      String region, List<String> tokens) {
+    var reply =
+        sendAndReceive(
+            AuthorizationMessagingConfiguration.AUTHORIZATION_RPC_EXCHANGE,
+            AuthorizationMessagingConfiguration.AUTHORIZATION_RPC_ROUTING_KEY_PREFIX + region,
+            RetrieveAuthorizationsMessage.builder().tokens(tokens).build(),
+            region);
+    if (!(reply instanceof AuthorizationsRetrievedEvent event))
+      throw new AmqpException("Received an unexpected reply from region " + region);
+    return new RpcBatcher.Result<>(event.getAuthorizations(), event.getFailed());
+  }
+
+  /**
+   * Sends a batch of client lookups to a remote region.
+   *
+   * @param region the remote region
+   * @param clientIds the client identifiers
+   * @return the result of the lookups
+   */
+  private RpcBatcher.Result<ClientRetrievedEvent> sendClients(
+      String region, List<String> clientIds) {
+    var reply =
+        sendAndReceive(
+            ClientRegistrationMessagingConfiguration.CLIENT_RPC_EXCHANGE,
+            ClientRegistrationMessagingConfiguration.CLIENT_RPC_ROUTING_KEY_PREFIX + region,
+            RetrieveClientsMessage.builder().clientIds(clientIds).build(),
+            region);
+    if (!(reply instanceof ClientsRetrievedEvent event))
+      throw new AmqpException("Received an unexpected reply from region " + region);
+    return new RpcBatcher.Result<>(event.getClients(), event.getFailed());
+  }
+
+  /**
+   * Sends an RPC message and converts its reply.
+   *
+   * @param exchange the RPC exchange
+   * @param routingKey the routing key of the remote region
+   * @param payload the request
+   * @param region the remote region
+   * @return the converted reply
+   * @throws AmqpTimeoutException if the remote region does not respond in time
+   */
+  private Object sendAndReceive(String exchange, String routingKey, Object payload, String region) {
+    Message response =
+        rpcRabbitTemplate.sendAndReceive(
+            exchange,
+            routingKey,
+            messageConverter.toMessage(payload, rpcMessageProperties.forRegion(region)));
+    if (response == null)
+      throw new AmqpTimeoutException("Received no response from region " + region);
+    return messageConverter.fromMessage(response);
+  }
+
+  /** Stops the batchers, failing lookups that haven't been sent yet. */
+  public void destroy() {
+    if (authorizations != null) authorizations.close();
+    if (clients != null) clients.close();
+  }
+}
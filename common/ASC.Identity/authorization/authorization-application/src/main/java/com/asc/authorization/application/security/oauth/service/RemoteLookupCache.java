@@ -0,0 +1,318 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import com.asc.authorization.application.configuration.properties.RemoteLookupCacheConfigurationProperties;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import com.asc.common.service.transfer.message.ClientCacheRemoveEvent;
+import com.asc.common.service.transfer.message.ClientCacheTenantRemoveEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
+import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local, bounded cache of authorizations and registered clients fetched from remote regions over
+ * RPC.
+ *
+ * <p>Results are served from memory for a short time-to-live, so that repeated introspections of a
+ * foreign-region token don't pay a cross-region round-trip each time. Once the time-to-live has
+ * passed the remote region is asked again; if it can't be reached, the previous result keeps being
+ * served until the stale time-to-live has passed as well. Only found results are cached.
+ *
+ * <p>Entries are evicted as soon as the cleanup and client cache messages fanned out to every
+ * instance report a change to the client, user or tenant they belong to.
+ */
+@Slf4j
+@Component
+public class RemoteLookupCache {
+  private final Ticker ticker;
+  private final long ttlNanos;
+  private final Cache<Key, Entry<AuthorizationEntity>> authorizations;
+  private final Cache<Key, Entry<RegisteredClient>> clients;
+
+  /**
+   * Incremented by every invalidation, so that a lookup started before an invalidation does not
+   * cache its now possibly outdated result.
+   */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  /**
+   * Constructs a new {@link RemoteLookupCache}.
+   *
+   * @param properties the cache settings
+   */
+  @Autowired
+  public RemoteLookupCache(RemoteLookupCacheConfigurationProperties properties) {
+    this(properties, Ticker.systemTicker());
+  }
+
+  /**
+   * Constructs a new {@link RemoteLookupCache} measuring time with the given ticker.
+   *
+   * @param properties the cache settings
+   * @param ticker the time source
+   */
+  RemoteLookupCache(RemoteLookupCacheConfigurationProperties properties, Ticker ticker) {
+    if (properties.getStaleTtl().compareTo(properties.getTtl()) < 0)
+      throw new IllegalArgumentException(
+          "Remote lookup cache stale ttl must not be shorter than its ttl");
+    this.ticker = ticker;
+    this.ttlNanos = properties.getTtl().toNanos();
+    this.authorizations =
+        Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getStaleTtl())
+            .build();
+    this.clients =
+        Caffeine.newBuilder()
+            .ticker(ticker)
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getStaleTtl())
+            .build();
+  }
+
+  /**
+   * Returns the authorization of a hashed token issued in a remote region.
+   *
+   * <p>The cached entity is never handed out: callers receive a copy they are free to modify.
+   *
+   * @param region the region the token was issued in
+   * @param hashedToken the hashed token
+   * @param loader fetches the authorization from the remote region, returning an empty {@link
+   *     Optional} if it does not exist and throwing if the region can't be reached
+   * @return the authorization, if found
+   */
+  public Optional<AuthorizationEntity> getAuthorization(
+      String region, String hashedToken, Supplier<Optional<AuthorizationEntity>> loader) {
+    UnaryOperator<AuthorizationEntity> copy = entity -> entity.toBuilder().build();
+    return get(authorizations, new Key(region, hashedToken), loader, copy);
+  }
+
+  /**
+   * Returns a registered client of a remote region.
+   *
+   * @param region the region the client is registered in
+   * @param clientId the client identifier
+   * @param loader fetches the client from the remote region, returning an empty {@link Optional} if
+   *     it does not exist and throwing if the region can't be reached
+   * @return the client, if found
+   */
+  public Optional<RegisteredClient> getClient(
+      String region, String clientId, Supplier<Optional<RegisteredClient>> loader) {
+    return get(clients, new Key(region, clientId), loader, UnaryOperator.identity());
+  }
+
+  /**
+   * Serves a fresh entry, or loads the value and falls back to a stale entry if loading fails.
+   *
+   * @param cache the cache to use
+   * @param key the entry key
+   * @param loader fetches the value from the remote region
+   * @param copy copies values so that the cached instance is never shared
+   * @param <V> the value type
+   * @return the value, if found
+   */
+  private <V> Optional<V> get(
+      Cache<Key, Entry<V>> cache, Key key, Supplier<Optional<V>> loader, UnaryOperator<V> copy) {
+    var cached = cache.getIfPresent(key);
+    if (cached != null && ticker.read() - cached.loadedAt() < ttlNanos)
+      return Optional.of(copy.apply(cached.value()));
+
+    var generation = invalidations.get();
+    Optional<V> loaded;
+    try {
+      loaded = loader.get();
+    } catch (RuntimeException e) {
+      if (cached == null) throw e;
+      log.warn(
+          "Could not reach region {}, serving a previously fetched result: {}",
+          key.region(),
+          e.getMessage());
+      return Optional.of(copy.apply(cached.value()));
+    }
+
+    if (loaded.isEmpty()) {
+      cache.invalidate(key);
+      return loaded;
+    }
+
+    var value = loaded.get();
+    if (invalidations.get() == generation)
+      cache.put(key, new Entry<>(copy.apply(value), ticker.read()));
+    return Optional.of(value);
+  }
+
+  /**
+   * Evicts a cached authorization by its identifier, for instance after it has been changed.
+   *
+   * @param authorizationId the authorization identifier
+   */
+  public void invalidateAuthorization(String authorizationId) {
+    invalidateAuthorizations(entity -> authorizationId.equals(entity.getId()));
+  }
+
+  /**
+   * Evicts the cached authorizations matching a condition.
+   *
+   * @param condition the condition
+   */
+  private void invalidateAuthorizations(Predicate<AuthorizationEntity> condition) {
+    invalidations.incrementAndGet();
+    authorizations.asMap().values().removeIf(entry -> condition.test(entry.value()));
+  }
+
+  /** Evicts all cached clients. */
+  private void invalidateClients() {
+    invalidations.incrementAndGet();
+    clients.invalidateAll();
+  }
+
+  /**
+   * Evicts a cached client from every region.
+   *
+   * @param clientId the client identifier
+   */
+  private void invalidateClient(String clientId) {
+    invalidations.incrementAndGet();
+    clients.asMap().keySet().removeIf(key -> Objects.equals(key.id(), clientId));
+  }
+
+  /**
+   * Evicts everything cached for a removed client.
+   *
+   * @param event the client removal event
+   */
+  @EventListener
+  public void onClientRemoved(ClientRemovedEvent event) {
+    invalidateClient(event.getClientId());
+    invalidateAuthorizations(
+        entity -> Objects.equals(event.getClientId(), entity.getRegisteredClientId()));
+  }
+
+  /**
+   * Evicts everything cached for a user whose clients have been removed.
+   *
+   * @param event the user clients removal event
+   */
+  @EventListener
+  public void onUserClientsRemoved(UserClientsRemovedEvent event) {
+    invalidateClients();
+    invalidateAuthorizations(entity -> Objects.equals(event.getUserId(), entity.getPrincipalId()));
+  }
+
+  /**
+   * Evicts everything cached for a tenant whose clients have been removed.
+   *
+   * @param event the tenant clients removal event
+   */
+  @EventListener
+  public void onTenantClientsRemoved(TenantClientsRemovedEvent event) {
+    invalidateClients();
+    invalidateAuthorizations(entity -> entity.getTenantId() == event.getTenantId());
+  }
+
+  /**
+   * Evicts the cached authorizations covered by a bulk revocation.
+   *
+   * @param event the authorizations revoked event
+   */
+  @EventListener
+  public void onAuthorizationsRevoked(AuthorizationsRevokedEvent event) {
+    invalidateAuthorizations(
+        entity ->
+            entity.getTenantId() == event.getTenantId()
+                && event.covers(entity.getRegisteredClientId(), entity.getPrincipalId()));
+  }
+
+  /**
+   * Evicts a client that has been changed in its home region.
+   *
+   * @param event the client cache removal event
+   */
+  @EventListener
+  public void onClientCacheRemoved(ClientCacheRemoveEvent event) {
+    invalidateClient(event.getClientId());
+    invalidateAuthorizations(
+        entity -> Objects.equals(event.getClientId(), entity.getRegisteredClientId()));
+  }
+
+  /**
+   * Evicts the clients of a tenant whose clients have been changed in their home region.
+   *
+   * @param event the tenant client cache removal event
+   */
+  @EventListener
+  public void onClientCacheTenantRemoved(ClientCacheTenantRemoveEvent event) {
+    invalidateClients();
+    if (event.getTenantId() != null)
+      invalidateAuthorizations(entity -> entity.getTenantId() == event.getTenantId());
+  }
+
+  /**
+   * Cache key of a remote lookup.
+   *
+   * @param region the remote region, ignoring case
+   * @param id the hashed token or client identifier
+   */
+  private record Key(String region, String id) {
+    private Key {
+      region = region.toLowerCase();
+    }
+  }
+
+  /**
+   * Cached result of a remote lookup.
+   *
+   * @param value the result
+   * @param loadedAt the {@link Ticker} reading when the result was fetched
+   * @param <V> the value type
+   */
+  private record Entry<V>(V value, long loadedAt) {}
+}
@@ -34,11 +34,15 @@
 package com.asc.authorization.application.service;
 
 import com.asc.authorization.application.security.oauth.service.AuthorizationCleanupService;
+import com.asc.authorization.application.security.oauth.service.AuthorizationRevocationService;
+import com.asc.authorization.application.security.oauth.service.ConsentCache;
 import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
 import com.asc.common.application.proto.AuthorizationServiceGrpc;
 import com.asc.common.application.proto.Consent;
 import com.asc.common.application.proto.GetConsentsRequest;
 import com.asc.common.application.proto.GetConsentsResponse;
+import com.asc.common.application.proto.RevokeAuthorizationsRequest;
+import com.asc.common.application.proto.RevokeAuthorizationsResponse;
 import com.asc.common.application.proto.RevokeConsentsRequest;
 import com.asc.common.application.proto.RevokeConsentsResponse;
 import io.grpc.Status;
@@ -67,6 +71,8 @@ import org.apache.logging.log4j.util.Strings;
 public class AuthorizationGrpcServer extends AuthorizationServiceGrpc.AuthorizationServiceImplBase {
   private final JpaAuthorizationRepository jpaAuthorizationRepository;
   private final AuthorizationCleanupService cleanupService;
+  private final ConsentCache consentCache;
+  private final AuthorizationRevocationService revocationService;
 
   /**
    * Revokes consents for a given principal and client.
@@ -80,6 +86,7 @@ public class AuthorizationGrpcServer extends AuthorizationServiceGrpc.Authorizat
       RevokeConsentsRequest request, StreamObserver<RevokeConsentsResponse> responseObserver) {
     try {
       cleanupService.remove(request.getPrincipalId(), request.getClientId());
+      consentCache.invalidate(request.getClientId(), request.getPrincipalId());
       responseObserver.onNext(RevokeConsentsResponse.newBuilder().setSuccess(true).build());
       responseObserver.onCompleted();
     } catch (Exception e) {
@@ -90,6 +97,39 @@ public class AuthorizationGrpcServer extends AuthorizationServiceGrpc.Authorizat
     }
   }
 
+  /**
+   * Revokes the authorizations and consents of a tenant for sets of clients and/or principals.
+   *
+   * @param request the {@link RevokeAuthorizationsRequest} containing the tenant ID and the client
+   *     and principal IDs to revoke.
+   * @param responseObserver the {@link StreamObserver} used to send the {@link
+   *     RevokeAuthorizationsResponse} with the number of revoked authorizations and consents.
+   */
+  public void revokeAuthorizations(
+      RevokeAuthorizationsRequest request,
+      StreamObserver<RevokeAuthorizationsResponse> responseObserver) {
+    try {
+      var result =
+          revocationService.revoke(
+              request.getTenantId(), request.getClientIdsList(), request.getPrincipalIdsList());
+      responseObserver.onNext(
+          RevokeAuthorizationsResponse.newBuilder()
+              .setAuthorizations(result.authorizations())
+              .setConsents(result.consents())
+              .build());
+      responseObserver.onCompleted();
+    } catch (IllegalArgumentException e) {
+      responseObserver.onError(
+          Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+    } catch (Exception e) {
+      responseObserver.onError(
+          Status.INTERNAL
+              .withDescription(
+                  "Could not revoke authorizations for tenant: " + request.getTenantId())
+              .asRuntimeException());
+    }
+  }
+
   /**
    * Retrieves a list of consents for a given principal, optionally filtered by a last modified
    * date.
@@ -0,0 +1,192 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.asc.authorization.application.security.oauth.service.AuthorizationRevocationService;
+import com.asc.authorization.application.security.oauth.service.GrpcRegisteredClientService;
+import com.asc.authorization.application.security.oauth.service.RegisteredClientService;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import com.asc.authorization.data.consent.entity.ConsentEntity;
+import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "RUN_INTEGRATION_TESTS", matches = "true")
+@SpringBootTest(
+    classes = AuthorizationServiceIT.TestApplication.class,
+    properties = {
+      "spring.application.bulk-revocation.ids-per-statement=2",
+      "spring.application.bulk-revocation.rows-per-statement=3"
+    })
+public class AuthorizationRevocationIT {
+  @Container
+  static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withInitScript("init.sql");
+
+  @Container static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3.11-management");
+
+  @Container
+  static GenericContainer<?> redis = new GenericContainer<>("redis:7.0").withExposedPorts(6379);
+
+  @MockitoBean private RegisteredClientService registeredClientService;
+  @MockitoBean private GrpcRegisteredClientService grpcRegisteredClientService;
+
+  @Autowired private JpaAuthorizationRepository jpaAuthorizationRepository;
+  @Autowired private JpaConsentRepository jpaConsentRepository;
+  @Autowired private AuthorizationRevocationService revocationService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @DynamicPropertySource
+  static void configureTestContainers(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", mysql::getJdbcUrl);
+    registry.add("spring.datasource.username", mysql::getUsername);
+    registry.add("spring.datasource.password", mysql::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+
+    registry.add("spring.rabbitmq.host", rabbitmq::getHost);
+    registry.add("spring.rabbitmq.port", rabbitmq::getAmqpPort);
+    registry.add("spring.rabbitmq.username", rabbitmq::getAdminUsername);
+    registry.add("spring.rabbitmq.password", rabbitmq::getAdminPassword);
+
+    registry.add("spring.data.redis.host", redis::getHost);
+    registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+  }
+
+  @BeforeEach
+  void setUp() {
+    jpaConsentRepository.deleteAllInBatch();
+    jpaAuthorizationRepository.deleteAllInBatch();
+    jdbcTemplate.update("DELETE FROM identity_clients");
+  }
+
+  private void register(String clientId, long tenantId) {
+    jdbcTemplate.update(
+        "INSERT INTO identity_clients (client_id, tenant_id, client_secret) VALUES (?, ?, ?)",
+        clientId,
+        tenantId,
+        "secret");
+  }
+
+  private void consent(String clientId, String principalId) {
+    jpaConsentRepository.save(
+        ConsentEntity.builder()
+            .registeredClientId(clientId)
+            .principalId(principalId)
+            .scopes(Set.of("files:read"))
+            .modifiedAt(ZonedDateTime.now())
+            .build());
+  }
+
+  private void grant(String clientId, String principalId, long tenantId) {
+    jpaAuthorizationRepository.upsert(
+        AuthorizationEntity.builder()
+            .id(clientId + "-" + principalId)
+            .registeredClientId(clientId)
+            .principalId(principalId)
+            .authorizationGrantType("authorization_code")
+            .tenantId(tenantId)
+            .build());
+    consent(clientId, principalId);
+  }
+
+  @Test
+  void givenManyClients_whenRevoked_thenOnlyTheirTenantRowsAreDeletedInChunks() {
+    for (var client : List.of("c1", "c2", "c3"))
+      for (var user : List.of("u1", "u2", "u3")) grant(client, user, 1);
+    grant("c4", "u1", 1);
+    grant("c1", "u9", 2);
+
+    var result = revocationService.revoke(1, List.of("c1", "c2", "c3"), List.of());
+
+    assertThat(result.authorizations()).isEqualTo(9);
+    assertThat(result.consents()).isEqualTo(9);
+    assertThat(jpaAuthorizationRepository.findAll())
+        .extracting(AuthorizationEntity::getRegisteredClientId)
+        .containsExactlyInAnyOrder("c4", "c1");
+    assertThat(jpaConsentRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void givenClientsAndPrincipals_whenRevoked_thenOnlyMatchingPairsAreDeleted() {
+    for (var client : List.of("c1", "c2"))
+      for (var user : List.of("u1", "u2")) grant(client, user, 1);
+
+    var result = revocationService.revoke(1, List.of("c1"), List.of("u1", "u2"));
+
+    assertThat(result.authorizations()).isEqualTo(2);
+    assertThat(result.consents()).isEqualTo(2);
+    assertThat(jpaAuthorizationRepository.findAll())
+        .extracting(AuthorizationEntity::getRegisteredClientId)
+        .containsOnly("c2");
+  }
+
+  @Test
+  void givenConsentsOfAnotherTenant_whenClientIsRevoked_thenTheyAreKeptWithTheirAuthorizations() {
+    register("c1", 1);
+    grant("c1", "u1", 1);
+    grant("c1", "u2", 2);
+    consent("c1", "u3");
+
+    var result = revocationService.revoke(1, List.of("c1"), List.of());
+
+    assertThat(result.authorizations()).isEqualTo(1);
+    assertThat(result.consents()).isEqualTo(1);
+    assertThat(jpaAuthorizationRepository.findAll())
+        .extracting(AuthorizationEntity::getPrincipalId)
+        .containsExactly("u2");
+    assertThat(jpaConsentRepository.findAll())
+        .extracting(ConsentEntity::getPrincipalId)
+        .containsExactlyInAnyOrder("u2", "u3");
+  }
+}
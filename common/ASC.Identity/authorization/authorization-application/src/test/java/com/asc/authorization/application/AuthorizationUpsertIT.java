@@ -0,0 +1,168 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.asc.authorization.application.security.oauth.service.GrpcRegisteredClientService;
+import com.asc.authorization.application.security.oauth.service.RegisteredClientService;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "RUN_INTEGRATION_TESTS", matches = "true")
+@SpringBootTest(classes = AuthorizationServiceIT.TestApplication.class)
+public class AuthorizationUpsertIT {
+  private static final int WRITERS = 16;
+  private static final int WRITES_PER_WRITER = 25;
+
+  @Container
+  static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withInitScript("init.sql");
+
+  @Container static RabbitMQContainer rabbitmq = new RabbitMQContainer("rabbitmq:3.11-management");
+
+  @Container
+  static GenericContainer<?> redis = new GenericContainer<>("redis:7.0").withExposedPorts(6379);
+
+  @MockitoBean private RegisteredClientService registeredClientService;
+  @MockitoBean private GrpcRegisteredClientService grpcRegisteredClientService;
+
+  @Autowired private JpaAuthorizationRepository jpaAuthorizationRepository;
+
+  @DynamicPropertySource
+  static void configureTestContainers(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", mysql::getJdbcUrl);
+    registry.add("spring.datasource.username", mysql::getUsername);
+    registry.add("spring.datasource.password", mysql::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+
+    registry.add("spring.rabbitmq.host", rabbitmq::getHost);
+    registry.add("spring.rabbitmq.port", rabbitmq::getAmqpPort);
+    registry.add("spring.rabbitmq.username", rabbitmq::getAdminUsername);
+    registry.add("spring.rabbitmq.password", rabbitmq::getAdminPassword);
+
+    registry.add("spring.data.redis.host", redis::getHost);
+    registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+  }
+
+  @BeforeEach
+  void setUp() {
+    jpaAuthorizationRepository.deleteAllInBatch();
+  }
+
+  private AuthorizationEntity authorization(String principalId, String token, long tenantId) {
+    return AuthorizationEntity.builder()
+        .id(principalId + "-" + token)
+        .registeredClientId("client")
+        .principalId(principalId)
+        .authorizationGrantType("authorization_code")
+        .tenantId(tenantId)
+        .accessTokenValue("access-" + token)
+        .accessTokenHash("access-hash-" + token)
+        .refreshTokenValue("refresh-" + token)
+        .refreshTokenHash("refresh-hash-" + token)
+        .build();
+  }
+
+  private void runConcurrently(Callable<Void> write) throws Exception {
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures = new ArrayList<Future<Void>>();
+      for (var i = 0; i < WRITERS; i++) futures.add(executor.submit(write));
+      for (var future : futures) future.get();
+    }
+  }
+
+  @Test
+  void givenConcurrentRefreshes_whenUpserted_thenRowHoldsOneCompleteWrite() throws Exception {
+    jpaAuthorizationRepository.upsert(authorization("principal", "initial", 1));
+
+    runConcurrently(
+        () -> {
+          for (var i = 0; i < WRITES_PER_WRITER; i++)
+            jpaAuthorizationRepository.upsert(
+                authorization("principal", Thread.currentThread().threadId() + "-" + i, 0));
+          return null;
+        });
+
+    var rows = jpaAuthorizationRepository.findAll();
+    assertThat(rows).hasSize(1);
+
+    var row = rows.getFirst();
+    var token = row.getAccessTokenValue().substring("access-".length());
+    assertThat(row.getAccessTokenHash()).isEqualTo("access-hash-" + token);
+    assertThat(row.getRefreshTokenValue()).isEqualTo("refresh-" + token);
+    assertThat(row.getRefreshTokenHash()).isEqualTo("refresh-hash-" + token);
+    assertThat(row.getId()).isEqualTo("principal-" + token);
+    assertThat(row.getTenantId()).isEqualTo(1);
+    assertThat(row.getModifiedAt()).isNotNull();
+  }
+
+  @Test
+  void givenConcurrentFirstAuthorizations_whenUpserted_thenNoneIsLost() throws Exception {
+    runConcurrently(
+        () -> {
+          var principal = "principal-" + Thread.currentThread().threadId();
+          for (var i = 0; i < WRITES_PER_WRITER; i++)
+            jpaAuthorizationRepository.upsert(authorization(principal, String.valueOf(i), 1));
+          return null;
+        });
+
+    var rows = jpaAuthorizationRepository.findAll();
+    assertThat(rows).hasSize(WRITERS);
+    assertThat(rows)
+        .allSatisfy(
+            row ->
+                assertThat(row.getAccessTokenValue())
+                    .isEqualTo("access-" + (WRITES_PER_WRITER - 1)));
+  }
+}
@@ -0,0 +1,121 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.jwks;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.application.configuration.properties.RegisteredClientConfigurationProperties;
+import com.asc.authorization.application.mapper.KeyPairMapper;
+import com.asc.authorization.application.security.filter.JwkSetEndpointFilter;
+import com.asc.authorization.application.security.oauth.service.KeyPairService;
+import com.asc.authorization.data.key.entity.PublicKeyView;
+import com.asc.common.core.domain.value.KeyPairType;
+import com.nimbusds.jose.jwk.JWKSet;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PublicJwkSetTest {
+  private final KeyPairService keyPairService = mock(KeyPairService.class);
+  private PublicJwkSet publicJwkSet;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var keyPairMapper = new KeyPairMapper();
+    var generator = new EcGenerator(keyPairMapper);
+    var publicKey = keyPairMapper.toString(generator.generateKeyPair().getPublic());
+    var key = mock(PublicKeyView.class);
+    when(key.getId()).thenReturn("key");
+    when(key.getPublicKey()).thenReturn(publicKey);
+    when(key.getPairType()).thenReturn(KeyPairType.EC);
+    when(key.getCreatedAt()).thenReturn(ZonedDateTime.now(ZoneOffset.UTC));
+    when(keyPairService.findActivePublicKeys(any())).thenReturn(List.of(key));
+
+    publicJwkSet = new PublicJwkSet(keyPairService, new RegisteredClientConfigurationProperties());
+    ReflectionTestUtils.setField(publicJwkSet, "keyPairGenerator", generator);
+  }
+
+  @Test
+  void givenActiveKeys_whenRefreshed_thenOnlyPublicKeysArePublished() throws Exception {
+    publicJwkSet.refresh();
+
+    var snapshot = publicJwkSet.getSnapshot().orElseThrow();
+    var set = JWKSet.parse(new String(snapshot.body(), StandardCharsets.UTF_8));
+    assertEquals("key", set.getKeys().getFirst().getKeyID());
+    assertFalse(set.getKeys().getFirst().isPrivate());
+    assertEquals(3600, snapshot.maxAgeSeconds());
+  }
+
+  @Test
+  void givenUnchangedKeys_whenRefreshedAgain_thenSnapshotIsKept() {
+    publicJwkSet.refresh();
+    var first = publicJwkSet.getSnapshot().orElseThrow();
+
+    publicJwkSet.refresh();
+
+    assertSame(first, publicJwkSet.getSnapshot().orElseThrow());
+    verify(keyPairService, times(2)).findActivePublicKeys(any());
+  }
+
+  @Test
+  void givenMatchingEtag_whenJwkSetIsRequested_thenNotModifiedIsReturned() throws Exception {
+    publicJwkSet.refresh();
+    var filter = new JwkSetEndpointFilter(publicJwkSet);
+    var etag = publicJwkSet.getSnapshot().orElseThrow().etag();
+
+    var fresh = new MockHttpServletResponse();
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/oauth2/jwks"), fresh, new MockFilterChain());
+    var conditional = new MockHttpServletRequest("GET", "/oauth2/jwks");
+    conditional.addHeader("If-None-Match", etag);
+    var cached = new MockHttpServletResponse();
+    filter.doFilter(conditional, cached, new MockFilterChain());
+
+    assertEquals(200, fresh.getStatus());
+    assertEquals(etag, fresh.getHeader("ETag"));
+    assertEquals("public, max-age=3600", fresh.getHeader("Cache-Control"));
+    assertTrue(fresh.getContentAsString().contains("\"kid\":\"key\""));
+    assertEquals(304, cached.getStatus());
+    assertEquals(0, cached.getContentLength());
+  }
+}
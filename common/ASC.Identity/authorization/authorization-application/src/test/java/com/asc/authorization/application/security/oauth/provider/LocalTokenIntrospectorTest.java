@@ -0,0 +1,170 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.provider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.application.configuration.properties.IntrospectionConfigurationProperties;
+import com.asc.authorization.application.configuration.properties.RegisteredClientConfigurationProperties;
+import com.asc.authorization.application.mapper.KeyPairMapper;
+import com.asc.authorization.application.security.oauth.jwks.EcGenerator;
+import com.asc.authorization.application.security.oauth.jwks.PublicJwkSet;
+import com.asc.authorization.application.security.oauth.revocation.RecentRevocations;
+import com.asc.authorization.application.security.oauth.revocation.RevocationFeed;
+import com.asc.authorization.application.security.oauth.service.KeyPairService;
+import com.asc.authorization.data.key.entity.PublicKeyView;
+import com.asc.authorization.data.revocation.entity.RevokedTokenEntity;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.asc.common.core.domain.value.KeyPairType;
+import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LocalTokenIntrospectorTest {
+  private final JpaRevokedTokenRepository revokedTokenRepository =
+      mock(JpaRevokedTokenRepository.class);
+  private final RecentRevocations recentRevocations =
+      new RecentRevocations(new IntrospectionConfigurationProperties());
+  private NimbusJwtEncoder encoder;
+  private RevocationFeed revocationFeed;
+  private LocalTokenIntrospector introspector;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var keyPairMapper = new KeyPairMapper();
+    var generator = new EcGenerator(keyPairMapper);
+    var keyPair = generator.generateKeyPair();
+    var key = mock(PublicKeyView.class);
+    when(key.getId()).thenReturn("key");
+    when(key.getPublicKey()).thenReturn(keyPairMapper.toString(keyPair.getPublic()));
+    when(key.getPairType()).thenReturn(KeyPairType.EC);
+    when(key.getCreatedAt()).thenReturn(ZonedDateTime.now(ZoneOffset.UTC));
+    var keyPairService = mock(KeyPairService.class);
+    when(keyPairService.findActivePublicKeys(any())).thenReturn(List.of(key));
+
+    var publicJwkSet =
+        new PublicJwkSet(keyPairService, new RegisteredClientConfigurationProperties());
+    ReflectionTestUtils.setField(publicJwkSet, "keyPairGenerator", generator);
+    publicJwkSet.refresh();
+
+    when(revokedTokenRepository.findAllByExpiresAtAfter(any()))
+        .thenReturn(
+            List.of(
+                RevokedTokenEntity.builder()
+                    .jti("revoked")
+                    .expiresAt(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(30))
+                    .revokedAt(ZonedDateTime.now(ZoneOffset.UTC))
+                    .build()));
+    revocationFeed = spy(new RevocationFeed(revokedTokenRepository, Duration.ofSeconds(10)));
+    revocationFeed.refresh();
+
+    encoder =
+        new NimbusJwtEncoder(
+            new ImmutableJWKSet<>(
+                new JWKSet(generator.buildKey("key", keyPair.getPublic(), keyPair.getPrivate()))));
+    introspector = new LocalTokenIntrospector(publicJwkSet, revocationFeed, recentRevocations);
+  }
+
+  @Test
+  void givenValidAccessToken_whenIntrospected_thenActiveResponseIsBuiltFromClaims() {
+    var introspection = introspector.introspect(token("active", Instant.now().plusSeconds(60)));
+
+    var claims = introspection.orElseThrow();
+    assertTrue(claims.isActive());
+    assertEquals("client", claims.getClientId());
+    assertEquals("user", claims.getSubject());
+    assertEquals(List.of("files:read"), claims.getScopes());
+    assertEquals("Bearer", claims.getTokenType());
+  }
+
+  @Test
+  void givenExpiredOrRevokedAccessToken_whenIntrospected_thenInactiveResponseIsReturned() {
+    var expired = introspector.introspect(token("expired", Instant.now().minusSeconds(1)));
+    var revoked = introspector.introspect(token("revoked", Instant.now().plusSeconds(60)));
+
+    assertFalse(expired.orElseThrow().isActive());
+    assertFalse(revoked.orElseThrow().isActive());
+  }
+
+  @Test
+  void givenRecentlyRevokedPrincipalOrOpaqueToken_whenIntrospected_thenLookupIsRequired() {
+    recentRevocations.onUserClientsRemoved(
+        UserClientsRemovedEvent.builder().userId("user").build());
+
+    assertTrue(introspector.introspect(token("active", Instant.now().plusSeconds(60))).isEmpty());
+    assertTrue(introspector.introspect("opaque-refresh-token").isEmpty());
+  }
+
+  @Test
+  void givenStaleRevocationFeed_whenIntrospected_thenLookupIsRequired() {
+    doReturn(Optional.empty()).when(revocationFeed).getFreshSnapshot();
+
+    assertTrue(introspector.introspect(token("active", Instant.now().plusSeconds(60))).isEmpty());
+    assertTrue(introspector.introspect(token("revoked", Instant.now().plusSeconds(60))).isEmpty());
+  }
+
+  private String token(String jti, Instant expiresAt) {
+    var claims =
+        JwtClaimsSet.builder()
+            .id(jti)
+            .subject("user")
+            .issuedAt(expiresAt.minusSeconds(3600))
+            .expiresAt(expiresAt)
+            .claim("cid", "client")
+            .claim("tid", 1L)
+            .claim("scope", List.of("files:read"))
+            .build();
+    return encoder
+        .encode(
+            JwtEncoderParameters.from(
+                JwsHeader.with(SignatureAlgorithm.ES256).keyId("key").build(), claims))
+        .getTokenValue();
+  }
+}
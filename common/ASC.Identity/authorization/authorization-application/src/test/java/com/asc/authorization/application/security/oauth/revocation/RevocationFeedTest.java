@@ -0,0 +1,187 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.revocation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.application.controller.RevocationFeedController;
+import com.asc.authorization.data.revocation.entity.RevokedTokenEntity;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class RevocationFeedTest {
+  private final JpaRevokedTokenRepository repository = mock(JpaRevokedTokenRepository.class);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+  private RevocationFeed revocationFeed;
+
+  @BeforeEach
+  void setUp() {
+    when(repository.findAllByExpiresAtAfter(any()))
+        .thenReturn(
+            List.of(
+                token("b", now.minusMinutes(5)),
+                token("a", now.minusMinutes(1)),
+                token("c", now.minusSeconds(5))));
+    revocationFeed = new RevocationFeed(repository, Duration.ofSeconds(10));
+  }
+
+  @Test
+  void givenRevokedTokens_whenRefreshed_thenSortedListIsPublished() throws Exception {
+    revocationFeed.refresh();
+
+    var snapshot = revocationFeed.getSnapshot().orElseThrow();
+    var body = objectMapper.readTree(snapshot.body());
+    assertEquals(now.minusSeconds(5).toInstant().toEpochMilli(), snapshot.version());
+    assertEquals(snapshot.version(), body.get("version").asLong());
+    assertFalse(body.get("delta").asBoolean());
+    assertEquals("a", body.get("revoked").get(0).get("jti").asText());
+    assertEquals("c", body.get("revoked").get(2).get("jti").asText());
+    assertEquals(
+        now.plusMinutes(30).toEpochSecond(), body.get("revoked").get(0).get("exp").asLong());
+    assertNull(body.get("revoked").get(0).get("revokedAt"));
+    assertEquals(10, snapshot.maxAgeSeconds());
+  }
+
+  @Test
+  void givenKnownVersion_whenSinceIsRequested_thenOnlyRecentRevocationsAreReturned()
+      throws Exception {
+    revocationFeed.refresh();
+    var snapshot = revocationFeed.getSnapshot().orElseThrow();
+
+    var delta =
+        objectMapper.readTree(
+            revocationFeed.since(snapshot, now.minusSeconds(55).toInstant().toEpochMilli()).body());
+    var unknown = revocationFeed.since(snapshot, snapshot.version() + 1).body();
+
+    assertTrue(delta.get("delta").asBoolean());
+    assertEquals(2, delta.get("revoked").size());
+    assertEquals("a", delta.get("revoked").get(0).get("jti").asText());
+    assertArrayEquals(snapshot.body(), unknown);
+  }
+
+  @Test
+  void givenMatchingEtag_whenRevocationsAreRequested_thenNotModifiedIsReturned() throws Exception {
+    revocationFeed.refresh();
+    var controller = new RevocationFeedController(revocationFeed);
+    var etag = revocationFeed.getSnapshot().orElseThrow().etag();
+
+    var fresh =
+        controller.getRevocations(
+            0,
+            new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/oauth2/revocations"),
+                new MockHttpServletResponse()));
+    var conditional = new MockHttpServletRequest("GET", "/oauth2/revocations");
+    conditional.addHeader("If-None-Match", etag);
+    var cached = new MockHttpServletResponse();
+    var notModified = controller.getRevocations(0, new ServletWebRequest(conditional, cached));
+
+    assertEquals(200, fresh.getStatusCode().value());
+    assertEquals(etag, fresh.getHeaders().getETag());
+    assertEquals("max-age=10, public", fresh.getHeaders().getCacheControl());
+    assertNull(notModified);
+    assertEquals(304, cached.getStatus());
+  }
+
+  @Test
+  void givenKnownVersion_whenRevocationsAreRequested_thenDeltaCarriesItsOwnEtag() throws Exception {
+    revocationFeed.refresh();
+    var controller = new RevocationFeedController(revocationFeed);
+    var snapshot = revocationFeed.getSnapshot().orElseThrow();
+    var since = now.minusSeconds(55).toInstant().toEpochMilli();
+
+    var delta =
+        controller.getRevocations(
+            since,
+            new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/oauth2/revocations"),
+                new MockHttpServletResponse()));
+    var conditional = new MockHttpServletRequest("GET", "/oauth2/revocations");
+    conditional.addHeader("If-None-Match", snapshot.etag());
+    var cached = new MockHttpServletResponse();
+    var stale = controller.getRevocations(since, new ServletWebRequest(conditional, cached));
+
+    assertNotEquals(snapshot.etag(), delta.getHeaders().getETag());
+    assertEquals(revocationFeed.since(snapshot, since).etag(), delta.getHeaders().getETag());
+    assertEquals(200, stale.getStatusCode().value());
+    assertTrue(objectMapper.readTree(stale.getBody()).get("delta").asBoolean());
+  }
+
+  @Test
+  void givenFailingRefreshes_whenSnapshotIsNotConfirmed_thenItIsNoLongerFresh() {
+    var clock = mock(Clock.class);
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    when(clock.instant()).thenReturn(now.toInstant());
+    var feed = new RevocationFeed(repository, Duration.ofSeconds(10), clock);
+    feed.refresh();
+
+    when(clock.instant()).thenReturn(now.plusSeconds(25).toInstant());
+    feed.refresh();
+    var confirmed = feed.getFreshSnapshot();
+
+    when(repository.findAllByExpiresAtAfter(any())).thenThrow(new IllegalStateException("down"));
+    when(clock.instant()).thenReturn(now.plusSeconds(50).toInstant());
+    feed.refresh();
+    var unconfirmed = feed.getFreshSnapshot();
+
+    when(clock.instant()).thenReturn(now.plusSeconds(56).toInstant());
+    feed.refresh();
+
+    assertTrue(confirmed.isPresent());
+    assertTrue(unconfirmed.isPresent());
+    assertTrue(feed.getFreshSnapshot().isEmpty());
+    assertTrue(feed.getSnapshot().isPresent());
+  }
+
+  private RevokedTokenEntity token(String jti, ZonedDateTime revokedAt) {
+    return RevokedTokenEntity.builder()
+        .jti(jti)
+        .expiresAt(now.plusMinutes(30))
+        .revokedAt(revokedAt)
+        .build();
+  }
+}
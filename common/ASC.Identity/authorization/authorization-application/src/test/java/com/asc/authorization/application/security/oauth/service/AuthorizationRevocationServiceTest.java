@@ -0,0 +1,149 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.application.configuration.properties.BulkRevocationConfigurationProperties;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class AuthorizationRevocationServiceTest {
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final JpaAuthorizationRepository authorizationRepository =
+      mock(JpaAuthorizationRepository.class);
+  private final JpaConsentRepository consentRepository = mock(JpaConsentRepository.class);
+  private final JpaRevokedTokenRepository revokedTokenRepository =
+      mock(JpaRevokedTokenRepository.class);
+  private final ApplicationEventPublisher applicationEventPublisher =
+      mock(ApplicationEventPublisher.class);
+
+  @SuppressWarnings("unchecked")
+  private final AuthorizationMessagePublisher<AuthorizationsRevokedEvent> messagePublisher =
+      mock(AuthorizationMessagePublisher.class);
+
+  private AuthorizationRevocationService service;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new BulkRevocationConfigurationProperties();
+    properties.setIdsPerStatement(2);
+    properties.setRowsPerStatement(10);
+    service =
+        new AuthorizationRevocationService(
+            transactionManager,
+            authorizationRepository,
+            consentRepository,
+            revokedTokenRepository,
+            properties,
+            applicationEventPublisher,
+            messagePublisher);
+  }
+
+  @Test
+  void givenClientIds_whenRevoke_thenDeletesRunPerChunkUntilBelowLimit() {
+    when(authorizationRepository.deleteAuthorizationsByTenantIdAndClientIds(
+            eq(1L), anyCollection(), eq(10)))
+        .thenReturn(10, 3, 4);
+    when(consentRepository.deleteConsentsByTenantIdAndClientIds(eq(1L), anyCollection(), eq(10)))
+        .thenReturn(2, 1);
+
+    var result = service.revoke(1, List.of("a", "b", "c"), List.of());
+
+    assertEquals(17, result.authorizations());
+    assertEquals(3, result.consents());
+    verify(authorizationRepository, times(3))
+        .deleteAuthorizationsByTenantIdAndClientIds(eq(1L), anyCollection(), eq(10));
+    verify(consentRepository, times(2))
+        .deleteConsentsByTenantIdAndClientIds(eq(1L), anyCollection(), eq(10));
+    verify(revokedTokenRepository, times(2))
+        .revokeAccessTokensByTenantIdAndClientIds(eq(1L), anyCollection());
+    verify(transactionManager, times(7)).commit(any());
+    verifyNoMoreInteractions(authorizationRepository, consentRepository);
+  }
+
+  @Test
+  void givenClientAndPrincipalIds_whenRevoke_thenBothAreBoundToEveryStatement() {
+    service.revoke(1, List.of("client"), List.of("user"));
+
+    var order = inOrder(revokedTokenRepository, consentRepository, authorizationRepository);
+    order
+        .verify(revokedTokenRepository)
+        .revokeAccessTokensByTenantIdAndClientIdsAndPrincipalIds(
+            1L, List.of("client"), List.of("user"));
+    order
+        .verify(consentRepository)
+        .deleteConsentsByTenantIdAndClientIdsAndPrincipalIds(
+            1L, List.of("client"), List.of("user"), 10);
+    order
+        .verify(authorizationRepository)
+        .deleteAuthorizationsByTenantIdAndClientIdsAndPrincipalIds(
+            1L, List.of("client"), List.of("user"), 10);
+    verifyNoMoreInteractions(authorizationRepository, consentRepository);
+  }
+
+  @Test
+  void givenPrincipalIds_whenRevoke_thenSingleEventIsPublishedAndBroadcast() {
+    service.revoke(1, List.of(), List.of("u1", "u2", "u3", "u4", "u5"));
+
+    var event =
+        AuthorizationsRevokedEvent.builder()
+            .tenantId(1)
+            .clientIds(Set.of())
+            .principalIds(Set.of("u1", "u2", "u3", "u4", "u5"))
+            .build();
+    verify(authorizationRepository, times(3))
+        .deleteAuthorizationsByTenantIdAndPrincipalIds(eq(1L), anyCollection(), eq(10));
+    verify(applicationEventPublisher).publishEvent(event);
+    verify(messagePublisher).publish(event);
+  }
+
+  @Test
+  void givenNoIds_whenRevoke_thenIllegalArgumentIsThrown() {
+    assertThrows(IllegalArgumentException.class, () -> service.revoke(1, List.of(), List.of()));
+    verifyNoInteractions(authorizationRepository, consentRepository, messagePublisher);
+  }
+}
@@ -0,0 +1,213 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.application.configuration.properties.RegisteredClientConfigurationProperties;
+import com.asc.authorization.application.configuration.properties.RemoteLookupCacheConfigurationProperties;
+import com.asc.authorization.application.configuration.properties.SecurityConfigurationProperties;
+import com.asc.authorization.application.mapper.AuthorizationMapper;
+import com.asc.authorization.application.security.oauth.revocation.RecentRevocations;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.AuthorizationRequestStore;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.asc.common.messaging.converter.RpcMessageProperties;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationMessage;
+import com.asc.common.service.transfer.message.SaveAuthorizationMessage;
+import com.asc.common.utilities.crypto.EncryptionService;
+import com.asc.common.utilities.crypto.HashingService;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2TokenRevocationAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.InMemoryRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+public class AuthorizationServiceTest {
+  private static final String REMOTE_REGION = "us";
+  private static final String TOKEN = REMOTE_REGION + ":access-token";
+  private static final String HASHED_TOKEN = "hashed-access-token";
+
+  private final RegisteredClient registeredClient =
+      RegisteredClient.withId("client")
+          .clientId("client")
+          .clientSecret("secret")
+          .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+          .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+          .redirectUri("https://client.example/callback")
+          .build();
+
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final JpaAuthorizationRepository jpaAuthorizationRepository =
+      mock(JpaAuthorizationRepository.class);
+  private final RabbitTemplate rpcRabbitTemplate = mock(RabbitTemplate.class);
+  private final MessageConverter messageConverter = mock(MessageConverter.class);
+  private final EncryptionService encryptionService = mock(EncryptionService.class);
+  private final HashingService hashingService = mock(HashingService.class);
+  private final RegisteredClientAccessibilityService accessibilityService =
+      mock(RegisteredClientAccessibilityService.class);
+
+  private RemoteLookupCache remoteLookupCache;
+  private AuthorizationService authorizationService;
+
+  @BeforeEach
+  void setUp() {
+    var environment = new MockEnvironment();
+    environment.setActiveProfiles("saas");
+    remoteLookupCache = new RemoteLookupCache(new RemoteLookupCacheConfigurationProperties());
+
+    authorizationService =
+        new AuthorizationService(
+            environment,
+            new SecurityConfigurationProperties(),
+            new RegisteredClientConfigurationProperties(),
+            transactionManager,
+            rpcRabbitTemplate,
+            messageConverter,
+            new RpcMessageProperties(),
+            new AuthorizationMapper(),
+            encryptionService,
+            hashingService,
+            mock(JpaConsentRepository.class),
+            jpaAuthorizationRepository,
+            mock(JpaRevokedTokenRepository.class),
+            mock(RecentRevocations.class),
+            accessibilityService,
+            new InMemoryRegisteredClientRepository(registeredClient),
+            remoteLookupCache,
+            mock(RemoteLookupBatcher.class),
+            mock(AuthorizationRequestStore.class));
+    ReflectionTestUtils.setField(authorizationService, "region", "eu");
+
+    when(hashingService.hash(TOKEN)).thenReturn(HASHED_TOKEN);
+    when(encryptionService.decrypt(anyString())).then(returnsFirstArg());
+    when(accessibilityService.validateClientAccessibility(anyString())).thenReturn(true);
+    when(messageConverter.toMessage(any(), any())).thenReturn(new Message(new byte[0]));
+    when(rpcRabbitTemplate.sendAndReceive(anyString(), anyString(), any(Message.class)))
+        .thenReturn(new Message(new byte[0]));
+
+    remoteLookupCache.getAuthorization(
+        REMOTE_REGION, HASHED_TOKEN, () -> Optional.of(authorization("files:read")));
+  }
+
+  @Test
+  void givenCachedRemoteAuthorization_whenTokenIsRevoked_thenRemoteRegionIsAskedAgain() {
+    when(messageConverter.fromMessage(any()))
+        .thenReturn(authorization("files:read,files:write"), true);
+
+    new OAuth2TokenRevocationAuthenticationProvider(authorizationService)
+        .authenticate(
+            new OAuth2TokenRevocationAuthenticationToken(
+                TOKEN,
+                new OAuth2ClientAuthenticationToken(
+                    registeredClient,
+                    ClientAuthenticationMethod.CLIENT_SECRET_BASIC,
+                    registeredClient.getClientSecret()),
+                null));
+
+    verify(messageConverter)
+        .toMessage(argThat(message -> message instanceof RetrieveAuthorizationMessage), any());
+    verify(messageConverter)
+        .toMessage(
+            argThat(
+                message ->
+                    message instanceof SaveAuthorizationMessage save
+                        && save.getAuthorizedScopes().contains("files:write")),
+            any());
+  }
+
+  @Test
+  void givenCachedRemoteAuthorization_whenTokenIsInspected_thenCachedAuthorizationIsServed() {
+    var authorization = authorizationService.findByTokenForInspection(TOKEN);
+
+    assertEquals(1, authorization.getAuthorizedScopes().size());
+    verifyNoInteractions(rpcRabbitTemplate);
+  }
+
+  @Test
+  void givenLocalToken_whenTokenIsInspected_thenItIsLookedUpOnThePrimary() {
+    var localToken = "eu:access-token";
+    when(hashingService.hash(localToken)).thenReturn(HASHED_TOKEN);
+    when(jpaAuthorizationRepository
+            .findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(HASHED_TOKEN))
+        .thenReturn(Optional.of(authorization("files:read")));
+
+    assertNotNull(authorizationService.findByTokenForInspection(localToken));
+
+    verify(transactionManager)
+        .getTransaction(argThat((TransactionDefinition definition) -> !definition.isReadOnly()));
+  }
+
+  /**
+   * Builds the authorization of the remote access token as the remote region returns it.
+   *
+   * @param scopes the comma-separated authorized scopes
+   * @return the authorization entity
+   */
+  private AuthorizationEntity authorization(String scopes) {
+    var now = ZonedDateTime.now(ZoneOffset.UTC);
+    return AuthorizationEntity.builder()
+        .id("authorization")
+        .registeredClientId(registeredClient.getId())
+        .principalId("user")
+        .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE.getValue())
+        .authorizedScopes(scopes)
+        .accessTokenValue(TOKEN)
+        .accessTokenHash(HASHED_TOKEN)
+        .accessTokenScopes(scopes)
+        .accessTokenIssuedAt(now)
+        .accessTokenExpiresAt(now.plusMinutes(5))
+        .build();
+  }
+}
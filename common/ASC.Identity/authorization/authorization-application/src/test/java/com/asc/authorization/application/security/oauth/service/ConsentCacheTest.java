@@ -0,0 +1,236 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.authorization.application.configuration.properties.ConsentCacheConfigurationProperties;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import com.asc.common.service.transfer.message.ConsentChangedEvent;
+import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
+import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsent;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ConsentCacheTest {
+  private final AtomicLong now = new AtomicLong();
+  private final AtomicInteger calls = new AtomicInteger();
+  private final List<ConsentChangedEvent> broadcasts = new ArrayList<>();
+  private ConsentCache cache;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new ConsentCacheConfigurationProperties();
+    properties.setTtl(Duration.ofMinutes(5));
+    cache = new ConsentCache(properties, broadcasts::add, now::get);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive())
+      TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  private Supplier<OAuth2AuthorizationConsent> loader(OAuth2AuthorizationConsent consent) {
+    return () -> {
+      calls.incrementAndGet();
+      return consent;
+    };
+  }
+
+  private OAuth2AuthorizationConsent consent(String clientId, String principalName) {
+    return OAuth2AuthorizationConsent.withId(clientId, principalName)
+        .authority(new SimpleGrantedAuthority("SCOPE_files:read"))
+        .build();
+  }
+
+  @Test
+  void givenCachedConsent_whenGet_thenLoaderIsNotCalled() {
+    cache.get("client", "user", loader(consent("client", "user")));
+
+    var result = cache.get("client", "user", loader(consent("client", "user")));
+
+    assertNotNull(result);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void givenExpiredConsent_whenGet_thenLoaderIsCalledAgain() {
+    cache.get("client", "user", loader(consent("client", "user")));
+    now.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    cache.get("client", "user", loader(consent("client", "user")));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenMissingConsent_whenGet_thenItIsNotCached() {
+    cache.get("client", "user", loader(null));
+    cache.get("client", "user", loader(null));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenCachedConsent_whenInvalidate_thenOnlyThatConsentIsReloaded() {
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+
+    cache.invalidate("client", "user");
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void givenInvalidationDuringLoad_whenGet_thenResultIsNotCached() {
+    cache.get(
+        "client",
+        "user",
+        () -> {
+          calls.incrementAndGet();
+          cache.invalidate("client", "user");
+          return consent("client", "user");
+        });
+
+    cache.get("client", "user", loader(consent("client", "user")));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenActiveTransaction_whenInvalidate_thenConsentIsEvictedAgainAfterCompletion() {
+    TransactionSynchronizationManager.initSynchronization();
+    cache.invalidate("client", "user");
+    cache.get("client", "user", loader(consent("client", "user")));
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    cache.get("client", "user", loader(consent("client", "user")));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void whenInvalidate_thenChangeIsBroadcast() {
+    cache.invalidate("client", "user");
+
+    assertEquals(
+        List.of(ConsentChangedEvent.builder().clientId("client").principalId("user").build()),
+        broadcasts);
+  }
+
+  @Test
+  void givenActiveTransaction_whenInvalidate_thenChangeIsBroadcastAfterCompletion() {
+    TransactionSynchronizationManager.initSynchronization();
+    cache.invalidate("client", "user");
+    assertTrue(broadcasts.isEmpty());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    assertEquals(1, broadcasts.size());
+  }
+
+  @Test
+  void givenCachedConsent_whenChangedOnAnotherInstance_thenItIsEvictedWithoutBroadcast() {
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+
+    cache.onConsentChanged(
+        ConsentChangedEvent.builder().clientId("client").principalId("user").build());
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+
+    assertEquals(3, calls.get());
+    assertTrue(broadcasts.isEmpty());
+  }
+
+  @Test
+  void givenCachedConsents_whenUserClientsRemoved_thenUserConsentsAreEvicted() {
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+
+    cache.onUserClientsRemoved(UserClientsRemovedEvent.builder().userId("user").build());
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+
+    assertEquals(3, calls.get());
+  }
+
+  @Test
+  void givenCachedConsents_whenTenantClientsRemoved_thenAllConsentsAreEvicted() {
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("other", "user", loader(consent("other", "user")));
+
+    cache.onTenantClientsRemoved(TenantClientsRemovedEvent.builder().tenantId(1).build());
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("other", "user", loader(consent("other", "user")));
+
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  void givenCachedConsents_whenAuthorizationsAreRevoked_thenCoveredConsentsAreEvicted() {
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+    cache.get("other", "user", loader(consent("other", "user")));
+
+    cache.onAuthorizationsRevoked(
+        AuthorizationsRevokedEvent.builder()
+            .tenantId(1)
+            .clientIds(Set.of("client"))
+            .principalIds(Set.of("user"))
+            .build());
+    cache.get("client", "user", loader(consent("client", "user")));
+    cache.get("client", "other", loader(consent("client", "other")));
+    cache.get("other", "user", loader(consent("other", "user")));
+
+    assertEquals(4, calls.get());
+  }
+}
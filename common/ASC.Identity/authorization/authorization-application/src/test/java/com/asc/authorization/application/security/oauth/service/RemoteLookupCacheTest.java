@@ -0,0 +1,173 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.application.security.oauth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.authorization.application.configuration.properties.RemoteLookupCacheConfigurationProperties;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpTimeoutException;
+
+public class RemoteLookupCacheTest {
+  private final AtomicLong now = new AtomicLong();
+  private final AtomicInteger calls = new AtomicInteger();
+  private RemoteLookupCache cache;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new RemoteLookupCacheConfigurationProperties();
+    properties.setTtl(Duration.ofSeconds(30));
+    properties.setStaleTtl(Duration.ofMinutes(5));
+    cache = new RemoteLookupCache(properties, now::get);
+  }
+
+  private Supplier<Optional<AuthorizationEntity>> loader(AuthorizationEntity entity) {
+    return () -> {
+      calls.incrementAndGet();
+      return Optional.of(entity);
+    };
+  }
+
+  private Supplier<Optional<AuthorizationEntity>> failingLoader() {
+    return () -> {
+      calls.incrementAndGet();
+      throw new AmqpTimeoutException("timeout");
+    };
+  }
+
+  private AuthorizationEntity authorization() {
+    return AuthorizationEntity.builder()
+        .id("id")
+        .registeredClientId("client")
+        .principalId("user")
+        .tenantId(1)
+        .build();
+  }
+
+  private void advance(Duration duration) {
+    now.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  void givenFreshEntry_whenGetAuthorization_thenLoaderIsNotCalled() {
+    cache.getAuthorization("eu", "token", loader(authorization()));
+    advance(Duration.ofSeconds(10));
+
+    var result = cache.getAuthorization("EU", "token", loader(authorization()));
+
+    assertTrue(result.isPresent());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void givenExpiredEntry_whenGetAuthorization_thenLoaderIsCalledAgain() {
+    cache.getAuthorization("eu", "token", loader(authorization()));
+    advance(Duration.ofSeconds(31));
+
+    cache.getAuthorization("eu", "token", loader(authorization()));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenExpiredEntry_whenLoaderFails_thenStaleEntryIsServed() {
+    cache.getAuthorization("eu", "token", loader(authorization()));
+    advance(Duration.ofMinutes(1));
+
+    var result = cache.getAuthorization("eu", "token", failingLoader());
+
+    assertEquals("id", result.orElseThrow().getId());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenNoEntry_whenLoaderFails_thenFailureIsRethrown() {
+    assertThrows(
+        AmqpTimeoutException.class, () -> cache.getAuthorization("eu", "token", failingLoader()));
+  }
+
+  @Test
+  void givenEntryOlderThanStaleTtl_whenLoaderFails_thenFailureIsRethrown() {
+    cache.getAuthorization("eu", "token", loader(authorization()));
+    advance(Duration.ofMinutes(6));
+
+    assertThrows(
+        AmqpTimeoutException.class, () -> cache.getAuthorization("eu", "token", failingLoader()));
+  }
+
+  @Test
+  void givenCachedEntry_whenClientIsRemoved_thenEntryIsEvicted() {
+    cache.getAuthorization("eu", "token", loader(authorization()));
+
+    cache.onClientRemoved(ClientRemovedEvent.builder().clientId("client").build());
+    cache.getAuthorization("eu", "token", loader(authorization()));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenCachedEntry_whenAuthorizationsOfAnotherTenantAreRevoked_thenEntryIsKept() {
+    cache.getAuthorization("eu", "token", loader(authorization()));
+
+    cache.onAuthorizationsRevoked(
+        AuthorizationsRevokedEvent.builder().tenantId(2).clientIds(Set.of("client")).build());
+    cache.getAuthorization("eu", "token", loader(authorization()));
+    cache.onAuthorizationsRevoked(
+        AuthorizationsRevokedEvent.builder().tenantId(1).principalIds(Set.of("user")).build());
+    cache.getAuthorization("eu", "token", loader(authorization()));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void givenCachedEntry_whenGetAuthorization_thenCopyIsReturned() {
+    var first = cache.getAuthorization("eu", "token", loader(authorization())).orElseThrow();
+    first.setState("modified");
+
+    var second = cache.getAuthorization("eu", "token", loader(authorization())).orElseThrow();
+
+    assertNotSame(first, second);
+    assertNull(second.getState());
+  }
+}
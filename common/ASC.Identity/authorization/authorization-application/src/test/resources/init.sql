@@ -17,6 +17,15 @@ CREATE TABLE identity_certs (
     primary key (id)
 ) engine=InnoDB;
 
+DROP TABLE IF EXISTS identity_revoked_tokens;
+CREATE TABLE identity_revoked_tokens (
+    jti varchar(255) not null,
+    expires_at datetime(6) not null,
+    revoked_at datetime(6) not null,
+    primary key (jti),
+    index idx_identity_revoked_tokens_expires_at (expires_at)
+) engine=InnoDB;
+
 DROP TABLE IF EXISTS identity_authorizations CASCADE;
 DROP TABLE IF EXISTS identity_client_authentication_methods CASCADE;
 DROP TABLE IF EXISTS identity_client_redirect_uris CASCADE;
@@ -25,6 +34,7 @@ DROP TABLE IF EXISTS identity_client_scopes CASCADE;
 DROP TABLE IF EXISTS identity_consent_scopes CASCADE;
 DROP TABLE IF EXISTS identity_consents CASCADE;
 DROP TABLE IF EXISTS identity_clients CASCADE;
+DROP TABLE IF EXISTS identity_client_logos CASCADE;
 DROP TABLE IF EXISTS identity_scopes CASCADE;
 
 CREATE TABLE identity_clients (
@@ -33,7 +43,8 @@ CREATE TABLE identity_clients (
     client_secret varchar(255) not null,
     name varchar(255),
     description LONGTEXT,
-    logo LONGTEXT,
+    logo longtext,
+    logo_hash char(64),
     website_url tinytext,
     terms_url tinytext,
     policy_url tinytext,
@@ -47,7 +58,16 @@ CREATE TABLE identity_clients (
     modified_by varchar(255),
     version integer not null default 0,
     primary key (client_id),
-    index idx_identity_clients_tenant_id (tenant_id)
+    index idx_identity_clients_tenant_id_created_on (tenant_id, created_on, client_id),
+    index idx_identity_clients_tenant_id_created_by (tenant_id, created_by, created_on, client_id)
+) engine=InnoDB;
+
+CREATE TABLE identity_client_logos (
+    hash char(64) not null,
+    content_type varchar(100) not null,
+    content mediumblob not null,
+    created_on datetime(6) not null,
+    primary key (hash)
 ) engine=InnoDB;
 
 ALTER TABLE identity_clients
@@ -97,7 +117,8 @@ CREATE TABLE identity_authorizations (
     id_token_expires_at DATETIME(6),
     modified_at datetime(6),
     primary key (principal_id, registered_client_id, authorization_grant_type),
-    index idx_identity_authorizations_id (id)
+    index idx_identity_authorizations_id (id),
+    index idx_identity_authorizations_tenant_id_registered_client_id (tenant_id, registered_client_id)
 ) engine=InnoDB;
 
 ALTER TABLE identity_authorizations
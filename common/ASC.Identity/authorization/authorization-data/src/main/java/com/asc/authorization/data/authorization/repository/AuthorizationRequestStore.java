@@ -0,0 +1,112 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.data.authorization.repository;
+
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived store for in-flight authorization requests.
+ *
+ * <p>Authorizations that carry only an OAuth2 state or an authorization code live here until the
+ * code is exchanged for tokens, after which they are promoted to the persistent {@link
+ * JpaAuthorizationRepository}. Entries are indexed by their authorization id, state and
+ * authorization code value, and expire on their own once their time-to-live elapses.
+ */
+public interface AuthorizationRequestStore {
+
+  /**
+   * Stores an in-flight authorization request.
+   *
+   * <p>A request previously stored under the same authorization id is replaced, along with the
+   * state and authorization code it was indexed by.
+   *
+   * @param entity the {@link AuthorizationEntity} holding the state or authorization code
+   * @param timeToLive how long the request remains available
+   */
+  void save(AuthorizationEntity entity, Duration timeToLive);
+
+  /**
+   * Finds an in-flight authorization request by its authorization id.
+   *
+   * @param id the authorization id
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  Optional<AuthorizationEntity> findById(String id);
+
+  /**
+   * Finds an in-flight authorization request by its OAuth2 state.
+   *
+   * @param state the state value
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  Optional<AuthorizationEntity> findByState(String state);
+
+  /**
+   * Finds an in-flight authorization request by its authorization code.
+   *
+   * <p>The lookup does not consume the code. Spring Authorization Server resolves a code several
+   * times while handling a single token request, so a code is only consumed by {@link
+   * #consumeAuthorizationCode(String, String)} once its tokens are saved.
+   *
+   * @param code the authorization code value
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  Optional<AuthorizationEntity> findByAuthorizationCode(String code);
+
+  /**
+   * Atomically removes an authorization code if it still belongs to the given request, so that each
+   * code is exchanged at most once across all instances sharing the store.
+   *
+   * <p>The request itself is kept until it expires or is removed, so that the tokens issued for the
+   * code can be promoted together with the request's tenant.
+   *
+   * @param id the authorization id of the request the code was issued for
+   * @param code the authorization code value
+   * @return {@code true} if the code was removed by this call, {@code false} if it has already been
+   *     consumed or has expired
+   */
+  boolean consumeAuthorizationCode(String id, String code);
+
+  /**
+   * Removes an in-flight authorization request along with its state and authorization code.
+   *
+   * @param id the authorization id
+   */
+  void remove(String id);
+}
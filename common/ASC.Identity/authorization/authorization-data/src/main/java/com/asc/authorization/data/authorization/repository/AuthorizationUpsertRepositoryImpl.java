@@ -0,0 +1,221 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.data.authorization.repository;
+
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import java.time.ZonedDateTime;
+import org.hibernate.Session;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Default implementation of {@link AuthorizationUpsertRepository}.
+ *
+ * <p>On MySQL and MariaDB the authorization is written with a single {@code INSERT ... ON DUPLICATE
+ * KEY UPDATE} statement, so that issuing a token neither reads the row first nor holds its lock
+ * between a select and an update. Concurrent writes for the same key are serialized by the
+ * statement itself, and the last one wins as a whole. Other dialects fall back to a locking read
+ * followed by a JPA merge.
+ *
+ * <p>The update list covers every column outside the composite key, not only the token columns. A
+ * row is kept per client, principal and grant type, so exchanging a new authorization code replaces
+ * a previous authorization as a whole, including its id, state, attributes and scopes. A refresh
+ * writes the same values for those columns again, which InnoDB does not count as a change.
+ */
+public class AuthorizationUpsertRepositoryImpl implements AuthorizationUpsertRepository {
+  private static final String UPSERT_SQL =
+      """
+      INSERT INTO identity_authorizations (
+        id, registered_client_id, principal_id, authorization_grant_type, tenant_id, state,
+        attributes, authorized_scopes, authorization_code_value, authorization_code_metadata,
+        authorization_code_issued_at, authorization_code_expires_at, access_token_type,
+        access_token_value, access_token_hash, access_token_scopes, access_token_metadata,
+        access_token_issued_at, access_token_expires_at, refresh_token_value, refresh_token_hash,
+        refresh_token_metadata, refresh_token_issued_at, refresh_token_expires_at, id_token_value,
+        id_token_claims, id_token_metadata, id_token_issued_at, id_token_expires_at, modified_at)
+      VALUES (
+        :id, :registeredClientId, :principalId, :authorizationGrantType, :tenantId, :state,
+        :attributes, :authorizedScopes, :authorizationCodeValue, :authorizationCodeMetadata,
+        :authorizationCodeIssuedAt, :authorizationCodeExpiresAt, :accessTokenType,
+        :accessTokenValue, :accessTokenHash, :accessTokenScopes, :accessTokenMetadata,
+        :accessTokenIssuedAt, :accessTokenExpiresAt, :refreshTokenValue, :refreshTokenHash,
+        :refreshTokenMetadata, :refreshTokenIssuedAt, :refreshTokenExpiresAt, :idTokenValue,
+        :idTokenClaims, :idTokenMetadata, :idTokenIssuedAt, :idTokenExpiresAt, :modifiedAt)
+      ON DUPLICATE KEY UPDATE
+        id = VALUES(id),
+        tenant_id = IF(VALUES(tenant_id) > 0, VALUES(tenant_id), tenant_id),
+        state = VALUES(state),
+        attributes = VALUES(attributes),
+        authorized_scopes = VALUES(authorized_scopes),
+        authorization_code_value = VALUES(authorization_code_value),
+        authorization_code_metadata = VALUES(authorization_code_metadata),
+        authorization_code_issued_at = VALUES(authorization_code_issued_at),
+        authorization_code_expires_at = VALUES(authorization_code_expires_at),
+        access_token_type = VALUES(access_token_type),
+        access_token_value = VALUES(access_token_value),
+        access_token_hash = VALUES(access_token_hash),
+        access_token_scopes = VALUES(access_token_scopes),
+        access_token_metadata = VALUES(access_token_metadata),
+        access_token_issued_at = VALUES(access_token_issued_at),
+        access_token_expires_at = VALUES(access_token_expires_at),
+        refresh_token_value = VALUES(refresh_token_value),
+        refresh_token_hash = VALUES(refresh_token_hash),
+        refresh_token_metadata = VALUES(refresh_token_metadata),
+        refresh_token_issued_at = VALUES(refresh_token_issued_at),
+        refresh_token_expires_at = VALUES(refresh_token_expires_at),
+        id_token_value = VALUES(id_token_value),
+        id_token_claims = VALUES(id_token_claims),
+        id_token_metadata = VALUES(id_token_metadata),
+        id_token_issued_at = VALUES(id_token_issued_at),
+        id_token_expires_at = VALUES(id_token_expires_at),
+        modified_at = VALUES(modified_at)
+      """;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private volatile Boolean nativeUpsert;
+
+  /**
+   * Writes the authorization with a native upsert when the database supports it, or with a locking
+   * read and a JPA merge otherwise.
+   *
+   * @param entity the {@link AuthorizationEntity} to write.
+   */
+  @Override
+  @Transactional(
+      timeout = 2,
+      rollbackFor = {Exception.class})
+  public void upsert(AuthorizationEntity entity) {
+    entity.setModifiedAt(ZonedDateTime.now());
+    if (supportsNativeUpsert()) upsertNative(entity);
+    else upsertMerge(entity);
+  }
+
+  /**
+   * Writes the authorization with a single {@code INSERT ... ON DUPLICATE KEY UPDATE} statement.
+   *
+   * @param entity the {@link AuthorizationEntity} to write.
+   */
+  private void upsertNative(AuthorizationEntity entity) {
+    entityManager
+        .unwrap(Session.class)
+        .createNativeMutationQuery(UPSERT_SQL)
+        .setParameter("id", entity.getId(), String.class)
+        .setParameter("registeredClientId", entity.getRegisteredClientId(), String.class)
+        .setParameter("principalId", entity.getPrincipalId(), String.class)
+        .setParameter("authorizationGrantType", entity.getAuthorizationGrantType(), String.class)
+        .setParameter("tenantId", entity.getTenantId(), Long.class)
+        .setParameter("state", entity.getState(), String.class)
+        .setParameter("attributes", entity.getAttributes(), String.class)
+        .setParameter("authorizedScopes", entity.getAuthorizedScopes(), String.class)
+        .setParameter("authorizationCodeValue", entity.getAuthorizationCodeValue(), String.class)
+        .setParameter(
+            "authorizationCodeMetadata", entity.getAuthorizationCodeMetadata(), String.class)
+        .setParameter(
+            "authorizationCodeIssuedAt", entity.getAuthorizationCodeIssuedAt(), ZonedDateTime.class)
+        .setParameter(
+            "authorizationCodeExpiresAt",
+            entity.getAuthorizationCodeExpiresAt(),
+            ZonedDateTime.class)
+        .setParameter("accessTokenType", entity.getAccessTokenType(), String.class)
+        .setParameter("accessTokenValue", entity.getAccessTokenValue(), String.class)
+        .setParameter("accessTokenHash", entity.getAccessTokenHash(), String.class)
+        .setParameter("accessTokenScopes", entity.getAccessTokenScopes(), String.class)
+        .setParameter("accessTokenMetadata", entity.getAccessTokenMetadata(), String.class)
+        .setParameter("accessTokenIssuedAt", entity.getAccessTokenIssuedAt(), ZonedDateTime.class)
+        .setParameter("accessTokenExpiresAt", entity.getAccessTokenExpiresAt(), ZonedDateTime.class)
+        .setParameter("refreshTokenValue", entity.getRefreshTokenValue(), String.class)
+        .setParameter("refreshTokenHash", entity.getRefreshTokenHash(), String.class)
+        .setParameter("refreshTokenMetadata", entity.getRefreshTokenMetadata(), String.class)
+        .setParameter("refreshTokenIssuedAt", entity.getRefreshTokenIssuedAt(), ZonedDateTime.class)
+        .setParameter(
+            "refreshTokenExpiresAt", entity.getRefreshTokenExpiresAt(), ZonedDateTime.class)
+        .setParameter("idTokenValue", entity.getIdTokenValue(), String.class)
+        .setParameter("idTokenClaims", entity.getIdTokenClaims(), String.class)
+        .setParameter("idTokenMetadata", entity.getIdTokenMetadata(), String.class)
+        .setParameter("idTokenIssuedAt", entity.getIdTokenIssuedAt(), ZonedDateTime.class)
+        .setParameter("idTokenExpiresAt", entity.getIdTokenExpiresAt(), ZonedDateTime.class)
+        .setParameter("modifiedAt", entity.getModifiedAt(), ZonedDateTime.class)
+        .executeUpdate();
+  }
+
+  /**
+   * Writes the authorization by locking the stored row, if any, and merging the entity into it.
+   *
+   * @param entity the {@link AuthorizationEntity} to write.
+   */
+  private void upsertMerge(AuthorizationEntity entity) {
+    var existing =
+        entityManager.find(
+            AuthorizationEntity.class,
+            new AuthorizationEntity.AuthorizationId(
+                entity.getRegisteredClientId(),
+                entity.getPrincipalId(),
+                entity.getAuthorizationGrantType()),
+            LockModeType.PESSIMISTIC_WRITE);
+
+    if (existing == null) {
+      entityManager.persist(entity);
+      return;
+    }
+
+    if (entity.getTenantId() < 1) entity.setTenantId(existing.getTenantId());
+    entityManager.merge(entity);
+  }
+
+  /**
+   * Checks whether the configured Hibernate dialect supports {@code ON DUPLICATE KEY UPDATE}.
+   *
+   * @return {@code true} for MySQL and MariaDB dialects.
+   */
+  private boolean supportsNativeUpsert() {
+    var supported = nativeUpsert;
+    if (supported == null) {
+      var dialect =
+          entityManager
+              .getEntityManagerFactory()
+              .unwrap(SessionFactoryImplementor.class)
+              .getJdbcServices()
+              .getDialect();
+      supported = dialect instanceof MySQLDialect;
+      nativeUpsert = supported;
+    }
+
+    return supported;
+  }
+}
@@ -35,6 +35,7 @@ package com.asc.authorization.data.authorization.repository;
 
 import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -46,10 +47,12 @@ import org.springframework.data.repository.query.Param;
  * Repository interface for managing {@link AuthorizationEntity} objects in the database.
  *
  * <p>Provides CRUD operations, custom queries, and methods specific to handling authorization data.
- * Extends {@link JpaRepository} to leverage Spring Data JPA functionality.
+ * Extends {@link JpaRepository} to leverage Spring Data JPA functionality, and {@link
+ * AuthorizationUpsertRepository} to write authorizations without reading them first.
  */
 public interface JpaAuthorizationRepository
-    extends JpaRepository<AuthorizationEntity, AuthorizationEntity.AuthorizationId> {
+    extends JpaRepository<AuthorizationEntity, AuthorizationEntity.AuthorizationId>,
+        AuthorizationUpsertRepository {
 
   /**
    * Finds an {@link AuthorizationEntity} by its unique authorization ID.
@@ -104,6 +107,23 @@ public interface JpaAuthorizationRepository
       findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(
           @Param("token") String token);
 
+  /**
+   * Finds all {@link AuthorizationEntity} objects matching any of the provided tokens against the
+   * same token-related fields as {@link
+   * #findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(String)}.
+   *
+   * @param tokens the token values to search for.
+   * @return a list of matching {@link AuthorizationEntity} objects, in no particular order.
+   */
+  @Query(
+      "SELECT a FROM AuthorizationEntity a WHERE a.state IN :tokens"
+          + " OR a.authorizationCodeValue IN :tokens"
+          + " OR a.accessTokenValue IN :tokens"
+          + " OR a.refreshTokenValue IN :tokens"
+          + " OR a.accessTokenHash IN :tokens"
+          + " OR a.refreshTokenHash IN :tokens")
+  List<AuthorizationEntity> findAllByTokens(@Param("tokens") Collection<String> tokens);
+
   /**
    * Deletes all authorizations for a specific principal and registered client.
    *
@@ -152,6 +172,67 @@ public interface JpaAuthorizationRepository
       nativeQuery = true)
   void deleteAllAuthorizationsByTenantId(@Param("tenantId") long tenantId);
 
+  /**
+   * Deletes up to {@code limit} authorizations of a tenant issued to any of the given clients.
+   *
+   * @param tenantId the ID of the tenant whose authorizations are to be deleted.
+   * @param clientIds the IDs of the registered clients whose authorizations are to be deleted.
+   * @param limit the maximum number of authorizations to delete.
+   * @return the number of deleted authorizations.
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM identity_authorizations WHERE tenant_id = :tenantId"
+              + " AND registered_client_id IN (:clientIds) LIMIT :limit",
+      nativeQuery = true)
+  int deleteAuthorizationsByTenantIdAndClientIds(
+      @Param("tenantId") long tenantId,
+      @Param("clientIds") Collection<String> clientIds,
+      @Param("limit") int limit);
+
+  /**
+   * Deletes up to {@code limit} authorizations of a tenant granted by any of the given principals.
+   *
+   * @param tenantId the ID of the tenant whose authorizations are to be deleted.
+   * @param principalIds the IDs of the principals whose authorizations are to be deleted.
+   * @param limit the maximum number of authorizations to delete.
+   * @return the number of deleted authorizations.
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM identity_authorizations WHERE tenant_id = :tenantId"
+              + " AND principal_id IN (:principalIds) LIMIT :limit",
+      nativeQuery = true)
+  int deleteAuthorizationsByTenantIdAndPrincipalIds(
+      @Param("tenantId") long tenantId,
+      @Param("principalIds") Collection<String> principalIds,
+      @Param("limit") int limit);
+
+  /**
+   * Deletes up to {@code limit} authorizations of a tenant granted by any of the given principals
+   * to any of the given clients.
+   *
+   * @param tenantId the ID of the tenant whose authorizations are to be deleted.
+   * @param clientIds the IDs of the registered clients whose authorizations are to be deleted.
+   * @param principalIds the IDs of the principals whose authorizations are to be deleted.
+   * @param limit the maximum number of authorizations to delete.
+   * @return the number of deleted authorizations.
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM identity_authorizations WHERE tenant_id = :tenantId"
+              + " AND registered_client_id IN (:clientIds)"
+              + " AND principal_id IN (:principalIds) LIMIT :limit",
+      nativeQuery = true)
+  int deleteAuthorizationsByTenantIdAndClientIdsAndPrincipalIds(
+      @Param("tenantId") long tenantId,
+      @Param("clientIds") Collection<String> clientIds,
+      @Param("principalIds") Collection<String> principalIds,
+      @Param("limit") int limit);
+
   /**
    * Retrieves a list of authorizations for a specific principal, optionally filtered by a last
    * modified date. The query limits results to valid consents (non-empty token fields) and orders
@@ -34,6 +34,7 @@
 package com.asc.authorization.data.consent.repository;
 
 import com.asc.authorization.data.consent.entity.ConsentEntity;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -88,20 +89,104 @@ public interface JpaConsentRepository
   void deleteAllConsentsByPrincipalId(@Param("principalId") String principalId);
 
   /**
-   * Deletes all consents associated with a specific tenant. This method removes consents that are
-   * linked to authorizations belonging to the specified tenant.
+   * Deletes all consents associated with a specific tenant.
+   *
+   * <p>Consents don't carry a tenant, so they are matched on the client they were given to when the
+   * tenant's clients are stored in this database, and otherwise through the tenant's
+   * authorizations. The latter only covers consents whose principal still holds an authorization of
+   * the client, so clients kept elsewhere must remove their remaining consents with {@link
+   * #deleteAllConsentsByClientId}.
    *
    * @param tenantId The unique identifier of the tenant for which the consents are to be deleted.
    */
   @Modifying
   @Query(
       value =
-          "DELETE FROM identity_consents WHERE (registered_client_id, principal_id) IN ("
+          "DELETE FROM identity_consents WHERE "
+              + "registered_client_id IN (SELECT client_id FROM identity_clients WHERE tenant_id = :tenantId) "
+              + "OR (registered_client_id, principal_id) IN ("
               + "SELECT registered_client_id, principal_id FROM identity_authorizations "
               + "WHERE tenant_id = :tenantId)",
       nativeQuery = true)
   void deleteAllConsentsByTenantId(@Param("tenantId") long tenantId);
 
+  /**
+   * Deletes up to {@code limit} consents given to any of the given clients within the tenant.
+   *
+   * <p>Consents don't carry a tenant, and a client may be consented to by principals of other
+   * tenants as well. Consents are therefore only matched through the tenant's authorizations, so
+   * that exactly the consents whose authorizations are revoked are deleted, and the authorizations
+   * must be deleted afterwards.
+   *
+   * @param tenantId The unique identifier of the tenant whose consents are to be deleted.
+   * @param clientIds The unique identifiers of the registered clients whose consents are to be
+   *     deleted.
+   * @param limit The maximum number of consents to delete.
+   * @return The number of deleted consents.
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM identity_consents WHERE registered_client_id IN (:clientIds)"
+              + " AND (registered_client_id, principal_id) IN ("
+              + "SELECT registered_client_id, principal_id FROM identity_authorizations "
+              + "WHERE tenant_id = :tenantId) LIMIT :limit",
+      nativeQuery = true)
+  int deleteConsentsByTenantIdAndClientIds(
+      @Param("tenantId") long tenantId,
+      @Param("clientIds") Collection<String> clientIds,
+      @Param("limit") int limit);
+
+  /**
+   * Deletes up to {@code limit} consents given by any of the given principals within the tenant,
+   * matched through the tenant's authorizations as described in {@link
+   * #deleteConsentsByTenantIdAndClientIds}.
+   *
+   * @param tenantId The unique identifier of the tenant whose consents are to be deleted.
+   * @param principalIds The unique identifiers of the principals whose consents are to be deleted.
+   * @param limit The maximum number of consents to delete.
+   * @return The number of deleted consents.
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM identity_consents WHERE principal_id IN (:principalIds)"
+              + " AND (registered_client_id, principal_id) IN ("
+              + "SELECT registered_client_id, principal_id FROM identity_authorizations "
+              + "WHERE tenant_id = :tenantId) LIMIT :limit",
+      nativeQuery = true)
+  int deleteConsentsByTenantIdAndPrincipalIds(
+      @Param("tenantId") long tenantId,
+      @Param("principalIds") Collection<String> principalIds,
+      @Param("limit") int limit);
+
+  /**
+   * Deletes up to {@code limit} consents given by any of the given principals to any of the given
+   * clients within the tenant, matched through the tenant's authorizations as described in {@link
+   * #deleteConsentsByTenantIdAndClientIds}.
+   *
+   * @param tenantId The unique identifier of the tenant whose consents are to be deleted.
+   * @param clientIds The unique identifiers of the registered clients whose consents are to be
+   *     deleted.
+   * @param principalIds The unique identifiers of the principals whose consents are to be deleted.
+   * @param limit The maximum number of consents to delete.
+   * @return The number of deleted consents.
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM identity_consents WHERE registered_client_id IN (:clientIds)"
+              + " AND principal_id IN (:principalIds)"
+              + " AND (registered_client_id, principal_id) IN ("
+              + "SELECT registered_client_id, principal_id FROM identity_authorizations "
+              + "WHERE tenant_id = :tenantId) LIMIT :limit",
+      nativeQuery = true)
+  int deleteConsentsByTenantIdAndClientIdsAndPrincipalIds(
+      @Param("tenantId") long tenantId,
+      @Param("clientIds") Collection<String> clientIds,
+      @Param("principalIds") Collection<String> principalIds,
+      @Param("limit") int limit);
+
   /**
    * Deletes all authorizations associated with a specific client.
    *
@@ -34,7 +34,9 @@
 package com.asc.authorization.data.key.repository;
 
 import com.asc.authorization.data.key.entity.KeyPair;
+import com.asc.authorization.data.key.entity.PublicKeyView;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -57,6 +59,18 @@ public interface JpaKeyPairRepository extends CrudRepository<KeyPair, String> {
   @Query("SELECT kp FROM KeyPair kp WHERE kp.createdAt > :cutoff")
   Set<KeyPair> findActiveKeyPairs(@Param("cutoff") ZonedDateTime cutoff);
 
+  /**
+   * Retrieves the public attributes of all key pairs created after the specified cutoff timestamp,
+   * without loading their private keys.
+   *
+   * @param cutoff The cutoff timestamp. Only key pairs created after this timestamp are included.
+   * @return A {@link List} of {@link PublicKeyView} objects of the active key pairs.
+   */
+  @Query(
+      "SELECT kp.id AS id, kp.publicKey AS publicKey, kp.pairType AS pairType,"
+          + " kp.createdAt AS createdAt FROM KeyPair kp WHERE kp.createdAt > :cutoff")
+  List<PublicKeyView> findActivePublicKeys(@Param("cutoff") ZonedDateTime cutoff);
+
   /**
    * Deletes all key pairs created before the specified cutoff timestamp. This method is used to
    * invalidate or remove outdated key pairs.
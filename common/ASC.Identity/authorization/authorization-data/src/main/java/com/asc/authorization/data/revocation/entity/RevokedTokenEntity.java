@@ -0,0 +1,70 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.data.revocation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.*;
+
+/**
+ * Entity class representing a revoked access token. This class is mapped to the {@code
+ * identity_revoked_tokens} table and keeps the token identifier until the token expires, so that
+ * resource servers validating tokens locally can learn about the revocation.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "identity_revoked_tokens")
+@EqualsAndHashCode
+@ToString
+public class RevokedTokenEntity {
+  /** The {@code jti} claim of the revoked token. */
+  @Id
+  @Column(name = "jti", nullable = false)
+  private String jti;
+
+  /** The expiration time of the revoked token, after which the entry is no longer needed. */
+  @Column(name = "expires_at", nullable = false)
+  private ZonedDateTime expiresAt;
+
+  /** The time the token was revoked at. */
+  @Column(name = "revoked_at", nullable = false)
+  private ZonedDateTime revokedAt;
+}
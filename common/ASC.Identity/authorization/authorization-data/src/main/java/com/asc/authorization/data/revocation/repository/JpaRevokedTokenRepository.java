@@ -0,0 +1,209 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.data.revocation.repository;
+
+import com.asc.authorization.data.revocation.entity.RevokedTokenEntity;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository interface for managing {@link RevokedTokenEntity} objects in the database.
+ *
+ * <p>Besides single tokens, the access tokens of whole sets of authorizations are revoked with
+ * set-based statements, which must run before the authorizations themselves are deleted. Their
+ * identifiers are read from the token claims kept in the access token metadata, and only tokens
+ * that have not expired yet are recorded. Tokens revoked more than once keep their first entry.
+ */
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+  /** Selects the identifiers and expiration times of unexpired access tokens of authorizations. */
+  String REVOKE_ACCESS_TOKENS =
+      "INSERT IGNORE INTO identity_revoked_tokens (jti, expires_at, revoked_at)"
+          + " SELECT t.jti, t.expires_at, NOW(6) FROM (SELECT CASE"
+          + " WHEN JSON_VALID(a.access_token_metadata) THEN JSON_UNQUOTE(JSON_EXTRACT("
+          + "a.access_token_metadata, '$.\"metadata.token.claims\".jti')) END AS jti,"
+          + " a.access_token_expires_at AS expires_at FROM identity_authorizations a"
+          + " WHERE a.access_token_expires_at > NOW()";
+
+  /** Closes the selection of {@link #REVOKE_ACCESS_TOKENS}. */
+  String SKIP_MISSING_IDENTIFIERS = ") t WHERE t.jti IS NOT NULL";
+
+  /**
+   * Finds all revoked tokens that expire after the given time.
+   *
+   * @param now the time to compare expiration times with.
+   * @return the revoked tokens that have not expired yet.
+   */
+  List<RevokedTokenEntity> findAllByExpiresAtAfter(ZonedDateTime now);
+
+  /**
+   * Records a single revoked token, joining the current transaction if there is one.
+   *
+   * @param jti the {@code jti} claim of the revoked token.
+   * @param expiresAt the expiration time of the revoked token.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "INSERT IGNORE INTO identity_revoked_tokens (jti, expires_at, revoked_at)"
+              + " VALUES (:jti, :expiresAt, NOW(6))",
+      nativeQuery = true)
+  int revokeToken(@Param("jti") String jti, @Param("expiresAt") ZonedDateTime expiresAt);
+
+  /**
+   * Records the access tokens of all authorizations for a specific principal and registered client.
+   *
+   * @param principalId the ID of the principal (user) whose access tokens are revoked.
+   * @param registeredClientId the ID of the registered client associated with the authorizations.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value =
+          REVOKE_ACCESS_TOKENS
+              + " AND a.principal_id = :principalId"
+              + " AND a.registered_client_id = :registeredClientId"
+              + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByPrincipalIdAndClientId(
+      @Param("principalId") String principalId,
+      @Param("registeredClientId") String registeredClientId);
+
+  /**
+   * Records the access tokens of all authorizations associated with a specific registered client.
+   *
+   * @param clientId the ID of the registered client whose access tokens are revoked.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value =
+          REVOKE_ACCESS_TOKENS
+              + " AND a.registered_client_id = :clientId"
+              + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByClientId(@Param("clientId") String clientId);
+
+  /**
+   * Records the access tokens of all authorizations associated with a specific principal (user).
+   *
+   * @param principalId the ID of the principal (user) whose access tokens are revoked.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value =
+          REVOKE_ACCESS_TOKENS + " AND a.principal_id = :principalId" + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByPrincipalId(@Param("principalId") String principalId);
+
+  /**
+   * Records the access tokens of all authorizations associated with a specific tenant.
+   *
+   * @param tenantId the ID of the tenant whose access tokens are revoked.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value = REVOKE_ACCESS_TOKENS + " AND a.tenant_id = :tenantId" + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByTenantId(@Param("tenantId") long tenantId);
+
+  /**
+   * Records the access tokens of all authorizations of a tenant issued to any of the given clients.
+   *
+   * @param tenantId the ID of the tenant whose access tokens are revoked.
+   * @param clientIds the IDs of the registered clients whose access tokens are revoked.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value =
+          REVOKE_ACCESS_TOKENS
+              + " AND a.tenant_id = :tenantId"
+              + " AND a.registered_client_id IN (:clientIds)"
+              + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByTenantIdAndClientIds(
+      @Param("tenantId") long tenantId, @Param("clientIds") Collection<String> clientIds);
+
+  /**
+   * Records the access tokens of all authorizations of a tenant granted by any of the given
+   * principals.
+   *
+   * @param tenantId the ID of the tenant whose access tokens are revoked.
+   * @param principalIds the IDs of the principals whose access tokens are revoked.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value =
+          REVOKE_ACCESS_TOKENS
+              + " AND a.tenant_id = :tenantId"
+              + " AND a.principal_id IN (:principalIds)"
+              + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByTenantIdAndPrincipalIds(
+      @Param("tenantId") long tenantId, @Param("principalIds") Collection<String> principalIds);
+
+  /**
+   * Records the access tokens of all authorizations of a tenant granted by any of the given
+   * principals to any of the given clients.
+   *
+   * @param tenantId the ID of the tenant whose access tokens are revoked.
+   * @param clientIds the IDs of the registered clients whose access tokens are revoked.
+   * @param principalIds the IDs of the principals whose access tokens are revoked.
+   * @return the number of recorded tokens.
+   */
+  @Modifying
+  @Query(
+      value =
+          REVOKE_ACCESS_TOKENS
+              + " AND a.tenant_id = :tenantId"
+              + " AND a.registered_client_id IN (:clientIds)"
+              + " AND a.principal_id IN (:principalIds)"
+              + SKIP_MISSING_IDENTIFIERS,
+      nativeQuery = true)
+  int revokeAccessTokensByTenantIdAndClientIdsAndPrincipalIds(
+      @Param("tenantId") long tenantId,
+      @Param("clientIds") Collection<String> clientIds,
+      @Param("principalIds") Collection<String> principalIds);
+}
@@ -35,6 +35,7 @@ package com.asc.authorization.messaging.listener;
 
 import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
 import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
 import com.asc.common.service.transfer.message.ClientRemovedEvent;
 import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
 import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
@@ -47,6 +48,7 @@ import org.springframework.amqp.rabbit.annotation.RabbitHandler;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
@@ -59,7 +61,12 @@ import org.springframework.transaction.support.TransactionTemplate;
  *
  * <p>This component listens to RabbitMQ messages on a specified queue, parses the {@link
  * ClientRemovedEvent}, and performs cleanup operations by deleting associated authorizations and
- * consents for the client.
+ * consents for the client. The unexpired access tokens of the removed authorizations are recorded
+ * as revoked first, so that resource servers validating them locally learn about the removal.
+ *
+ * <p>Once the cleanup is committed, the event is republished as an application event so that the
+ * consent cache of the consuming instance drops the removed consents. In SaaS mode every other
+ * instance is reached through its own fanout queue as well.
  *
  * <p>This listener is only loaded when RabbitMQ client classes are available on the classpath.
  */
@@ -80,9 +87,19 @@ public class AuthorizationMessagingCleanupListener {
   /** Repository for managing consent entities. */
   private final JpaConsentRepository jpaConsentRepository;
 
+  /** Repository for recording revoked access tokens. */
+  private final JpaRevokedTokenRepository jpaRevokedTokenRepository;
+
+  /** Publisher used to notify local caches about committed cleanups. */
+  private final ApplicationEventPublisher applicationEventPublisher;
+
   /**
    * Handles message processing with transaction management and error handling.
    *
+   * <p>The event is republished locally only after the transaction has committed, so caches never
+   * drop entries for a cleanup that is rolled back and redelivered.
+   *
+   * @param event the received event, republished after a successful cleanup
    * @param deliveryTag the delivery tag for the message
    * @param channel the RabbitMQ channel
    * @param operation the operation to perform within a transaction
@@ -90,7 +107,8 @@ public class AuthorizationMessagingCleanupListener {
    * @throws IOException if an I/O error occurs during message handling
    */
   private void handleMessage(
-      long deliveryTag, Channel channel, Runnable operation, String entityType) throws IOException {
+      Object event, long deliveryTag, Channel channel, Runnable operation, String entityType)
+      throws IOException {
     try {
       var template = new TransactionTemplate(transactionManager);
       template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
@@ -107,6 +125,7 @@ public class AuthorizationMessagingCleanupListener {
             }
           });
 
+      applicationEventPublisher.publishEvent(event);
       channel.basicAck(deliveryTag, false);
     } catch (IOException e) {
       log.warn("Received an unsupported message format: {}", e.getMessage());
@@ -133,10 +152,12 @@ public class AuthorizationMessagingCleanupListener {
       throws IOException {
     MDC.put("client_id", event.getClientId());
     handleMessage(
+        event,
         deliveryTag,
         channel,
         () -> {
           log.info("Removing authorizations and consents for client: {}", event.getClientId());
+          jpaRevokedTokenRepository.revokeAccessTokensByClientId(event.getClientId());
           jpaAuthorizationRepository.deleteAllAuthorizationsByClientId(event.getClientId());
           jpaConsentRepository.deleteAllConsentsByClientId(event.getClientId());
           log.info(
@@ -161,10 +182,12 @@ public class AuthorizationMessagingCleanupListener {
       throws IOException {
     MDC.put("user_id", event.getUserId());
     handleMessage(
+        event,
         deliveryTag,
         channel,
         () -> {
           log.info("Removing authorizations and consents for user: {}", event.getUserId());
+          jpaRevokedTokenRepository.revokeAccessTokensByPrincipalId(event.getUserId());
           jpaAuthorizationRepository.deleteAllAuthorizationsByPrincipalId(event.getUserId());
           jpaConsentRepository.deleteAllConsentsByPrincipalId(event.getUserId());
           log.info("Authorizations and consents for user {} have been removed", event.getUserId());
@@ -187,10 +210,12 @@ public class AuthorizationMessagingCleanupListener {
       @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag)
       throws IOException {
     handleMessage(
+        event,
         deliveryTag,
         channel,
         () -> {
           log.info("Removing authorizations and consents for tenant: {}", event.getTenantId());
+          jpaRevokedTokenRepository.revokeAccessTokensByTenantId(event.getTenantId());
           jpaConsentRepository.deleteAllConsentsByTenantId(event.getTenantId());
           jpaAuthorizationRepository.deleteAllAuthorizationsByTenantId(event.getTenantId());
           log.info(
@@ -34,17 +34,24 @@
 package com.asc.authorization.messaging.listener;
 
 import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.AuthorizationRequestStore;
 import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
 import com.asc.authorization.data.key.entity.KeyPair;
 import com.asc.authorization.data.key.repository.JpaKeyPairRepository;
 import com.asc.authorization.messaging.configuration.KeyPairConfigurationProperties;
+import com.asc.authorization.messaging.message.AuthorizationsRetrievedEvent;
 import com.asc.common.service.transfer.message.KeyPairRetrievedEvent;
 import com.asc.common.service.transfer.message.RetrieveAuthorizationMessage;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationsMessage;
 import com.asc.common.service.transfer.message.RetrieveKeyPairMessage;
 import com.asc.common.service.transfer.message.SaveAuthorizationMessage;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitHandler;
@@ -57,8 +64,9 @@ import org.springframework.stereotype.Component;
  * RabbitMQ RPC listener for handling authorization retrieval requests.
  *
  * <p>This component listens on a region-specific RPC queue and processes incoming requests to
- * retrieve authorization entities by token. It is only active when the "saas" profile is enabled,
- * allowing cross-instance authorization lookups in a clustered environment.
+ * retrieve authorization entities by token, one at a time or in batches. It is only active when the
+ * "saas" profile is enabled, allowing cross-instance authorization lookups in a clustered
+ * environment.
  *
  * <p>This listener is only loaded when RabbitMQ client classes are available on the classpath.
  */
@@ -73,6 +81,7 @@ import org.springframework.stereotype.Component;
 public class AuthorizationMessagingRPCListener {
   private final KeyPairConfigurationProperties keyPairConfigurationProperties;
 
+  private final AuthorizationRequestStore authorizationRequestStore;
   private final JpaAuthorizationRepository jpaAuthorizationRepository;
   private final JpaKeyPairRepository jpaKeyPairRepository;
 
@@ -80,7 +89,9 @@ public class AuthorizationMessagingRPCListener {
    * Handles authorization retrieval RPC requests.
    *
    * <p>Searches for an authorization entity matching the provided token across multiple token
-   * types: state, authorization code, access token, or refresh token.
+   * types: state, authorization code, access token, or refresh token. Authorization codes that have
+   * not been exchanged yet are found in the {@link AuthorizationRequestStore}. The lookup leaves
+   * the code in place; it is consumed when the tokens issued for it are saved.
    *
    * @param event the message containing the token to search for
    * @return the matching {@link AuthorizationEntity}, or {@code null} if not found
@@ -90,9 +101,13 @@ public class AuthorizationMessagingRPCListener {
     log.info("Received retrieve authorization request {}", event.getToken());
 
     var response =
-        jpaAuthorizationRepository
-            .findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(
-                event.getToken())
+        authorizationRequestStore
+            .findByAuthorizationCode(event.getToken())
+            .or(
+                () ->
+                    jpaAuthorizationRepository
+                        .findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue(
+                            event.getToken()))
             .orElse(null);
 
     if (response != null) log.info("Found a valid non-null authorization for {}", event.getToken());
@@ -100,11 +115,57 @@ public class AuthorizationMessagingRPCListener {
     return response;
   }
 
+  /**
+   * Handles batched authorization retrieval RPC requests.
+   *
+   * <p>Resolves all tokens of the batch with a single query and matches every found authorization
+   * back to the requested tokens it was found by. If the query fails, every token is reported as
+   * failed so that the requesting region can tell a failure from a missing authorization.
+   *
+   * @param event the message containing the tokens to search for
+   * @return the {@link AuthorizationsRetrievedEvent} with the found authorizations by token
+   */
+  @RabbitHandler
+  public AuthorizationsRetrievedEvent receiveAuthorizationsRetrieval(
+      RetrieveAuthorizationsMessage event) {
+    var tokens = new HashSet<>(event.getTokens());
+    log.info("Received retrieve authorizations request for {} tokens", tokens.size());
+
+    try {
+      var authorizations = new HashMap<String, AuthorizationEntity>();
+      for (var entity : jpaAuthorizationRepository.findAllByTokens(tokens))
+        Stream.of(
+                entity.getState(),
+                entity.getAuthorizationCodeValue(),
+                entity.getAccessTokenValue(),
+                entity.getRefreshTokenValue(),
+                entity.getAccessTokenHash(),
+                entity.getRefreshTokenHash())
+            .filter(tokens::contains)
+            .forEach(token -> authorizations.put(token, entity));
+
+      log.info("Found {} of {} requested authorizations", authorizations.size(), tokens.size());
+
+      return AuthorizationsRetrievedEvent.builder().authorizations(authorizations).build();
+    } catch (Exception e) {
+      log.error("Failed to retrieve authorizations", e);
+      return AuthorizationsRetrievedEvent.builder().failed(List.copyOf(tokens)).build();
+    }
+  }
+
   /**
    * Handles authorization save RPC requests from remote regions.
    *
+   * <p>The authorization is written with a single upsert. When the message carries no tenant, the
+   * tenant is taken from the in-flight authorization request the saved tokens were issued for, or
+   * kept from the stored authorization otherwise. The in-flight request is only used when the
+   * message exchanges an authorization code. The code is then consumed from the {@link
+   * AuthorizationRequestStore} before anything is written, and the save is rejected if it has
+   * already been consumed. The request is removed once the authorization has been written.
+   *
    * @param event the message containing the authorization data to save
-   * @return {@code true} if the save was successful, {@code false} otherwise
+   * @return {@code true} if the save was successful, {@code false} otherwise, including when the
+   *     authorization code has already been exchanged
    */
   @RabbitHandler
   public Boolean receiveAuthorizationSave(SaveAuthorizationMessage event) {
@@ -114,13 +175,6 @@ public class AuthorizationMessagingRPCListener {
           event.getRegisteredClientId(),
           event.getPrincipalId());
 
-      var result =
-          jpaAuthorizationRepository
-              .findByRegisteredClientIdAndPrincipalIdAndAuthorizationGrantType(
-                  event.getRegisteredClientId(),
-                  event.getPrincipalId(),
-                  event.getAuthorizationGrantType());
-
       var toPersist =
           AuthorizationEntity.builder()
               .registeredClientId(event.getRegisteredClientId())
@@ -153,16 +207,26 @@ public class AuthorizationMessagingRPCListener {
               .idTokenExpiresAt(event.getIdTokenExpiresAt())
               .build();
 
-      if (result.isPresent()) {
-        var entity = result.get();
-        if (event.getTenantId() == null || event.getTenantId() < 1)
-          toPersist.setTenantId(entity.getTenantId());
-        else toPersist.setTenantId(event.getTenantId());
-      } else if (event.getTenantId() != null) {
-        toPersist.setTenantId(event.getTenantId());
+      var exchangingCode =
+          Boolean.TRUE.equals(event.getExchangingCode())
+              && event.getAuthorizationCodeValue() != null;
+      if (exchangingCode
+          && !authorizationRequestStore.consumeAuthorizationCode(
+              event.getId(), event.getAuthorizationCodeValue())) {
+        log.warn("Rejected authorization save, its authorization code has already been exchanged");
+        return false;
       }
 
-      jpaAuthorizationRepository.save(toPersist);
+      if (event.getTenantId() != null && event.getTenantId() > 0)
+        toPersist.setTenantId(event.getTenantId());
+      else if (exchangingCode)
+        authorizationRequestStore
+            .findById(event.getId())
+            .map(AuthorizationEntity::getTenantId)
+            .ifPresent(toPersist::setTenantId);
+
+      jpaAuthorizationRepository.upsert(toPersist);
+      if (exchangingCode) authorizationRequestStore.remove(event.getId());
       log.info("Authorization saved successfully in remote region");
       return true;
     } catch (Exception e) {
@@ -0,0 +1,177 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.messaging.listener;
+
+import com.asc.common.messaging.configuration.AuthorizationMessagingConfiguration;
+import com.asc.common.messaging.configuration.ClientCacheMessagingConfiguration;
+import com.asc.common.service.transfer.message.AuthorizationsRevokedEvent;
+import com.asc.common.service.transfer.message.ClientCacheRemoveEvent;
+import com.asc.common.service.transfer.message.ClientCacheTenantRemoveEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import com.asc.common.service.transfer.message.ConsentChangedEvent;
+import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
+import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener relaying client, user and tenant cleanup messages to the local caches of this instance.
+ *
+ * <p>The regular cleanup and client cache queues are shared by all instances of a region, so each
+ * message reaches only one of them. This listener instead binds an exclusive, auto-deleted queue
+ * per instance to both fanout exchanges and republishes every received message as an application
+ * event, which caches of remote lookups and consents listen to.
+ *
+ * <p>This listener is only loaded in SaaS mode when RabbitMQ client classes are available on the
+ * classpath.
+ */
+@Slf4j
+@Component
+@Profile("saas")
+@RequiredArgsConstructor
+@RabbitListener(
+    bindings = {
+      @QueueBinding(
+          value = @Queue(exclusive = "true", autoDelete = "true"),
+          exchange =
+              @Exchange(
+                  value = AuthorizationMessagingConfiguration.FANOUT_EXCHANGE,
+                  type = ExchangeTypes.FANOUT)),
+      @QueueBinding(
+          value = @Queue(exclusive = "true", autoDelete = "true"),
+          exchange =
+              @Exchange(
+                  value = ClientCacheMessagingConfiguration.FANOUT_EXCHANGE,
+                  type = ExchangeTypes.FANOUT))
+    })
+@ConditionalOnClass(name = "com.rabbitmq.client.Connection")
+public class RemoteLookupCacheInvalidationListener {
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  /**
+   * Relays a client removal event.
+   *
+   * @param event the client removed event
+   */
+  @RabbitHandler
+  public void receiveClientRemovedMessage(@Payload ClientRemovedEvent event) {
+    log.debug("Invalidating cached remote lookups for client: {}", event.getClientId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Relays a user clients removal event.
+   *
+   * @param event the user clients removed event
+   */
+  @RabbitHandler
+  public void receiveUserClientsRemovedMessage(@Payload UserClientsRemovedEvent event) {
+    log.debug("Invalidating cached remote lookups for user: {}", event.getUserId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Relays a tenant clients removal event.
+   *
+   * @param event the tenant clients removed event
+   */
+  @RabbitHandler
+  public void receiveTenantClientsRemovedMessage(@Payload TenantClientsRemovedEvent event) {
+    log.debug("Invalidating cached remote lookups for tenant: {}", event.getTenantId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Relays a bulk authorizations revocation event.
+   *
+   * @param event the authorizations revoked event
+   */
+  @RabbitHandler
+  public void receiveAuthorizationsRevokedMessage(@Payload AuthorizationsRevokedEvent event) {
+    log.debug("Invalidating cached lookups revoked for tenant: {}", event.getTenantId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Relays a consent change event.
+   *
+   * @param event the consent changed event
+   */
+  @RabbitHandler
+  public void receiveConsentChangedMessage(@Payload ConsentChangedEvent event) {
+    log.debug("Invalidating cached consent for client: {}", event.getClientId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Relays a client cache removal event.
+   *
+   * @param event the client cache remove event
+   */
+  @RabbitHandler
+  public void receiveClientCacheRemoveMessage(@Payload ClientCacheRemoveEvent event) {
+    log.debug("Invalidating cached remote lookups for client: {}", event.getClientId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Relays a tenant client cache removal event.
+   *
+   * @param event the tenant client cache remove event
+   */
+  @RabbitHandler
+  public void receiveClientCacheTenantRemoveMessage(@Payload ClientCacheTenantRemoveEvent event) {
+    log.debug("Invalidating cached remote lookups for tenant: {}", event.getTenantId());
+    applicationEventPublisher.publishEvent(event);
+  }
+
+  /**
+   * Default handler for messages that don't match any of the other handlers.
+   *
+   * @param message the raw message object
+   */
+  @RabbitHandler(isDefault = true)
+  public void receiveInvalidMessages(Object message) {}
+}
@@ -33,11 +33,13 @@
 
 package com.asc.authorization.messaging.listener;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
 import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
 import com.asc.common.service.transfer.message.ClientRemovedEvent;
 import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
 import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
@@ -48,6 +50,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +60,8 @@ class AuthorizationMessagingCleanupListenerTest {
   @Mock private PlatformTransactionManager transactionManager;
   @Mock private JpaAuthorizationRepository jpaAuthorizationRepository;
   @Mock private JpaConsentRepository jpaConsentRepository;
+  @Mock private JpaRevokedTokenRepository jpaRevokedTokenRepository;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
 
   @Test
   void whenClientRemovedEventIsSent_thenReceiveClientRemovedMessage() throws IOException {
@@ -65,8 +70,11 @@ class AuthorizationMessagingCleanupListenerTest {
 
     cleanupListener.receiveClientRemovedMessage(event, channel, 1L);
 
-    verify(jpaAuthorizationRepository).deleteAllAuthorizationsByClientId("client");
+    var order = inOrder(jpaRevokedTokenRepository, jpaAuthorizationRepository);
+    order.verify(jpaRevokedTokenRepository).revokeAccessTokensByClientId("client");
+    order.verify(jpaAuthorizationRepository).deleteAllAuthorizationsByClientId("client");
     verify(jpaConsentRepository).deleteAllConsentsByClientId("client");
+    verify(applicationEventPublisher).publishEvent(event);
     verify(channel).basicAck(1L, false);
     verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
   }
@@ -82,6 +90,7 @@ class AuthorizationMessagingCleanupListenerTest {
 
     cleanupListener.receiveClientRemovedMessage(event, channel, 1L);
 
+    verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
     verify(channel, never()).basicAck(anyLong(), anyBoolean());
     verify(channel).basicNack(1L, false, false);
   }
@@ -93,8 +102,10 @@ class AuthorizationMessagingCleanupListenerTest {
 
     cleanupListener.receiveUserClientsRemovedMessage(event, channel, 2L);
 
+    verify(jpaRevokedTokenRepository).revokeAccessTokensByPrincipalId("user");
     verify(jpaAuthorizationRepository).deleteAllAuthorizationsByPrincipalId("user");
     verify(jpaConsentRepository).deleteAllConsentsByPrincipalId("user");
+    verify(applicationEventPublisher).publishEvent(event);
     verify(channel).basicAck(2L, false);
   }
 
@@ -119,8 +130,10 @@ class AuthorizationMessagingCleanupListenerTest {
 
     cleanupListener.receiveTenantClientsRemovedMessage(event, channel, 3L);
 
+    verify(jpaRevokedTokenRepository).revokeAccessTokensByTenantId(42);
     verify(jpaConsentRepository).deleteAllConsentsByTenantId(42);
     verify(jpaAuthorizationRepository).deleteAllAuthorizationsByTenantId(42);
+    verify(applicationEventPublisher).publishEvent(event);
     verify(channel).basicAck(3L, false);
   }
 }
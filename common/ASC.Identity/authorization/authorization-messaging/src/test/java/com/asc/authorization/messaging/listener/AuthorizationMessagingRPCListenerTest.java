@@ -0,0 +1,187 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.authorization.messaging.listener;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.AuthorizationRequestStore;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationMessage;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationsMessage;
+import com.asc.common.service.transfer.message.SaveAuthorizationMessage;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationMessagingRPCListenerTest {
+  @InjectMocks AuthorizationMessagingRPCListener rpcListener;
+  @Mock private AuthorizationRequestStore authorizationRequestStore;
+  @Mock private JpaAuthorizationRepository jpaAuthorizationRepository;
+
+  @Test
+  void givenPendingAuthorizationCode_whenRetrieved_thenCodeIsFoundWithoutBeingConsumed() {
+    var request =
+        AuthorizationEntity.builder().id("request").authorizationCodeValue("eu:code").build();
+    when(authorizationRequestStore.findByAuthorizationCode("eu:code"))
+        .thenReturn(Optional.of(request));
+
+    var result =
+        rpcListener.receiveAuthorizationRetrieval(
+            RetrieveAuthorizationMessage.builder().token("eu:code").build());
+
+    assertEquals("request", result.getId());
+    verify(authorizationRequestStore, never()).consumeAuthorizationCode(any(), any());
+    verifyNoInteractions(jpaAuthorizationRepository);
+  }
+
+  @Test
+  void givenConsumedAuthorizationCode_whenRetrieved_thenDatabaseIsQueried() {
+    when(authorizationRequestStore.findByAuthorizationCode("eu:code")).thenReturn(Optional.empty());
+    when(jpaAuthorizationRepository
+            .findByStateOrAuthorizationCodeValueOrAccessTokenValueOrRefreshTokenValue("eu:code"))
+        .thenReturn(Optional.empty());
+
+    assertNull(
+        rpcListener.receiveAuthorizationRetrieval(
+            RetrieveAuthorizationMessage.builder().token("eu:code").build()));
+  }
+
+  @Test
+  void givenSaveWithoutTenant_whenSaved_thenTenantIsTakenFromAuthorizationRequest() {
+    when(authorizationRequestStore.consumeAuthorizationCode("request", "eu:code")).thenReturn(true);
+    when(authorizationRequestStore.findById("request"))
+        .thenReturn(Optional.of(AuthorizationEntity.builder().id("request").tenantId(1).build()));
+
+    var saved =
+        rpcListener.receiveAuthorizationSave(
+            SaveAuthorizationMessage.builder()
+                .id("request")
+                .registeredClientId("client")
+                .principalId("principal")
+                .authorizationGrantType("authorization_code")
+                .authorizationCodeValue("eu:code")
+                .authorizationCodeExpiresAt(ZonedDateTime.now().plusMinutes(1))
+                .exchangingCode(true)
+                .build());
+
+    assertTrue(saved);
+    verify(jpaAuthorizationRepository).upsert(argThat(entity -> entity.getTenantId() == 1));
+    verify(authorizationRequestStore).remove("request");
+  }
+
+  @Test
+  void givenAlreadyExchangedCode_whenSaved_thenSaveIsRejected() {
+    when(authorizationRequestStore.consumeAuthorizationCode("request", "eu:code"))
+        .thenReturn(false);
+
+    var saved =
+        rpcListener.receiveAuthorizationSave(
+            SaveAuthorizationMessage.builder()
+                .id("request")
+                .registeredClientId("client")
+                .principalId("principal")
+                .authorizationGrantType("authorization_code")
+                .authorizationCodeValue("eu:code")
+                .authorizationCodeExpiresAt(ZonedDateTime.now().plusMinutes(1))
+                .exchangingCode(true)
+                .build());
+
+    assertFalse(saved);
+    verifyNoInteractions(jpaAuthorizationRepository);
+    verify(authorizationRequestStore, never()).remove(any());
+  }
+
+  @Test
+  void givenRefreshWithUnexpiredCode_whenSaved_thenRequestStoreIsNotTouched() {
+    var saved =
+        rpcListener.receiveAuthorizationSave(
+            SaveAuthorizationMessage.builder()
+                .id("request")
+                .registeredClientId("client")
+                .principalId("principal")
+                .authorizationGrantType("authorization_code")
+                .authorizationCodeValue("eu:code")
+                .authorizationCodeExpiresAt(ZonedDateTime.now().plusMinutes(1))
+                .build());
+
+    assertTrue(saved);
+    verify(jpaAuthorizationRepository).upsert(any(AuthorizationEntity.class));
+    verifyNoInteractions(authorizationRequestStore);
+  }
+
+  @Test
+  void givenBatchOfTokens_whenRetrieved_thenAuthorizationsAreMatchedToTokens() {
+    var first =
+        AuthorizationEntity.builder().id("first").accessTokenHash("access").state("state").build();
+    var second = AuthorizationEntity.builder().id("second").refreshTokenHash("refresh").build();
+    when(jpaAuthorizationRepository.findAllByTokens(Set.of("access", "state", "refresh", "none")))
+        .thenReturn(List.of(first, second));
+
+    var result =
+        rpcListener.receiveAuthorizationsRetrieval(
+            RetrieveAuthorizationsMessage.builder()
+                .tokens(List.of("access", "state", "refresh", "none"))
+                .build());
+
+    assertEquals("first", result.getAuthorizations().get("access").getId());
+    assertEquals("first", result.getAuthorizations().get("state").getId());
+    assertEquals("second", result.getAuthorizations().get("refresh").getId());
+    assertFalse(result.getAuthorizations().containsKey("none"));
+    assertNull(result.getFailed());
+  }
+
+  @Test
+  void givenFailingQuery_whenRetrieved_thenAllTokensAreFailed() {
+    when(jpaAuthorizationRepository.findAllByTokens(anyCollection()))
+        .thenThrow(new RuntimeException("Database Exception"));
+
+    var result =
+        rpcListener.receiveAuthorizationsRetrieval(
+            RetrieveAuthorizationsMessage.builder().tokens(List.of("access", "refresh")).build());
+
+    assertNull(result.getAuthorizations());
+    assertEquals(Set.of("access", "refresh"), Set.copyOf(result.getFailed()));
+  }
+}
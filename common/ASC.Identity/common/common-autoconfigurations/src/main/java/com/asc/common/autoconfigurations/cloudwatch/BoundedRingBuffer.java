@@ -0,0 +1,136 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.autoconfigurations.cloudwatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free bounded multi-producer queue backed by a power-of-two ring of slots.
+ *
+ * <p>Every slot carries a sequence number that tells producers and consumers whether the slot is
+ * free or holds a published element, so {@link #offer} and {@link #poll} only need a single
+ * compare-and-set on the corresponding cursor and never block. When the ring is full, {@link
+ * #offer} fails immediately instead of waiting for space.
+ *
+ * @param <E> the element type
+ */
+final class BoundedRingBuffer<E> {
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong enqueuePosition = new AtomicLong();
+  private final AtomicLong dequeuePosition = new AtomicLong();
+
+  /**
+   * Creates a ring buffer holding at least the given number of elements. The capacity is rounded up
+   * to the next power of two.
+   *
+   * @param requestedCapacity the minimum capacity
+   */
+  BoundedRingBuffer(int requestedCapacity) {
+    if (requestedCapacity < 2) throw new IllegalArgumentException("Capacity must be at least 2");
+    var capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+    this.mask = capacity - 1;
+    this.elements = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (var i = 0; i < capacity; i++) sequences.set(i, i);
+  }
+
+  /**
+   * Inserts the element if there is space for it.
+   *
+   * @param element the element to insert
+   * @return {@code false} if the ring is full
+   */
+  boolean offer(E element) {
+    while (true) {
+      var position = enqueuePosition.get();
+      var index = (int) (position & mask);
+      var difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (enqueuePosition.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest element.
+   *
+   * @return the oldest element, or {@code null} if the ring is empty
+   */
+  E poll() {
+    while (true) {
+      var position = dequeuePosition.get();
+      var index = (int) (position & mask);
+      var difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (dequeuePosition.compareAndSet(position, position + 1)) {
+          var element = elements.get(index);
+          elements.lazySet(index, null);
+          sequences.set(index, position + mask + 1);
+          return element;
+        }
+      } else if (difference < 0) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Returns an estimate of the number of elements in the ring.
+   *
+   * @return the approximate size
+   */
+  int size() {
+    var size = enqueuePosition.get() - dequeuePosition.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  /**
+   * Returns the number of slots in the ring.
+   *
+   * @return the capacity
+   */
+  int capacity() {
+    return mask + 1;
+  }
+}
@@ -33,13 +33,22 @@
 
 package com.asc.common.autoconfigurations.cloudwatch;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import ch.qos.logback.core.encoder.Encoder;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.concurrent.*;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.AccessLevel;
 import lombok.Setter;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.InstanceProfileCredentialsProvider;
@@ -51,8 +60,12 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.*;
 /**
  * A Logback appender that sends log events to Amazon CloudWatch Logs service.
  *
- * <p>This appender batches log events and sends them periodically to AWS CloudWatch Logs. It
- * handles log group and log stream creation, throttling, and retry logic.
+ * <p>Logging threads never block in this appender: events are handed over to a lock-free bounded
+ * ring and a dedicated flusher thread encodes them, splits them into time-ordered chunks within the
+ * PutLogEvents limits and sends them, retrying with exponential backoff and jitter. When the ring
+ * is full, events are dropped and counted; with the {@code SAMPLE} overflow policy, events below
+ * WARN are additionally sampled once the ring is three quarters full so that warnings and errors
+ * keep their room.
  *
  * <p>Required properties:
  *
@@ -68,21 +81,55 @@ import software.amazon.awssdk.services.cloudwatchlogs.model.*;
  *   <li>accessKey - AWS access key ID
  *   <li>secretKey - AWS secret access key
  *   <li>region - AWS region (defaults to US_EAST_1)
- *   <li>batchSize - Number of logs to batch before sending (defaults to 10)
+ *   <li>batchSize - Maximum number of events per PutLogEvents request (defaults to 10000)
+ *   <li>queueSize - Capacity of the in-memory ring of pending events (defaults to 8192)
+ *   <li>flushIntervalMillis - Maximum time between flushes (defaults to 1000)
+ *   <li>overflowPolicy - {@code DROP} or {@code SAMPLE} (defaults to DROP)
+ *   <li>sampleRate - With {@code SAMPLE}, keeps one of every N events below WARN under pressure
+ *   <li>maxRetryAttempts - Attempts per batch before it is dropped (defaults to 3)
  *   <li>enabled - Whether the appender is enabled (defaults to true)
  *   <li>useLocalstack - Whether to use Localstack for local development (defaults to false)
  *   <li>endpoint - Custom endpoint URL for Localstack or other testing services
+ *   <li>client - A preconfigured CloudWatch Logs client, mainly for testing
  * </ul>
  */
 @Setter
 public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+  /** Maximum number of events in a single PutLogEvents request. */
+  static final int MAX_BATCH_EVENTS = 10_000;
+
+  /** Maximum size of a single PutLogEvents request in bytes. */
+  static final int MAX_BATCH_BYTES = 1_048_576;
+
+  /** Fixed per-event overhead counted by CloudWatch towards the request size. */
+  static final int EVENT_OVERHEAD_BYTES = 26;
+
+  /** Maximum size of a single event including the overhead. */
+  static final int MAX_EVENT_BYTES = 262_144;
+
+  /** Maximum time span between the oldest and the newest event in a single request. */
+  static final long MAX_BATCH_SPAN_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+  /** Reaction to a full ring of pending events. */
+  public enum OverflowPolicy {
+    /** Drops events that do not fit into the ring. */
+    DROP,
+    /** Samples events below WARN once the ring fills up, and drops what still does not fit. */
+    SAMPLE
+  }
+
   private boolean enabled = true;
   private String logStreamName;
   private String logGroupName;
   private String accessKey;
   private String secretKey;
   private String region;
-  private int batchSize = 10;
+  private int batchSize = MAX_BATCH_EVENTS;
+  private int queueSize = 8192;
+  private long flushIntervalMillis = 1000;
+  private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+  private int sampleRate = 10;
+  private int maxRetryAttempts = 3;
   private String endpoint;
   private boolean useLocalstack = false;
   private boolean useInstanceProfileProvider = false;
@@ -90,28 +137,33 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
   private CloudWatchLogsClient client;
   private Encoder<ILoggingEvent> encoder;
 
-  private static final int MAX_QUEUE_SIZE = 1000;
-  private static final int MAX_RETRY_ATTEMPTS = 3;
-  private static final int FLUSH_INTERVAL_SECONDS = 1;
-
-  private final BlockingQueue<InputLogEvent> eventQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
-  private final ScheduledExecutorService scheduler =
-      Executors.newScheduledThreadPool(
-          1,
-          new ThreadFactory() {
-            private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
-
-            public Thread newThread(Runnable r) {
-              Thread thread = defaultFactory.newThread(r);
-              thread.setName("cloudwatch-appender-" + thread.getName());
-              thread.setDaemon(true);
-              return thread;
-            }
-          });
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final AtomicLong sampledEvents = new AtomicLong();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final List<ILoggingEvent> drained = new ArrayList<>();
+  private final List<InputLogEvent> pending = new ArrayList<>();
+
+  @Setter(AccessLevel.NONE)
+  private int[] pendingSizes = new int[0];
+
+  @Setter(AccessLevel.NONE)
+  private volatile BoundedRingBuffer<ILoggingEvent> ring;
+
+  @Setter(AccessLevel.NONE)
+  private int flushThreshold;
+
+  @Setter(AccessLevel.NONE)
+  private volatile Thread flusher;
+
+  @Setter(AccessLevel.NONE)
+  private volatile boolean running;
+
+  @Setter(AccessLevel.NONE)
+  private long reportedDroppedEvents;
 
   /**
-   * Initializes and starts the appender. Creates the AWS CloudWatch client, ensures log group and
-   * stream exist, and schedules periodic flushing of queued events.
+   * Initializes and starts the appender. Creates the AWS CloudWatch client unless one was provided,
+   * ensures log group and stream exist, and starts the flusher thread.
    *
    * @throws IllegalStateException if required configuration is missing
    */
@@ -119,20 +171,15 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
     if (!enabled) return;
 
     validateConfiguration();
-    initializeClient();
+    if (client == null) initializeClient();
     ensureLogGroupAndStreamExist(true);
 
-    Runnable guardedFlushTask =
-        () -> {
-          try {
-            flushEvents();
-          } catch (Exception e) {
-            addWarn("Unhandled exception in scheduled flush task", e);
-          }
-        };
-
-    scheduler.scheduleAtFixedRate(
-        guardedFlushTask, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    ring = new BoundedRingBuffer<>(queueSize);
+    flushThreshold = Math.max(1, Math.min(batchSize, ring.capacity() / 2));
+    running = true;
+    flusher = new Thread(this::runFlusher, "cloudwatch-appender-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
 
     super.start();
   }
@@ -146,6 +193,10 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
     if (encoder == null || logGroupName == null || logStreamName == null)
       throw new IllegalStateException(
           "Missing required configuration: encoder, logGroupName, and logStreamName are required");
+    if (batchSize < 1 || batchSize > MAX_BATCH_EVENTS) batchSize = MAX_BATCH_EVENTS;
+    if (queueSize < 2) queueSize = 2;
+    if (sampleRate < 1) sampleRate = 1;
+    if (maxRetryAttempts < 1) maxRetryAttempts = 1;
   }
 
   /**
@@ -237,66 +288,182 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
   }
 
   /**
-   * Processes a logging event by encoding it and queuing it for delivery to CloudWatch. If the
-   * queue reaches the batch size, triggers an immediate flush.
+   * Hands a logging event over to the flusher thread. Never blocks: if the ring is full, or the
+   * event is sampled out, the event is dropped and counted. The flusher is woken early once the
+   * ring holds a full batch or half its capacity, whichever comes first, so that bursts are drained
+   * before the ring overflows.
    *
    * @param event The logging event to be appended
    */
   protected void append(ILoggingEvent event) {
     if (!isStarted() || !enabled) return;
 
+    var buffer = ring;
+    if (overflowPolicy == OverflowPolicy.SAMPLE
+        && buffer.size() >= buffer.capacity() - (buffer.capacity() >> 2)
+        && !event.getLevel().isGreaterOrEqual(Level.WARN)
+        && sampledEvents.incrementAndGet() % sampleRate != 0) {
+      droppedEvents.incrementAndGet();
+      return;
+    }
+
+    event.prepareForDeferredProcessing();
+    if (!buffer.offer(event)) {
+      droppedEvents.incrementAndGet();
+      return;
+    }
+
+    if (buffer.size() >= flushThreshold && flushRequested.compareAndSet(false, true))
+      LockSupport.unpark(flusher);
+  }
+
+  /**
+   * Returns the number of events dropped because the ring was full, they were sampled out, or they
+   * could not be delivered.
+   *
+   * @return the number of dropped events
+   */
+  public long getDroppedEvents() {
+    return droppedEvents.get();
+  }
+
+  /**
+   * Main loop of the flusher thread. Waits for either the flush interval to pass or enough events
+   * to accumulate, then drains the ring. Drains whatever is left once the appender is stopped.
+   */
+  private void runFlusher() {
+    var intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+    while (running) {
+      if (!flushRequested.get()) LockSupport.parkNanos(this, intervalNanos);
+      flushRequested.set(false);
+      try {
+        flushEvents();
+      } catch (Exception e) {
+        addWarn("Unhandled exception in CloudWatch flush loop", e);
+      }
+    }
+
     try {
-      queueLogEvent(event);
+      flushEvents();
     } catch (Exception e) {
-      addError("Failed to queue log event: " + e.getMessage());
+      addWarn("Could not flush remaining events to CloudWatch", e);
     }
   }
 
   /**
-   * Formats and queues a log event for sending to CloudWatch.
-   *
-   * @param event The logging event to queue
-   * @throws InterruptedException if interrupted while waiting to put event in queue
+   * Drains the ring, encodes the events, sorts them by timestamp and sends them in chunks that stay
+   * within the PutLogEvents limits on event count, request size and time span.
    */
-  private void queueLogEvent(ILoggingEvent event) throws InterruptedException {
-    var formattedMessage = new String(encoder.encode(event));
-    var logEvent =
-        InputLogEvent.builder().message(formattedMessage).timestamp(event.getTimeStamp()).build();
-    if (eventQueue.size() >= batchSize) scheduler.execute(this::flushEvents);
+  void flushEvents() {
+    var buffer = ring;
+    if (buffer == null) return;
+
+    while (true) {
+      drain(buffer);
+      if (pending.isEmpty()) break;
 
-    eventQueue.put(logEvent);
+      sendPending();
+      pending.clear();
+    }
+
+    reportDroppedEvents();
+  }
+
+  /**
+   * Moves up to one ring's worth of events into the pending list, ordered by timestamp, and encodes
+   * them.
+   *
+   * @param buffer the ring to drain
+   */
+  private void drain(BoundedRingBuffer<ILoggingEvent> buffer) {
+    ILoggingEvent event;
+    while (drained.size() < buffer.capacity() && (event = buffer.poll()) != null)
+      drained.add(event);
+    if (drained.size() > 1) drained.sort(Comparator.comparingLong(ILoggingEvent::getTimeStamp));
+
+    if (pendingSizes.length < drained.size()) pendingSizes = new int[buffer.capacity()];
+    for (var drainedEvent : drained) {
+      try {
+        var bytes = encode(drainedEvent);
+        pendingSizes[pending.size()] = bytes.length + EVENT_OVERHEAD_BYTES;
+        pending.add(
+            InputLogEvent.builder()
+                .message(new String(bytes, StandardCharsets.UTF_8))
+                .timestamp(drainedEvent.getTimeStamp())
+                .build());
+      } catch (Exception e) {
+        droppedEvents.incrementAndGet();
+        addWarn("Could not encode log event: " + e.getMessage());
+      }
+    }
 
-    if (eventQueue.size() >= batchSize) scheduler.execute(this::flushEvents);
+    drained.clear();
   }
 
   /**
-   * Flushes queued log events to CloudWatch. Handles retries for throttling and service errors.
-   * This method is synchronized to prevent concurrent flushes.
+   * Encodes a logging event, truncating oversized messages to the CloudWatch event size limit.
+   *
+   * @param event the logging event
+   * @return the encoded message bytes
    */
-  private synchronized void flushEvents() {
-    if (eventQueue.isEmpty() || !isStarted()) return;
+  private byte[] encode(ILoggingEvent event) {
+    var bytes = encoder.encode(event);
+    var limit = MAX_EVENT_BYTES - EVENT_OVERHEAD_BYTES;
+    // Leave room for a replacement character if the cut splits a multibyte sequence
+    return bytes.length > limit ? Arrays.copyOf(bytes, limit - 3) : bytes;
+  }
 
-    var batch = new ArrayList<InputLogEvent>();
-    eventQueue.drainTo(batch, batchSize);
+  /** Splits the pending events into request-sized chunks and sends each of them. */
+  private void sendPending() {
+    var start = 0;
+    var bytes = 0;
+    for (var i = 0; i < pending.size(); i++) {
+      var size = pendingSizes[i];
+      var count = i - start;
+      if (count > 0
+          && (count >= batchSize
+              || bytes + size > MAX_BATCH_BYTES
+              || pending.get(i).timestamp() - pending.get(start).timestamp()
+                  > MAX_BATCH_SPAN_MILLIS)) {
+        sendWithRetry(pending.subList(start, i));
+        start = i;
+        bytes = 0;
+      }
 
-    if (batch.isEmpty()) return;
+      bytes += size;
+    }
+
+    sendWithRetry(pending.subList(start, pending.size()));
+  }
 
-    batch.sort(Comparator.comparingLong(InputLogEvent::timestamp));
-    for (var attempt = 0; attempt < MAX_RETRY_ATTEMPTS; attempt++) {
+  /**
+   * Sends a chunk of log events to CloudWatch, retrying with exponential backoff and jitter. The
+   * chunk is dropped and counted once all attempts have failed.
+   *
+   * @param chunk the time-ordered events to send
+   */
+  private void sendWithRetry(List<InputLogEvent> chunk) {
+    for (var attempt = 0; attempt < maxRetryAttempts; attempt++) {
       try {
-        sendBatchToCloudWatch(batch);
-        addInfo("Sent " + batch.size() + " log events to CloudWatch");
+        sendBatchToCloudWatch(chunk);
         return;
       } catch (ResourceNotFoundException e) {
         handleResourceNotFoundException();
+      } catch (InvalidParameterException e) {
+        addError("CloudWatch rejected a batch of " + chunk.size() + " events: " + e.getMessage());
+        break;
       } catch (ThrottlingException e) {
-        handleThrottlingException(attempt);
+        addWarn("Throttled by CloudWatch, waiting before retry");
+        sleep(calculateBackoffTime(attempt));
       } catch (Exception e) {
-        handleGeneralException(e, attempt);
+        addWarn(
+            "Error sending logs to CloudWatch (attempt " + (attempt + 1) + "): " + e.getMessage());
+        sleep(calculateBackoffTime(attempt));
       }
     }
 
-    addError("Failed to send logs to CloudWatch after " + MAX_RETRY_ATTEMPTS + " attempts");
+    droppedEvents.addAndGet(chunk.size());
+    addError("Failed to send " + chunk.size() + " log events to CloudWatch");
   }
 
   /**
@@ -304,7 +471,7 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
    *
    * @param batch The batch of log events to send
    */
-  private void sendBatchToCloudWatch(ArrayList<InputLogEvent> batch) {
+  private void sendBatchToCloudWatch(List<InputLogEvent> batch) {
     var request =
         PutLogEventsRequest.builder()
             .logGroupName(logGroupName)
@@ -321,35 +488,23 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
     ensureLogGroupAndStreamExist(false);
   }
 
-  /**
-   * Handles throttling exceptions from CloudWatch.
-   *
-   * @param attempt The current retry attempt number
-   */
-  private void handleThrottlingException(int attempt) {
-    addWarn("Throttled by CloudWatch, waiting before retry");
-    sleep(calculateBackoffTime(attempt));
-  }
-
-  /**
-   * Handles general exceptions when sending logs to CloudWatch.
-   *
-   * @param e The exception that occurred
-   * @param attempt The current retry attempt number
-   */
-  private void handleGeneralException(Exception e, int attempt) {
-    addWarn("Error sending logs to CloudWatch (attempt " + (attempt + 1) + "): " + e.getMessage());
-    sleep(calculateBackoffTime(attempt));
+  /** Reports the number of events dropped since the last report. */
+  private void reportDroppedEvents() {
+    var dropped = droppedEvents.get();
+    if (dropped == reportedDroppedEvents) return;
+    addWarn("Dropped " + (dropped - reportedDroppedEvents) + " log events");
+    reportedDroppedEvents = dropped;
   }
 
   /**
-   * Calculates the backoff time for retries using exponential backoff.
+   * Calculates the backoff time for retries using exponential backoff with full jitter.
    *
    * @param attempt The current retry attempt number
    * @return Time to wait in milliseconds
    */
   private long calculateBackoffTime(int attempt) {
-    return Math.min(1000 * (attempt + 1), 5000);
+    var ceiling = Math.min(200L << Math.min(attempt, 5), 5000L);
+    return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
   }
 
   /**
@@ -366,40 +521,31 @@ public class CloudWatchAppender extends UnsynchronizedAppenderBase<ILoggingEvent
   }
 
   /**
-   * Stops the appender, flushes any remaining events, shuts down the scheduler, and closes the
+   * Stops the appender, lets the flusher thread send any remaining events, and closes the
    * CloudWatch client.
    */
   public void stop() {
     if (!isStarted()) return;
 
-    shutdownScheduler();
-    flushEvents();
+    super.stop();
+    shutdownFlusher();
     closeClient();
 
-    super.stop();
     addInfo("Stopped CloudWatchAppender");
   }
 
-  /** Shuts down the scheduler that periodically flushes logs. */
-  /**
-   * Shuts down the scheduler that periodically flushes logs. Uses a two-phase shutdown approach
-   * with graceful shutdown first, followed by forced shutdown if necessary.
-   */
-  private void shutdownScheduler() {
-    scheduler.shutdown();
+  /** Signals the flusher thread to drain the ring and waits for it to finish. */
+  private void shutdownFlusher() {
+    running = false;
+    var thread = flusher;
+    if (thread == null) return;
+
+    LockSupport.unpark(thread);
     try {
-      if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-        addWarn("Scheduler did not terminate in time, forcing shutdown");
-        var droppedTasks = scheduler.shutdownNow();
-        if (!droppedTasks.isEmpty())
-          addWarn("Dropped " + droppedTasks.size() + " pending tasks during shutdown");
-
-        if (!scheduler.awaitTermination(2, TimeUnit.SECONDS))
-          addWarn("Scheduler did not terminate after forced shutdown");
-      }
+      thread.join(TimeUnit.SECONDS.toMillis(5));
+      if (thread.isAlive()) addWarn("CloudWatch flusher did not terminate in time");
     } catch (InterruptedException e) {
-      addWarn("Interrupted during scheduler shutdown");
-      scheduler.shutdownNow();
+      addWarn("Interrupted during CloudWatch flusher shutdown");
       Thread.currentThread().interrupt();
     }
   }
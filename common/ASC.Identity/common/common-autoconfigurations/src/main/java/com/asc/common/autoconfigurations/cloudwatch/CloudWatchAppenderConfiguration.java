@@ -117,6 +117,9 @@ public class CloudWatchAppenderConfiguration {
     appender.setAccessKey(properties.getAccessKey());
     appender.setSecretKey(properties.getSecretKey());
     appender.setBatchSize(properties.getBatchSize());
+    appender.setQueueSize(properties.getQueueSize());
+    appender.setFlushIntervalMillis(properties.getFlushIntervalMillis());
+    appender.setOverflowPolicy(properties.getOverflowPolicy());
     return appender;
   }
 }
@@ -73,8 +73,23 @@ public class CloudWatchAppenderProperties {
    */
   private String region;
 
-  /** The batch size for sending log events to CloudWatch. Default value is `10`. */
-  private int batchSize = 10;
+  /**
+   * The maximum number of log events sent to CloudWatch in a single request, capped at the
+   * PutLogEvents limit. Default value is `10000`.
+   */
+  private int batchSize = 10_000;
+
+  /** The capacity of the in-memory ring of pending log events. Default value is `8192`. */
+  private int queueSize = 8192;
+
+  /** The maximum time between two flushes, in milliseconds. Default value is `1000`. */
+  private long flushIntervalMillis = 1000;
+
+  /**
+   * What to do when log events arrive faster than they can be shipped: `DROP` or `SAMPLE`. Default
+   * value is `DROP`.
+   */
+  private CloudWatchAppender.OverflowPolicy overflowPolicy = CloudWatchAppender.OverflowPolicy.DROP;
 
   /**
    * The endpoint for the development CloudWatch service. Default value is `http://localhost:4566`,
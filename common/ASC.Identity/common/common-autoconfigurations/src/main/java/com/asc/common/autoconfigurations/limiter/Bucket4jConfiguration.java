@@ -33,6 +33,7 @@
 
 package com.asc.common.autoconfigurations.limiter;
 
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import lombok.Data;
@@ -52,6 +53,9 @@ public class Bucket4jConfiguration {
   /** Rate limit properties. */
   private RateLimitProperties rateLimits;
 
+  /** Local token lease properties. */
+  private HybridProperties hybrid = new HybridProperties();
+
   /** Configuration properties for Redis connection. */
   @Data
   public static class RedisProperties {
@@ -74,6 +78,28 @@ public class Bucket4jConfiguration {
     private boolean ssl;
   }
 
+  /**
+   * Configuration properties for the hybrid local/distributed limiter. Tokens are leased from the
+   * shared bucket in chunks and consumed locally until the lease runs out or expires.
+   */
+  @Data
+  public static class HybridProperties {
+    /**
+     * The share of the bucket capacity enforced precisely across the cluster, within (0, 1]. A
+     * value of {@code 1.0} leases a single token per remote call.
+     */
+    private double accuracy = 0.9;
+
+    /** The time after which unused leased tokens are discarded. */
+    private Duration leaseTimeout = Duration.ofSeconds(5);
+
+    /** Indicates whether requests are let through when the shared bucket is unavailable. */
+    private boolean failOpen = true;
+
+    /** The maximum number of keys holding a local lease. */
+    private long maximumLeases = 100_000;
+  }
+
   /** Configuration properties for rate limiting. */
   @Data
   public static class RateLimitProperties {
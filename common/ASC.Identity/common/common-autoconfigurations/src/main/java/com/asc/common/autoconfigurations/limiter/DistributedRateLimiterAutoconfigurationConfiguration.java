@@ -44,7 +44,9 @@ import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import java.time.Duration;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
@@ -108,10 +110,22 @@ public class DistributedRateLimiterAutoconfigurationConfiguration {
         .build();
   }
 
+  /**
+   * Creates a hybrid rate limiter that leases tokens from the Redis-backed buckets in chunks and
+   * consumes them locally, so that only a fraction of requests requires a Redis round-trip.
+   *
+   * @param proxyManager The proxy manager providing access to the Redis-backed buckets.
+   * @return The configured {@link HybridRateLimiter}.
+   */
+  @Bean
+  public HybridRateLimiter hybridRateLimiter(LettuceBasedProxyManager<String> proxyManager) {
+    return new HybridRateLimiter(proxyManager, bucket4jConfiguration.getHybrid());
+  }
+
   /**
    * Creates a supplier for Bucket4j configurations based on the application-defined rate limits.
-   * This supplier provides Bucket configurations for each HTTP method based on the defined rate
-   * limit properties.
+   * Bucket configurations are immutable, so a single instance is built per HTTP method at startup
+   * and shared by every request.
    *
    * @return A {@link Function} mapping {@link HttpMethod} to a {@link Supplier} of {@link
    *     BucketConfiguration}.
@@ -120,29 +134,34 @@ public class DistributedRateLimiterAutoconfigurationConfiguration {
   @Bean
   public Function<HttpMethod, Supplier<BucketConfiguration>> bucketConfiguration()
       throws Exception {
-    List<Bucket4jConfiguration.RateLimitProperties.ClientRateLimitProperties> rateLimitProperties =
-        bucket4jConfiguration.getRateLimits().getLimits();
-    Bucket4jConfiguration.RateLimitProperties.ClientRateLimitProperties getLimits =
-        bucket4jConfiguration.getRateLimits().getLimits().stream()
-            .filter(props -> props.getMethod().equalsIgnoreCase(HttpMethod.GET.name()))
-            .findFirst()
-            .orElseThrow(() -> new Exception("Could not initialize rate-limiter configuration"));
-    return (HttpMethod method) -> {
-      var config =
-          rateLimitProperties.stream()
-              .filter(props -> props.getMethod().equalsIgnoreCase(method.name()))
-              .findFirst()
-              .orElse(getLimits);
-      return () ->
-          BucketConfiguration.builder()
-              .addLimit(
-                  Bandwidth.classic(
-                      config.getCapacity(),
-                      Refill.greedy(
-                          config.getRefill().getTokens(),
-                          Duration.of(
-                              config.getRefill().getPeriod(), config.getRefill().getTimeUnit()))))
-              .build();
-    };
+    var suppliers = new HashMap<String, Supplier<BucketConfiguration>>();
+    for (var props : bucket4jConfiguration.getRateLimits().getLimits()) {
+      var configuration = toBucketConfiguration(props);
+      suppliers.putIfAbsent(props.getMethod().toUpperCase(Locale.ROOT), () -> configuration);
+    }
+
+    var getLimits = suppliers.get(HttpMethod.GET.name());
+    if (getLimits == null) throw new Exception("Could not initialize rate-limiter configuration");
+
+    var configurations = Map.copyOf(suppliers);
+    return (HttpMethod method) -> configurations.getOrDefault(method.name(), getLimits);
+  }
+
+  /**
+   * Builds an immutable bucket configuration from the rate limit properties.
+   *
+   * @param config The rate limit properties of a single HTTP method.
+   * @return The {@link BucketConfiguration} for the given properties.
+   */
+  private BucketConfiguration toBucketConfiguration(
+      Bucket4jConfiguration.RateLimitProperties.ClientRateLimitProperties config) {
+    return BucketConfiguration.builder()
+        .addLimit(
+            Bandwidth.classic(
+                config.getCapacity(),
+                Refill.greedy(
+                    config.getRefill().getTokens(),
+                    Duration.of(config.getRefill().getPeriod(), config.getRefill().getTimeUnit()))))
+        .build();
   }
 }
@@ -0,0 +1,169 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.autoconfigurations.limiter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rate limiter that serves most requests from a local token allowance leased in chunks from a
+ * shared Bucket4j bucket.
+ *
+ * <p>Instead of consuming a single token from the distributed bucket for every request, each node
+ * consumes a lease of several tokens at once and hands them out locally until the lease is either
+ * exhausted or expired. The lease size is derived from the bucket capacity and the configured
+ * accuracy: an accuracy of {@code 1.0} leases a single token, which is equivalent to a plain
+ * distributed bucket, while lower values trade cluster-wide precision for fewer remote round-trips.
+ *
+ * <p>When the backing store is unavailable the limiter either lets requests through or rejects
+ * them, depending on {@link Bucket4jConfiguration.HybridProperties#isFailOpen()}.
+ */
+@Slf4j
+public class HybridRateLimiter {
+  private final ProxyManager<String> proxyManager;
+  private final double accuracy;
+  private final long leaseTimeoutNanos;
+  private final boolean failOpen;
+  private final Cache<String, Lease> leases;
+
+  /**
+   * Constructs a new {@link HybridRateLimiter}.
+   *
+   * @param proxyManager the proxy manager providing access to the shared buckets
+   * @param properties the hybrid limiter settings
+   */
+  public HybridRateLimiter(
+      ProxyManager<String> proxyManager, Bucket4jConfiguration.HybridProperties properties) {
+    if (properties.getAccuracy() <= 0 || properties.getAccuracy() > 1)
+      throw new IllegalArgumentException("Rate limiter accuracy must be within (0, 1]");
+    this.proxyManager = proxyManager;
+    this.accuracy = properties.getAccuracy();
+    this.leaseTimeoutNanos = properties.getLeaseTimeout().toNanos();
+    this.failOpen = properties.isFailOpen();
+    this.leases =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumLeases())
+            .expireAfterAccess(properties.getLeaseTimeout())
+            .build();
+  }
+
+  /**
+   * Tries to consume a single token for the given key.
+   *
+   * <p>The token is taken from the local lease when one is available. Otherwise, a new lease is
+   * consumed from the shared bucket described by the configuration supplier.
+   *
+   * @param key the bucket key
+   * @param configurationSupplier the supplier of the bucket configuration for the key
+   * @return the {@link RateLimitDecision} for the request
+   */
+  public RateLimitDecision tryConsume(
+      String key, Supplier<BucketConfiguration> configurationSupplier) {
+    var lease = leases.get(key, k -> new Lease());
+    synchronized (lease) {
+      var now = System.nanoTime();
+      if (lease.tokens > 0 && now - lease.expiresAt < 0) {
+        lease.tokens--;
+        return RateLimitDecision.consumed(
+            lease.tokens + lease.remoteRemaining, lease.nanosToWaitForRefill);
+      }
+
+      return acquire(key, configurationSupplier, lease, now);
+    }
+  }
+
+  /**
+   * Consumes a new lease from the shared bucket and takes the first token out of it.
+   *
+   * @param key the bucket key
+   * @param configurationSupplier the supplier of the bucket configuration for the key
+   * @param lease the local lease to renew
+   * @param now the current {@link System#nanoTime()} value
+   * @return the {@link RateLimitDecision} for the request
+   */
+  private RateLimitDecision acquire(
+      String key, Supplier<BucketConfiguration> configurationSupplier, Lease lease, long now) {
+    lease.tokens = 0;
+    try {
+      var bucket = proxyManager.builder().build(key, configurationSupplier);
+      var size = leaseSize(configurationSupplier.get());
+      var probe = bucket.tryConsumeAndReturnRemaining(size);
+      if (!probe.isConsumed() && size > 1 && probe.getRemainingTokens() > 0) {
+        size = probe.getRemainingTokens();
+        probe = bucket.tryConsumeAndReturnRemaining(size);
+      }
+
+      if (!probe.isConsumed())
+        return RateLimitDecision.rejected(
+            probe.getRemainingTokens(), probe.getNanosToWaitForRefill());
+
+      lease.tokens = size - 1;
+      lease.remoteRemaining = probe.getRemainingTokens();
+      lease.nanosToWaitForRefill = probe.getNanosToWaitForRefill();
+      lease.expiresAt = now + leaseTimeoutNanos;
+      return RateLimitDecision.consumed(
+          lease.tokens + lease.remoteRemaining, lease.nanosToWaitForRefill);
+    } catch (RuntimeException e) {
+      log.warn("Could not consume rate limit tokens for key {}: {}", key, e.getMessage());
+      return failOpen
+          ? RateLimitDecision.consumed(0, 0)
+          : RateLimitDecision.rejected(0, leaseTimeoutNanos);
+    }
+  }
+
+  /**
+   * Calculates how many tokens should be leased at once for the given bucket configuration.
+   *
+   * @param configuration the bucket configuration
+   * @return the lease size, never less than one token
+   */
+  private long leaseSize(BucketConfiguration configuration) {
+    var capacity = Long.MAX_VALUE;
+    for (var bandwidth : configuration.getBandwidths())
+      capacity = Math.min(capacity, bandwidth.getCapacity());
+    return Math.max(1L, Math.round(capacity * (1 - accuracy)));
+  }
+
+  /** Local token allowance taken from a shared bucket. Guarded by its own monitor. */
+  private static final class Lease {
+    private long tokens;
+    private long remoteRemaining;
+    private long nanosToWaitForRefill;
+    private long expiresAt;
+  }
+}
@@ -0,0 +1,100 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.autoconfigurations.cloudwatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class BoundedRingBufferTest {
+  @Test
+  void givenRequestedCapacity_whenCreating_thenRoundsUpToPowerOfTwo() {
+    assertEquals(8, new BoundedRingBuffer<>(5).capacity());
+    assertEquals(8, new BoundedRingBuffer<>(8).capacity());
+  }
+
+  @Test
+  void givenFullRing_whenOffering_thenRejectsAndKeepsOrder() {
+    var ring = new BoundedRingBuffer<Integer>(4);
+    for (var i = 0; i < 4; i++) assertTrue(ring.offer(i));
+    assertFalse(ring.offer(4));
+    assertEquals(4, ring.size());
+
+    for (var i = 0; i < 4; i++) assertEquals(i, ring.poll());
+    assertNull(ring.poll());
+    assertTrue(ring.offer(5));
+  }
+
+  @Test
+  void givenConcurrentProducers_whenDraining_thenEveryElementArrivesOnce() throws Exception {
+    var ring = new BoundedRingBuffer<Integer>(1024);
+    var producers = 4;
+    var perProducer = 50_000;
+    var start = new CountDownLatch(1);
+    var threads = new ArrayList<Thread>();
+    for (var p = 0; p < producers; p++) {
+      var base = p * perProducer;
+      var thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  return;
+                }
+
+                for (var i = 0; i < perProducer; i++)
+                  while (!ring.offer(base + i)) Thread.onSpinWait();
+              });
+      thread.start();
+      threads.add(thread);
+    }
+
+    start.countDown();
+    var received = new HashSet<Integer>();
+    while (received.size() < producers * perProducer) {
+      var element = ring.poll();
+      if (element != null) assertTrue(received.add(element));
+    }
+
+    for (var thread : threads) thread.join();
+    assertNull(ring.poll());
+  }
+}
@@ -0,0 +1,225 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.autoconfigurations.cloudwatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogGroupResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogStreamRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.CreateLogStreamResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ThrottlingException;
+
+class CloudWatchAppenderTest {
+  private final LoggerContext context = new LoggerContext();
+  private FakeLogsClient client;
+  private CloudWatchAppender appender;
+
+  /** In-memory stand-in for the CloudWatch Logs service that records every request. */
+  static class FakeLogsClient implements CloudWatchLogsClient {
+    final List<PutLogEventsRequest> requests = new CopyOnWriteArrayList<>();
+    final AtomicInteger throttledCalls = new AtomicInteger();
+
+    public String serviceName() {
+      return SERVICE_NAME;
+    }
+
+    public void close() {}
+
+    public CreateLogGroupResponse createLogGroup(CreateLogGroupRequest request) {
+      return CreateLogGroupResponse.builder().build();
+    }
+
+    public CreateLogStreamResponse createLogStream(CreateLogStreamRequest request) {
+      return CreateLogStreamResponse.builder().build();
+    }
+
+    public PutLogEventsResponse putLogEvents(PutLogEventsRequest request) {
+      if (throttledCalls.getAndDecrement() > 0)
+        throw ThrottlingException.builder().message("Rate exceeded").build();
+      requests.add(request);
+      return PutLogEventsResponse.builder().build();
+    }
+
+    List<InputLogEvent> events() {
+      return requests.stream().flatMap(r -> r.logEvents().stream()).toList();
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    var encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%msg");
+    encoder.start();
+
+    client = new FakeLogsClient();
+    appender = new CloudWatchAppender();
+    appender.setContext(context);
+    appender.setClient(client);
+    appender.setEncoder(encoder);
+    appender.setLogGroupName("group");
+    appender.setLogStreamName("stream");
+    appender.setFlushIntervalMillis(60_000);
+  }
+
+  private LoggingEvent event(String message, long timestamp, Level level) {
+    var event =
+        new LoggingEvent(
+            CloudWatchAppenderTest.class.getName(),
+            context.getLogger("test"),
+            level,
+            message,
+            null,
+            null);
+    event.setTimeStamp(timestamp);
+    return event;
+  }
+
+  @Test
+  void givenEventsOutOfOrder_whenStopping_thenSendsTimeOrderedBatches() {
+    appender.setBatchSize(3);
+    appender.start();
+    for (var timestamp : new long[] {7, 3, 5, 1, 6, 2, 4})
+      appender.doAppend(event("event-" + timestamp, timestamp, Level.INFO));
+    appender.stop();
+
+    var timestamps = client.events().stream().map(InputLogEvent::timestamp).sorted().toList();
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), timestamps);
+    for (var request : client.requests) {
+      var requestTimestamps = request.logEvents().stream().map(InputLogEvent::timestamp).toList();
+      assertTrue(requestTimestamps.size() <= 3);
+      assertEquals(requestTimestamps.stream().sorted().toList(), requestTimestamps);
+    }
+  }
+
+  @Test
+  void givenLargeEvents_whenFlushing_thenKeepsRequestsWithinSizeLimit() {
+    appender.start();
+    var message = "x".repeat(300_000);
+    for (var i = 0; i < 6; i++) appender.doAppend(event(message, i, Level.INFO));
+    appender.stop();
+
+    assertEquals(6, client.events().size());
+    assertTrue(client.requests.size() >= 2);
+    for (var request : client.requests) {
+      var size =
+          request.logEvents().stream()
+              .mapToInt(e -> e.message().length() + CloudWatchAppender.EVENT_OVERHEAD_BYTES)
+              .sum();
+      assertTrue(size <= CloudWatchAppender.MAX_BATCH_BYTES);
+      assertTrue(
+          request.logEvents().stream()
+              .allMatch(
+                  e ->
+                      e.message().length() + CloudWatchAppender.EVENT_OVERHEAD_BYTES
+                          <= CloudWatchAppender.MAX_EVENT_BYTES));
+    }
+  }
+
+  @Test
+  void givenFullRing_whenAppending_thenDropsInsteadOfBlocking() {
+    appender.setQueueSize(2);
+    appender.start();
+    for (var i = 0; i < 5; i++) appender.doAppend(event("event", i, Level.INFO));
+    var dropped = appender.getDroppedEvents();
+    appender.stop();
+
+    assertTrue(dropped >= 1);
+    assertEquals(5, client.events().size() + dropped);
+  }
+
+  @Test
+  void givenSamplePolicy_whenRingFillsUp_thenKeepsWarnings() {
+    appender.setQueueSize(8);
+    appender.setSampleRate(1_000);
+    appender.setOverflowPolicy(CloudWatchAppender.OverflowPolicy.SAMPLE);
+    appender.start();
+    for (var i = 0; i < 6; i++) appender.doAppend(event("info", i, Level.INFO));
+    appender.doAppend(event("warn", 10, Level.WARN));
+    appender.stop();
+
+    assertTrue(client.events().stream().anyMatch(e -> e.message().equals("warn")));
+  }
+
+  @Test
+  void givenBurstPastRingCapacity_whenAppending_thenFlushesBeforeInterval()
+      throws InterruptedException {
+    appender.setQueueSize(64);
+    appender.start();
+    for (var round = 1; round <= 4; round++) {
+      for (var i = 0; i < 32; i++) appender.doAppend(event("event", i, Level.INFO));
+      awaitEvents(round * 32);
+    }
+    var dropped = appender.getDroppedEvents();
+    appender.stop();
+
+    assertEquals(0, dropped);
+    assertEquals(128, client.events().size());
+  }
+
+  private void awaitEvents(int count) throws InterruptedException {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (client.events().size() < count && System.nanoTime() < deadline) Thread.sleep(5);
+    assertEquals(count, client.events().size());
+  }
+
+  @Test
+  void givenThrottling_whenFlushing_thenRetriesOffThread() {
+    client.throttledCalls.set(1);
+    appender.start();
+    appender.doAppend(event("event", 1, Level.INFO));
+    appender.stop();
+
+    assertEquals(1, client.events().size());
+    assertEquals(0, appender.getDroppedEvents());
+  }
+}
@@ -0,0 +1,157 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.autoconfigurations.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unchecked")
+class HybridRateLimiterTest {
+  private static final String KEY = "identity:test:GET:8.8.8.8";
+
+  private final BucketConfiguration configuration =
+      BucketConfiguration.builder()
+          .addLimit(Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1))))
+          .build();
+  private final Supplier<BucketConfiguration> supplier = () -> configuration;
+
+  private ProxyManager<String> proxyManager;
+  private BucketProxy bucket;
+
+  @BeforeEach
+  void setUp() {
+    proxyManager = mock(ProxyManager.class);
+    bucket = mock(BucketProxy.class);
+    RemoteBucketBuilder<String> builder = mock(RemoteBucketBuilder.class);
+    when(proxyManager.builder()).thenReturn(builder);
+    when(builder.build(eq(KEY), any(Supplier.class))).thenReturn(bucket);
+  }
+
+  private HybridRateLimiter limiter(double accuracy, boolean failOpen) {
+    var properties = new Bucket4jConfiguration.HybridProperties();
+    properties.setAccuracy(accuracy);
+    properties.setFailOpen(failOpen);
+    return new HybridRateLimiter(proxyManager, properties);
+  }
+
+  @Test
+  void givenLeasedTokens_whenConsuming_thenServesRequestsLocally() {
+    when(bucket.tryConsumeAndReturnRemaining(10)).thenReturn(ConsumptionProbe.consumed(90, 0));
+    var limiter = limiter(0.9, true);
+
+    for (var i = 0; i < 10; i++) assertTrue(limiter.tryConsume(KEY, supplier).consumed());
+
+    verify(bucket, times(1)).tryConsumeAndReturnRemaining(anyLong());
+    assertEquals(99, limiter.tryConsume(KEY, supplier).remainingTokens());
+    verify(bucket, times(2)).tryConsumeAndReturnRemaining(10);
+  }
+
+  @Test
+  void givenFullAccuracy_whenConsuming_thenLeasesSingleToken() {
+    when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(ConsumptionProbe.consumed(99, 0));
+    var limiter = limiter(1.0, true);
+
+    limiter.tryConsume(KEY, supplier);
+    limiter.tryConsume(KEY, supplier);
+
+    verify(bucket, times(2)).tryConsumeAndReturnRemaining(1);
+  }
+
+  @Test
+  void givenPartiallyDrainedBucket_whenConsuming_thenLeasesWhatIsLeft() {
+    when(bucket.tryConsumeAndReturnRemaining(10))
+        .thenReturn(ConsumptionProbe.rejected(3, 1_000, 1_000));
+    when(bucket.tryConsumeAndReturnRemaining(3)).thenReturn(ConsumptionProbe.consumed(0, 1_000));
+    var limiter = limiter(0.9, true);
+
+    var decision = limiter.tryConsume(KEY, supplier);
+
+    assertTrue(decision.consumed());
+    assertEquals(2, decision.remainingTokens());
+  }
+
+  @Test
+  void givenEmptyBucket_whenConsuming_thenRejects() {
+    when(bucket.tryConsumeAndReturnRemaining(10))
+        .thenReturn(ConsumptionProbe.rejected(0, 1_000, 1_000));
+    var limiter = limiter(0.9, true);
+
+    var decision = limiter.tryConsume(KEY, supplier);
+
+    assertFalse(decision.consumed());
+    assertEquals(1_000, decision.nanosToWaitForRefill());
+  }
+
+  @Test
+  void givenUnavailableStore_whenFailOpen_thenAllows() {
+    when(bucket.tryConsumeAndReturnRemaining(anyLong()))
+        .thenThrow(new IllegalStateException("connection refused"));
+
+    assertTrue(limiter(0.9, true).tryConsume(KEY, supplier).consumed());
+  }
+
+  @Test
+  void givenUnavailableStore_whenFailClosed_thenRejects() {
+    when(bucket.tryConsumeAndReturnRemaining(anyLong()))
+        .thenThrow(new IllegalStateException("connection refused"));
+
+    assertFalse(limiter(0.9, false).tryConsume(KEY, supplier).consumed());
+  }
+
+  @Test
+  void givenInvalidAccuracy_whenCreating_thenThrows() {
+    assertThrows(IllegalArgumentException.class, () -> limiter(0, true));
+  }
+}
@@ -0,0 +1,82 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.service.transfer.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.util.Set;
+import lombok.*;
+
+/**
+ * Event message class representing notification about a bulk revocation of authorizations and
+ * consents. A single event is broadcast per revocation batch, so that every instance evicts the
+ * revoked entries from its local caches.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuthorizationsRevokedEvent implements Serializable {
+
+  /** The unique identifier of the tenant whose authorizations were revoked. */
+  @JsonProperty(value = "tenant_id", required = true)
+  private long tenantId;
+
+  /** The registered clients whose authorizations were revoked, or empty for any client. */
+  @Builder.Default
+  @JsonProperty("client_ids")
+  private Set<String> clientIds = Set.of();
+
+  /** The principals whose authorizations were revoked, or empty for any principal. */
+  @Builder.Default
+  @JsonProperty("principal_ids")
+  private Set<String> principalIds = Set.of();
+
+  /**
+   * Checks whether the authorization of a principal for a registered client has been revoked.
+   *
+   * @param clientId the registered client identifier
+   * @param principalId the principal identifier
+   * @return {@code true} if both the client and the principal are covered by this revocation
+   */
+  public boolean covers(String clientId, String principalId) {
+    return (clientIds.isEmpty() || clientIds.contains(clientId))
+        && (principalIds.isEmpty() || principalIds.contains(principalId));
+  }
+}
@@ -139,4 +139,7 @@ public class SaveAuthorizationMessage {
 
   @JsonProperty(value = "id_token_expires_at")
   private ZonedDateTime idTokenExpiresAt;
+
+  @JsonProperty(value = "exchanging_code")
+  private Boolean exchangingCode;
 }
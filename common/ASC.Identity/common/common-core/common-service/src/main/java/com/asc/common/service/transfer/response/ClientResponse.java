@@ -80,7 +80,7 @@ public class ClientResponse implements Serializable {
   @JsonProperty("policy_url")
   private String policyUrl;
 
-  /** The logo of the client. */
+  /** The path of the client logo, served by the client logo endpoint. */
   @JsonProperty("logo")
   private String logo;
 
@@ -0,0 +1,79 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.data.routing;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import javax.sql.DataSource;
+
+/**
+ * Measures how far a read replica is behind its primary.
+ *
+ * <p>{@link ReplicaRoutingDataSource} probes the replica periodically and only routes read-only
+ * transactions to it while the measured lag stays within the configured maximum.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+  /**
+   * Measures the replication lag of the replica.
+   *
+   * @param replica the replica data source
+   * @return the replication lag, or an empty {@link Optional} if the replica is not replicating
+   * @throws SQLException if the replica cannot be reached
+   */
+  Optional<Duration> measure(DataSource replica) throws SQLException;
+
+  /**
+   * Creates a probe reading {@code Seconds_Behind_Source} from {@code SHOW REPLICA STATUS}.
+   *
+   * <p>A replica which reports no replication channel at all, such as a managed reader endpoint
+   * replicating at the storage layer, is considered in sync. A channel reporting no lag has its
+   * replication threads stopped and is considered not replicating.
+   *
+   * @return the MySQL replication lag probe
+   */
+  static ReplicaLagProbe mysql() {
+    return replica -> {
+      try (var connection = replica.getConnection();
+          var statement = connection.createStatement();
+          var status = statement.executeQuery("SHOW REPLICA STATUS")) {
+        if (!status.next()) return Optional.of(Duration.ZERO);
+
+        var seconds = status.getLong("Seconds_Behind_Source");
+        return status.wasNull() ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+      }
+    };
+  }
+}
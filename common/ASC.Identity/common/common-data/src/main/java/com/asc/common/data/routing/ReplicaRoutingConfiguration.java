@@ -0,0 +1,173 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.data.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Configuration class replacing the single primary data source with one routing read-only
+ * transactions to a read replica.
+ *
+ * <p>The primary and the replica get separate HikariCP pools, tuned through {@code
+ * spring.datasource.hikari} and {@code spring.application.datasource.replica.hikari} respectively.
+ * Only the routing data source is a candidate for injection, so JPA, Flyway and the transaction
+ * managers keep using a single {@link DataSource}.
+ *
+ * <p>This configuration is activated when the property {@code
+ * spring.application.datasource.replica.enabled} is set to {@code true}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(
+    prefix = "spring.application.datasource.replica",
+    name = "enabled",
+    havingValue = "true")
+public class ReplicaRoutingConfiguration {
+  private static final String SECURITY_CONTEXT_HOLDER =
+      "org.springframework.security.core.context.SecurityContextHolder";
+
+  /**
+   * Creates the connection pool of the primary from the {@code spring.datasource} properties.
+   *
+   * @param properties the primary data source properties
+   * @return the primary {@link HikariDataSource}
+   */
+  @Bean(defaultCandidate = false)
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  /**
+   * Creates the connection pool of the replica. The replica shares the driver of the primary.
+   *
+   * @param primaryProperties the primary data source properties
+   * @param properties the replica routing properties
+   * @return the replica {@link HikariDataSource}
+   */
+  @Bean(defaultCandidate = false)
+  @ConfigurationProperties(prefix = "spring.application.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties primaryProperties, ReplicaRoutingProperties properties) {
+    var dataSource =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(primaryProperties.determineDriverClassName())
+            .url(properties.getUrl())
+            .username(properties.getUsername())
+            .password(properties.getPassword())
+            .build();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  /**
+   * Creates the data source routing between the primary and the replica pools. Sessions are
+   * identified by the authenticated principal when Spring Security is available.
+   *
+   * @param primary the primary connection pool
+   * @param replica the replica connection pool
+   * @param properties the replica routing properties
+   * @return the {@link ReplicaRoutingDataSource}
+   */
+  @Bean(defaultCandidate = false)
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ReplicaRoutingProperties properties) {
+    return new ReplicaRoutingDataSource(
+        primary, replica, properties, ReplicaLagProbe.mysql(), sessionKey());
+  }
+
+  /**
+   * Exposes the routing data source as the application's data source, deferring the routing
+   * decision until the transaction has been set up.
+   *
+   * @param routingDataSource the routing data source
+   * @return the primary {@link DataSource}
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  /**
+   * Creates the supplier of the key identifying the current session, which is the authenticated
+   * principal when Spring Security is on the classpath.
+   *
+   * @return the session key supplier, returning {@code null} when there is no authenticated session
+   */
+  private static Supplier<String> sessionKey() {
+    if (!ClassUtils.isPresent(
+        SECURITY_CONTEXT_HOLDER, ReplicaRoutingConfiguration.class.getClassLoader()))
+      return () -> null;
+    return AuthenticatedSession::key;
+  }
+
+  /** Resolves the session key from the Spring Security context, kept apart to load lazily. */
+  private static final class AuthenticatedSession {
+    /**
+     * Resolves the key of the authenticated principal.
+     *
+     * @return the session key, or {@code null} if the request is anonymous
+     */
+    private static String key() {
+      var authentication = SecurityContextHolder.getContext().getAuthentication();
+      if (authentication == null
+          || !authentication.isAuthenticated()
+          || authentication instanceof AnonymousAuthenticationToken) return null;
+      return "principal:" + authentication.getName();
+    }
+  }
+}
@@ -0,0 +1,231 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.data.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing data source sending read-only transactions to a read replica and everything else to the
+ * primary.
+ *
+ * <p>A connection is routed to the replica only when all of the following hold:
+ *
+ * <ul>
+ *   <li>it is obtained within a {@code @Transactional(readOnly = true)} transaction;
+ *   <li>the last replication lag check succeeded and measured a lag within the configured maximum;
+ *   <li>the current session has not committed a read-write transaction within the stickiness
+ *       window, so that it reads its own writes.
+ * </ul>
+ *
+ * <p>The session is identified by the supplied key, falling back to the current thread when there
+ * is none. The routing decision relies on the transaction being already marked as read-only when
+ * the connection is obtained, so the data source has to be wrapped in a {@link
+ * LazyConnectionDataSourceProxy}, which defers obtaining the connection to the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+  /** The lookup keys of the target data sources. */
+  enum Target {
+    PRIMARY,
+    REPLICA
+  }
+
+  private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+  private final DataSource replica;
+  private final ReplicaRoutingProperties properties;
+  private final ReplicaLagProbe lagProbe;
+  private final Supplier<String> sessionKey;
+  private final Clock clock;
+
+  private volatile boolean replicaAvailable;
+  private ScheduledExecutorService lagChecker;
+
+  /**
+   * Creates a routing data source.
+   *
+   * @param primary the primary data source
+   * @param replica the replica data source
+   * @param properties the replica routing properties
+   * @param lagProbe the probe measuring the replication lag
+   * @param sessionKey supplies the key of the current session, or {@code null} if there is none
+   */
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaRoutingProperties properties,
+      ReplicaLagProbe lagProbe,
+      Supplier<String> sessionKey) {
+    this(primary, replica, properties, lagProbe, sessionKey, Clock.systemUTC());
+  }
+
+  ReplicaRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaRoutingProperties properties,
+      ReplicaLagProbe lagProbe,
+      Supplier<String> sessionKey,
+      Clock clock) {
+    this.replica = replica;
+    this.properties = properties;
+    this.lagProbe = lagProbe;
+    this.sessionKey = sessionKey;
+    this.clock = clock;
+    setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  /**
+   * Resolves the target data sources and starts checking the replication lag periodically. Until
+   * the first check succeeds, every transaction is routed to the primary.
+   */
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    lagChecker =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-checker").daemon().factory());
+    lagChecker.scheduleWithFixedDelay(
+        this::checkReplica, 0, properties.getLagCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** Stops checking the replication lag. */
+  @Override
+  public void destroy() {
+    if (lagChecker != null) lagChecker.shutdownNow();
+  }
+
+  /**
+   * Determines the data source of the connection being obtained.
+   *
+   * <p>Read-write transactions go to the primary and register a synchronization recording the write
+   * of the session once the transaction commits.
+   *
+   * @return the {@link Target} of the connection
+   */
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (TransactionSynchronizationManager.isSynchronizationActive()) recordWriteOnCommit();
+      return Target.PRIMARY;
+    }
+
+    if (!replicaAvailable) return Target.PRIMARY;
+
+    var lastWrite = lastWrites.get(currentSession());
+    if (lastWrite != null && isWithinStickiness(lastWrite, clock.instant())) return Target.PRIMARY;
+
+    return Target.REPLICA;
+  }
+
+  /**
+   * Measures the replication lag and decides whether the replica may serve read-only transactions.
+   * Writes which left the stickiness window are forgotten along the way.
+   */
+  void checkReplica() {
+    boolean available;
+    try {
+      var maxLag = properties.getMaxLag();
+      var lag = lagProbe.measure(replica);
+      available = lag.filter(l -> l.compareTo(maxLag) <= 0).isPresent();
+      if (!available && replicaAvailable)
+        log.warn(
+            "Replica lag {} exceeds {}, routing read-only transactions to the primary",
+            lag.map(Duration::toString).orElse("unknown"),
+            maxLag);
+    } catch (Exception e) {
+      available = false;
+      if (replicaAvailable)
+        log.warn("Replica is unreachable, routing read-only transactions to the primary", e);
+    }
+
+    if (available && !replicaAvailable)
+      log.info("Replica is in sync, routing read-only transactions to the replica");
+    replicaAvailable = available;
+
+    var now = clock.instant();
+    lastWrites.values().removeIf(lastWrite -> !isWithinStickiness(lastWrite, now));
+  }
+
+  /**
+   * Records the current session as having written once its transaction commits, so that it keeps
+   * reading from the primary for the stickiness window.
+   */
+  private void recordWriteOnCommit() {
+    var session = currentSession();
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            lastWrites.put(session, clock.instant());
+          }
+        });
+  }
+
+  /**
+   * Checks whether a write is recent enough for its session to keep reading from the primary.
+   *
+   * @param lastWrite the time of the last committed write
+   * @param now the current time
+   * @return {@code true} if the write is within the stickiness window
+   */
+  private boolean isWithinStickiness(Instant lastWrite, Instant now) {
+    return lastWrite.plus(properties.getStickiness()).isAfter(now);
+  }
+
+  /**
+   * Resolves the key of the current session, falling back to the current thread when there is no
+   * authenticated session.
+   *
+   * @return the session key
+   */
+  private String currentSession() {
+    var key = sessionKey.get();
+    return key != null ? key : "thread:" + Thread.currentThread().threadId();
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.data.routing;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for routing read-only transactions to a MySQL read replica.
+ *
+ * <p>The properties are loaded from the application's configuration file using the prefix {@code
+ * spring.application.datasource.replica}. The replica connection pool itself is tuned through the
+ * nested {@code hikari} properties, the same way {@code spring.datasource.hikari} tunes the primary
+ * pool.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.application.datasource.replica")
+public class ReplicaRoutingProperties {
+  /**
+   * Whether read-only transactions are routed to the replica.
+   *
+   * <p>When disabled, a single primary data source is configured by Spring Boot as before. The
+   * default value is {@code false}.
+   */
+  private boolean enabled = false;
+
+  /** The JDBC URL of the replica. */
+  private String url;
+
+  /** The login username of the replica. */
+  private String username;
+
+  /** The login password of the replica. */
+  private String password;
+
+  /**
+   * The maximum replication lag tolerated before read-only transactions fall back to the primary.
+   *
+   * <p>The default value is 5 seconds.
+   */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  /**
+   * The interval between two replication lag checks.
+   *
+   * <p>The default value is 5 seconds.
+   */
+  private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+  /**
+   * How long read-only transactions of a session keep reading from the primary after the session
+   * wrote, so that it reads its own writes.
+   *
+   * <p>The default value is 5 seconds.
+   */
+  private Duration stickiness = Duration.ofSeconds(5);
+}
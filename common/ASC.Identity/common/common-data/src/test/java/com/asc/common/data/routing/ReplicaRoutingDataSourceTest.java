@@ -0,0 +1,141 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.data.routing;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  @Mock private DataSource primary;
+  @Mock private DataSource replica;
+  @Mock private Connection primaryConnection;
+  @Mock private Connection replicaConnection;
+  @Mock private Clock clock;
+
+  private final AtomicReference<Optional<Duration>> lag =
+      new AtomicReference<>(Optional.of(Duration.ZERO));
+  private ReplicaRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+    lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+    when(clock.instant()).thenReturn(NOW);
+
+    var properties = new ReplicaRoutingProperties();
+    properties.setMaxLag(Duration.ofSeconds(5));
+    properties.setStickiness(Duration.ofSeconds(5));
+
+    dataSource =
+        new ReplicaRoutingDataSource(
+            primary, replica, properties, r -> lag.get(), () -> "principal:user", clock);
+    dataSource.initialize();
+    dataSource.checkReplica();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive())
+      TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void givenReplicaInSync_whenObtainingConnections_thenRoutesOnlyReadOnlyTransactionsToReplica()
+      throws SQLException {
+    assertSame(primaryConnection, dataSource.getConnection());
+    assertSame(replicaConnection, readOnly());
+  }
+
+  @Test
+  void givenReplicaLaggingOrUnreachable_whenReadingOnly_thenRoutesToPrimary() throws SQLException {
+    lag.set(Optional.of(Duration.ofSeconds(6)));
+    dataSource.checkReplica();
+    assertSame(primaryConnection, readOnly());
+
+    lag.set(Optional.empty());
+    dataSource.checkReplica();
+    assertSame(primaryConnection, readOnly());
+
+    lag.set(Optional.of(Duration.ofSeconds(1)));
+    dataSource.checkReplica();
+    assertSame(replicaConnection, readOnly());
+  }
+
+  @Test
+  void givenCommittedWrite_whenReadingOnlyWithinStickiness_thenRoutesToPrimary()
+      throws SQLException {
+    TransactionSynchronizationManager.initSynchronization();
+    assertSame(primaryConnection, dataSource.getConnection());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    TransactionSynchronizationManager.clearSynchronization();
+
+    when(clock.instant()).thenReturn(NOW.plusSeconds(4));
+    assertSame(primaryConnection, readOnly());
+
+    when(clock.instant()).thenReturn(NOW.plusSeconds(5));
+    assertSame(replicaConnection, readOnly());
+  }
+
+  private Connection readOnly() throws SQLException {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    try {
+      return dataSource.getConnection();
+    } finally {
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+  }
+}
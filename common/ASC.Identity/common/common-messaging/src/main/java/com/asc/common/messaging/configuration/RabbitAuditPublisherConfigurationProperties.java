@@ -0,0 +1,68 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for batched audit message publishing.
+ *
+ * <p>Audit messages are buffered and published as a single batch message every {@code batchSize}
+ * messages or {@code batchWindow}, whichever comes first. The properties are loaded from the
+ * application's configuration file using the prefix {@code spring.cloud.messaging.rabbitmq.audit}.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "spring.cloud.messaging.rabbitmq.audit")
+public class RabbitAuditPublisherConfigurationProperties {
+  /** The number of buffered audit messages that triggers publishing a batch. */
+  private int batchSize = 100;
+
+  /** How long audit messages are buffered at most before being published. */
+  private Duration batchWindow = Duration.ofMillis(200);
+
+  /** The maximum number of buffered audit messages; further messages are dropped. */
+  private int bufferCapacity = 10_000;
+
+  /** How long to wait for the broker to confirm a batch before publishing it again. */
+  private Duration confirmTimeout = Duration.ofSeconds(5);
+
+  /** The maximum number of attempts to publish a batch. */
+  private int maxAttempts = 3;
+}
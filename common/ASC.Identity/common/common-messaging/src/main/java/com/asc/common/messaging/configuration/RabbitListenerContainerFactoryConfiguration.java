@@ -33,6 +33,8 @@
 
 package com.asc.common.messaging.configuration;
 
+import com.asc.common.messaging.converter.ProtobufMessageConverter;
+import com.asc.common.messaging.converter.RpcMessageConverter;
 import com.asc.common.service.transfer.message.*;
 import java.util.Map;
 import lombok.Getter;
@@ -73,29 +75,42 @@ public class RabbitListenerContainerFactoryConfiguration {
   private int batchSize = 20;
 
   /**
-   * Bean for creating and configuring a Jackson2JsonMessageConverter instance.
+   * Bean for creating and configuring the message converter. Messages are encoded with JSON, while
+   * cross-region RPC messages may also be encoded with protobuf, see {@link RpcMessageConverter}.
    *
-   * @return a configured Jackson2JsonMessageConverter instance
+   * @return a configured {@link RpcMessageConverter} instance
    */
   @Bean
-  public MessageConverter jsonMessageConverter() {
-    log.info("Building a json message converter");
+  public MessageConverter messageConverter() {
+    log.info("Building a json and protobuf message converter");
+    return new RpcMessageConverter(jsonMessageConverter(), new ProtobufMessageConverter());
+  }
 
+  /**
+   * Creates and configures a JacksonJsonMessageConverter instance.
+   *
+   * @return a configured JacksonJsonMessageConverter instance
+   */
+  private MessageConverter jsonMessageConverter() {
     var messageConverter = new JacksonJsonMessageConverter(JsonMapper.builder().build());
     var classMapper = new DefaultJacksonJavaTypeMapper();
     classMapper.setTrustedPackages("*");
     classMapper.setIdClassMapping(
-        Map.of(
-            "audit", AuditMessage.class,
-            "clientRemoved", ClientRemovedEvent.class,
-            "clientCacheRemove", ClientCacheRemoveEvent.class,
-            "clientCacheTenantRemove", ClientCacheTenantRemoveEvent.class,
-            "retrieveAuthorization", RetrieveAuthorizationMessage.class,
-            "saveAuthorization", SaveAuthorizationMessage.class,
-            "retrieveClient", RetrieveClientMessage.class,
-            "clientRetrieved", ClientRetrievedEvent.class,
-            "tenantClientsRemoved", TenantClientsRemovedEvent.class,
-            "userClientsRemoved", UserClientsRemovedEvent.class));
+        Map.ofEntries(
+            Map.entry("audit", AuditMessage.class),
+            Map.entry("clientRemoved", ClientRemovedEvent.class),
+            Map.entry("clientCacheRemove", ClientCacheRemoveEvent.class),
+            Map.entry("clientCacheTenantRemove", ClientCacheTenantRemoveEvent.class),
+            Map.entry("consentChanged", ConsentChangedEvent.class),
+            Map.entry("retrieveAuthorization", RetrieveAuthorizationMessage.class),
+            Map.entry("retrieveAuthorizations", RetrieveAuthorizationsMessage.class),
+            Map.entry("saveAuthorization", SaveAuthorizationMessage.class),
+            Map.entry("retrieveClient", RetrieveClientMessage.class),
+            Map.entry("retrieveClients", RetrieveClientsMessage.class),
+            Map.entry("clientRetrieved", ClientRetrievedEvent.class),
+            Map.entry("clientsRetrieved", ClientsRetrievedEvent.class),
+            Map.entry("tenantClientsRemoved", TenantClientsRemovedEvent.class),
+            Map.entry("userClientsRemoved", UserClientsRemovedEvent.class)));
     messageConverter.setClassMapper(classMapper);
     messageConverter.setTypePrecedence(JacksonJavaTypeMapper.TypePrecedence.TYPE_ID);
     return messageConverter;
@@ -176,7 +191,8 @@ public class RabbitListenerContainerFactoryConfiguration {
   /**
    * Configures a {@link SimpleRabbitListenerContainerFactory} bean optimized for RPC workloads.
    * Uses higher prefetch count for better throughput with auto-acknowledgment (sufficient for RPC
-   * since we wait for response). Supports direct reply-to pattern for reduced latency.
+   * since we wait for response). Supports direct reply-to pattern for reduced latency. Replies are
+   * encoded in the wire format of the request.
    *
    * @param connectionFactory the RabbitMQ {@link ConnectionFactory} to be used for establishing
    *     connections.
@@ -195,6 +211,7 @@ public class RabbitListenerContainerFactoryConfiguration {
     factory.setConcurrentConsumers(4);
     factory.setMaxConcurrentConsumers(16);
     factory.setPrefetchCount(20);
+    factory.setAdviceChain(RpcMessageConverter.replyFormatInterceptor());
     return factory;
   }
 
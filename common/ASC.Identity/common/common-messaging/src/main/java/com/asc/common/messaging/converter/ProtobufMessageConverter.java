@@ -0,0 +1,222 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.converter;
+
+import com.asc.common.messaging.mapper.RabbitRpcProtobufMapper;
+import com.asc.common.messaging.proto.ClientRetrieved;
+import com.asc.common.messaging.proto.ClientsRetrieved;
+import com.asc.common.messaging.proto.KeyPairRetrieved;
+import com.asc.common.messaging.proto.RetrieveAuthorizationRequest;
+import com.asc.common.messaging.proto.RetrieveAuthorizationsRequest;
+import com.asc.common.messaging.proto.RetrieveClientRequest;
+import com.asc.common.messaging.proto.RetrieveClientsRequest;
+import com.asc.common.messaging.proto.RetrieveKeyPairRequest;
+import com.asc.common.messaging.proto.SaveAuthorizationRequest;
+import com.asc.common.service.transfer.message.ClientRetrievedEvent;
+import com.asc.common.service.transfer.message.ClientsRetrievedEvent;
+import com.asc.common.service.transfer.message.KeyPairRetrievedEvent;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationMessage;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationsMessage;
+import com.asc.common.service.transfer.message.RetrieveClientMessage;
+import com.asc.common.service.transfer.message.RetrieveClientsMessage;
+import com.asc.common.service.transfer.message.RetrieveKeyPairMessage;
+import com.asc.common.service.transfer.message.SaveAuthorizationMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Message converter encoding cross-region RPC messages with protobuf.
+ *
+ * <p>Only the message types with a protobuf schema are supported, see {@link #supports(Class)}.
+ * Converted messages carry the {@value #CONTENT_TYPE} content type and the same {@code __TypeId__}
+ * header values as their JSON counterparts, which select the type to decode.
+ */
+public class ProtobufMessageConverter implements MessageConverter {
+  /** The content type of protobuf encoded messages. */
+  public static final String CONTENT_TYPE = "application/x-protobuf";
+
+  private static final String TYPE_ID_HEADER = "__TypeId__";
+
+  private final Map<Class<?>, Codec<?>> codecsByType = new HashMap<>();
+  private final Map<String, Codec<?>> codecsByTypeId = new HashMap<>();
+
+  /** Constructs a new {@link ProtobufMessageConverter} supporting every RPC message type. */
+  public ProtobufMessageConverter() {
+    var mapper = new RabbitRpcProtobufMapper();
+    register(
+        "retrieveAuthorization",
+        RetrieveAuthorizationMessage.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(RetrieveAuthorizationRequest.parseFrom(bytes)));
+    register(
+        "retrieveAuthorizations",
+        RetrieveAuthorizationsMessage.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(RetrieveAuthorizationsRequest.parseFrom(bytes)));
+    register(
+        "saveAuthorization",
+        SaveAuthorizationMessage.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(SaveAuthorizationRequest.parseFrom(bytes)));
+    register(
+        "retrieveClient",
+        RetrieveClientMessage.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(RetrieveClientRequest.parseFrom(bytes)));
+    register(
+        "retrieveClients",
+        RetrieveClientsMessage.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(RetrieveClientsRequest.parseFrom(bytes)));
+    register(
+        "retrieveKeyPair",
+        RetrieveKeyPairMessage.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(RetrieveKeyPairRequest.parseFrom(bytes)));
+    register(
+        "clientRetrieved",
+        ClientRetrievedEvent.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(ClientRetrieved.parseFrom(bytes)));
+    register(
+        "clientsRetrieved",
+        ClientsRetrievedEvent.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(ClientsRetrieved.parseFrom(bytes)));
+    register(
+        "keyPairRetrieved",
+        KeyPairRetrievedEvent.class,
+        mapper::toProto,
+        bytes -> mapper.fromProto(KeyPairRetrieved.parseFrom(bytes)));
+  }
+
+  /**
+   * Checks whether objects of the given type can be encoded with protobuf.
+   *
+   * @param type the type of the object
+   * @return {@code true} if the type has a protobuf schema
+   */
+  public boolean supports(Class<?> type) {
+    return codecsByType.containsKey(type);
+  }
+
+  /**
+   * Encodes an RPC message with protobuf.
+   *
+   * @param object the RPC message
+   * @param messageProperties the properties of the resulting message
+   * @return the protobuf encoded {@link Message}
+   * @throws MessageConversionException if the type of the object has no protobuf schema
+   */
+  public Message toMessage(Object object, MessageProperties messageProperties) {
+    var codec = codecsByType.get(object.getClass());
+    if (codec == null)
+      throw new MessageConversionException("No protobuf schema for " + object.getClass().getName());
+
+    var body = codec.encode(object);
+    messageProperties.setContentType(CONTENT_TYPE);
+    messageProperties.setContentLength(body.length);
+    messageProperties.setHeader(TYPE_ID_HEADER, codec.typeId());
+    return new Message(body, messageProperties);
+  }
+
+  /**
+   * Decodes a protobuf encoded RPC message.
+   *
+   * @param message the message
+   * @return the RPC message
+   * @throws MessageConversionException if the type is unknown or the body is malformed
+   */
+  public Object fromMessage(Message message) {
+    var typeId = message.getMessageProperties().getHeader(TYPE_ID_HEADER);
+    var codec = typeId instanceof String id ? codecsByTypeId.get(id) : null;
+    if (codec == null)
+      throw new MessageConversionException("No protobuf schema for type id " + typeId);
+
+    try {
+      return codec.decoder().decode(message.getBody());
+    } catch (InvalidProtocolBufferException e) {
+      throw new MessageConversionException("Could not decode a protobuf message", e);
+    }
+  }
+
+  /**
+   * Registers the protobuf mapping of an RPC message type.
+   *
+   * @param typeId the type identifier shared with the JSON converter
+   * @param type the RPC message type
+   * @param encoder maps the RPC message to its protobuf representation
+   * @param decoder parses and maps the protobuf representation back
+   * @param <T> the RPC message type
+   */
+  private <T> void register(
+      String typeId, Class<T> type, Function<T, MessageLite> encoder, Decoder<T> decoder) {
+    var codec = new Codec<>(typeId, type, encoder, decoder);
+    codecsByType.put(type, codec);
+    codecsByTypeId.put(typeId, codec);
+  }
+
+  /**
+   * Parses protobuf encoded bytes into an RPC message.
+   *
+   * @param <T> the RPC message type
+   */
+  @FunctionalInterface
+  private interface Decoder<T> {
+    T decode(byte[] bytes) throws InvalidProtocolBufferException;
+  }
+
+  /**
+   * Protobuf mapping of an RPC message type.
+   *
+   * @param typeId the type identifier
+   * @param type the RPC message type
+   * @param encoder maps the RPC message to its protobuf representation
+   * @param decoder parses and maps the protobuf representation back
+   * @param <T> the RPC message type
+   */
+  private record Codec<T>(
+      String typeId, Class<T> type, Function<T, MessageLite> encoder, Decoder<T> decoder) {
+    byte[] encode(Object object) {
+      return encoder.apply(type.cast(object)).toByteArray();
+    }
+  }
+}
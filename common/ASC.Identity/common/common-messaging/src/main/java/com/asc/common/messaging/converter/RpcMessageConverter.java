@@ -0,0 +1,126 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.converter;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Message converter selecting the wire format of a message by its content type.
+ *
+ * <p>Incoming messages are decoded with protobuf when they carry the {@value
+ * ProtobufMessageConverter#CONTENT_TYPE} content type and with JSON otherwise, so messages sent by
+ * nodes that only speak JSON keep being understood. Outgoing messages are encoded with protobuf
+ * when the given properties ask for it and the type has a protobuf schema, and with JSON otherwise.
+ *
+ * <p>Replies of RPC listeners are encoded in the format of the request they answer. The listener
+ * container applies {@link #replyFormatInterceptor()}, which records the format of the request
+ * being handled for the reply conversion on the same thread.
+ */
+public class RpcMessageConverter implements MessageConverter {
+  private static final ThreadLocal<String> REPLY_CONTENT_TYPE = new ThreadLocal<>();
+
+  private final MessageConverter jsonConverter;
+  private final ProtobufMessageConverter protobufConverter;
+
+  /**
+   * Constructs a new {@link RpcMessageConverter}.
+   *
+   * @param jsonConverter the converter used for JSON messages and types without a protobuf schema
+   * @param protobufConverter the converter used for protobuf messages
+   */
+  public RpcMessageConverter(
+      MessageConverter jsonConverter, ProtobufMessageConverter protobufConverter) {
+    this.jsonConverter = jsonConverter;
+    this.protobufConverter = protobufConverter;
+  }
+
+  /**
+   * Converts an object to a message in the requested wire format.
+   *
+   * @param object the object to convert
+   * @param messageProperties the properties of the resulting message; a {@value
+   *     ProtobufMessageConverter#CONTENT_TYPE} content type requests protobuf
+   * @return the converted {@link Message}
+   * @throws MessageConversionException if the object cannot be converted
+   */
+  public Message toMessage(Object object, MessageProperties messageProperties) {
+    var protobuf =
+        ProtobufMessageConverter.CONTENT_TYPE.equals(messageProperties.getContentType())
+            || ProtobufMessageConverter.CONTENT_TYPE.equals(REPLY_CONTENT_TYPE.get());
+    if (protobuf && protobufConverter.supports(object.getClass()))
+      return protobufConverter.toMessage(object, messageProperties);
+
+    if (protobuf) messageProperties.setContentType(MessageProperties.DEFAULT_CONTENT_TYPE);
+    return jsonConverter.toMessage(object, messageProperties);
+  }
+
+  /**
+   * Converts a message to an object according to its content type.
+   *
+   * @param message the message to convert
+   * @return the converted object
+   * @throws MessageConversionException if the message cannot be converted
+   */
+  public Object fromMessage(Message message) {
+    if (ProtobufMessageConverter.CONTENT_TYPE.equals(
+        message.getMessageProperties().getContentType()))
+      return protobufConverter.fromMessage(message);
+    return jsonConverter.fromMessage(message);
+  }
+
+  /**
+   * Creates the listener advice encoding the replies of a listener in the format of the request.
+   *
+   * @return the {@link MethodInterceptor} to add to the advice chain of the listener container
+   */
+  public static MethodInterceptor replyFormatInterceptor() {
+    return invocation -> {
+      var contentType =
+          invocation.getArguments().length > 1
+                  && invocation.getArguments()[1] instanceof Message message
+              ? message.getMessageProperties().getContentType()
+              : null;
+      REPLY_CONTENT_TYPE.set(contentType);
+      try {
+        return invocation.proceed();
+      } finally {
+        REPLY_CONTENT_TYPE.remove();
+      }
+    };
+  }
+}
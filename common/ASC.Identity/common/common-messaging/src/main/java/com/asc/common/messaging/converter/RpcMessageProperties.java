@@ -0,0 +1,71 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.converter;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties selecting the wire format of cross-region RPC requests.
+ *
+ * <p>RPC requests are sent as JSON unless the RPC queue of the target region is listed in {@code
+ * spring.cloud.messaging.rabbitmq.protobuf.regions}, in which case message types with a protobuf
+ * schema are sent with protobuf. A region should only be listed once all of its nodes understand
+ * protobuf; replies always use the format of the request.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "spring.cloud.messaging.rabbitmq.protobuf")
+public class RpcMessageProperties {
+  /** The regions whose RPC queues accept protobuf encoded requests. */
+  private Set<String> regions = Set.of();
+
+  /**
+   * Creates the properties of an RPC request sent to the given region.
+   *
+   * @param region the target region
+   * @return the {@link MessageProperties} requesting the wire format of the region
+   */
+  public MessageProperties forRegion(String region) {
+    var messageProperties = new MessageProperties();
+    if (region != null && regions.stream().anyMatch(region::equalsIgnoreCase))
+      messageProperties.setContentType(ProtobufMessageConverter.CONTENT_TYPE);
+    return messageProperties;
+  }
+}
@@ -0,0 +1,414 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.mapper;
+
+import com.asc.common.messaging.proto.ClientRetrieved;
+import com.asc.common.messaging.proto.ClientsRetrieved;
+import com.asc.common.messaging.proto.KeyPairRetrieved;
+import com.asc.common.messaging.proto.RetrieveAuthorizationRequest;
+import com.asc.common.messaging.proto.RetrieveAuthorizationsRequest;
+import com.asc.common.messaging.proto.RetrieveClientRequest;
+import com.asc.common.messaging.proto.RetrieveClientsRequest;
+import com.asc.common.messaging.proto.RetrieveKeyPairRequest;
+import com.asc.common.messaging.proto.SaveAuthorizationRequest;
+import com.asc.common.service.transfer.message.ClientRetrievedEvent;
+import com.asc.common.service.transfer.message.ClientsRetrievedEvent;
+import com.asc.common.service.transfer.message.KeyPairRetrievedEvent;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationMessage;
+import com.asc.common.service.transfer.message.RetrieveAuthorizationsMessage;
+import com.asc.common.service.transfer.message.RetrieveClientMessage;
+import com.asc.common.service.transfer.message.RetrieveClientsMessage;
+import com.asc.common.service.transfer.message.RetrieveKeyPairMessage;
+import com.asc.common.service.transfer.message.SaveAuthorizationMessage;
+import com.google.protobuf.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Mapper class for converting cross-region RPC messages to and from their protobuf representations.
+ *
+ * <p>Absent values are left unset in the protobuf messages and mapped back to {@code null}.
+ * Timestamps are carried as {@link Timestamp}s and mapped back in UTC.
+ */
+public class RabbitRpcProtobufMapper {
+
+  /**
+   * Converts a {@link RetrieveAuthorizationMessage} to its protobuf representation.
+   *
+   * @param message the message
+   * @return the protobuf message
+   */
+  public RetrieveAuthorizationRequest toProto(RetrieveAuthorizationMessage message) {
+    var builder = RetrieveAuthorizationRequest.newBuilder();
+    set(message.getToken(), builder::setToken);
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link RetrieveAuthorizationMessage}.
+   *
+   * @param proto the protobuf message
+   * @return the message
+   */
+  public RetrieveAuthorizationMessage fromProto(RetrieveAuthorizationRequest proto) {
+    return RetrieveAuthorizationMessage.builder().token(proto.getToken()).build();
+  }
+
+  /**
+   * Converts a {@link RetrieveAuthorizationsMessage} to its protobuf representation.
+   *
+   * @param message the message
+   * @return the protobuf message
+   */
+  public RetrieveAuthorizationsRequest toProto(RetrieveAuthorizationsMessage message) {
+    var builder = RetrieveAuthorizationsRequest.newBuilder();
+    if (message.getTokens() != null) builder.addAllTokens(message.getTokens());
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link RetrieveAuthorizationsMessage}.
+   *
+   * @param proto the protobuf message
+   * @return the message
+   */
+  public RetrieveAuthorizationsMessage fromProto(RetrieveAuthorizationsRequest proto) {
+    return RetrieveAuthorizationsMessage.builder()
+        .tokens(List.copyOf(proto.getTokensList()))
+        .build();
+  }
+
+  /**
+   * Converts a {@link SaveAuthorizationMessage} to its protobuf representation.
+   *
+   * @param message the message
+   * @return the protobuf message
+   */
+  public SaveAuthorizationRequest toProto(SaveAuthorizationMessage message) {
+    var builder = SaveAuthorizationRequest.newBuilder();
+    set(message.getId(), builder::setId);
+    set(message.getRegisteredClientId(), builder::setRegisteredClientId);
+    set(message.getPrincipalId(), builder::setPrincipalId);
+    set(message.getTenantId(), builder::setTenantId);
+    set(message.getState(), builder::setState);
+    set(message.getAttributes(), builder::setAttributes);
+    set(message.getAuthorizationGrantType(), builder::setAuthorizationGrantType);
+    set(message.getAuthorizedScopes(), builder::setAuthorizedScopes);
+    set(message.getAuthorizationCodeValue(), builder::setAuthorizationCodeValue);
+    set(message.getAuthorizationCodeMetadata(), builder::setAuthorizationCodeMetadata);
+    setTimestamp(message.getAuthorizationCodeIssuedAt(), builder::setAuthorizationCodeIssuedAt);
+    setTimestamp(message.getAuthorizationCodeExpiresAt(), builder::setAuthorizationCodeExpiresAt);
+    set(message.getAccessTokenType(), builder::setAccessTokenType);
+    set(message.getAccessTokenValue(), builder::setAccessTokenValue);
+    set(message.getAccessTokenHash(), builder::setAccessTokenHash);
+    set(message.getAccessTokenScopes(), builder::setAccessTokenScopes);
+    set(message.getAccessTokenMetadata(), builder::setAccessTokenMetadata);
+    setTimestamp(message.getAccessTokenIssuedAt(), builder::setAccessTokenIssuedAt);
+    setTimestamp(message.getAccessTokenExpiresAt(), builder::setAccessTokenExpiresAt);
+    set(message.getRefreshTokenValue(), builder::setRefreshTokenValue);
+    set(message.getRefreshTokenHash(), builder::setRefreshTokenHash);
+    set(message.getRefreshTokenMetadata(), builder::setRefreshTokenMetadata);
+    setTimestamp(message.getRefreshTokenIssuedAt(), builder::setRefreshTokenIssuedAt);
+    setTimestamp(message.getRefreshTokenExpiresAt(), builder::setRefreshTokenExpiresAt);
+    set(message.getIdTokenValue(), builder::setIdTokenValue);
+    set(message.getIdTokenClaims(), builder::setIdTokenClaims);
+    set(message.getIdTokenMetadata(), builder::setIdTokenMetadata);
+    setTimestamp(message.getIdTokenIssuedAt(), builder::setIdTokenIssuedAt);
+    setTimestamp(message.getIdTokenExpiresAt(), builder::setIdTokenExpiresAt);
+    set(message.getExchangingCode(), builder::setExchangingCode);
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link SaveAuthorizationMessage}.
+   *
+   * @param proto the protobuf message
+   * @return the message
+   */
+  public SaveAuthorizationMessage fromProto(SaveAuthorizationRequest proto) {
+    return SaveAuthorizationMessage.builder()
+        .id(proto.hasId() ? proto.getId() : null)
+        .registeredClientId(proto.getRegisteredClientId())
+        .principalId(proto.getPrincipalId())
+        .tenantId(proto.hasTenantId() ? proto.getTenantId() : null)
+        .state(proto.hasState() ? proto.getState() : null)
+        .attributes(proto.hasAttributes() ? proto.getAttributes() : null)
+        .authorizationGrantType(proto.getAuthorizationGrantType())
+        .authorizedScopes(proto.hasAuthorizedScopes() ? proto.getAuthorizedScopes() : null)
+        .authorizationCodeValue(
+            proto.hasAuthorizationCodeValue() ? proto.getAuthorizationCodeValue() : null)
+        .authorizationCodeMetadata(
+            proto.hasAuthorizationCodeMetadata() ? proto.getAuthorizationCodeMetadata() : null)
+        .authorizationCodeIssuedAt(
+            proto.hasAuthorizationCodeIssuedAt()
+                ? toDateTime(proto.getAuthorizationCodeIssuedAt())
+                : null)
+        .authorizationCodeExpiresAt(
+            proto.hasAuthorizationCodeExpiresAt()
+                ? toDateTime(proto.getAuthorizationCodeExpiresAt())
+                : null)
+        .accessTokenType(proto.hasAccessTokenType() ? proto.getAccessTokenType() : null)
+        .accessTokenValue(proto.hasAccessTokenValue() ? proto.getAccessTokenValue() : null)
+        .accessTokenHash(proto.hasAccessTokenHash() ? proto.getAccessTokenHash() : null)
+        .accessTokenScopes(proto.hasAccessTokenScopes() ? proto.getAccessTokenScopes() : null)
+        .accessTokenMetadata(proto.hasAccessTokenMetadata() ? proto.getAccessTokenMetadata() : null)
+        .accessTokenIssuedAt(
+            proto.hasAccessTokenIssuedAt() ? toDateTime(proto.getAccessTokenIssuedAt()) : null)
+        .accessTokenExpiresAt(
+            proto.hasAccessTokenExpiresAt() ? toDateTime(proto.getAccessTokenExpiresAt()) : null)
+        .refreshTokenValue(proto.hasRefreshTokenValue() ? proto.getRefreshTokenValue() : null)
+        .refreshTokenHash(proto.hasRefreshTokenHash() ? proto.getRefreshTokenHash() : null)
+        .refreshTokenMetadata(
+            proto.hasRefreshTokenMetadata() ? proto.getRefreshTokenMetadata() : null)
+        .refreshTokenIssuedAt(
+            proto.hasRefreshTokenIssuedAt() ? toDateTime(proto.getRefreshTokenIssuedAt()) : null)
+        .refreshTokenExpiresAt(
+            proto.hasRefreshTokenExpiresAt() ? toDateTime(proto.getRefreshTokenExpiresAt()) : null)
+        .idTokenValue(proto.hasIdTokenValue() ? proto.getIdTokenValue() : null)
+        .idTokenClaims(proto.hasIdTokenClaims() ? proto.getIdTokenClaims() : null)
+        .idTokenMetadata(proto.hasIdTokenMetadata() ? proto.getIdTokenMetadata() : null)
+        .idTokenIssuedAt(proto.hasIdTokenIssuedAt() ? toDateTime(proto.getIdTokenIssuedAt()) : null)
+        .idTokenExpiresAt(
+            proto.hasIdTokenExpiresAt() ? toDateTime(proto.getIdTokenExpiresAt()) : null)
+        .exchangingCode(proto.hasExchangingCode() ? proto.getExchangingCode() : null)
+        .build();
+  }
+
+  /**
+   * Converts a {@link RetrieveClientMessage} to its protobuf representation.
+   *
+   * @param message the message
+   * @return the protobuf message
+   */
+  public RetrieveClientRequest toProto(RetrieveClientMessage message) {
+    var builder = RetrieveClientRequest.newBuilder();
+    set(message.getClientId(), builder::setClientId);
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link RetrieveClientMessage}.
+   *
+   * @param proto the protobuf message
+   * @return the message
+   */
+  public RetrieveClientMessage fromProto(RetrieveClientRequest proto) {
+    return RetrieveClientMessage.builder().clientId(proto.getClientId()).build();
+  }
+
+  /**
+   * Converts a {@link RetrieveClientsMessage} to its protobuf representation.
+   *
+   * @param message the message
+   * @return the protobuf message
+   */
+  public RetrieveClientsRequest toProto(RetrieveClientsMessage message) {
+    var builder = RetrieveClientsRequest.newBuilder();
+    if (message.getClientIds() != null) builder.addAllClientIds(message.getClientIds());
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link RetrieveClientsMessage}.
+   *
+   * @param proto the protobuf message
+   * @return the message
+   */
+  public RetrieveClientsMessage fromProto(RetrieveClientsRequest proto) {
+    return RetrieveClientsMessage.builder()
+        .clientIds(List.copyOf(proto.getClientIdsList()))
+        .build();
+  }
+
+  /**
+   * Converts a {@link RetrieveKeyPairMessage} to its protobuf representation.
+   *
+   * @param message the message
+   * @return the protobuf message
+   */
+  public RetrieveKeyPairRequest toProto(RetrieveKeyPairMessage message) {
+    var builder = RetrieveKeyPairRequest.newBuilder();
+    set(message.getType(), builder::setType);
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link RetrieveKeyPairMessage}.
+   *
+   * @param proto the protobuf message
+   * @return the message
+   */
+  public RetrieveKeyPairMessage fromProto(RetrieveKeyPairRequest proto) {
+    return RetrieveKeyPairMessage.builder().type(proto.getType()).build();
+  }
+
+  /**
+   * Converts a {@link ClientRetrievedEvent} to its protobuf representation.
+   *
+   * @param event the event
+   * @return the protobuf message
+   */
+  public ClientRetrieved toProto(ClientRetrievedEvent event) {
+    var builder = ClientRetrieved.newBuilder();
+    set(event.getClientId(), builder::setClientId);
+    set(event.getName(), builder::setName);
+    set(event.getClientSecret(), builder::setClientSecret);
+    if (event.getAuthenticationMethods() != null)
+      builder.addAllAuthenticationMethods(event.getAuthenticationMethods());
+    if (event.getRedirectUris() != null) builder.addAllRedirectUris(event.getRedirectUris());
+    if (event.getScopes() != null) builder.addAllScopes(event.getScopes());
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link ClientRetrievedEvent}.
+   *
+   * @param proto the protobuf message
+   * @return the event
+   */
+  public ClientRetrievedEvent fromProto(ClientRetrieved proto) {
+    return ClientRetrievedEvent.builder()
+        .clientId(proto.hasClientId() ? proto.getClientId() : null)
+        .name(proto.hasName() ? proto.getName() : null)
+        .clientSecret(proto.hasClientSecret() ? proto.getClientSecret() : null)
+        .authenticationMethods(List.copyOf(proto.getAuthenticationMethodsList()))
+        .redirectUris(List.copyOf(proto.getRedirectUrisList()))
+        .scopes(List.copyOf(proto.getScopesList()))
+        .build();
+  }
+
+  /**
+   * Converts a {@link ClientsRetrievedEvent} to its protobuf representation.
+   *
+   * @param event the event
+   * @return the protobuf message
+   */
+  public ClientsRetrieved toProto(ClientsRetrievedEvent event) {
+    var builder = ClientsRetrieved.newBuilder();
+    if (event.getClients() != null)
+      event.getClients().forEach((id, client) -> builder.putClients(id, toProto(client)));
+    if (event.getFailed() != null) builder.addAllFailed(event.getFailed());
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link ClientsRetrievedEvent}.
+   *
+   * @param proto the protobuf message
+   * @return the event
+   */
+  public ClientsRetrievedEvent fromProto(ClientsRetrieved proto) {
+    var clients = new HashMap<String, ClientRetrievedEvent>(proto.getClientsCount());
+    proto.getClientsMap().forEach((id, client) -> clients.put(id, fromProto(client)));
+    return ClientsRetrievedEvent.builder()
+        .clients(clients)
+        .failed(List.copyOf(proto.getFailedList()))
+        .build();
+  }
+
+  /**
+   * Converts a {@link KeyPairRetrievedEvent} to its protobuf representation.
+   *
+   * @param event the event
+   * @return the protobuf message
+   */
+  public KeyPairRetrieved toProto(KeyPairRetrievedEvent event) {
+    var builder = KeyPairRetrieved.newBuilder().setSuccess(event.isSuccess());
+    set(event.getId(), builder::setId);
+    set(event.getPublicKey(), builder::setPublicKey);
+    set(event.getPrivateKey(), builder::setPrivateKey);
+    set(event.getPairType(), builder::setPairType);
+    set(event.getCreatedAt(), builder::setCreatedAt);
+    return builder.build();
+  }
+
+  /**
+   * Converts a protobuf message to a {@link KeyPairRetrievedEvent}.
+   *
+   * @param proto the protobuf message
+   * @return the event
+   */
+  public KeyPairRetrievedEvent fromProto(KeyPairRetrieved proto) {
+    return KeyPairRetrievedEvent.builder()
+        .id(proto.hasId() ? proto.getId() : null)
+        .publicKey(proto.hasPublicKey() ? proto.getPublicKey() : null)
+        .privateKey(proto.hasPrivateKey() ? proto.getPrivateKey() : null)
+        .pairType(proto.hasPairType() ? proto.getPairType() : null)
+        .createdAt(proto.hasCreatedAt() ? proto.getCreatedAt() : null)
+        .success(proto.getSuccess())
+        .build();
+  }
+
+  /**
+   * Sets a protobuf field unless the value is absent.
+   *
+   * @param value the value, may be {@code null}
+   * @param setter the protobuf builder setter
+   * @param <T> the type of the value
+   */
+  private static <T> void set(T value, Consumer<T> setter) {
+    if (value != null) setter.accept(value);
+  }
+
+  /**
+   * Sets a protobuf timestamp field unless the value is absent.
+   *
+   * @param value the value, may be {@code null}
+   * @param setter the protobuf builder setter
+   */
+  private static void setTimestamp(ZonedDateTime value, Consumer<Timestamp> setter) {
+    if (value == null) return;
+    var instant = value.toInstant();
+    setter.accept(
+        Timestamp.newBuilder()
+            .setSeconds(instant.getEpochSecond())
+            .setNanos(instant.getNano())
+            .build());
+  }
+
+  /**
+   * Converts a protobuf timestamp to a date-time in UTC.
+   *
+   * @param timestamp the timestamp
+   * @return the date-time
+   */
+  private static ZonedDateTime toDateTime(Timestamp timestamp) {
+    return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos())
+        .atZone(ZoneOffset.UTC);
+  }
+}
@@ -33,13 +33,32 @@
 
 package com.asc.common.messaging.publisher;
 
+import com.asc.common.messaging.configuration.RabbitAuditPublisherConfigurationProperties;
 import com.asc.common.service.ports.output.message.publisher.AuditMessagePublisher;
 import com.asc.common.service.transfer.message.AuditMessage;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.MDC;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.batch.MessageBatch;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.stereotype.Component;
@@ -47,40 +66,220 @@ import org.springframework.stereotype.Component;
 /**
  * RabbitMQ message publisher for audit events.
  *
+ * <p>Audit messages are not sent on the calling thread. They are buffered in a bounded queue and
+ * published by a background thread as a single batch message every {@link
+ * RabbitAuditPublisherConfigurationProperties#getBatchSize()} messages or {@link
+ * RabbitAuditPublisherConfigurationProperties#getBatchWindow()}, whichever comes first. Batches use
+ * the Spring AMQP batch format, which listener containers split back into single messages.
+ *
+ * <p>When the connection factory has correlated publisher confirms enabled, every batch is
+ * correlated with its confirm; batches that are rejected by the broker or not confirmed in time are
+ * published again, up to {@link RabbitAuditPublisherConfigurationProperties#getMaxAttempts()}
+ * times. Messages that do not fit into the buffer are dropped and logged.
+ *
  * <p>This publisher is only loaded when RabbitMQ classes are available on the classpath.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnClass(name = "com.rabbitmq.client.Connection")
-public class RabbitAuthorizationAuditMessagePublisher implements AuditMessagePublisher {
-  @Value("${spring.application.region}")
-  private String region;
+public class RabbitAuthorizationAuditMessagePublisher
+    implements AuditMessagePublisher, DisposableBean {
+  private final RabbitOperations rabbitClient;
+  private final MessageConverter messageConverter;
+  private final boolean confirms;
+  private final String exchange;
+  private final int batchSize;
+  private final long confirmTimeoutMillis;
+  private final int maxAttempts;
+  private final BlockingQueue<AuditMessage> buffer;
+  private final Queue<PendingBatch> retries = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final ScheduledExecutorService scheduler;
 
-  private final AmqpTemplate amqpClient;
+  /**
+   * Constructs a new {@link RabbitAuthorizationAuditMessagePublisher} publishing through its own
+   * {@link RabbitTemplate}.
+   *
+   * @param connectionFactory the RabbitMQ connection factory
+   * @param messageConverter the converter used to serialize audit messages
+   * @param properties the audit publishing settings
+   * @param region the region whose audit exchange receives the messages
+   */
+  @Autowired
+  public RabbitAuthorizationAuditMessagePublisher(
+      ConnectionFactory connectionFactory,
+      MessageConverter messageConverter,
+      RabbitAuditPublisherConfigurationProperties properties,
+      @Value("${spring.application.region}") String region) {
+    this(
+        new RabbitTemplate(connectionFactory),
+        messageConverter,
+        connectionFactory.isPublisherConfirms(),
+        properties,
+        region);
+  }
 
   /**
-   * Publishes the given audit message to RabbitMQ.
+   * Constructs a new {@link RabbitAuthorizationAuditMessagePublisher}.
    *
-   * <p>This method retrieves the RabbitMQ queue configuration for the "audit" queue, and attempts
-   * to send the audit message using the {@link AmqpTemplate}. If an exception occurs during message
-   * sending, it logs the error along with the action, tenant ID, and user ID from the message using
-   * the MDC (Mapped Diagnostic Context).
+   * @param rabbitClient the operations used to publish batches
+   * @param messageConverter the converter used to serialize audit messages
+   * @param confirms whether the broker confirms published batches
+   * @param properties the audit publishing settings
+   * @param region the region whose audit exchange receives the messages
+   */
+  RabbitAuthorizationAuditMessagePublisher(
+      RabbitOperations rabbitClient,
+      MessageConverter messageConverter,
+      boolean confirms,
+      RabbitAuditPublisherConfigurationProperties properties,
+      String region) {
+    if (properties.getBatchSize() < 1
+        || properties.getBufferCapacity() < 1
+        || properties.getMaxAttempts() < 1)
+      throw new IllegalArgumentException(
+          "Audit batch size, buffer capacity and attempts must be positive");
+    if (!confirms)
+      log.warn("Publisher confirms are disabled, audit batches will not be published again");
+
+    this.rabbitClient = rabbitClient;
+    this.messageConverter = messageConverter;
+    this.confirms = confirms;
+    this.exchange = String.format("asc_identity_audit_%s_exchange", region);
+    this.batchSize = properties.getBatchSize();
+    this.confirmTimeoutMillis = properties.getConfirmTimeout().toMillis();
+    this.maxAttempts = properties.getMaxAttempts();
+    this.buffer = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("audit-publisher").factory());
+
+    var window = properties.getBatchWindow().toMillis();
+    scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Buffers the given audit message for publishing with the next batch.
+   *
+   * <p>A full batch is published right away instead of waiting for the batching window. If the
+   * buffer is full, the message is dropped and the drop is logged together with the action, tenant
+   * ID, and user ID from the message using the MDC (Mapped Diagnostic Context).
    *
    * @param message the audit message to be published
    */
   public void publish(AuditMessage message) {
-    log.debug("Sending an audit message: {}", message);
+    log.debug("Buffering an audit message: {}", message);
 
-    try {
-      amqpClient.convertAndSend(
-          String.format("asc_identity_audit_%s_exchange", region), Strings.EMPTY, message);
-    } catch (Exception e) {
+    if (!buffer.offer(message)) {
       MDC.put("action", String.valueOf(message.getAction()));
       MDC.put("tenant_id", String.valueOf(message.getTenantId()));
       MDC.put("user_id", message.getUserId());
-      log.error("Could not send an audit message", e);
+      log.error("Could not buffer an audit message, the audit buffer is full");
       MDC.clear();
+      return;
+    }
+
+    if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      try {
+        scheduler.execute(this::flush);
+      } catch (RuntimeException e) {
+        flushRequested.set(false);
+      }
     }
   }
+
+  /**
+   * Publishes the batches waiting to be published again, followed by every buffered audit message.
+   */
+  void flush() {
+    flushRequested.set(false);
+    try {
+      PendingBatch retry;
+      while ((retry = retries.poll()) != null) send(retry);
+
+      var drained = new ArrayList<AuditMessage>(batchSize);
+      while (buffer.drainTo(drained, batchSize) > 0) {
+        var batching = new SimpleBatchingStrategy(batchSize, Integer.MAX_VALUE, Long.MAX_VALUE);
+        var batches = new ArrayList<MessageBatch>(1);
+        for (var message : drained) {
+          var batch =
+              batching.addToBatch(
+                  exchange,
+                  Strings.EMPTY,
+                  messageConverter.toMessage(message, new MessageProperties()));
+          if (batch != null) batches.add(batch);
+        }
+
+        batches.addAll(batching.releaseBatches());
+        for (var batch : batches) send(new PendingBatch(batch.message(), drained.size(), 1));
+        drained.clear();
+      }
+    } catch (RuntimeException e) {
+      log.error("Could not publish audit messages", e);
+    }
+  }
+
+  /**
+   * Publishes a batch and, when publisher confirms are enabled, publishes it again if the broker
+   * does not confirm it.
+   *
+   * @param batch the batch
+   */
+  private void send(PendingBatch batch) {
+    var correlation = new CorrelationData();
+    try {
+      log.debug("Sending a batch of {} audit messages", batch.count());
+      rabbitClient.send(exchange, Strings.EMPTY, batch.message(), correlation);
+    } catch (RuntimeException e) {
+      retry(batch, e.getMessage());
+      return;
+    }
+
+    if (!confirms) return;
+    correlation
+        .getFuture()
+        .orTimeout(confirmTimeoutMillis, TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (confirm, error) -> {
+              if (error != null) retry(batch, "not confirmed in time");
+              else if (!confirm.ack()) retry(batch, confirm.reason());
+            });
+  }
+
+  /**
+   * Queues a batch to be published again with the next flush, or drops it once it has used all of
+   * its attempts.
+   *
+   * @param batch the batch
+   * @param reason the reason the batch has not been published
+   */
+  private void retry(PendingBatch batch, String reason) {
+    if (batch.attempt() >= maxAttempts) {
+      log.error(
+          "Could not publish a batch of {} audit messages after {} attempts: {}",
+          batch.count(),
+          batch.attempt(),
+          reason);
+      return;
+    }
+
+    log.warn("Could not publish a batch of {} audit messages: {}", batch.count(), reason);
+    retries.add(new PendingBatch(batch.message(), batch.count(), batch.attempt() + 1));
+  }
+
+  /** Stops the background publishing and publishes the audit messages that are still buffered. */
+  public void destroy() throws InterruptedException {
+    scheduler.shutdown();
+    scheduler.awaitTermination(confirmTimeoutMillis, TimeUnit.MILLISECONDS);
+    flush();
+  }
+
+  /**
+   * A batch of audit messages waiting to be published.
+   *
+   * @param message the batch message
+   * @param count the number of audit messages in the batch
+   * @param attempt the number of the next publishing attempt
+   */
+  private record PendingBatch(Message message, int count, int attempt) {}
 }
@@ -0,0 +1,91 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.publisher;
+
+import com.asc.common.service.ports.output.message.publisher.ConfirmedBatchPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of {@link ConfirmedBatchPublisher} waiting for RabbitMQ publisher confirms.
+ *
+ * <p>The batch runs within a {@link RabbitTemplate#invoke} scope, so every message the publishers
+ * send through the shared {@link AmqpTemplate} goes over the same dedicated channel. Once the batch
+ * is sent, the publisher waits for the broker to confirm every message on that channel and fails if
+ * any of them is negatively acknowledged or not confirmed in time.
+ *
+ * <p>Without publisher confirms enabled on the connection factory, the batch is simply sent.
+ *
+ * <p>This publisher is only loaded when RabbitMQ classes are available on the classpath.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(name = "com.rabbitmq.client.Connection")
+public class RabbitConfirmedBatchPublisher implements ConfirmedBatchPublisher {
+  private static final long CONFIRM_TIMEOUT_MILLIS = 5000;
+
+  /** The AMQP client shared with the message publishers. */
+  private final AmqpTemplate amqpClient;
+
+  /**
+   * Publishes a batch of messages and waits for the broker to confirm them.
+   *
+   * @param batch the callback publishing the messages of the batch
+   */
+  @Override
+  public void publish(Runnable batch) {
+    if (!(amqpClient instanceof RabbitTemplate rabbitTemplate) || !confirms(rabbitTemplate)) {
+      batch.run();
+      return;
+    }
+
+    rabbitTemplate.invoke(
+        operations -> {
+          batch.run();
+          operations.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+          log.debug("A batch of messages has been confirmed");
+          return null;
+        });
+  }
+
+  private boolean confirms(RabbitTemplate rabbitTemplate) {
+    var connectionFactory = rabbitTemplate.getConnectionFactory();
+    return connectionFactory.isPublisherConfirms() || connectionFactory.isSimplePublisherConfirms();
+  }
+}
@@ -0,0 +1,260 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.rpc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+
+/**
+ * Client-side micro-batcher coalescing lookups sent to the same remote region into a single RPC.
+ *
+ * <p>The first lookup for a region opens a batch that is dispatched once the batching window has
+ * passed or the batch has reached its maximum size, whichever comes first. Lookups for the same key
+ * within a batch are sent once, but every caller receives its own future.
+ *
+ * <p>Each future is completed on its own: a key the remote region reports as failed fails only that
+ * key's futures, while a failure of the whole call, such as a timeout, fails every future of the
+ * batch.
+ *
+ * @param <V> the type of the looked up values
+ */
+@Slf4j
+public class RpcBatcher<V> implements AutoCloseable {
+  private final Call<V> call;
+  private final long windowNanos;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService dispatcher;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<String, Batch<V>> pending = new HashMap<>();
+
+  /**
+   * Constructs a new {@link RpcBatcher}.
+   *
+   * @param name the name of the batcher, used for its threads
+   * @param window how long a batch waits for more lookups before being dispatched
+   * @param maxBatchSize the number of distinct keys dispatching a batch immediately
+   * @param call sends a batch of keys to a remote region
+   */
+  public RpcBatcher(String name, Duration window, int maxBatchSize, Call<V> call) {
+    if (window.isNegative() || maxBatchSize < 1)
+      throw new IllegalArgumentException(
+          "RPC batch window must not be negative and its size must be positive");
+    this.call = call;
+    this.windowNanos = window.toNanos();
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name(name + "-scheduler").factory());
+    this.dispatcher =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+  }
+
+  /**
+   * Looks up a key in a remote region as part of the next batch sent to that region.
+   *
+   * @param region the remote region
+   * @param key the key to look up
+   * @return a future completed with the value, or an empty {@link Optional} if the remote region
+   *     does not know the key
+   */
+  public CompletableFuture<Optional<V>> submit(String region, String key) {
+    var future = new CompletableFuture<Optional<V>>();
+    Batch<V> full = null;
+    lock.lock();
+    try {
+      var batch = pending.get(region);
+      if (batch == null) {
+        batch = new Batch<>(region);
+        pending.put(region, batch);
+        var opened = batch;
+        scheduler.schedule(() -> flush(opened), windowNanos, TimeUnit.NANOSECONDS);
+      }
+
+      batch.futures.computeIfAbsent(key, k -> new ArrayList<>()).add(future);
+      if (batch.futures.size() >= maxBatchSize) {
+        pending.remove(region);
+        full = batch;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (full != null) dispatch(full);
+    return future;
+  }
+
+  /**
+   * Dispatches a batch whose window has passed, unless it has already been dispatched for being
+   * full.
+   *
+   * @param batch the batch
+   */
+  private void flush(Batch<V> batch) {
+    lock.lock();
+    try {
+      if (!pending.remove(batch.region, batch)) return;
+    } finally {
+      lock.unlock();
+    }
+
+    dispatch(batch);
+  }
+
+  /**
+   * Sends a batch on a virtual thread, so that the scheduler never waits for a remote region.
+   *
+   * @param batch the batch
+   */
+  private void dispatch(Batch<V> batch) {
+    try {
+      dispatcher.execute(() -> send(batch));
+    } catch (RuntimeException e) {
+      fail(batch.futures.values(), e);
+    }
+  }
+
+  /**
+   * Sends a batch and completes the futures of its keys.
+   *
+   * @param batch the batch
+   */
+  private void send(Batch<V> batch) {
+    Result<V> result;
+    try {
+      log.debug("Sending {} lookups to region {}", batch.futures.size(), batch.region);
+      result = call.send(batch.region, List.copyOf(batch.futures.keySet()));
+    } catch (RuntimeException e) {
+      fail(batch.futures.values(), e);
+      return;
+    }
+
+    batch.futures.forEach(
+        (key, futures) -> {
+          if (result.failed().contains(key)) {
+            var error =
+                new AmqpException("Region " + batch.region + " could not look up key " + key);
+            futures.forEach(future -> future.completeExceptionally(error));
+          } else {
+            var value = Optional.ofNullable(result.values().get(key));
+            futures.forEach(future -> future.complete(value));
+          }
+        });
+  }
+
+  /**
+   * Fails the given futures.
+   *
+   * @param futures the futures, grouped by key
+   * @param error the failure
+   */
+  private void fail(Collection<List<CompletableFuture<Optional<V>>>> futures, Throwable error) {
+    futures.forEach(list -> list.forEach(future -> future.completeExceptionally(error)));
+  }
+
+  /** Stops the batcher, failing the lookups that haven't been dispatched yet. */
+  public void close() {
+    scheduler.shutdownNow();
+    lock.lock();
+    try {
+      var error = new AmqpException("RPC batcher has been closed");
+      pending.values().forEach(batch -> fail(batch.futures.values(), error));
+      pending.clear();
+    } finally {
+      lock.unlock();
+    }
+    dispatcher.shutdown();
+  }
+
+  /**
+   * Sends a batch of lookups to a remote region.
+   *
+   * @param <V> the type of the looked up values
+   */
+  @FunctionalInterface
+  public interface Call<V> {
+    /**
+     * Sends the lookups.
+     *
+     * @param region the remote region
+     * @param keys the distinct keys to look up
+     * @return the result of the lookups
+     * @throws RuntimeException if the remote region could not be reached
+     */
+    Result<V> send(String region, List<String> keys);
+  }
+
+  /**
+   * Result of a batch of lookups.
+   *
+   * @param values the found values by key; keys that are neither found nor failed are unknown to
+   *     the remote region
+   * @param failed the keys the remote region could not look up
+   * @param <V> the type of the looked up values
+   */
+  public record Result<V>(Map<String, V> values, Collection<String> failed) {
+    public Result {
+      values = values != null ? values : Map.of();
+      failed = failed != null ? failed : List.of();
+    }
+  }
+
+  /**
+   * Lookups waiting to be sent to a region.
+   *
+   * @param <V> the type of the looked up values
+   */
+  private static final class Batch<V> {
+    private final String region;
+    private final Map<String, List<CompletableFuture<Optional<V>>>> futures = new LinkedHashMap<>();
+
+    private Batch(String region) {
+      this.region = region;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.asc.common.service.transfer.message.RetrieveClientMessage;
+import java.util.Set;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+class RpcMessageConverterTest {
+  private final RpcMessageConverter converter =
+      new RpcMessageConverter(
+          new JacksonJsonMessageConverter(JsonMapper.builder().build()),
+          new ProtobufMessageConverter());
+
+  @Test
+  void givenDefaultProperties_whenConverting_thenUsesJson() {
+    var message =
+        converter.toMessage(
+            RetrieveClientMessage.builder().clientId("client").build(), new MessageProperties());
+
+    assertEquals(
+        MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+  }
+
+  @Test
+  void givenProtobufRegion_whenConverting_thenUsesProtobufAndRoundTrips() {
+    var properties = new RpcMessageProperties();
+    properties.setRegions(Set.of("eu"));
+    var request = RetrieveClientMessage.builder().clientId("client").build();
+
+    var message = converter.toMessage(request, properties.forRegion("EU"));
+
+    assertEquals(
+        ProtobufMessageConverter.CONTENT_TYPE, message.getMessageProperties().getContentType());
+    assertEquals(request, converter.fromMessage(message));
+  }
+
+  @Test
+  void givenProtobufRequestedForUnsupportedType_whenConverting_thenFallsBackToJson() {
+    var properties = new MessageProperties();
+    properties.setContentType(ProtobufMessageConverter.CONTENT_TYPE);
+
+    var message = converter.toMessage(Boolean.TRUE, properties);
+
+    assertEquals(
+        MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+    assertEquals(Boolean.TRUE, converter.fromMessage(message));
+  }
+
+  @Test
+  void givenProtobufRequest_whenReplyIsConvertedByListener_thenReplyUsesProtobuf()
+      throws Throwable {
+    var requestProperties = new MessageProperties();
+    requestProperties.setContentType(ProtobufMessageConverter.CONTENT_TYPE);
+    var request = new Message(new byte[0], requestProperties);
+    var invocation = mock(MethodInvocation.class);
+    when(invocation.getArguments()).thenReturn(new Object[] {null, request});
+    when(invocation.proceed())
+        .thenAnswer(
+            i ->
+                converter.toMessage(
+                    RetrieveClientMessage.builder().clientId("client").build(),
+                    new MessageProperties()));
+
+    var reply = (Message) RpcMessageConverter.replyFormatInterceptor().invoke(invocation);
+
+    assertEquals(
+        ProtobufMessageConverter.CONTENT_TYPE, reply.getMessageProperties().getContentType());
+    assertEquals(
+        MessageProperties.CONTENT_TYPE_JSON,
+        converter
+            .toMessage(
+                RetrieveClientMessage.builder().clientId("client").build(), new MessageProperties())
+            .getMessageProperties()
+            .getContentType());
+  }
+}
@@ -33,58 +33,149 @@
 
 package com.asc.common.messaging.publisher;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.asc.common.messaging.configuration.RabbitAuditPublisherConfigurationProperties;
 import com.asc.common.service.transfer.message.AuditMessage;
-import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
 import org.apache.logging.log4j.util.Strings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.batch.SimpleBatchingStrategy;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
 
 class RabbitAuthorizationAuditMessagePublisherTest {
-  private static void setRegion(Object publisher, String region) throws Exception {
-    Field regionField = publisher.getClass().getDeclaredField("region");
-    regionField.setAccessible(true);
-    regionField.set(publisher, region);
+  private final RabbitOperations rabbitClient = Mockito.mock(RabbitOperations.class);
+
+  private RabbitAuthorizationAuditMessagePublisher publisher(
+      boolean confirms, int bufferCapacity, String region) {
+    var properties = new RabbitAuditPublisherConfigurationProperties();
+    properties.setBatchWindow(Duration.ofHours(1));
+    properties.setBufferCapacity(bufferCapacity);
+    properties.setMaxAttempts(2);
+    return new RabbitAuthorizationAuditMessagePublisher(
+        rabbitClient, new SimpleMessageConverter(), confirms, properties, region);
+  }
+
+  private static AuditMessage message(int action) {
+    return AuditMessage.builder().action(action).tenantId(10L).userId("user-1").build();
+  }
+
+  private static int countMessages(Message batch) {
+    var messages = new ArrayList<Message>();
+    var batching = new SimpleBatchingStrategy(0, 0, 0);
+    if (batching.canDebatch(batch.getMessageProperties())) batching.deBatch(batch, messages::add);
+    else messages.add(batch);
+    return messages.size();
   }
 
   @ParameterizedTest
   @ValueSource(strings = {"eu", "us", "apac"})
-  void whenPublishingAuditMessage_thenSendsToRegionExchange(String region) throws Exception {
-    var amqpClient = Mockito.mock(AmqpTemplate.class);
+  void whenPublishingAuditMessages_thenSendsOneBatchToRegionExchange(String region) {
+    var publisher = publisher(false, 100, region);
+
+    publisher.publish(message(9901));
+    publisher.publish(message(9902));
+    publisher.publish(message(9903));
+    verifyNoInteractions(rabbitClient);
+
+    publisher.flush();
+
+    var batch = ArgumentCaptor.forClass(Message.class);
+    verify(rabbitClient)
+        .send(
+            eq("asc_identity_audit_" + region + "_exchange"),
+            eq(Strings.EMPTY),
+            batch.capture(),
+            any(CorrelationData.class));
+    assertEquals(3, countMessages(batch.getValue()));
+  }
+
+  @Test
+  void whenBatchIsNotAcknowledged_thenItIsPublishedAgain() {
+    var publisher = publisher(true, 100, "eu");
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(3);
+              correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+              return null;
+            })
+        .when(rabbitClient)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    publisher.publish(message(9901));
+    publisher.flush();
+    publisher.flush();
+    publisher.flush();
 
-    var publisher = new RabbitAuthorizationAuditMessagePublisher(amqpClient);
-    setRegion(publisher, region);
+    verify(rabbitClient, times(2))
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
 
-    var message = AuditMessage.builder().action(9901).tenantId(10L).userId("user-1").build();
+  @Test
+  void whenBatchIsAcknowledged_thenItIsNotPublishedAgain() {
+    var publisher = publisher(true, 100, "eu");
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(3);
+              correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+              return null;
+            })
+        .when(rabbitClient)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
 
-    publisher.publish(message);
+    publisher.publish(message(9901));
+    publisher.flush();
+    publisher.flush();
 
-    verify(amqpClient)
-        .convertAndSend("asc_identity_audit_" + region + "_exchange", Strings.EMPTY, message);
-    verifyNoMoreInteractions(amqpClient);
+    verify(rabbitClient)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
   }
 
   @Test
-  void whenAmqpClientThrows_thenDoesNotThrow() throws Exception {
-    var amqpClient = Mockito.mock(AmqpTemplate.class);
+  void whenAmqpClientThrows_thenDoesNotThrowAndRetriesUpToMaxAttempts() {
+    var publisher = publisher(false, 100, "eu");
+    doThrow(new AmqpException("boom"))
+        .when(rabbitClient)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
 
-    var publisher = new RabbitAuthorizationAuditMessagePublisher(amqpClient);
-    setRegion(publisher, "eu");
+    publisher.publish(message(9901));
+    assertDoesNotThrow(publisher::flush);
+    assertDoesNotThrow(publisher::flush);
+    assertDoesNotThrow(publisher::flush);
 
-    var message = AuditMessage.builder().action(9901).tenantId(10L).userId("user-1").build();
+    verify(rabbitClient, times(2))
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
 
-    Mockito.doThrow(new RuntimeException("boom"))
-        .when(amqpClient)
-        .convertAndSend(Mockito.anyString(), Mockito.anyString(), Mockito.any(AuditMessage.class));
+  @Test
+  void whenBufferIsFull_thenFurtherMessagesAreDropped() {
+    var publisher = publisher(false, 1, "eu");
 
-    publisher.publish(message);
+    publisher.publish(message(9901));
+    assertDoesNotThrow(() -> publisher.publish(message(9902)));
+    publisher.flush();
 
-    verify(amqpClient)
-        .convertAndSend(Mockito.anyString(), Mockito.anyString(), Mockito.any(AuditMessage.class));
+    var batch = ArgumentCaptor.forClass(Message.class);
+    verify(rabbitClient)
+        .send(anyString(), anyString(), batch.capture(), any(CorrelationData.class));
+    assertEquals(1, countMessages(batch.getValue()));
   }
 }
@@ -0,0 +1,197 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.messaging.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.common.messaging.configuration.RabbitListenerContainerFactoryConfiguration;
+import com.asc.common.service.transfer.message.ClientRetrievedEvent;
+import com.asc.common.service.transfer.message.ClientsRetrievedEvent;
+import com.asc.common.service.transfer.message.RetrieveClientsMessage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+class RpcBatcherTest {
+  private final MessageConverter converter =
+      new RabbitListenerContainerFactoryConfiguration().messageConverter();
+  private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+  private RpcBatcher<ClientRetrievedEvent> batcher;
+
+  /**
+   * Stands in for the broker and the remote region: converts the batch request and the reply the
+   * same way they would travel over RabbitMQ.
+   */
+  private RpcBatcher.Call<ClientRetrievedEvent> remote(
+      Function<RetrieveClientsMessage, ClientsRetrievedEvent> handler) {
+    return (region, keys) -> {
+      batches.add(keys);
+      var request =
+          converter.fromMessage(
+              converter.toMessage(
+                  RetrieveClientsMessage.builder().clientIds(keys).build(),
+                  new MessageProperties()));
+      var reply =
+          converter.fromMessage(
+              converter.toMessage(
+                  handler.apply((RetrieveClientsMessage) request), new MessageProperties()));
+      var event = (ClientsRetrievedEvent) reply;
+      return new RpcBatcher.Result<>(event.getClients(), event.getFailed());
+    };
+  }
+
+  private ClientsRetrievedEvent findAll(RetrieveClientsMessage request) {
+    return ClientsRetrievedEvent.builder()
+        .clients(
+            request.getClientIds().stream()
+                .filter(id -> !id.startsWith("unknown"))
+                .collect(
+                    Collectors.toMap(
+                        id -> id,
+                        id -> ClientRetrievedEvent.builder().clientId(id).name(id).build())))
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (batcher != null) batcher.close();
+  }
+
+  @Test
+  void givenLookupsWithinWindow_whenSubmitted_thenOneBatchIsSent() {
+    batcher = new RpcBatcher<>("test", Duration.ofMillis(50), 100, remote(this::findAll));
+
+    var first = batcher.submit("eu", "client-1");
+    var second = batcher.submit("eu", "client-2");
+    var duplicate = batcher.submit("eu", "client-1");
+
+    assertEquals("client-1", first.join().orElseThrow().getClientId());
+    assertEquals("client-2", second.join().orElseThrow().getClientId());
+    assertEquals("client-1", duplicate.join().orElseThrow().getClientId());
+    assertEquals(List.of(List.of("client-1", "client-2")), batches);
+  }
+
+  @Test
+  void givenLookupsForDifferentRegions_whenSubmitted_thenBatchPerRegionIsSent() {
+    batcher = new RpcBatcher<>("test", Duration.ofMillis(20), 100, remote(this::findAll));
+
+    var eu = batcher.submit("eu", "client-1");
+    var us = batcher.submit("us", "client-2");
+
+    assertTrue(eu.join().isPresent());
+    assertTrue(us.join().isPresent());
+    assertEquals(2, batches.size());
+  }
+
+  @Test
+  void givenFullBatch_whenSubmitted_thenBatchIsSentBeforeWindowPasses() throws Exception {
+    batcher = new RpcBatcher<>("test", Duration.ofMinutes(1), 2, remote(this::findAll));
+
+    var first = batcher.submit("eu", "client-1");
+    var second = batcher.submit("eu", "client-2");
+
+    assertTrue(first.get(5, TimeUnit.SECONDS).isPresent());
+    assertTrue(second.get(5, TimeUnit.SECONDS).isPresent());
+  }
+
+  @Test
+  void givenUnknownKey_whenBatchIsSent_thenOnlyThatLookupIsEmpty() {
+    batcher = new RpcBatcher<>("test", Duration.ofMillis(10), 100, remote(this::findAll));
+
+    var known = batcher.submit("eu", "client-1");
+    var unknown = batcher.submit("eu", "unknown-1");
+
+    assertTrue(known.join().isPresent());
+    assertEquals(Optional.empty(), unknown.join());
+  }
+
+  @Test
+  void givenFailedKey_whenBatchIsSent_thenOnlyThatLookupFails() {
+    batcher =
+        new RpcBatcher<>(
+            "test",
+            Duration.ofMillis(10),
+            100,
+            remote(
+                request ->
+                    ClientsRetrievedEvent.builder()
+                        .clients(
+                            Map.of(
+                                "client-1",
+                                ClientRetrievedEvent.builder().clientId("client-1").build()))
+                        .failed(List.of("client-2"))
+                        .build()));
+
+    var succeeded = batcher.submit("eu", "client-1");
+    var failed = batcher.submit("eu", "client-2");
+
+    assertTrue(succeeded.join().isPresent());
+    var error = assertThrows(CompletionException.class, failed::join);
+    assertInstanceOf(AmqpException.class, error.getCause());
+  }
+
+  @Test
+  void givenUnreachableRegion_whenBatchIsSent_thenAllLookupsFail() {
+    batcher =
+        new RpcBatcher<>(
+            "test",
+            Duration.ofMillis(10),
+            100,
+            (region, keys) -> {
+              throw new AmqpTimeoutException("timeout");
+            });
+
+    var first = batcher.submit("eu", "client-1");
+    var second = batcher.submit("eu", "client-2");
+
+    assertInstanceOf(
+        AmqpTimeoutException.class,
+        assertThrows(CompletionException.class, first::join).getCause());
+    assertInstanceOf(
+        AmqpTimeoutException.class,
+        assertThrows(CompletionException.class, second::join).getCause());
+  }
+}
@@ -33,137 +33,57 @@
 
 package com.asc.common.utilities;
 
+import com.asc.common.utilities.agent.ClientFingerprint;
+import com.asc.common.utilities.agent.UserAgentParser;
+import com.asc.common.utilities.network.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
 /** Utility class for handling HTTP-related operations. */
 @Component
 public class HttpUtils {
-  private static final String IP_PATTERN =
-      "https?://([0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3})";
-  private static final String DOMAIN_PATTERN = "https?://([a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})";
-  private static final String[] IP_HEADERS = {
-    "X-Remote-Ip-Address",
-    "X-Real-IP",
-    "X-Forwarded-Host",
-    "X-Forwarded-For",
-    "Proxy-Client-IP",
-    "WL-Proxy-Client-IP",
-    "HTTP_X_FORWARDED_FOR",
-    "HTTP_X_FORWARDED",
-    "HTTP_X_CLUSTER_CLIENT_IP",
-    "HTTP_CLIENT_IP",
-    "HTTP_FORWARDED_FOR",
-    "HTTP_FORWARDED",
-    "HTTP_VIA",
-    "REMOTE_ADDR"
-  };
+  private static final Pattern IP_PATTERN =
+      Pattern.compile("https?://([0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3})");
+  private static final Pattern DOMAIN_PATTERN =
+      Pattern.compile("https?://([a-zA-Z0-9.-]+\\.[a-zA-Z]{2,})");
   private static final String[] HOST_HEADERS = {
     "X-Forwarded-Host", "HTTP_X_FORWARDED", "HTTP_FORWARDED"
   };
 
-  private HttpUtils() {
-    // Private constructor to prevent instantiation
-  }
+  private final ClientIpResolver clientIpResolver;
+  private final UserAgentParser userAgentParser;
 
-  /**
-   * Validates whether the given string is a correctly formatted IPv4 address.
-   *
-   * <p>This method checks if the provided string adheres to the standard IPv4 format. It uses a
-   * regular expression to validate the format, ensuring each octet is within the valid range of
-   * 0-255.
-   *
-   * @param ip The string to be validated as an IPv4 address.
-   * @return true if the input string is a valid IPv4 address, false otherwise.
-   */
-  private boolean isValidIPv4Format(String ip) {
-    if (ip == null || ip.isBlank()) return false;
-    var ipv4Pattern =
-        "^((25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$";
-    return ip.matches(ipv4Pattern);
+  private HttpUtils() {
+    this(new ClientIpResolver(null), new UserAgentParser(1024));
   }
 
   /**
-   * Determines if the given IP address is within a private or special-use range.
-   *
-   * <p>This method checks if the provided IP address falls within any of the private IP ranges as
-   * defined by RFC 1918, loopback, link-local, multicast, or other special-use addresses. It
-   * manually checks each octet of the IP address to determine if it is private.
+   * Constructs a new {@link HttpUtils} using the given client IP resolver and User-Agent parser.
    *
-   * @param ip The IP address to check.
-   * @return true if the IP address is within a private or special-use range, false otherwise.
+   * @param clientIpResolver the resolver used to extract and classify client addresses
+   * @param userAgentParser the parser used to derive client fingerprints
    */
-  private boolean isPrivateIP(String ip) {
-    var parts = ip.split("\\.");
-    if (parts.length != 4) return true;
-
-    try {
-      var first = Integer.parseInt(parts[0]);
-      var second = Integer.parseInt(parts[1]);
-      var third = Integer.parseInt(parts[2]);
-      var fourth = Integer.parseInt(parts[3]);
-
-      // RFC 1918 Private ranges
-      if (first == 10) return true; // 10.0.0.0/8
-      if (first == 172 && second >= 16 && second <= 31) return true; // 172.16.0.0/12
-      if (first == 192 && second == 168) return true; // 192.168.0.0/16
-
-      // Loopback (127.0.0.0/8)
-      if (first == 127) return true;
-
-      // Link-local (169.254.0.0/16)
-      if (first == 169 && second == 254) return true;
-
-      // Multicast (224.0.0.0/4)
-      if (first >= 224 && first <= 239) return true;
-
-      // Reserved ranges
-      if (first == 0) return true; // 0.0.0.0/8 - "This network"
-      if (first == 240) return true; // 240.0.0.0/4 - Reserved for future use
-      if (first == 255 && second == 255 && third == 255 && fourth == 255) return true; // Broadcast
-
-      return false;
-    } catch (NumberFormatException e) {
-      return true;
-    }
+  @Autowired
+  public HttpUtils(ClientIpResolver clientIpResolver, UserAgentParser userAgentParser) {
+    this.clientIpResolver = clientIpResolver;
+    this.userAgentParser = userAgentParser;
   }
 
   /**
-   * Validates if the given IP address is a valid public IPv4 address.
+   * Validates if the given IP address is a valid public IPv4 or IPv6 address.
    *
-   * <p>This method performs a comprehensive check to ensure the IP address is valid and public. It
-   * checks the format of the IP address, and ensures it is not a loopback, link-local, site-local,
-   * multicast, or private IP address.
+   * <p>The address is parsed by hand without any name resolution and checked against the private,
+   * loopback, link-local, multicast and other reserved ranges.
    *
    * @param ip The IP address to validate.
    * @return true if the IP address is valid and public, false otherwise.
    */
   public boolean isValidPublicIp(String ip) {
-    if (ip == null || ip.isBlank()) return false;
-
-    try {
-      var inetAddress = InetAddress.getByName(ip);
-      if (!isValidIPv4Format(ip)) return false;
-
-      if (inetAddress.isLoopbackAddress()) return false;
-
-      if (inetAddress.isLinkLocalAddress()) return false;
-
-      if (inetAddress.isSiteLocalAddress()) return false;
-
-      if (inetAddress.isMulticastAddress()) return false;
-
-      if (isPrivateIP(ip)) return false;
-
-      return true;
-    } catch (UnknownHostException e) {
-      return false;
-    }
+    return clientIpResolver.isPublic(ip);
   }
 
   /**
@@ -188,18 +108,17 @@ public class HttpUtils {
   }
 
   /**
-   * Retrieves the first IP address from the request headers.
+   * Retrieves the client IP address of the request.
+   *
+   * <p>Forwarded headers are only honored when the request comes from a trusted proxy, see {@link
+   * ClientIpResolver#resolve(HttpServletRequest)}.
    *
    * @param request HttpServletRequest object
-   * @return The first IP address found in the request headers, or the remote address if none found
+   * @return The client IP address, or the remote address if none could be resolved
    */
   public String getFirstRequestIP(HttpServletRequest request) {
-    for (var header : IP_HEADERS) {
-      var value = request.getHeader(header);
-      if (value != null && !value.isEmpty()) return value.split("\\s*,\\s*")[0];
-    }
-
-    return request.getRemoteAddr();
+    var clientIp = clientIpResolver.resolve(request);
+    return clientIp != null ? clientIp : request.getRemoteAddr();
   }
 
   /**
@@ -218,6 +137,25 @@ public class HttpUtils {
     return request.getRemoteAddr();
   }
 
+  /**
+   * Retrieves the fingerprint of the client software from the User-Agent header.
+   *
+   * <p>The fingerprint is computed once per request and kept as the {@link
+   * ClientFingerprint#REQUEST_ATTRIBUTE} request attribute, so subsequent calls for the same
+   * request are free.
+   *
+   * @param request HttpServletRequest object
+   * @return Client's {@link ClientFingerprint}
+   */
+  public ClientFingerprint getClientFingerprint(HttpServletRequest request) {
+    if (request.getAttribute(ClientFingerprint.REQUEST_ATTRIBUTE)
+        instanceof ClientFingerprint fingerprint) return fingerprint;
+
+    var fingerprint = userAgentParser.parse(request.getHeader("User-Agent"));
+    request.setAttribute(ClientFingerprint.REQUEST_ATTRIBUTE, fingerprint);
+    return fingerprint;
+  }
+
   /**
    * Determines the client's operating system from the User-Agent header.
    *
@@ -225,33 +163,7 @@ public class HttpUtils {
    * @return Client's operating system
    */
   public String getClientOS(HttpServletRequest request) {
-    var userAgent = request.getHeader("User-Agent");
-    if (userAgent == null) return "Unknown";
-
-    var osFamily = "Unknown";
-    var osMajor = "";
-    var deviceBrand = "";
-    var deviceModel = "";
-
-    if (userAgent.toLowerCase().contains("windows")) {
-      osFamily = "Windows";
-      osMajor = extractMajorVersion(userAgent, "Windows NT");
-    } else if (userAgent.toLowerCase().contains("mac os x")) {
-      osFamily = "Mac OS X";
-      osMajor = extractMajorVersion(userAgent, "Mac OS X");
-      deviceBrand = "Apple";
-      deviceModel = "Mac";
-    } else if (userAgent.toLowerCase().contains("android")) {
-      osFamily = "Android";
-      osMajor = extractMajorVersion(userAgent, "Android");
-    } else if (userAgent.toLowerCase().contains("iphone")) {
-      osFamily = "iPhone OS";
-      osMajor = extractMajorVersion(userAgent, "iPhone OS");
-    } else if (userAgent.toLowerCase().contains("x11")) {
-      osFamily = "Unix";
-    }
-
-    return String.format("%s %s %s %s", osFamily, osMajor, deviceBrand, deviceModel).trim();
+    return getClientFingerprint(request).platform();
   }
 
   /**
@@ -261,54 +173,7 @@ public class HttpUtils {
    * @return Client's browser
    */
   public String getClientBrowser(HttpServletRequest request) {
-    var browserDetails = request.getHeader("User-Agent");
-    var user = browserDetails.toLowerCase();
-    var browser = "";
-    if (user.contains("msie")) {
-      var substring = browserDetails.substring(browserDetails.indexOf("MSIE")).split(";")[0];
-      browser = substring.split(" ")[0].replace("MSIE", "IE") + " " + substring.split(" ")[1];
-    } else if (user.contains("safari") && user.contains("version")) {
-      browser =
-          (browserDetails.substring(browserDetails.indexOf("Safari")).split(" ")[0]).split("/")[0]
-              + " "
-              + (browserDetails.substring(browserDetails.indexOf("Version")).split(" ")[0])
-                  .split("/")[1];
-    } else if (user.contains("opr") || user.contains("opera")) {
-      if (user.contains("opera"))
-        browser =
-            (browserDetails.substring(browserDetails.indexOf("Opera")).split(" ")[0]).split("/")[0]
-                + "-"
-                + (browserDetails.substring(browserDetails.indexOf("Version")).split(" ")[0])
-                    .split("/")[1];
-      else if (user.contains("opr"))
-        browser =
-            ((browserDetails.substring(browserDetails.indexOf("OPR")).split(" ")[0])
-                    .replace("/", " "))
-                .replace("OPR", "Opera");
-    } else if (user.contains("chrome")) {
-      browser =
-          (browserDetails.substring(browserDetails.indexOf("Chrome")).split(" ")[0])
-              .replace("/", "-")
-              .replaceAll("\\.[0-9]+", "")
-              .replaceAll("-", " ");
-    } else if ((user.contains("mozilla/7.0"))
-        || (user.contains("netscape6"))
-        || (user.contains("mozilla/4.7"))
-        || (user.contains("mozilla/4.78"))
-        || (user.contains("mozilla/4.08"))
-        || (user.contains("mozilla/3"))) {
-      browser = "Netscape";
-    } else if (user.contains("firefox")) {
-      browser =
-          (browserDetails.substring(browserDetails.indexOf("Firefox")).split(" ")[0])
-              .replace("/", " ");
-    } else if (user.contains("rv")) {
-      browser = "IE";
-    } else {
-      browser = "Unknown";
-    }
-
-    return browser;
+    return getClientFingerprint(request).browserLabel();
   }
 
   /**
@@ -344,25 +209,9 @@ public class HttpUtils {
    * @param pattern The pattern to extract
    * @return An Optional containing the extracted pattern if found, otherwise an empty Optional
    */
-  private Optional<String> extractPattern(String input, String pattern) {
-    var compiledPattern = Pattern.compile(pattern);
-    var matcher = compiledPattern.matcher(input);
+  private Optional<String> extractPattern(String input, Pattern pattern) {
+    var matcher = pattern.matcher(input);
     if (matcher.find()) return Optional.of(matcher.group(1));
     return Optional.empty();
   }
-
-  /**
-   * Extracts OS major version
-   *
-   * @param userAgent
-   * @param identifier
-   * @return A string with a major version or an empty string
-   */
-  private String extractMajorVersion(String userAgent, String identifier) {
-    var versionPattern = identifier + " ([\\d.]+)";
-    var pattern = Pattern.compile(versionPattern);
-    var matcher = pattern.matcher(userAgent);
-    if (matcher.find()) return matcher.group(1).split("\\.")[0];
-    return "";
-  }
 }
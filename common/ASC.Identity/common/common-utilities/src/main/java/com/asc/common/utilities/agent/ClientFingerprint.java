@@ -0,0 +1,71 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.agent;
+
+/**
+ * Immutable description of the client software derived from a User-Agent header.
+ *
+ * @param browser the browser family, e.g. {@code Chrome}, or {@code Unknown}
+ * @param version the browser version, or an empty string when it could not be determined
+ * @param platform the operating system with its major version, e.g. {@code Windows 10}
+ * @param deviceClass the class of the device the client runs on
+ */
+public record ClientFingerprint(
+    String browser, String version, String platform, DeviceClass deviceClass) {
+  /** Name of the request attribute holding the fingerprint of the current request. */
+  public static final String REQUEST_ATTRIBUTE = ClientFingerprint.class.getName();
+
+  /** Fingerprint of a request without a usable User-Agent header. */
+  public static final ClientFingerprint UNKNOWN =
+      new ClientFingerprint("Unknown", "", "Unknown", DeviceClass.UNKNOWN);
+
+  /**
+   * Returns the browser family together with its version, as recorded in login events and audit
+   * messages.
+   *
+   * @return the browser label, e.g. {@code Chrome 120}
+   */
+  public String browserLabel() {
+    return version.isEmpty() ? browser : browser + " " + version;
+  }
+
+  /** Classes of devices distinguished by the fingerprint. */
+  public enum DeviceClass {
+    DESKTOP,
+    MOBILE,
+    TABLET,
+    BOT,
+    UNKNOWN
+  }
+}
@@ -0,0 +1,281 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.agent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives {@link ClientFingerprint}s from User-Agent headers.
+ *
+ * <p>The header is tokenized in a single pass into its {@code name/version} products and the
+ * contents of its parenthesized comments, without lower-casing or regular expressions. Since the
+ * number of distinct User-Agent strings is small compared to the number of requests, results are
+ * memoized in a bounded cache keyed by the raw header value. Headers longer than {@value
+ * #MAX_USER_AGENT_LENGTH} characters are truncated before parsing, so that crafted values can
+ * neither inflate the cache nor the parsing cost.
+ */
+@Component
+public class UserAgentParser {
+  static final int MAX_USER_AGENT_LENGTH = 512;
+
+  private final Cache<String, ClientFingerprint> fingerprints;
+
+  /**
+   * Constructs a new {@link UserAgentParser}.
+   *
+   * @param cacheSize the maximum number of distinct User-Agent strings kept in the cache
+   */
+  public UserAgentParser(@Value("${spring.application.user-agent.cache-size:4096}") int cacheSize) {
+    this.fingerprints = Caffeine.newBuilder().maximumSize(cacheSize).build();
+  }
+
+  /**
+   * Returns the fingerprint of the given User-Agent header.
+   *
+   * @param userAgent the raw User-Agent header value, may be {@code null}
+   * @return the {@link ClientFingerprint}, {@link ClientFingerprint#UNKNOWN} for blank headers
+   */
+  public ClientFingerprint parse(String userAgent) {
+    if (userAgent == null || userAgent.isBlank()) return ClientFingerprint.UNKNOWN;
+    if (userAgent.length() > MAX_USER_AGENT_LENGTH)
+      userAgent = userAgent.substring(0, MAX_USER_AGENT_LENGTH);
+    return fingerprints.get(userAgent, UserAgentParser::tokenize);
+  }
+
+  /**
+   * Splits the User-Agent into products and comments and derives the fingerprint from them.
+   *
+   * @param userAgent the User-Agent header value
+   * @return the {@link ClientFingerprint}
+   */
+  private static ClientFingerprint tokenize(String userAgent) {
+    var products = new HashMap<String, String>(8);
+    var comments = new StringBuilder(userAgent.length());
+    var length = userAgent.length();
+    var i = 0;
+    while (i < length) {
+      var c = userAgent.charAt(i);
+      if (c == ' ') {
+        i++;
+      } else if (c == '(') {
+        var end = userAgent.indexOf(')', i + 1);
+        if (end < 0) end = length;
+        comments.append(userAgent, i + 1, end).append(';');
+        i = end + 1;
+      } else {
+        var start = i;
+        var slash = -1;
+        while (i < length && (c = userAgent.charAt(i)) != ' ' && c != '(') {
+          if (c == '/' && slash < 0) slash = i;
+          i++;
+        }
+
+        if (slash > start)
+          products.putIfAbsent(
+              userAgent.substring(start, slash), userAgent.substring(slash + 1, i));
+        else products.putIfAbsent(userAgent.substring(start, i), "");
+      }
+    }
+
+    var comment = comments.toString();
+    var platform = platform(comment);
+    return new ClientFingerprint(
+        browser(products, comment),
+        version(products, comment),
+        platform,
+        deviceClass(products, comment, platform));
+  }
+
+  /**
+   * Determines the browser family.
+   *
+   * @param products the products of the User-Agent
+   * @param comment the concatenated comments of the User-Agent
+   * @return the browser family
+   */
+  private static String browser(Map<String, String> products, String comment) {
+    if (products.containsKey("OPR") || products.containsKey("Opera")) return "Opera";
+    if (products.containsKey("Edg") || products.containsKey("Edge") || products.containsKey("EdgA"))
+      return "Edge";
+    if (comment.contains("MSIE ")) return "IE";
+    if (products.containsKey("Firefox") || products.containsKey("FxiOS")) return "Firefox";
+    if (products.containsKey("Chrome") || products.containsKey("CriOS")) return "Chrome";
+    if (products.containsKey("Safari") && products.containsKey("Version")) return "Safari";
+    if (comment.contains("Trident/")) return "IE";
+    return "Unknown";
+  }
+
+  /**
+   * Determines the browser version, following the same precedence as {@link #browser}. Chromium
+   * based browsers report their major version only.
+   *
+   * @param products the products of the User-Agent
+   * @param comment the concatenated comments of the User-Agent
+   * @return the browser version, or an empty string
+   */
+  private static String version(Map<String, String> products, String comment) {
+    if (products.containsKey("OPR")) return products.get("OPR");
+    if (products.containsKey("Opera"))
+      return products.getOrDefault("Version", products.get("Opera"));
+    if (products.containsKey("Edg")) return major(products.get("Edg"), 0);
+    if (products.containsKey("Edge")) return major(products.get("Edge"), 0);
+    if (products.containsKey("EdgA")) return major(products.get("EdgA"), 0);
+    if (comment.contains("MSIE ")) return versionAfter(comment, "MSIE ");
+    if (products.containsKey("Firefox")) return products.get("Firefox");
+    if (products.containsKey("FxiOS")) return products.get("FxiOS");
+    if (products.containsKey("Chrome")) return major(products.get("Chrome"), 0);
+    if (products.containsKey("CriOS")) return major(products.get("CriOS"), 0);
+    if (products.containsKey("Safari") && products.containsKey("Version"))
+      return products.get("Version");
+    if (comment.contains("Trident/")) return versionAfter(comment, "rv:");
+    return "";
+  }
+
+  /**
+   * Determines the operating system and its major version.
+   *
+   * @param comment the concatenated comments of the User-Agent
+   * @return the platform
+   */
+  private static String platform(String comment) {
+    if (comment.contains("Windows")) return join("Windows", majorAfter(comment, "Windows NT "));
+    if (comment.contains("iPhone") || comment.contains("iPad") || comment.contains("iPod"))
+      return join("iPhone OS", majorAfter(comment, " OS "));
+    if (comment.contains("Android")) return join("Android", majorAfter(comment, "Android "));
+    if (comment.contains("Mac OS X"))
+      return join(join("Mac OS X", majorAfter(comment, "Mac OS X ")), "Apple Mac");
+    if (comment.contains("CrOS")) return "Chrome OS";
+    if (comment.contains("Linux")) return "Linux";
+    if (comment.contains("X11")) return "Unix";
+    return "Unknown";
+  }
+
+  /**
+   * Determines the class of the device.
+   *
+   * @param products the products of the User-Agent
+   * @param comment the concatenated comments of the User-Agent
+   * @param platform the platform determined by {@link #platform}
+   * @return the {@link ClientFingerprint.DeviceClass}
+   */
+  private static ClientFingerprint.DeviceClass deviceClass(
+      Map<String, String> products, String comment, String platform) {
+    for (var product : products.keySet())
+      if (containsIgnoreCase(product, "bot") || containsIgnoreCase(product, "spider"))
+        return ClientFingerprint.DeviceClass.BOT;
+    if (containsIgnoreCase(comment, "bot")
+        || containsIgnoreCase(comment, "crawler")
+        || containsIgnoreCase(comment, "spider")) return ClientFingerprint.DeviceClass.BOT;
+
+    var mobile = products.containsKey("Mobile") || comment.contains("Mobile");
+    if (comment.contains("iPad")
+        || comment.contains("Tablet")
+        || (comment.contains("Android") && !mobile)) return ClientFingerprint.DeviceClass.TABLET;
+    if (mobile || comment.contains("iPhone") || comment.contains("iPod"))
+      return ClientFingerprint.DeviceClass.MOBILE;
+    if (!"Unknown".equals(platform)) return ClientFingerprint.DeviceClass.DESKTOP;
+    return ClientFingerprint.DeviceClass.UNKNOWN;
+  }
+
+  /**
+   * Reads the version number that follows the given marker.
+   *
+   * @param text the text to search
+   * @param marker the marker preceding the version
+   * @return the version made of digits and dots, or an empty string
+   */
+  private static String versionAfter(String text, String marker) {
+    var start = text.indexOf(marker);
+    if (start < 0) return "";
+    start += marker.length();
+    var end = start;
+    while (end < text.length() && (Character.isDigit(text.charAt(end)) || text.charAt(end) == '.'))
+      end++;
+    return text.substring(start, end);
+  }
+
+  /**
+   * Reads the major version number that follows the given marker.
+   *
+   * @param text the text to search
+   * @param marker the marker preceding the version
+   * @return the major version, or an empty string
+   */
+  private static String majorAfter(String text, String marker) {
+    var start = text.indexOf(marker);
+    return start < 0 ? "" : major(text, start + marker.length());
+  }
+
+  /**
+   * Reads the digits starting at the given position.
+   *
+   * @param text the text to read
+   * @param start the position of the first digit
+   * @return the digits, or an empty string
+   */
+  private static String major(String text, int start) {
+    var end = start;
+    while (end < text.length() && Character.isDigit(text.charAt(end))) end++;
+    return text.substring(start, end);
+  }
+
+  /**
+   * Joins a name and an optional detail with a single space.
+   *
+   * @param name the name
+   * @param detail the detail, may be empty
+   * @return the joined text
+   */
+  private static String join(String name, String detail) {
+    return detail.isEmpty() ? name : name + " " + detail;
+  }
+
+  /**
+   * Checks whether the text contains the given lower-case part, ignoring case.
+   *
+   * @param text the text to search
+   * @param part the lower-case part to find
+   * @return {@code true} if the part occurs in the text
+   */
+  private static boolean containsIgnoreCase(String text, String part) {
+    for (var i = 0; i <= text.length() - part.length(); i++)
+      if (text.regionMatches(true, i, part, 0, part.length())) return true;
+    return false;
+  }
+}
@@ -0,0 +1,157 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.network;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable binary prefix trie of IPv4 and IPv6 CIDR ranges.
+ *
+ * <p>Ranges are stored over the 128-bit address space produced by {@link IpAddressParser}, with
+ * IPv4 ranges placed under the IPv4-mapped prefix. Lookups walk at most 128 nodes of flat integer
+ * arrays and do not allocate.
+ */
+public final class CidrTrie {
+  private static final int IPV4_MAPPED_PREFIX_LENGTH = 96;
+
+  private int[] zero;
+  private int[] one;
+  private boolean[] terminal;
+  private int size;
+
+  /**
+   * Builds a trie from the given CIDR notations. Plain addresses are treated as single-host ranges.
+   *
+   * @param ranges the ranges, such as {@code 10.0.0.0/8} or {@code fc00::/7}
+   * @throws IllegalArgumentException if any of the ranges is malformed
+   */
+  public CidrTrie(Collection<String> ranges) {
+    zero = new int[64];
+    one = new int[64];
+    terminal = new boolean[64];
+    size = 1;
+
+    var parser = new IpAddressParser();
+    for (var range : ranges) {
+      if (range == null || range.isBlank()) continue;
+      add(parser, range.trim());
+    }
+  }
+
+  /**
+   * Checks whether the given address falls into any of the ranges of this trie.
+   *
+   * @param high the upper 64 bits of the address
+   * @param low the lower 64 bits of the address
+   * @return {@code true} if the address is covered by a range
+   */
+  public boolean contains(long high, long low) {
+    var node = 0;
+    for (var bit = 0; bit < 128; bit++) {
+      if (terminal[node]) return true;
+      node = bitAt(high, low, bit) ? one[node] : zero[node];
+      if (node == 0) return false;
+    }
+
+    return terminal[node];
+  }
+
+  /**
+   * Checks whether the last address parsed by the given parser falls into any of the ranges.
+   *
+   * @param parser a parser holding a successfully parsed address
+   * @return {@code true} if the address is covered by a range
+   */
+  public boolean contains(IpAddressParser parser) {
+    return contains(parser.high(), parser.low());
+  }
+
+  /**
+   * Indicates whether this trie contains no ranges at all.
+   *
+   * @return {@code true} if the trie is empty
+   */
+  public boolean isEmpty() {
+    return size == 1 && !terminal[0];
+  }
+
+  private void add(IpAddressParser parser, String range) {
+    var slash = range.indexOf('/');
+    var end = slash < 0 ? range.length() : slash;
+    if (!parser.parse(range, 0, end))
+      throw new IllegalArgumentException("Invalid IP range: " + range);
+
+    var maxLength = parser.isIPv4() && range.indexOf(':') < 0 ? 32 : 128;
+    var length = maxLength;
+    if (slash >= 0) {
+      try {
+        length = Integer.parseInt(range.substring(slash + 1).trim());
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid IP range: " + range, e);
+      }
+
+      if (length < 0 || length > maxLength)
+        throw new IllegalArgumentException("Invalid IP range prefix length: " + range);
+    }
+
+    if (maxLength == 32) length += IPV4_MAPPED_PREFIX_LENGTH;
+
+    var node = 0;
+    for (var bit = 0; bit < length; bit++) {
+      var children = bitAt(parser.high(), parser.low(), bit) ? one : zero;
+      if (children[node] == 0) {
+        ensureCapacity();
+        children = bitAt(parser.high(), parser.low(), bit) ? one : zero;
+        children[node] = size++;
+      }
+
+      node = children[node];
+    }
+
+    terminal[node] = true;
+  }
+
+  private void ensureCapacity() {
+    if (size < terminal.length) return;
+    var capacity = terminal.length * 2;
+    zero = Arrays.copyOf(zero, capacity);
+    one = Arrays.copyOf(one, capacity);
+    terminal = Arrays.copyOf(terminal, capacity);
+  }
+
+  private static boolean bitAt(long high, long low, int bit) {
+    return bit < 64 ? (high << bit) < 0 : (low << (bit - 64)) < 0;
+  }
+}
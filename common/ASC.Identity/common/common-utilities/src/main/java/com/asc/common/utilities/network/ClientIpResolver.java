@@ -0,0 +1,182 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.network;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves client IP addresses from HTTP requests and classifies them without any DNS lookups.
+ *
+ * <p>Forwarded headers are only honored when the request comes from a trusted proxy. In that case
+ * {@code X-Forwarded-For} is walked from right to left, skipping trusted proxy hops, and the first
+ * untrusted hop is taken as the client address. Trusted proxies default to loopback, link-local and
+ * private networks and may be overridden with the {@code
+ * spring.application.network.trusted-proxies} property.
+ */
+@Component
+public class ClientIpResolver {
+  private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+  private static final String[] SINGLE_VALUE_HEADERS = {"X-Real-IP", "X-Remote-Ip-Address"};
+
+  private static final List<String> DEFAULT_TRUSTED_PROXIES =
+      List.of(
+          "10.0.0.0/8",
+          "127.0.0.0/8",
+          "169.254.0.0/16",
+          "172.16.0.0/12",
+          "192.168.0.0/16",
+          "::1/128",
+          "fc00::/7",
+          "fe80::/10");
+
+  private static final List<String> RESERVED_RANGES =
+      List.of(
+          "0.0.0.0/8",
+          "10.0.0.0/8",
+          "100.64.0.0/10",
+          "127.0.0.0/8",
+          "169.254.0.0/16",
+          "172.16.0.0/12",
+          "192.0.0.0/24",
+          "192.0.2.0/24",
+          "192.168.0.0/16",
+          "198.18.0.0/15",
+          "198.51.100.0/24",
+          "203.0.113.0/24",
+          "224.0.0.0/4",
+          "240.0.0.0/4",
+          "::/128",
+          "::1/128",
+          "100::/64",
+          "2001:db8::/32",
+          "fc00::/7",
+          "fe80::/10",
+          "ff00::/8");
+
+  private final CidrTrie reserved = new CidrTrie(RESERVED_RANGES);
+  private final CidrTrie trustedProxies;
+
+  /**
+   * Constructs a new {@link ClientIpResolver}.
+   *
+   * @param trustedProxies the CIDR ranges of trusted proxies; defaults are used when empty
+   */
+  public ClientIpResolver(
+      @Value("${spring.application.network.trusted-proxies:}") String[] trustedProxies) {
+    var ranges =
+        trustedProxies == null
+            ? List.<String>of()
+            : Arrays.stream(trustedProxies).filter(r -> r != null && !r.isBlank()).toList();
+    this.trustedProxies = new CidrTrie(ranges.isEmpty() ? DEFAULT_TRUSTED_PROXIES : ranges);
+  }
+
+  /**
+   * Checks whether the given text is an IPv4 or IPv6 literal outside of any private or reserved
+   * range.
+   *
+   * @param ip the address to check
+   * @return {@code true} if the address is a valid public IP address
+   */
+  public boolean isPublic(String ip) {
+    var parser = new IpAddressParser();
+    return parser.parse(ip) && !reserved.contains(parser);
+  }
+
+  /**
+   * Checks whether the given text is an IP literal within the trusted proxy ranges.
+   *
+   * @param ip the address to check
+   * @return {@code true} if the address belongs to a trusted proxy
+   */
+  public boolean isTrustedProxy(String ip) {
+    var parser = new IpAddressParser();
+    return parser.parse(ip) && trustedProxies.contains(parser);
+  }
+
+  /**
+   * Resolves the client IP address of the given request.
+   *
+   * <p>If the remote peer is not a trusted proxy, its address is returned as is. Otherwise, the
+   * {@code X-Forwarded-For} chain is walked from right to left and the first hop outside of the
+   * trusted proxy ranges is returned. When no such hop exists, the leftmost valid hop, the {@code
+   * X-Real-IP} or {@code X-Remote-Ip-Address} header, or the remote address is used, in that order.
+   *
+   * @param request the HTTP request
+   * @return the client IP address, or {@code null} if the request carries no parseable address
+   */
+  public String resolve(HttpServletRequest request) {
+    var parser = new IpAddressParser();
+    var remoteAddress = request.getRemoteAddr();
+    var remoteValid = remoteAddress != null && parser.parse(remoteAddress);
+    if (remoteValid && !trustedProxies.contains(parser)) return remoteAddress.trim();
+
+    var forwarded = request.getHeader(X_FORWARDED_FOR);
+    if (forwarded != null && !forwarded.isEmpty()) {
+      var end = forwarded.length();
+      var leftmostStart = -1;
+      var leftmostEnd = -1;
+      while (end > 0) {
+        var comma = forwarded.lastIndexOf(',', end - 1);
+        var start = comma + 1;
+        if (!parser.parse(forwarded, start, end)) break;
+        if (!trustedProxies.contains(parser)) return trim(forwarded, start, end);
+        leftmostStart = start;
+        leftmostEnd = end;
+        end = comma;
+      }
+
+      if (leftmostStart >= 0) return trim(forwarded, leftmostStart, leftmostEnd);
+    }
+
+    for (var header : SINGLE_VALUE_HEADERS) {
+      var value = request.getHeader(header);
+      if (value == null) continue;
+      var comma = value.indexOf(',');
+      var end = comma < 0 ? value.length() : comma;
+      if (parser.parse(value, 0, end)) return trim(value, 0, end);
+    }
+
+    return remoteValid ? remoteAddress.trim() : null;
+  }
+
+  private static String trim(String value, int from, int to) {
+    while (from < to && Character.isWhitespace(value.charAt(from))) from++;
+    while (to > from && Character.isWhitespace(value.charAt(to - 1))) to--;
+    return value.substring(from, to);
+  }
+}
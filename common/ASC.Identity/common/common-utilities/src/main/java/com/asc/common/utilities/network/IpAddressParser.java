@@ -0,0 +1,252 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.network;
+
+/**
+ * Parses textual IPv4 and IPv6 literals into a 128-bit numeric form without any name resolution.
+ *
+ * <p>IPv4 addresses are represented in their IPv4-mapped IPv6 form ({@code ::ffff:a.b.c.d}), so a
+ * single 128-bit key space covers both families. Surrounding whitespace, IPv6 brackets, ports and
+ * zone identifiers are ignored. The parser works directly on the character range it is given and
+ * does not allocate, which makes it suitable for per-request header parsing.
+ *
+ * <p>Instances hold the result of the last successful {@link #parse} call and are therefore not
+ * thread-safe. They are cheap to create and may be reused for several candidates.
+ */
+public final class IpAddressParser {
+  private static final long IPV4_MAPPED_PREFIX = 0x0000_ffff_0000_0000L;
+
+  private long high;
+  private long low;
+
+  // Scratch state for IPv6 parsing: groups before and after the "::" compression marker
+  private long headHigh;
+  private long headLow;
+  private long tailHigh;
+  private long tailLow;
+
+  /**
+   * Parses the whole given text as an IP literal.
+   *
+   * @param text the text to parse
+   * @return {@code true} if the text is a valid IPv4 or IPv6 literal
+   */
+  public boolean parse(CharSequence text) {
+    return text != null && parse(text, 0, text.length());
+  }
+
+  /**
+   * Parses the given character range as an IP literal.
+   *
+   * @param text the text containing the literal
+   * @param from the start index, inclusive
+   * @param to the end index, exclusive
+   * @return {@code true} if the range is a valid IPv4 or IPv6 literal
+   */
+  public boolean parse(CharSequence text, int from, int to) {
+    while (from < to && Character.isWhitespace(text.charAt(from))) from++;
+    while (to > from && Character.isWhitespace(text.charAt(to - 1))) to--;
+    if (from >= to) return false;
+
+    if (text.charAt(from) == '[') {
+      var closing = indexOf(text, ']', from + 1, to);
+      if (closing < 0) return false;
+      return parseIPv6(text, from + 1, stripZone(text, from + 1, closing));
+    }
+
+    var firstColon = indexOf(text, ':', from, to);
+    if (firstColon < 0) return parseIPv4Address(text, from, to);
+    if (indexOf(text, ':', firstColon + 1, to) < 0)
+      return parseIPv4Address(text, from, firstColon); // IPv4 with a port
+
+    return parseIPv6(text, from, stripZone(text, from, to));
+  }
+
+  /**
+   * Returns the upper 64 bits of the last parsed address.
+   *
+   * @return the upper 64 bits
+   */
+  public long high() {
+    return high;
+  }
+
+  /**
+   * Returns the lower 64 bits of the last parsed address.
+   *
+   * @return the lower 64 bits
+   */
+  public long low() {
+    return low;
+  }
+
+  /**
+   * Indicates whether the last parsed address is an IPv4 (or IPv4-mapped) address.
+   *
+   * @return {@code true} for IPv4 addresses
+   */
+  public boolean isIPv4() {
+    return high == 0 && (low & 0xffff_ffff_0000_0000L) == IPV4_MAPPED_PREFIX;
+  }
+
+  private boolean parseIPv4Address(CharSequence text, int from, int to) {
+    var value = parseIPv4(text, from, to);
+    if (value < 0) return false;
+    high = 0;
+    low = IPV4_MAPPED_PREFIX | value;
+    return true;
+  }
+
+  /**
+   * Parses a dotted-quad IPv4 literal.
+   *
+   * @return the 32-bit address as a non-negative long, or {@code -1} if the literal is invalid
+   */
+  private static long parseIPv4(CharSequence text, int from, int to) {
+    long value = 0;
+    var octets = 0;
+    var i = from;
+    while (i < to) {
+      var octet = 0;
+      var digits = 0;
+      while (i < to) {
+        var c = text.charAt(i);
+        if (c < '0' || c > '9') break;
+        octet = octet * 10 + (c - '0');
+        if (++digits > 3 || octet > 255) return -1;
+        i++;
+      }
+
+      if (digits == 0 || ++octets > 4) return -1;
+      value = (value << 8) | octet;
+      if (i == to) break;
+      if (text.charAt(i) != '.' || ++i == to) return -1;
+    }
+
+    return octets == 4 ? value : -1;
+  }
+
+  private boolean parseIPv6(CharSequence text, int from, int to) {
+    if (to - from < 2) return false;
+
+    headHigh = headLow = tailHigh = tailLow = 0;
+    var groups = 0;
+    var compressed = false;
+    var headGroups = 0;
+    var i = from;
+
+    if (text.charAt(i) == ':') {
+      if (text.charAt(i + 1) != ':') return false;
+      compressed = true;
+      i += 2;
+    }
+
+    while (i < to) {
+      var start = i;
+      var group = 0;
+      var digits = 0;
+      while (i < to) {
+        var digit = Character.digit(text.charAt(i), 16);
+        if (digit < 0) break;
+        group = (group << 4) | digit;
+        if (++digits > 4) return false;
+        i++;
+      }
+
+      if (i < to && text.charAt(i) == '.') {
+        var embedded = parseIPv4(text, start, to);
+        if (embedded < 0 || groups > 6) return false;
+        append((int) (embedded >>> 16), compressed);
+        append((int) (embedded & 0xffff), compressed);
+        groups += 2;
+        i = to;
+        break;
+      }
+
+      if (digits == 0 || ++groups > 8) return false;
+      append(group, compressed);
+      if (i == to) break;
+      if (text.charAt(i) != ':' || ++i == to) return false;
+      if (text.charAt(i) == ':') {
+        if (compressed) return false;
+        compressed = true;
+        headGroups = groups;
+        i++;
+      }
+    }
+
+    if (compressed ? groups > 7 : groups != 8) return false;
+    if (!compressed) headGroups = groups;
+
+    // Place the groups seen before "::" at the top of the address and OR in the rest
+    var shift = 16 * (8 - headGroups);
+    if (shift == 0) {
+      high = headHigh;
+      low = headLow;
+    } else if (shift >= 128) {
+      high = 0;
+      low = 0;
+    } else if (shift >= 64) {
+      high = headLow << (shift - 64);
+      low = 0;
+    } else {
+      high = (headHigh << shift) | (headLow >>> (64 - shift));
+      low = headLow << shift;
+    }
+
+    high |= tailHigh;
+    low |= tailLow;
+    return true;
+  }
+
+  private void append(int group, boolean tail) {
+    if (tail) {
+      tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+      tailLow = (tailLow << 16) | group;
+    } else {
+      headHigh = (headHigh << 16) | (headLow >>> 48);
+      headLow = (headLow << 16) | group;
+    }
+  }
+
+  private static int stripZone(CharSequence text, int from, int to) {
+    var zone = indexOf(text, '%', from, to);
+    return zone < 0 ? to : zone;
+  }
+
+  private static int indexOf(CharSequence text, char c, int from, int to) {
+    for (var i = from; i < to; i++) if (text.charAt(i) == c) return i;
+    return -1;
+  }
+}
@@ -35,11 +35,13 @@ package com.asc.common.utilities.validation;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.Base64;
 
 /**
  * Validator for the {@link LogoSize} annotation. Ensures that a base64-encoded string representing
  * a logo does not exceed the specified byte size and character length.
+ *
+ * <p>The decoded size is derived from the length and padding of the base64 payload, so the logo is
+ * never decoded during validation.
  */
 public class LogoSizeValidator implements ConstraintValidator<LogoSize, String> {
   private int maxLength;
@@ -73,15 +75,36 @@ public class LogoSizeValidator implements ConstraintValidator<LogoSize, String>
       return false;
     }
 
-    try {
-      // Remove base64 metadata prefix if present (e.g., "data:image/png;base64,")
-      int base64Index = value.indexOf(",");
-      if (base64Index >= 0) value = value.substring(base64Index + 1);
+    // Skip base64 metadata prefix if present (e.g., "data:image/png;base64,")
+    var start = value.indexOf(",") + 1;
+    var length = value.length() - start;
+    if (length % 4 != 0) return false;
 
-      byte[] decodedBytes = Base64.getDecoder().decode(value);
-      return decodedBytes.length <= maxBytes;
-    } catch (IllegalArgumentException e) {
-      return false;
+    var padding = 0;
+    for (var i = start; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == '=') {
+        if (value.length() - i > 2) return false;
+        padding++;
+      } else if (padding > 0 || !isBase64(c)) {
+        return false;
+      }
     }
+
+    return (long) length / 4 * 3 - padding <= maxBytes;
+  }
+
+  /**
+   * Checks whether the character belongs to the standard base64 alphabet.
+   *
+   * @param c the character to check
+   * @return {@code true} if the character is a base64 digit; {@code false} otherwise
+   */
+  private static boolean isBase64(char c) {
+    return (c >= 'A' && c <= 'Z')
+        || (c >= 'a' && c <= 'z')
+        || (c >= '0' && c <= '9')
+        || c == '+'
+        || c == '/';
   }
 }
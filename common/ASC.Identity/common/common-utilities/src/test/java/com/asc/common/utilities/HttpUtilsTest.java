@@ -103,6 +103,16 @@ class HttpUtilsTest {
     assertFalse(httpUtils.isValidPublicIp("192.168.0.1"));
   }
 
+  @Test
+  void givenHostname_whenValidatingPublicIp_thenReturnsFalse() {
+    assertFalse(httpUtils.isValidPublicIp("example.com"));
+  }
+
+  @Test
+  void givenPublicIPv6_whenValidatingPublicIp_thenReturnsTrue() {
+    assertTrue(httpUtils.isValidPublicIp("2001:4860:4860::8888"));
+  }
+
   @Test
   void givenBlankIp_whenValidatingPublicIp_thenReturnsFalse() {
     assertFalse(httpUtils.isValidPublicIp(" "));
@@ -127,11 +137,19 @@ class HttpUtilsTest {
   }
 
   @Test
-  void givenRequestIpHeaderWithMultipleValues_whenGettingFirstRequestIp_thenReturnsFirstIp() {
+  void
+      givenTrustedProxyWithForwardedChain_whenGettingFirstRequestIp_thenReturnsFirstUntrustedHop() {
     var request =
         request(
-            null, Map.of("X-Remote-Ip-Address", "192.168.0.1, 10.0.0.1"), "8.8.8.8", null, null);
-    assertEquals("192.168.0.1", httpUtils.getFirstRequestIP(request));
+            null, Map.of("X-Forwarded-For", "1.1.1.1, 8.8.8.8, 10.0.0.1"), "10.0.0.2", null, null);
+    assertEquals("8.8.8.8", httpUtils.getFirstRequestIP(request));
+  }
+
+  @Test
+  void givenUntrustedPeerWithForwardedHeader_whenGettingFirstRequestIp_thenIgnoresHeader() {
+    var request =
+        request(null, Map.of("X-Remote-Ip-Address", "192.168.0.1"), "8.8.8.8", null, null);
+    assertEquals("8.8.8.8", httpUtils.getFirstRequestIP(request));
   }
 
   @Test
@@ -0,0 +1,119 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.agent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class UserAgentParserTest {
+  private static final String CHROME_WINDOWS =
+      "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko)"
+          + " Chrome/120.0.6099.130 Safari/537.36";
+  private static final String SAFARI_IPHONE =
+      "Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like"
+          + " Gecko) Version/17.1 Mobile/15E148 Safari/604.1";
+  private static final String FIREFOX_MAC =
+      "Mozilla/5.0 (Macintosh; Intel Mac OS X 14.1; rv:120.0) Gecko/20100101 Firefox/120.0";
+  private static final String EDGE_WINDOWS =
+      "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko)"
+          + " Chrome/120.0.0.0 Safari/537.36 Edg/120.0.2210.91";
+  private static final String CHROME_ANDROID_TABLET =
+      "Mozilla/5.0 (Linux; Android 13; SM-X700) AppleWebKit/537.36 (KHTML, like Gecko)"
+          + " Chrome/120.0.0.0 Safari/537.36";
+  private static final String GOOGLEBOT =
+      "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)";
+
+  private final UserAgentParser parser = new UserAgentParser(16);
+
+  @Test
+  void whenChromeOnWindows_thenMajorVersionAndDesktopAreReported() {
+    assertEquals(
+        new ClientFingerprint("Chrome", "120", "Windows 10", ClientFingerprint.DeviceClass.DESKTOP),
+        parser.parse(CHROME_WINDOWS));
+  }
+
+  @Test
+  void whenSafariOnIphone_thenIosMobileIsReported() {
+    assertEquals(
+        new ClientFingerprint(
+            "Safari", "17.1", "iPhone OS 17", ClientFingerprint.DeviceClass.MOBILE),
+        parser.parse(SAFARI_IPHONE));
+  }
+
+  @Test
+  void whenFirefoxOnMac_thenFullVersionIsReported() {
+    var fingerprint = parser.parse(FIREFOX_MAC);
+
+    assertEquals("Firefox 120.0", fingerprint.browserLabel());
+    assertEquals("Mac OS X 14 Apple Mac", fingerprint.platform());
+  }
+
+  @Test
+  void whenEdgeAdvertisesChrome_thenEdgeIsReported() {
+    assertEquals("Edge 120", parser.parse(EDGE_WINDOWS).browserLabel());
+  }
+
+  @Test
+  void whenAndroidWithoutMobileToken_thenTabletIsReported() {
+    var fingerprint = parser.parse(CHROME_ANDROID_TABLET);
+
+    assertEquals("Android 13", fingerprint.platform());
+    assertEquals(ClientFingerprint.DeviceClass.TABLET, fingerprint.deviceClass());
+  }
+
+  @Test
+  void whenCrawler_thenBotIsReported() {
+    assertEquals(ClientFingerprint.DeviceClass.BOT, parser.parse(GOOGLEBOT).deviceClass());
+  }
+
+  @Test
+  void whenUserAgentIsMissing_thenUnknownIsReturned() {
+    assertSame(ClientFingerprint.UNKNOWN, parser.parse(null));
+    assertSame(ClientFingerprint.UNKNOWN, parser.parse(" "));
+  }
+
+  @Test
+  void whenSameUserAgentIsParsedTwice_thenCachedFingerprintIsReturned() {
+    assertSame(parser.parse(CHROME_WINDOWS), parser.parse(CHROME_WINDOWS));
+  }
+
+  @Test
+  void whenUserAgentIsOversized_thenItIsParsedTruncated() {
+    var oversized = CHROME_WINDOWS + " " + "x".repeat(UserAgentParser.MAX_USER_AGENT_LENGTH);
+
+    assertEquals("Chrome", parser.parse(oversized).browser());
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ClientIpResolverTest {
+  private final ClientIpResolver resolver = new ClientIpResolver(null);
+
+  private static HttpServletRequest request(String remoteAddr, String forwardedFor) {
+    var request = mock(HttpServletRequest.class);
+    when(request.getRemoteAddr()).thenReturn(remoteAddr);
+    when(request.getHeader("X-Forwarded-For")).thenReturn(forwardedFor);
+    return request;
+  }
+
+  @Test
+  void givenReservedAddresses_whenCheckingPublic_thenReturnsFalse() {
+    for (var ip :
+        List.of("10.1.1.1", "172.20.0.1", "100.64.1.1", "224.0.0.1", "::1", "fd00::1", "fe80::1"))
+      assertFalse(resolver.isPublic(ip), ip);
+  }
+
+  @Test
+  void givenPublicAddresses_whenCheckingPublic_thenReturnsTrue() {
+    for (var ip : List.of("8.8.8.8", "172.32.0.1", "2606:4700:4700::1111", "::ffff:1.1.1.1"))
+      assertTrue(resolver.isPublic(ip), ip);
+  }
+
+  @Test
+  void givenUntrustedPeer_whenResolving_thenIgnoresForwardedHeader() {
+    assertEquals("8.8.8.8", resolver.resolve(request("8.8.8.8", "1.1.1.1")));
+  }
+
+  @Test
+  void givenTrustedProxyChain_whenResolving_thenWalksRightToLeft() {
+    var request = request("10.0.0.1", "9.9.9.9, 1.1.1.1 , 192.168.1.10");
+    assertEquals("1.1.1.1", resolver.resolve(request));
+  }
+
+  @Test
+  void givenOnlyTrustedHops_whenResolving_thenReturnsLeftmostHop() {
+    assertEquals("10.0.0.7", resolver.resolve(request("127.0.0.1", "10.0.0.7, 10.0.0.8")));
+  }
+
+  @Test
+  void givenMalformedHop_whenResolving_thenStopsAtLastTrustedHop() {
+    assertEquals("10.0.0.8", resolver.resolve(request("127.0.0.1", "evil, 10.0.0.8")));
+  }
+
+  @Test
+  void givenRealIpHeader_whenResolvingWithoutForwardedFor_thenUsesRealIp() {
+    var request = request("127.0.0.1", null);
+    when(request.getHeader("X-Real-IP")).thenReturn("2001:4860::1");
+    assertEquals("2001:4860::1", resolver.resolve(request));
+  }
+
+  @Test
+  void givenConfiguredTrustedProxies_whenResolving_thenOnlyThoseAreTrusted() {
+    var configured = new ClientIpResolver(new String[] {"203.0.113.0/24"});
+    assertEquals("10.0.0.1", configured.resolve(request("10.0.0.1", "8.8.8.8")));
+    assertEquals("8.8.8.8", configured.resolve(request("203.0.113.5", "8.8.8.8")));
+  }
+
+  @Test
+  void givenNoAddress_whenResolving_thenReturnsNull() {
+    assertNull(resolver.resolve(request(null, null)));
+  }
+
+  @Test
+  void givenMalformedRange_whenCreating_thenThrows() {
+    assertThrows(IllegalArgumentException.class, () -> new CidrTrie(List.of("10.0.0.0/33")));
+    assertThrows(IllegalArgumentException.class, () -> new CidrTrie(List.of("nonsense/8")));
+  }
+}
@@ -0,0 +1,122 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.common.utilities.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IpAddressParserTest {
+  private final IpAddressParser parser = new IpAddressParser();
+
+  @Test
+  void givenIPv4Literal_whenParsing_thenReturnsMappedAddress() {
+    assertTrue(parser.parse("192.0.2.33"));
+    assertTrue(parser.isIPv4());
+    assertEquals(0L, parser.high());
+    assertEquals(0x0000_ffff_c000_0221L, parser.low());
+  }
+
+  @Test
+  void givenIPv4LiteralWithPort_whenParsing_thenIgnoresPort() {
+    assertTrue(parser.parse(" 8.8.4.4:443 "));
+    assertEquals(0x0000_ffff_0808_0404L, parser.low());
+  }
+
+  @Test
+  void givenCompressedIPv6Literal_whenParsing_thenExpandsGroups() {
+    assertTrue(parser.parse("2001:db8::ff00:42:8329"));
+    assertFalse(parser.isIPv4());
+    assertEquals(0x2001_0db8_0000_0000L, parser.high());
+    assertEquals(0x0000_ff00_0042_8329L, parser.low());
+  }
+
+  @Test
+  void givenFullIPv6Literal_whenParsing_thenReturnsAddress() {
+    assertTrue(parser.parse("2001:0db8:0000:0000:0000:ff00:0042:8329"));
+    assertEquals(0x2001_0db8_0000_0000L, parser.high());
+    assertEquals(0x0000_ff00_0042_8329L, parser.low());
+  }
+
+  @Test
+  void givenBracketedIPv6WithPortAndZone_whenParsing_thenReturnsAddress() {
+    assertTrue(parser.parse("[fe80::1%eth0]:8080"));
+    assertEquals(0xfe80_0000_0000_0000L, parser.high());
+    assertEquals(1L, parser.low());
+  }
+
+  @Test
+  void givenLoopbackAndUnspecifiedIPv6_whenParsing_thenReturnsAddress() {
+    assertTrue(parser.parse("::1"));
+    assertEquals(1L, parser.low());
+    assertTrue(parser.parse("::"));
+    assertEquals(0L, parser.low());
+    assertTrue(parser.parse("1::"));
+    assertEquals(0x0001_0000_0000_0000L, parser.high());
+  }
+
+  @Test
+  void givenIPv4MappedIPv6_whenParsing_thenTreatsAsIPv4() {
+    assertTrue(parser.parse("::ffff:10.1.2.3"));
+    assertTrue(parser.isIPv4());
+    assertEquals(0x0000_ffff_0a01_0203L, parser.low());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        " ",
+        "example.com",
+        "256.1.1.1",
+        "1.2.3",
+        "1.2.3.4.5",
+        "1..2.3",
+        "1.2.3.",
+        "1:2:3:4:5:6:7:8:9",
+        "1::2::3",
+        "12345::",
+        ":1:2",
+        "1:2:3:4:5:6:7:",
+        "[::1",
+        "gggg::1"
+      })
+  void givenInvalidLiteral_whenParsing_thenReturnsFalse(String literal) {
+    assertFalse(parser.parse(literal));
+  }
+}
@@ -112,4 +112,24 @@ class LogoSizeValidatorTest {
 
     assertTrue(validator.isValid(dataPrefixValue, null));
   }
+
+  @Test
+  void givenPaddedValueAtMaxBytes_whenValidating_thenReturnsTrue() {
+    var validator = new LogoSizeValidator();
+    validator.initialize(logoSize(100, 4L));
+
+    assertTrue(validator.isValid(Base64.getEncoder().encodeToString("abcd".getBytes()), null));
+    assertTrue(validator.isValid(Base64.getEncoder().encodeToString("ab".getBytes()), null));
+  }
+
+  @Test
+  void givenMalformedBase64_whenValidating_thenReturnsFalse() {
+    var validator = new LogoSizeValidator();
+    validator.initialize(logoSize(100, 100L));
+
+    assertFalse(validator.isValid("data:image/png;base64,AAA", null));
+    assertFalse(validator.isValid("data:image/png;base64,A=AA", null));
+    assertFalse(validator.isValid("data:image/png;base64,A===", null));
+    assertFalse(validator.isValid("data:image/png;base64,AA*A", null));
+  }
 }
@@ -0,0 +1,121 @@
+// (c) Copyright Ascensio System SIA 2009-2026
+//
+// This program is a free software product.
+// You can redistribute it and/or modify it under the terms
+// of the GNU Affero General Public License (AGPL) version 3 as published by the Free Software
+// Foundation. In accordance with Section 7(a) of the GNU AGPL its Section 15 shall be amended
+// to the effect that Ascensio System SIA expressly excludes the warranty of non-infringement of
+// any third-party rights.
+//
+// This program is distributed WITHOUT ANY WARRANTY, without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR  PURPOSE. For details, see
+// the GNU AGPL at: http://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA at Lubanas st. 125a-25, Riga, Latvia, EU, LV-1021.
+//
+// The  interactive user interfaces in modified source and object code versions of the Program must
+// display Appropriate Legal Notices, as required under Section 5 of the GNU AGPL version 3.
+//
+// Pursuant to Section 7(b) of the License you must retain the original Product logo when
+// distributing the program. Pursuant to Section 7(e) we decline to grant you any rights under
+// trademark law for use of our trademarks.
+//
+// All the Product's GUI elements, including illustrations and icon sets, as well as technical
+// writing
+// content are licensed under the terms of the Creative Commons Attribution-ShareAlike 4.0
+// International. See the License terms at http://creativecommons.org/licenses/by-sa/4.0/legalcode
+
+
+// Exercises the registration write path: create, read back and delete a client.
+// To compare the DynamoDB repositories, start docker-compose-saas.yml against DynamoDB Local
+// once with DYNAMODB_CLIENT=sync and once with DYNAMODB_CLIENT=async and run this script
+// against the same BASE_URL each time.
+
+import http from 'k6/http';
+import {check, group, sleep} from 'k6';
+import {Rate} from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL
+const AUTH_COOKIE = __ENV.AUTH_COOKIE;
+const LOGO = 'data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==';
+
+function extractHostFromUrl(url) {
+    const urlParts = url.match(/^https?:\/\/([^/]+)(.*)/);
+    return urlParts ? urlParts[1] : '';
+}
+
+const HEADERS = {
+    headers: {
+        'Content-Type': 'application/json',
+        'Cookie': `asc_auth_key=${AUTH_COOKIE}`,
+        'X-Forwarded-Host': extractHostFromUrl(BASE_URL),
+    },
+};
+
+export let errorRate = new Rate('errors');
+
+export const options = {
+    stages: [
+        { duration: '1m', target: 5 },
+        { duration: '2m', target: 5 },
+        { duration: '1m', target: 10 },
+        { duration: '2m', target: 10 },
+        { duration: '1m', target: 0 },
+    ],
+};
+
+export default function () {
+    group('Client Command Controller Tests', function () {
+        let clientId;
+
+        group('POST /clients', function () {
+            let res = http.post(`${BASE_URL}/api/2.0/clients`, JSON.stringify({
+                name: `k6-${__VU}-${__ITER}`,
+                description: 'k6 benchmark client',
+                logo: LOGO,
+                website_url: 'https://example.com',
+                terms_url: 'https://example.com/terms',
+                policy_url: 'https://example.com/policy',
+                redirect_uris: ['https://example.com/callback'],
+                allowed_origins: ['https://example.com'],
+                logout_redirect_uri: 'https://example.com/logout',
+                scopes: ['accounts:read'],
+            }), HEADERS);
+            check(res, {
+                'is status 201': (r) => r.status === 201,
+                'response has client id': (r) => r.json('client_id') !== undefined,
+            }) || errorRate.add(1);
+            if (res.status !== 201) {
+                console.error(`Failed to create client: ${res.status} ${res.body}`);
+                return;
+            }
+            clientId = res.json('client_id');
+        });
+
+        if (!clientId) {
+            sleep(1);
+            return;
+        }
+
+        group('GET /clients/{clientId}', function () {
+            let res = http.get(`${BASE_URL}/api/2.0/clients/${clientId}`, HEADERS);
+            check(res, {
+                'is status 200': (r) => r.status === 200,
+            }) || errorRate.add(1);
+            if (res.status !== 200) {
+                console.error(`Failed to fetch client ${clientId}: ${res.status} ${res.body}`);
+            }
+        });
+
+        group('DELETE /clients/{clientId}', function () {
+            let res = http.del(`${BASE_URL}/api/2.0/clients/${clientId}`, null, HEADERS);
+            check(res, {
+                'is status 200': (r) => r.status === 200,
+            }) || errorRate.add(1);
+            if (res.status !== 200) {
+                console.error(`Failed to delete client ${clientId}: ${res.status} ${res.body}`);
+            }
+            sleep(1);
+        });
+    });
+}
@@ -0,0 +1,109 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.infrastructure.migration.callback;
+
+import java.sql.SQLException;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flyway callback reporting client logos that could not be moved to the logo store.
+ *
+ * <p>Inline logos that are not valid base64 data URIs are left in the {@code logo} column of {@code
+ * identity_clients} by the client logo migration. This callback warns about them after every
+ * migration, so that they can be fixed before the column is dropped.
+ */
+@Slf4j
+@Component
+public class ClientLogoMigrationCallback implements Callback {
+  private static final String UNMIGRATED_LOGOS_SQL =
+      "SELECT COUNT(*) FROM identity_clients WHERE logo IS NOT NULL AND logo_hash IS NULL";
+
+  /**
+   * Handles the event raised once all pending migrations have been applied.
+   *
+   * @param event the Flyway lifecycle event
+   * @param context the callback context
+   * @return {@code true} for {@link Event#AFTER_MIGRATE}
+   */
+  @Override
+  public boolean supports(Event event, Context context) {
+    return event == Event.AFTER_MIGRATE;
+  }
+
+  /**
+   * Allows the check to run within the migration transaction.
+   *
+   * @param event the Flyway lifecycle event
+   * @param context the callback context
+   * @return always {@code true}
+   */
+  @Override
+  public boolean canHandleInTransaction(Event event, Context context) {
+    return true;
+  }
+
+  /**
+   * Counts the clients still holding an inline logo without a stored logo and warns if any exist.
+   *
+   * @param event the Flyway lifecycle event
+   * @param context the callback context
+   */
+  @Override
+  public void handle(Event event, Context context) {
+    try (var statement = context.getConnection().createStatement();
+        var result = statement.executeQuery(UNMIGRATED_LOGOS_SQL)) {
+      if (result.next() && result.getLong(1) > 0)
+        log.warn(
+            "{} clients hold an inline logo that could not be migrated to the logo store. "
+                + "Fix or clear identity_clients.logo for them before the column is dropped",
+            result.getLong(1));
+    } catch (SQLException e) {
+      log.debug("Could not check for unmigrated client logos", e);
+    }
+  }
+
+  /**
+   * Returns the name of this callback.
+   *
+   * @return the callback name
+   */
+  @Override
+  public String getCallbackName() {
+    return "clientLogoMigration";
+  }
+}
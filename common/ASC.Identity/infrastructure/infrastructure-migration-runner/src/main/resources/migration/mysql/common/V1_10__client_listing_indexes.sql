@@ -0,0 +1,6 @@
+ALTER TABLE identity_clients
+    DROP INDEX idx_identity_clients_tenant_id;
+
+ALTER TABLE identity_clients
+    ADD INDEX idx_identity_clients_tenant_id_created_on (tenant_id, created_on, client_id),
+    ADD INDEX idx_identity_clients_tenant_id_created_by (tenant_id, created_by, created_on, client_id);
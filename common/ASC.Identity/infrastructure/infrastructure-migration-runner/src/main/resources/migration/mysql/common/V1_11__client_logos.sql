@@ -0,0 +1,33 @@
+CREATE TABLE identity_client_logos (
+    hash char(64) not null,
+    content_type varchar(100) not null,
+    content mediumblob not null,
+    created_on datetime(6) not null,
+    primary key (hash)
+) engine=InnoDB;
+
+ALTER TABLE identity_clients
+    ADD COLUMN logo_hash char(64) AFTER logo;
+
+-- Logos are addressed by the hash of their content type and content, so that equal bytes declared
+-- with different content types are stored separately.
+INSERT IGNORE INTO identity_client_logos (hash, content_type, content, created_on)
+SELECT SHA2(CONCAT(SUBSTRING_INDEX(SUBSTRING(logo, 6), ';', 1), ':',
+                   FROM_BASE64(SUBSTRING_INDEX(logo, ',', -1))), 256),
+       SUBSTRING_INDEX(SUBSTRING(logo, 6), ';', 1),
+       FROM_BASE64(SUBSTRING_INDEX(logo, ',', -1)),
+       UTC_TIMESTAMP(6)
+FROM identity_clients
+WHERE logo LIKE 'data:%;base64,%'
+  AND FROM_BASE64(SUBSTRING_INDEX(logo, ',', -1)) IS NOT NULL;
+
+UPDATE identity_clients c
+    JOIN identity_client_logos l
+        ON l.hash = SHA2(CONCAT(SUBSTRING_INDEX(SUBSTRING(c.logo, 6), ';', 1), ':',
+                                FROM_BASE64(SUBSTRING_INDEX(c.logo, ',', -1))), 256)
+SET c.logo_hash = l.hash,
+    c.logo      = NULL
+WHERE c.logo LIKE 'data:%;base64,%';
+
+-- The inline logo column is kept: logos that could not be migrated above stay in it and are
+-- reported after migrating. It is dropped by a later migration once no such logos are left.
@@ -0,0 +1,2 @@
+ALTER TABLE identity_authorizations
+    ADD INDEX idx_identity_authorizations_tenant_id_registered_client_id (tenant_id, registered_client_id);
@@ -0,0 +1,13 @@
+CREATE TABLE identity_revoked_tokens (
+    jti varchar(255) not null,
+    expires_at datetime(6) not null,
+    revoked_at datetime(6) not null,
+    primary key (jti),
+    index idx_identity_revoked_tokens_expires_at (expires_at)
+) engine=InnoDB;
+
+CREATE EVENT IF NOT EXISTS identity_delete_expired_revoked_tokens
+ON SCHEDULE EVERY 1 hour
+ON COMPLETION PRESERVE
+    DO
+DELETE FROM identity_revoked_tokens WHERE expires_at < NOW();
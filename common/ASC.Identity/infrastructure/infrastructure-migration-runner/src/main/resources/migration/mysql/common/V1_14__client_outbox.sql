@@ -0,0 +1,8 @@
+CREATE TABLE identity_client_outbox (
+    id bigint not null auto_increment,
+    type varchar(32) not null,
+    client_id varchar(36) not null,
+    tenant_id bigint not null,
+    created_on datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
@@ -35,7 +35,6 @@ package com.asc.identity.minified;
 
 import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
 import com.asc.common.service.transfer.message.ClientCacheTenantRemoveEvent;
-import com.asc.common.service.transfer.message.ClientRemovedEvent;
 import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
 import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
 import com.asc.common.utilities.crypto.EncryptionService;
@@ -139,7 +138,6 @@ public class BeanConfiguration {
    * @param clientQueryRepository read-side client repository
    * @param clientDomainService domain service with validation and invariants
    * @param encryptionService encryption service for client secrets
-   * @param authorizationMessagePublisher publisher used to trigger cleanup when a client is removed
    * @param clientDataMapper mapper between domain and persistence models
    * @param retryExecutor executor for retrying transient failures
    * @return configured {@link ClientUpdateCommandHandler}
@@ -150,7 +148,6 @@ public class BeanConfiguration {
       ClientQueryRepository clientQueryRepository,
       ClientDomainService clientDomainService,
       EncryptionService encryptionService,
-      AuthorizationMessagePublisher<ClientRemovedEvent> authorizationMessagePublisher,
       ClientDataMapper clientDataMapper,
       RetryExecutor retryExecutor) {
     return new ClientUpdateCommandHandler(
@@ -158,7 +155,6 @@ public class BeanConfiguration {
         clientQueryRepository,
         clientDomainService,
         encryptionService,
-        authorizationMessagePublisher,
         clientDataMapper,
         retryExecutor);
   }
@@ -33,11 +33,13 @@
 
 package com.asc.identity.minified;
 
+import com.asc.identity.minified.config.MinifiedRuntimeHints;
 import net.devh.boot.grpc.server.autoconfigure.GrpcServerSecurityAutoConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -48,10 +50,14 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * <p>This application combines both Authorization and Registration services into a single
  * deployable unit for simplified deployment scenarios. It configures entity scanning, JPA
  * repositories, caching, and scheduling for both services.
+ *
+ * <p>The {@code aot} build profile processes the application ahead of time; {@link
+ * MinifiedRuntimeHints} contributes the reflection hints Spring AOT cannot derive on its own.
  */
 @EnableCaching
 @EnableScheduling
 @EnableTransactionManagement
+@ImportRuntimeHints(MinifiedRuntimeHints.class)
 @EntityScan(
     basePackages = {
       "com.asc.authorization.data",
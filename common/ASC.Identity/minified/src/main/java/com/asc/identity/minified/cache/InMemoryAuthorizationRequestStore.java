@@ -0,0 +1,209 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.cache;
+
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.AuthorizationRequestStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory implementation of {@link AuthorizationRequestStore} using Caffeine cache.
+ *
+ * <p>This implementation is used in the minified deployment where Redis is not available. Requests
+ * are kept under their authorization id, with their state and authorization code stored as separate
+ * entries pointing at that id. Every entry expires after the time-to-live it was saved with, and
+ * codes are consumed with an atomic conditional removal.
+ */
+@Slf4j
+@Service
+@Profile("minified")
+public class InMemoryAuthorizationRequestStore implements AuthorizationRequestStore {
+  private static final String ID_KEY_PREFIX = "id:";
+  private static final String STATE_KEY_PREFIX = "state:";
+  private static final String CODE_KEY_PREFIX = "code:";
+
+  private final Cache<String, Entry> cache;
+
+  public InMemoryAuthorizationRequestStore() {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(100000)
+            .expireAfter(
+                new Expiry<String, Entry>() {
+                  @Override
+                  public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.timeToLive().toNanos();
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.timeToLive().toNanos();
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .build();
+    log.info("Initialized in-memory authorization request store with Caffeine");
+  }
+
+  /**
+   * Stores an in-flight authorization request together with its state and code entries.
+   *
+   * @param entity the {@link AuthorizationEntity} holding the state or authorization code
+   * @param timeToLive how long the request remains available
+   */
+  @Override
+  public void save(AuthorizationEntity entity, Duration timeToLive) {
+    findById(entity.getId())
+        .ifPresent(
+            previous -> {
+              if (previous.getState() != null
+                  && !Objects.equals(previous.getState(), entity.getState()))
+                cache.invalidate(STATE_KEY_PREFIX + previous.getState());
+              if (previous.getAuthorizationCodeValue() != null
+                  && !Objects.equals(
+                      previous.getAuthorizationCodeValue(), entity.getAuthorizationCodeValue()))
+                cache.invalidate(CODE_KEY_PREFIX + previous.getAuthorizationCodeValue());
+            });
+
+    cache.put(ID_KEY_PREFIX + entity.getId(), new Entry(entity, timeToLive));
+    if (entity.getState() != null)
+      cache.put(STATE_KEY_PREFIX + entity.getState(), new Entry(entity.getId(), timeToLive));
+    if (entity.getAuthorizationCodeValue() != null)
+      cache.put(
+          CODE_KEY_PREFIX + entity.getAuthorizationCodeValue(),
+          new Entry(entity.getId(), timeToLive));
+  }
+
+  /**
+   * Finds an in-flight authorization request by its authorization id.
+   *
+   * <p>A copy of the stored entity is returned, so that callers can't modify the stored request.
+   *
+   * @param id the authorization id
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  @Override
+  public Optional<AuthorizationEntity> findById(String id) {
+    return Optional.ofNullable(cache.getIfPresent(ID_KEY_PREFIX + id))
+        .map(entry -> ((AuthorizationEntity) entry.value()).toBuilder().build());
+  }
+
+  /**
+   * Finds an in-flight authorization request by its OAuth2 state.
+   *
+   * @param state the state value
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  @Override
+  public Optional<AuthorizationEntity> findByState(String state) {
+    return Optional.ofNullable(cache.getIfPresent(STATE_KEY_PREFIX + state))
+        .flatMap(entry -> findById((String) entry.value()));
+  }
+
+  /**
+   * Finds an in-flight authorization request by its authorization code, leaving the code in place.
+   *
+   * @param code the authorization code value
+   * @return an {@link Optional} containing the {@link AuthorizationEntity} if found, otherwise
+   *     empty
+   */
+  @Override
+  public Optional<AuthorizationEntity> findByAuthorizationCode(String code) {
+    return Optional.ofNullable(cache.getIfPresent(CODE_KEY_PREFIX + code))
+        .flatMap(entry -> findById((String) entry.value()));
+  }
+
+  /**
+   * Atomically removes the authorization code entry if it still points at the given request.
+   *
+   * @param id the authorization id of the request the code was issued for
+   * @param code the authorization code value
+   * @return {@code true} if the code entry was removed by this call
+   */
+  @Override
+  public boolean consumeAuthorizationCode(String id, String code) {
+    var consumed = new AtomicBoolean();
+    cache
+        .asMap()
+        .computeIfPresent(
+            CODE_KEY_PREFIX + code,
+            (key, entry) -> {
+              if (!id.equals(entry.value())) return entry;
+              consumed.set(true);
+              return null;
+            });
+    return consumed.get();
+  }
+
+  /**
+   * Removes an in-flight authorization request along with its state and code entries.
+   *
+   * @param id the authorization id
+   */
+  @Override
+  public void remove(String id) {
+    var entry = cache.asMap().remove(ID_KEY_PREFIX + id);
+    if (entry == null) return;
+
+    var entity = (AuthorizationEntity) entry.value();
+    if (entity.getState() != null) cache.invalidate(STATE_KEY_PREFIX + entity.getState());
+    if (entity.getAuthorizationCodeValue() != null)
+      cache.invalidate(CODE_KEY_PREFIX + entity.getAuthorizationCodeValue());
+  }
+
+  /**
+   * Cached value along with the time-to-live it was saved with.
+   *
+   * @param value the stored entity, or the authorization id for state and code entries
+   * @param timeToLive how long the entry remains available
+   */
+  private record Entry(Object value, Duration timeToLive) {}
+}
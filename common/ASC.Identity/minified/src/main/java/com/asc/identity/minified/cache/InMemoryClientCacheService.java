@@ -177,6 +177,18 @@ public class InMemoryClientCacheService implements ClientCacheService {
         tenantId.getValue());
   }
 
+  /**
+   * Evicts a single client from the cache for the given tenant. An in-memory eviction can't fail,
+   * so this is the same as {@link #evict(ClientId, TenantId)}.
+   *
+   * @param clientId client identifier
+   * @param tenantId tenant identifier
+   */
+  @Override
+  public void evictOrThrow(ClientId clientId, TenantId tenantId) {
+    evict(clientId, tenantId);
+  }
+
   /**
    * Evicts all cached clients for the given tenant.
    *
@@ -0,0 +1,83 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.config;
+
+import java.util.Arrays;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Leaves the beans that require the RabbitMQ client out of the ahead-of-time processed context.
+ *
+ * <p>The minified deployment ships Spring AMQP without the RabbitMQ client, so the beans guarded by
+ * {@code @ConditionalOnClass(name = "com.rabbitmq.client.Connection")} never exist at runtime. The
+ * {@code aot} build profile still puts the client on the processing classpath, because the runtime
+ * hints of Spring AMQP cannot be computed without it, which makes these conditions match at build
+ * time. This filter removes the beans again, including the beans declared by such configuration
+ * classes.
+ */
+public class AmqpClientBeanExcludeFilter implements BeanRegistrationExcludeFilter {
+  private static final String AMQP_CLIENT_PACKAGE = "com.rabbitmq.client.";
+
+  /**
+   * Checks whether the bean or the configuration class declaring it requires the RabbitMQ client.
+   *
+   * @param registeredBean the bean being processed
+   * @return {@code true} if the bean must not be registered
+   */
+  public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+    if (requiresAmqpClient(registeredBean.getBeanClass())) return true;
+    var factoryMethod = registeredBean.getMergedBeanDefinition().getResolvedFactoryMethod();
+    return factoryMethod != null && requiresAmqpClient(factoryMethod.getDeclaringClass());
+  }
+
+  /**
+   * Checks whether a class is conditional on a RabbitMQ client class.
+   *
+   * @param type the class to check
+   * @return {@code true} if the class is only registered when the RabbitMQ client is present
+   */
+  private boolean requiresAmqpClient(Class<?> type) {
+    var condition =
+        MergedAnnotations.from(
+                ClassUtils.getUserClass(type), MergedAnnotations.SearchStrategy.TYPE_HIERARCHY)
+            .get(ConditionalOnClass.class);
+    return condition.isPresent()
+        && Arrays.stream(condition.getStringArray("name"))
+            .anyMatch(name -> name.startsWith(AMQP_CLIENT_PACKAGE));
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps the minified application context processable ahead of time.
+ *
+ * <p>Spring AOT introspects every bean definition at build time, including lazy ones that are never
+ * instantiated at runtime. SpringDoc declares a lazy Querydsl operation customizer that is compiled
+ * against an older Spring Data and cannot be introspected; since no controller binds Querydsl
+ * predicates, its definition is removed before the context is processed.
+ */
+@Configuration
+public class AotCompatibilityConfiguration {
+  private static final String QUERYDSL_CUSTOMIZER_BEAN =
+      "queryDslQuerydslPredicateOperationCustomizer";
+
+  /**
+   * Removes the bean definitions that cannot be processed ahead of time.
+   *
+   * @return the {@link BeanFactoryPostProcessor} removing the definitions
+   */
+  @Bean
+  public static BeanFactoryPostProcessor aotIncompatibleBeanRemover() {
+    return beanFactory -> {
+      if (beanFactory instanceof BeanDefinitionRegistry registry
+          && registry.containsBeanDefinition(QUERYDSL_CUSTOMIZER_BEAN))
+        registry.removeBeanDefinition(QUERYDSL_CUSTOMIZER_BEAN);
+    };
+  }
+}
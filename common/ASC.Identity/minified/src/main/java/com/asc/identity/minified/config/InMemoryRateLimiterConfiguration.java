@@ -33,6 +33,8 @@
 
 package com.asc.identity.minified.config;
 
+import com.asc.common.autoconfigurations.limiter.Bucket4jConfiguration;
+import com.asc.common.autoconfigurations.limiter.HybridRateLimiter;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
@@ -67,14 +69,14 @@ public class InMemoryRateLimiterConfiguration {
   @ConditionalOnMissingBean
   public Function<HttpMethod, Supplier<BucketConfiguration>> bucketConfiguration() {
     log.info("Initializing in-memory rate limiter bucket configuration");
-    return (HttpMethod method) ->
-        () ->
-            BucketConfiguration.builder()
-                .addLimit(
-                    Bandwidth.classic(
-                        DEFAULT_CAPACITY,
-                        Refill.greedy(DEFAULT_REFILL_TOKENS, DEFAULT_REFILL_PERIOD)))
-                .build();
+    var configuration =
+        BucketConfiguration.builder()
+            .addLimit(
+                Bandwidth.classic(
+                    DEFAULT_CAPACITY, Refill.greedy(DEFAULT_REFILL_TOKENS, DEFAULT_REFILL_PERIOD)))
+            .build();
+    Supplier<BucketConfiguration> supplier = () -> configuration;
+    return (HttpMethod method) -> supplier;
   }
 
   @Bean
@@ -87,4 +89,13 @@ public class InMemoryRateLimiterConfiguration {
             (Caffeine<?, ?>) Caffeine.newBuilder().maximumSize(100_000);
     return new CaffeineProxyManager<>(builder, Duration.ofMinutes(1));
   }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public HybridRateLimiter hybridRateLimiter(ProxyManager<String> inMemoryProxyManager) {
+    log.info("Initializing in-memory rate limiter with single-token leases");
+    var properties = new Bucket4jConfiguration.HybridProperties();
+    properties.setAccuracy(1.0);
+    return new HybridRateLimiter(inMemoryProxyManager, properties);
+  }
 }
@@ -0,0 +1,139 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.server.authorization.settings.OAuth2TokenFormat;
+
+/**
+ * Runtime hints for the ahead-of-time processed minified deployment.
+ *
+ * <p>Spring AOT derives hints for beans, controllers and configuration properties on its own. This
+ * registrar covers the types the application only reaches reflectively:
+ *
+ * <ul>
+ *   <li>the Spring Security types and Jackson mixins that {@code AuthorizationMapper} uses to
+ *       (de)serialize authorization attributes and token metadata with default typing
+ *   <li>the Jackson modules discovered through {@link java.util.ServiceLoader}
+ *   <li>the generated gRPC stubs and protobuf messages, whose field accessors are resolved by
+ *       method name
+ * </ul>
+ */
+public class MinifiedRuntimeHints implements RuntimeHintsRegistrar {
+  private static final MemberCategory[] BINDING_CATEGORIES = {
+    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+    MemberCategory.INVOKE_DECLARED_METHODS,
+    MemberCategory.ACCESS_DECLARED_FIELDS
+  };
+
+  private static final String[] SECURITY_MIXIN_PACKAGES = {
+    "org.springframework.security.jackson2",
+    "org.springframework.security.oauth2.server.authorization.jackson2"
+  };
+  private static final String GRPC_PACKAGE = "com.asc.common.application.proto";
+  private static final String[] JACKSON_MODULE_SERVICES = {
+    "META-INF/services/com.fasterxml.jackson.databind.Module",
+    "META-INF/services/tools.jackson.databind.JacksonModule"
+  };
+
+  /**
+   * Registers the reflection and resource hints of the minified deployment.
+   *
+   * @param hints the hints to contribute to
+   * @param classLoader the class loader of the application
+   */
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (var type :
+        new Class<?>[] {
+          OAuth2AuthorizationRequest.class,
+          UsernamePasswordAuthenticationToken.class,
+          SimpleGrantedAuthority.class,
+          User.class,
+          OAuth2TokenFormat.class
+        }) hints.reflection().registerType(type, BINDING_CATEGORIES);
+    for (var packageName : SECURITY_MIXIN_PACKAGES)
+      registerTypes(hints, classLoader, packageName, "*Mixin", BINDING_CATEGORIES);
+
+    for (var service : JACKSON_MODULE_SERVICES) hints.resources().registerPattern(service);
+
+    registerTypes(
+        hints,
+        classLoader,
+        GRPC_PACKAGE,
+        "*",
+        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+        MemberCategory.INVOKE_PUBLIC_METHODS,
+        MemberCategory.ACCESS_DECLARED_FIELDS);
+  }
+
+  /**
+   * Registers the classes of a package whose names match a pattern for reflection.
+   *
+   * @param hints the hints to contribute to
+   * @param classLoader the class loader used to find the classes
+   * @param packageName the package of the classes
+   * @param namePattern the pattern of the simple class names
+   * @param categories the member categories to register
+   */
+  private void registerTypes(
+      RuntimeHints hints,
+      ClassLoader classLoader,
+      String packageName,
+      String namePattern,
+      MemberCategory... categories) {
+    var location = "classpath*:" + packageName.replace('.', '/') + "/" + namePattern + ".class";
+    try {
+      for (var resource :
+          new PathMatchingResourcePatternResolver(classLoader).getResources(location)) {
+        var fileName = resource.getFilename();
+        if (fileName == null) continue;
+        var className =
+            packageName + "." + fileName.substring(0, fileName.length() - ".class".length());
+        hints.reflection().registerType(TypeReference.of(className), categories);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not find the classes of " + packageName, e);
+    }
+  }
+}
@@ -35,12 +35,14 @@ package com.asc.identity.minified.messaging;
 
 import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
 import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
 import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
 import com.asc.common.service.transfer.message.ClientRemovedEvent;
 import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
 import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -51,7 +53,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>Instead of sending events to RabbitMQ, these publishers directly perform the cleanup
  * operations on authorizations and consents. This eliminates the need for RabbitMQ infrastructure
- * in minified deployments.
+ * in minified deployments. The unexpired access tokens of the removed authorizations are recorded
+ * as revoked before they are deleted. Each cleanup is also published as an application event, so
+ * that local caches of the removed authorizations and consents are evicted.
  */
 @Slf4j
 @Profile("minified")
@@ -71,6 +75,8 @@ public class DirectAuthorizationCleanupPublisher {
       implements AuthorizationMessagePublisher<ClientRemovedEvent> {
     private final JpaAuthorizationRepository authorizationRepository;
     private final JpaConsentRepository consentRepository;
+    private final JpaRevokedTokenRepository revokedTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Deletes all authorizations and consents associated with the removed client.
@@ -82,8 +88,10 @@ public class DirectAuthorizationCleanupPublisher {
     public void publish(ClientRemovedEvent message) {
       log.info("Directly cleaning up authorizations for client: {}", message.getClientId());
       try {
+        revokedTokenRepository.revokeAccessTokensByClientId(message.getClientId());
         authorizationRepository.deleteAllAuthorizationsByClientId(message.getClientId());
         consentRepository.deleteAllConsentsByClientId(message.getClientId());
+        eventPublisher.publishEvent(message);
         log.info(
             "Authorizations and consents for client {} have been removed", message.getClientId());
       } catch (Exception e) {
@@ -110,6 +118,8 @@ public class DirectAuthorizationCleanupPublisher {
       implements AuthorizationMessagePublisher<UserClientsRemovedEvent> {
     private final JpaAuthorizationRepository authorizationRepository;
     private final JpaConsentRepository consentRepository;
+    private final JpaRevokedTokenRepository revokedTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Deletes all authorizations and consents associated with the given user.
@@ -121,8 +131,10 @@ public class DirectAuthorizationCleanupPublisher {
     public void publish(UserClientsRemovedEvent message) {
       log.info("Directly cleaning up authorizations for user: {}", message.getUserId());
       try {
+        revokedTokenRepository.revokeAccessTokensByPrincipalId(message.getUserId());
         authorizationRepository.deleteAllAuthorizationsByPrincipalId(message.getUserId());
         consentRepository.deleteAllConsentsByPrincipalId(message.getUserId());
+        eventPublisher.publishEvent(message);
         log.info("Authorizations and consents for user {} have been removed", message.getUserId());
       } catch (Exception e) {
         log.error(
@@ -146,6 +158,8 @@ public class DirectAuthorizationCleanupPublisher {
       implements AuthorizationMessagePublisher<TenantClientsRemovedEvent> {
     private final JpaAuthorizationRepository authorizationRepository;
     private final JpaConsentRepository consentRepository;
+    private final JpaRevokedTokenRepository revokedTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Deletes all consents and authorizations for the specified tenant.
@@ -157,8 +171,10 @@ public class DirectAuthorizationCleanupPublisher {
     public void publish(TenantClientsRemovedEvent message) {
       log.info("Directly cleaning up authorizations for tenant: {}", message.getTenantId());
       try {
+        revokedTokenRepository.revokeAccessTokensByTenantId(message.getTenantId());
         consentRepository.deleteAllConsentsByTenantId(message.getTenantId());
         authorizationRepository.deleteAllAuthorizationsByTenantId(message.getTenantId());
+        eventPublisher.publishEvent(message);
         log.info(
             "Authorizations and consents for tenant {} have been removed", message.getTenantId());
       } catch (Exception e) {
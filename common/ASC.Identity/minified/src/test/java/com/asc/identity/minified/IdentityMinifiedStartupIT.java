@@ -0,0 +1,113 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClient;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Checks the cold start of the minified deployment against a time budget.
+ *
+ * <p>The budgets default to values for a developer machine and can be tightened on CI through the
+ * {@code STARTUP_TIME_BUDGET} and {@code FIRST_REQUEST_BUDGET} system properties, given as ISO-8601
+ * durations. Running the test with {@code -Dspring.aot.enabled=true} against the output of the
+ * {@code aot} build profile measures the ahead-of-time processed context.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "RUN_INTEGRATION_TESTS", matches = "true")
+class IdentityMinifiedStartupIT {
+  private static final Duration STARTUP_TIME_BUDGET =
+      Duration.parse(System.getProperty("STARTUP_TIME_BUDGET", "PT45S"));
+  private static final Duration FIRST_REQUEST_BUDGET =
+      Duration.parse(System.getProperty("FIRST_REQUEST_BUDGET", "PT2S"));
+
+  static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withInitScript("init.sql");
+
+  private ConfigurableApplicationContext context;
+  private Duration timeToReady;
+
+  @BeforeAll
+  void start() {
+    mysql.start();
+
+    var startedAt = System.nanoTime();
+    context =
+        new SpringApplicationBuilder(IdentityMinifiedApplication.class)
+            .profiles("test", "minified")
+            .properties(
+                Map.of(
+                    "spring.datasource.url", mysql.getJdbcUrl(),
+                    "spring.datasource.username", mysql.getUsername(),
+                    "spring.datasource.password", mysql.getPassword(),
+                    "spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver"))
+            .run();
+    timeToReady = Duration.ofNanos(System.nanoTime() - startedAt);
+  }
+
+  @AfterAll
+  void stop() {
+    if (context != null) context.close();
+    mysql.stop();
+  }
+
+  @Test
+  void whenApplicationStarts_thenItIsReadyWithinBudget() {
+    assertThat(timeToReady).isLessThanOrEqualTo(STARTUP_TIME_BUDGET);
+  }
+
+  @Test
+  void whenFirstRequestIsServed_thenItCompletesWithinBudget() {
+    var port = context.getEnvironment().getRequiredProperty("local.server.port");
+    var restClient = RestClient.builder().baseUrl("http://localhost:" + port).build();
+
+    var startedAt = System.nanoTime();
+    var response = restClient.get().uri("/oauth2/jwks").retrieve().toEntity(String.class);
+    var latency = Duration.ofNanos(System.nanoTime() - startedAt);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(latency).isLessThanOrEqualTo(FIRST_REQUEST_BUDGET);
+  }
+}
@@ -0,0 +1,307 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.asc.authorization.application.configuration.properties.RegisteredClientConfigurationProperties;
+import com.asc.authorization.application.configuration.properties.SecurityConfigurationProperties;
+import com.asc.authorization.application.exception.authorization.AuthorizationPersistenceException;
+import com.asc.authorization.application.mapper.AuthorizationMapper;
+import com.asc.authorization.application.security.oauth.revocation.RecentRevocations;
+import com.asc.authorization.application.security.oauth.service.AuthorizationService;
+import com.asc.authorization.application.security.oauth.service.RegisteredClientAccessibilityService;
+import com.asc.authorization.application.security.oauth.service.RemoteLookupBatcher;
+import com.asc.authorization.application.security.oauth.service.RemoteLookupCache;
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import com.asc.authorization.data.authorization.repository.JpaAuthorizationRepository;
+import com.asc.authorization.data.consent.repository.JpaConsentRepository;
+import com.asc.authorization.data.revocation.repository.JpaRevokedTokenRepository;
+import com.asc.common.messaging.converter.RpcMessageProperties;
+import com.asc.common.utilities.crypto.EncryptionService;
+import com.asc.common.utilities.crypto.HashingService;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.endpoint.PkceParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.authentication.ClientSecretAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AccessTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeAuthenticationProvider;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2AuthorizationCodeAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
+import org.springframework.security.oauth2.server.authorization.client.InMemoryRegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContextHolder;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.settings.OAuth2TokenFormat;
+import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
+import org.springframework.security.oauth2.server.authorization.token.DelegatingOAuth2TokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2AccessTokenGenerator;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2RefreshTokenGenerator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Exchanges authorization codes kept in the {@link InMemoryAuthorizationRequestStore} through the
+ * client authentication and authorization code providers of Spring Authorization Server, the way a
+ * confidential client's token request does.
+ */
+class InMemoryAuthorizationCodeExchangeTest {
+  private static final String CODE = "code";
+  private static final String REDIRECT_URI = "https://client.example/callback";
+  private static final String CODE_VERIFIER = "dBjftJeZ4CVP-mB92K27uhbUJU1p1r_wW1gFWFOEjXk";
+  private static final String CODE_CHALLENGE = "E9Melhoa2OwvFrEMTJguCHaoeK1t8URWbuGJSstw-cM";
+
+  private final RegisteredClient registeredClient =
+      RegisteredClient.withId("client")
+          .clientId("client")
+          .clientSecret("secret")
+          .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+          .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+          .redirectUri(REDIRECT_URI)
+          .scope("files:read")
+          .tokenSettings(
+              TokenSettings.builder().accessTokenFormat(OAuth2TokenFormat.REFERENCE).build())
+          .build();
+
+  private final JpaAuthorizationRepository jpaAuthorizationRepository =
+      mock(JpaAuthorizationRepository.class);
+
+  private AuthorizationService authorizationService;
+  private ClientSecretAuthenticationProvider clientAuthenticationProvider;
+  private OAuth2AuthorizationCodeAuthenticationProvider authorizationCodeProvider;
+
+  @BeforeEach
+  void setUp() {
+    var registeredClientRepository = new InMemoryRegisteredClientRepository(registeredClient);
+    var accessibilityService = mock(RegisteredClientAccessibilityService.class);
+    when(accessibilityService.validateClientAccessibility(any())).thenReturn(true);
+
+    authorizationService =
+        new AuthorizationService(
+            new MockEnvironment(),
+            new SecurityConfigurationProperties(),
+            new RegisteredClientConfigurationProperties(),
+            mock(PlatformTransactionManager.class),
+            null,
+            null,
+            new RpcMessageProperties(),
+            new AuthorizationMapper(),
+            mock(EncryptionService.class),
+            mock(HashingService.class),
+            mock(JpaConsentRepository.class),
+            jpaAuthorizationRepository,
+            mock(JpaRevokedTokenRepository.class),
+            mock(RecentRevocations.class),
+            accessibilityService,
+            registeredClientRepository,
+            mock(RemoteLookupCache.class),
+            mock(RemoteLookupBatcher.class),
+            new InMemoryAuthorizationRequestStore());
+
+    clientAuthenticationProvider =
+        new ClientSecretAuthenticationProvider(registeredClientRepository, authorizationService);
+    clientAuthenticationProvider.setPasswordEncoder(NoOpPasswordEncoder.getInstance());
+    authorizationCodeProvider =
+        new OAuth2AuthorizationCodeAuthenticationProvider(
+            authorizationService,
+            new DelegatingOAuth2TokenGenerator(
+                new OAuth2AccessTokenGenerator(), new OAuth2RefreshTokenGenerator()));
+
+    AuthorizationServerContextHolder.setContext(
+        new AuthorizationServerContext() {
+          @Override
+          public String getIssuer() {
+            return "https://issuer.example";
+          }
+
+          @Override
+          public AuthorizationServerSettings getAuthorizationServerSettings() {
+            return AuthorizationServerSettings.builder().build();
+          }
+        });
+
+    onRequest(Map.of());
+    authorizationService.save(issuedCode());
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    AuthorizationServerContextHolder.resetContext();
+  }
+
+  @Test
+  void givenIssuedCode_whenExchanged_thenTokensAreIssuedAndCodeCannotBeReplayed() {
+    var tokens = exchange(REDIRECT_URI);
+
+    assertNotNull(tokens.getAccessToken());
+    verify(jpaAuthorizationRepository).upsert(any(AuthorizationEntity.class));
+    assertThrows(OAuth2AuthenticationException.class, () -> exchange(REDIRECT_URI));
+    verify(jpaAuthorizationRepository).upsert(any(AuthorizationEntity.class));
+  }
+
+  @Test
+  void givenMismatchingRedirectUri_whenExchanged_thenCodeStaysExchangeable() {
+    assertThrows(
+        OAuth2AuthenticationException.class, () -> exchange("https://attacker.example/callback"));
+
+    assertNotNull(exchange(REDIRECT_URI).getAccessToken());
+  }
+
+  @Test
+  void givenCodeExchangedConcurrently_whenLaterExchangeIsSaved_thenSaveIsRejected() {
+    var pending =
+        authorizationService.findByToken(CODE, new OAuth2TokenType(OAuth2ParameterNames.CODE));
+    exchange(REDIRECT_URI);
+
+    var now = Instant.now();
+    var concurrent =
+        OAuth2Authorization.from(pending)
+            .token(
+                new OAuth2AccessToken(
+                    OAuth2AccessToken.TokenType.BEARER,
+                    "concurrent",
+                    now,
+                    now.plus(Duration.ofMinutes(5))))
+            .build();
+
+    assertThrows(
+        AuthorizationPersistenceException.class, () -> authorizationService.save(concurrent));
+    verify(jpaAuthorizationRepository).upsert(any(AuthorizationEntity.class));
+  }
+
+  /**
+   * Authenticates the client and exchanges the code, as the token endpoint does.
+   *
+   * @param redirectUri the redirect URI sent with the token request
+   * @return the issued tokens
+   */
+  private OAuth2AccessTokenAuthenticationToken exchange(String redirectUri) {
+    Map<String, Object> parameters =
+        Map.of(
+            OAuth2ParameterNames.GRANT_TYPE,
+            AuthorizationGrantType.AUTHORIZATION_CODE.getValue(),
+            OAuth2ParameterNames.CODE,
+            CODE,
+            OAuth2ParameterNames.REDIRECT_URI,
+            redirectUri,
+            PkceParameterNames.CODE_VERIFIER,
+            CODE_VERIFIER);
+    onRequest(parameters);
+
+    var clientPrincipal =
+        (Authentication)
+            clientAuthenticationProvider.authenticate(
+                new OAuth2ClientAuthenticationToken(
+                    registeredClient.getClientId(),
+                    ClientAuthenticationMethod.CLIENT_SECRET_BASIC,
+                    registeredClient.getClientSecret(),
+                    parameters));
+    return (OAuth2AccessTokenAuthenticationToken)
+        authorizationCodeProvider.authenticate(
+            new OAuth2AuthorizationCodeAuthenticationToken(
+                CODE, clientPrincipal, redirectUri, Map.of()));
+  }
+
+  /**
+   * Binds a request carrying the given parameters to the current thread.
+   *
+   * @param parameters the request parameters
+   */
+  private void onRequest(Map<String, Object> parameters) {
+    var request = new MockHttpServletRequest();
+    parameters.forEach((name, value) -> request.addParameter(name, value.toString()));
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(request, new MockHttpServletResponse()));
+  }
+
+  /**
+   * Builds the authorization saved by the authorization endpoint once a code has been issued.
+   *
+   * @return the authorization holding the code
+   */
+  private OAuth2Authorization issuedCode() {
+    var now = Instant.now();
+    var authorizationRequest =
+        OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri("https://issuer.example/oauth2/authorize")
+            .clientId(registeredClient.getClientId())
+            .redirectUri(REDIRECT_URI)
+            .scopes(Set.of("files:read"))
+            .additionalParameters(
+                Map.of(
+                    PkceParameterNames.CODE_CHALLENGE,
+                    CODE_CHALLENGE,
+                    PkceParameterNames.CODE_CHALLENGE_METHOD,
+                    "S256"))
+            .build();
+    return OAuth2Authorization.withRegisteredClient(registeredClient)
+        .id("authorization")
+        .principalName("user")
+        .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+        .authorizedScopes(Set.of("files:read"))
+        .attribute(OAuth2AuthorizationRequest.class.getName(), authorizationRequest)
+        .attribute(
+            Principal.class.getName(),
+            UsernamePasswordAuthenticationToken.authenticated("user", null, List.of()))
+        .token(new OAuth2AuthorizationCode(CODE, now, now.plus(Duration.ofMinutes(5))))
+        .build();
+  }
+}
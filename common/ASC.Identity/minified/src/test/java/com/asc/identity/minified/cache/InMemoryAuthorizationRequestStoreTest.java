@@ -0,0 +1,119 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.authorization.data.authorization.entity.AuthorizationEntity;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class InMemoryAuthorizationRequestStoreTest {
+  private final InMemoryAuthorizationRequestStore store = new InMemoryAuthorizationRequestStore();
+
+  @Test
+  void givenPendingRequest_whenFoundByState_thenRequestIsReturned() {
+    store.save(
+        AuthorizationEntity.builder().id("request").state("state").tenantId(1).build(),
+        Duration.ofMinutes(10));
+
+    var request = store.findByState("state");
+
+    assertTrue(request.isPresent());
+    assertEquals("request", request.get().getId());
+    assertEquals(1, request.get().getTenantId());
+  }
+
+  @Test
+  void givenAuthorizationCode_whenFoundTwice_thenCodeIsNotConsumed() {
+    store.save(
+        AuthorizationEntity.builder().id("request").authorizationCodeValue("code").build(),
+        Duration.ofMinutes(1));
+
+    assertTrue(store.findByAuthorizationCode("code").isPresent());
+    assertTrue(store.findByAuthorizationCode("code").isPresent());
+  }
+
+  @Test
+  void givenAuthorizationCode_whenConsumedTwice_thenOnlyFirstConsumptionSucceeds() {
+    store.save(
+        AuthorizationEntity.builder().id("request").authorizationCodeValue("code").build(),
+        Duration.ofMinutes(1));
+
+    assertTrue(store.consumeAuthorizationCode("request", "code"));
+    assertFalse(store.consumeAuthorizationCode("request", "code"));
+    assertTrue(store.findByAuthorizationCode("code").isEmpty());
+    assertTrue(store.findById("request").isPresent());
+  }
+
+  @Test
+  void givenAuthorizationCodeOfAnotherRequest_whenConsumed_thenCodeIsKept() {
+    store.save(
+        AuthorizationEntity.builder().id("request").authorizationCodeValue("code").build(),
+        Duration.ofMinutes(1));
+
+    assertFalse(store.consumeAuthorizationCode("other", "code"));
+    assertTrue(store.findByAuthorizationCode("code").isPresent());
+  }
+
+  @Test
+  void givenConsentedRequest_whenSavedWithCode_thenPreviousStateIsDropped() {
+    store.save(
+        AuthorizationEntity.builder().id("request").state("state").build(), Duration.ofMinutes(10));
+    store.save(
+        AuthorizationEntity.builder().id("request").authorizationCodeValue("code").build(),
+        Duration.ofMinutes(1));
+
+    assertTrue(store.findByState("state").isEmpty());
+    assertEquals("code", store.findById("request").get().getAuthorizationCodeValue());
+  }
+
+  @Test
+  void givenRemovedRequest_whenLookedUp_thenNothingIsFound() {
+    store.save(
+        AuthorizationEntity.builder()
+            .id("request")
+            .state("state")
+            .authorizationCodeValue("code")
+            .build(),
+        Duration.ofMinutes(1));
+
+    store.remove("request");
+
+    assertTrue(store.findById("request").isEmpty());
+    assertTrue(store.findByState("state").isEmpty());
+    assertTrue(store.findByAuthorizationCode("code").isEmpty());
+    assertFalse(store.consumeAuthorizationCode("request", "code"));
+  }
+}
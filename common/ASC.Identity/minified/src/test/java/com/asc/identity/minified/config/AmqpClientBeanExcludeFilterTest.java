@@ -0,0 +1,84 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+class AmqpClientBeanExcludeFilterTest {
+  private final AmqpClientBeanExcludeFilter filter = new AmqpClientBeanExcludeFilter();
+  private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+  @Test
+  void givenBeanConditionalOnAmqpClient_whenFiltering_thenBeanIsExcluded() {
+    beanFactory.registerBeanDefinition("rabbit", new RootBeanDefinition(RabbitConfiguration.class));
+
+    assertTrue(filter.isExcludedFromAotProcessing(RegisteredBean.of(beanFactory, "rabbit")));
+  }
+
+  @Test
+  void givenBeanDeclaredByAmqpClientConfiguration_whenFiltering_thenBeanIsExcluded()
+      throws NoSuchMethodException {
+    var definition = new RootBeanDefinition(String.class);
+    definition.setResolvedFactoryMethod(RabbitConfiguration.class.getMethod("rabbitName"));
+    beanFactory.registerBeanDefinition("rabbitName", definition);
+
+    assertTrue(filter.isExcludedFromAotProcessing(RegisteredBean.of(beanFactory, "rabbitName")));
+  }
+
+  @Test
+  void givenBeanWithoutAmqpClientCondition_whenFiltering_thenBeanIsKept() {
+    beanFactory.registerBeanDefinition("other", new RootBeanDefinition(OtherConfiguration.class));
+
+    assertFalse(filter.isExcludedFromAotProcessing(RegisteredBean.of(beanFactory, "other")));
+  }
+
+  @ConditionalOnClass(name = "com.rabbitmq.client.Connection")
+  static class RabbitConfiguration {
+    @Bean
+    public String rabbitName() {
+      return "rabbit";
+    }
+  }
+
+  @ConditionalOnClass(name = "java.lang.String")
+  static class OtherConfiguration {}
+}
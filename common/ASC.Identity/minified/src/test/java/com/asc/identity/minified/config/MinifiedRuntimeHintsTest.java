@@ -0,0 +1,81 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.identity.minified.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.asc.common.application.proto.AuthorizationServiceGrpc;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+class MinifiedRuntimeHintsTest {
+  private final RuntimeHints hints = new RuntimeHints();
+
+  MinifiedRuntimeHintsTest() {
+    new MinifiedRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  void whenRegisteringHints_thenPersistedSecurityTypesAreReflective() {
+    assertTrue(
+        RuntimeHintsPredicates.reflection().onType(OAuth2AuthorizationRequest.class).test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(
+                TypeReference.of(
+                    "org.springframework.security.jackson2.UsernamePasswordAuthenticationTokenMixin"))
+            .test(hints));
+  }
+
+  @Test
+  void whenRegisteringHints_thenGrpcStubsAreReflective() {
+    assertTrue(
+        RuntimeHintsPredicates.reflection().onType(AuthorizationServiceGrpc.class).test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(AuthorizationServiceGrpc.AuthorizationServiceBlockingStub.class)
+            .test(hints));
+  }
+
+  @Test
+  void whenRegisteringHints_thenJacksonModuleServicesAreIncluded() {
+    assertTrue(
+        RuntimeHintsPredicates.resource()
+            .forResource("META-INF/services/com.fasterxml.jackson.databind.Module")
+            .test(hints));
+  }
+}
@@ -96,6 +96,7 @@ public class SecurityConfiguration {
                         .requestMatchers(
                             String.format("%s/oauth2/clients/*/public/info", webApi),
                             String.format("%s/clients/*/public/info", webApi),
+                            String.format("%s/clients/logos/*", webApi),
                             "/docs**",
                             "/health/**")
                         .permitAll()
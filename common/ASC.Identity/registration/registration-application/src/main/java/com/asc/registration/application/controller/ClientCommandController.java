@@ -34,14 +34,18 @@
 package com.asc.registration.application.controller;
 
 import com.asc.common.application.proto.AuthorizationServiceGrpc;
+import com.asc.common.application.proto.RevokeAuthorizationsRequest;
 import com.asc.common.application.proto.RevokeConsentsRequest;
 import com.asc.common.core.domain.entity.Audit;
+import com.asc.common.core.domain.value.Role;
 import com.asc.common.core.domain.value.enums.AuditCode;
 import com.asc.common.service.ports.output.message.publisher.AuditMessagePublisher;
 import com.asc.common.service.transfer.message.AuditMessage;
 import com.asc.common.service.transfer.response.ClientResponse;
 import com.asc.common.utilities.HttpUtils;
 import com.asc.registration.application.security.authentication.BasicSignatureTokenPrincipal;
+import com.asc.registration.application.transfer.BulkRevocationRequest;
+import com.asc.registration.application.transfer.BulkRevocationResponse;
 import com.asc.registration.application.transfer.ChangeClientActivationRequest;
 import com.asc.registration.application.transfer.CreateClientRequest;
 import com.asc.registration.application.transfer.UpdateClientRequest;
@@ -54,6 +58,7 @@ import com.asc.registration.service.transfer.request.update.*;
 import com.asc.registration.service.transfer.response.ClientSecretResponse;
 import com.asc.registration.service.transfer.response.ScopeResponse;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -68,6 +73,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -573,6 +579,142 @@ public class ClientCommandController {
    * @param clientId the client ID.
    * @return a {@link ResponseEntity} indicating the status of the deletion.
    */
+  /**
+   * Revokes the authorizations and consents of sets of clients and/or users of the tenant at once.
+   *
+   * <p>Administrators may revoke any user of their tenant, while other users may only revoke their
+   * own authorizations.
+   *
+   * @param request the HTTP request.
+   * @param principal the authenticated principal.
+   * @param command the clients and users to revoke.
+   * @return a {@link ResponseEntity} with the number of revoked authorizations and consents.
+   */
+  @RateLimiter(name = "globalRateLimiter")
+  @PostMapping(
+      value = "/revoke",
+      consumes = {MediaType.APPLICATION_JSON_VALUE})
+  @Operation(
+      summary = "Revoke authorizations in bulk",
+      description =
+          "Revokes all authorizations and consents for sets of OAuth2 clients and/or users of the tenant. "
+              + "Empty sets match any client or user, but at least one set must be provided. "
+              + "Users other than administrators can only revoke their own authorizations.",
+      tags = {"Client Management"},
+      security = @SecurityRequirement(name = "x-signature"),
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Authorizations successfully revoked",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = BulkRevocationResponse.class),
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                    {
+                      "revoked_authorizations": 42,
+                      "revoked_consents": 7
+                    }
+                    """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request - no clients or users, or too many of them",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Insufficient permissions to revoke other users",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(
+            responseCode = "415",
+            description = "Unsupported media type",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many requests - rate limit exceeded",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Authorization service unavailable",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error occurred",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+      })
+  @PreAuthorize("hasAnyRole('ADMIN', 'USER', 'GUEST')")
+  public ResponseEntity<BulkRevocationResponse> revokeAuthorizations(
+      HttpServletRequest request,
+      @AuthenticationPrincipal BasicSignatureTokenPrincipal principal,
+      @RequestBody
+          @Valid
+          @Parameter(
+              description = "Clients and users to revoke",
+              required = true,
+              content =
+                  @Content(
+                      mediaType = MediaType.APPLICATION_JSON_VALUE,
+                      schema = @Schema(implementation = BulkRevocationRequest.class),
+                      examples =
+                          @ExampleObject(
+                              value =
+                                  """
+                  {
+                    "client_ids": ["6c7cf17b-1bd3-47d5-94c6-be2d3570e168"],
+                    "principal_ids": []
+                  }
+                  """)))
+          BulkRevocationRequest command) {
+    try {
+      setLoggingParameters(principal);
+      var principalIds = command.getPrincipalIds();
+      if (principal.getRole() != Role.ROLE_ADMIN) {
+        if (!principalIds.isEmpty() && !principalIds.equals(Set.of(principal.getUserId())))
+          return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        principalIds = Set.of(principal.getUserId());
+      }
+
+      if (command.getClientIds().isEmpty() && principalIds.isEmpty())
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+      var response =
+          authorizationServiceClient.revokeAuthorizations(
+              RevokeAuthorizationsRequest.newBuilder()
+                  .setTenantId(principal.getTenantId())
+                  .addAllClientIds(command.getClientIds())
+                  .addAllPrincipalIds(principalIds)
+                  .build());
+
+      messagePublisher.publish(
+          AuditMessage.builder()
+              .ip(httpUtils.extractHostFromUrl(httpUtils.getFirstRequestIP(request)))
+              .initiator(serviceName)
+              .browser(httpUtils.getClientBrowser(request))
+              .platform(httpUtils.getClientOS(request))
+              .tenantId(principal.getTenantId())
+              .userId(principal.getUserId())
+              .userEmail(principal.getUserEmail())
+              .userName(principal.getUserName())
+              .page(httpUtils.getFullURL(request))
+              .action(AuditCode.REVOKE_USER_CLIENT.getCode())
+              .build());
+
+      return ResponseEntity.ok(
+          BulkRevocationResponse.builder()
+              .revokedAuthorizations(response.getAuthorizations())
+              .revokedConsents(response.getConsents())
+              .build());
+    } catch (StatusRuntimeException e) {
+      if (e.getStatus().getCode() == Status.Code.INVALID_ARGUMENT)
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    } finally {
+      MDC.clear();
+    }
+  }
+
   @RateLimiter(name = "globalRateLimiter")
   @DeleteMapping("/{clientId}")
   @Operation(
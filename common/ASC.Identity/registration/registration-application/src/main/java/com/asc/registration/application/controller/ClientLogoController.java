@@ -0,0 +1,144 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.application.controller;
+
+import com.asc.registration.service.ports.output.repository.ClientLogoRepository;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Pattern;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Controller class for serving client logos.
+ *
+ * <p>Logos are addressed by the SHA-256 hash of their content, so a logo behind a given URL never
+ * changes. Responses are therefore cacheable forever and a matching {@code If-None-Match} header is
+ * answered without reading the logo.
+ */
+@Tag(name = "Client Logos", description = "APIs for retrieving OAuth2 client logos")
+@Slf4j
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "${spring.application.web.api}/clients/logos")
+public class ClientLogoController {
+  private static final CacheControl IMMUTABLE =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+  private static final String CONTENT_SECURITY_POLICY = "default-src 'none'; sandbox";
+
+  private final ClientLogoRepository clientLogoRepository;
+
+  /**
+   * Retrieves the raw content of a client logo.
+   *
+   * @param hash the SHA-256 hash of the logo content.
+   * @param request the current request, used to evaluate conditional headers.
+   * @return a {@link ResponseEntity} containing the logo, or a not modified or not found response.
+   */
+  @RateLimiter(name = "publicRateLimiter")
+  @GetMapping("/{hash}")
+  @Operation(
+      summary = "Get client logo",
+      description = "Retrieves the raw content of a client logo by the hash of its content.",
+      tags = {"Client Logos"},
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Logo successfully retrieved",
+            content = @Content(mediaType = "image/*")),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Logo has not been modified",
+            content = @Content),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid logo hash",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "404", description = "Logo not found", content = @Content),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many requests",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content)
+      })
+  public ResponseEntity<byte[]> getLogo(
+      @Parameter(
+              description = "SHA-256 hash of the logo content",
+              required = true,
+              example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+          @PathVariable
+          @Pattern(regexp = "^[0-9a-f]{64}$")
+          String hash,
+      WebRequest request) {
+    var etag = "\"" + hash + "\"";
+    if (request.checkNotModified(etag))
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(IMMUTABLE)
+          .build();
+
+    return clientLogoRepository
+        .findByHash(hash)
+        .map(
+            logo ->
+                ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(IMMUTABLE)
+                    .contentType(MediaType.parseMediaType(logo.getContentType()))
+                    .header("Content-Security-Policy", CONTENT_SECURITY_POLICY)
+                    .body(logo.getContent()))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
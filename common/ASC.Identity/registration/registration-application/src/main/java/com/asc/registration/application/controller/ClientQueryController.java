@@ -143,7 +143,7 @@ public class ClientQueryController {
                       "website_url": "http://example.com",
                       "terms_url": "http://example.com",
                       "policy_url": "http://example.com",
-                      "logo": "data:image/png;base64,ivBOR",
+                      "logo": "/api/2.0/clients/logos/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
                       "authentication_methods": ["client_secret_post"],
                       "redirect_uris": ["https://example.com"],
                       "allowed_origins": ["https://example.com"],
@@ -244,7 +244,7 @@ public class ClientQueryController {
                           "website_url": "http://example.com",
                           "terms_url": "http://example.com",
                           "policy_url": "http://example.com",
-                          "logo": "data:image/png;base64,ivBOR",
+                          "logo": "/api/2.0/clients/logos/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
                           "authentication_methods": ["client_secret_post"],
                           "redirect_uris": ["https://example.com"],
                           "allowed_origins": ["https://example.com"],
@@ -345,7 +345,7 @@ public class ClientQueryController {
                                   "website_url": "http://example.com",
                                   "terms_url": "http://example.com",
                                   "policy_url": "http://example.com",
-                                  "logo": "data:image/png;base64,ivBOR",
+                                  "logo": "/api/2.0/clients/logos/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
                                   "authentication_methods": ["client_secret_post"],
                                   "scopes": ["files:read", "files:write"],
                                   "is_public": true,
@@ -423,7 +423,7 @@ public class ClientQueryController {
                                   "website_url": "http://example.com",
                                   "terms_url": "http://example.com",
                                   "policy_url": "http://example.com",
-                                  "logo": "data:image/png;base64,ivBOR",
+                                  "logo": "/api/2.0/clients/logos/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
                                   "authentication_methods": ["client_secret_post"],
                                   "scopes": ["files:read", "files:write"],
                                   "is_public": true,
@@ -497,7 +497,7 @@ public class ClientQueryController {
                                                         "website_url": "http://example.com",
                                                         "terms_url": "http://example.com",
                                                         "policy_url": "http://example.com",
-                                                        "logo": "data:image/png;base64,ivBOR",
+                                                        "logo": "/api/2.0/clients/logos/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
                                                         "authentication_methods": ["client_secret_post"],
                                                         "scopes": ["files:read", "files:write"],
                                                         "is_public": true
@@ -604,7 +604,7 @@ public class ClientQueryController {
                                                     "website_url": "http://example.com",
                                                     "terms_url": "http://example.com",
                                                     "policy_url": "http://example.com",
-                                                    "logo": "data:image/png;base64,ivBOR",
+                                                    "logo": "/api/2.0/clients/logos/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
                                                     "authentication_methods": [
                                                         "client_secret_post"
                                                     ],
@@ -236,25 +236,36 @@ public class RedisClientCacheService implements ClientCacheService {
   /**
    * Removes a client from Redis cache.
    *
+   * <p>If the eviction fails (e.g., due to Redis connectivity issues), the error is logged.
+   *
    * @param clientId The ID of the client to evict from cache. If null, no operation is performed.
    * @param tenantId The tenant ID for cache key lookup. If null, no operation is performed.
    */
   public void evict(ClientId clientId, TenantId tenantId) {
+    try {
+      evictOrThrow(clientId, tenantId);
+    } catch (Exception e) {
+      log.error("Failed to evict client from cache: {}", clientId, e);
+    }
+  }
+
+  /**
+   * Removes a client from Redis cache, propagating any failure to the caller.
+   *
+   * @param clientId The ID of the client to evict from cache. If null, no operation is performed.
+   * @param tenantId The tenant ID for cache key lookup. If null, no operation is performed.
+   */
+  public void evictOrThrow(ClientId clientId, TenantId tenantId) {
     if (clientId == null || tenantId == null) {
       log.warn("Attempted to evict client with null ID or tenant ID");
       return;
     }
 
-    var key = buildCacheKey(tenantId, clientId);
-    try {
-      redisTemplate.delete(key);
-      log.debug(
-          "Evicted client from cache with ID: {} for tenant: {}",
-          clientId.getValue(),
-          tenantId.getValue());
-    } catch (Exception e) {
-      log.error("Failed to evict client from cache: {}", clientId, e);
-    }
+    redisTemplate.delete(buildCacheKey(tenantId, clientId));
+    log.debug(
+        "Evicted client from cache with ID: {} for tenant: {}",
+        clientId.getValue(),
+        tenantId.getValue());
   }
 
   /**
@@ -0,0 +1,94 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.application.transfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.*;
+
+/**
+ * BulkRevocationRequest is a data transfer object (DTO) used in the REST layer. It represents a
+ * request to revoke the authorizations and consents of many clients or users of a tenant at once.
+ * It implements {@link Serializable} to allow instances of this class to be serialized.
+ *
+ * <p>The class is annotated with Lombok annotations to generate boilerplate code:
+ *
+ * <ul>
+ *   <li>{@link Getter} - Generates getter methods for all fields.
+ *   <li>{@link Setter} - Generates setter methods for all fields.
+ *   <li>{@link Builder} - Implements the builder pattern for object creation.
+ *   <li>{@link NoArgsConstructor} - Generates a no-argument constructor.
+ *   <li>{@link AllArgsConstructor} - Generates an all-arguments constructor.
+ * </ul>
+ *
+ * Example usage:
+ *
+ * <pre>{@code
+ * BulkRevocationRequest request = BulkRevocationRequest.builder()
+ *     .clientIds(Set.of("6c7cf17b-1bd3-47d5-94c6-be2d3570e168"))
+ *     .build();
+ * }</pre>
+ *
+ * @see Serializable
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request to revoke authorizations for sets of clients and/or users")
+public class BulkRevocationRequest implements Serializable {
+  /** The clients whose authorizations are revoked, or empty for any client. */
+  @Builder.Default
+  @Size(max = 1000, message = "at most 1000 client ids can be revoked at once")
+  @JsonProperty("client_ids")
+  @Schema(
+      description = "IDs of the clients to revoke",
+      example = "[\"6c7cf17b-1bd3-47d5-94c6-be2d3570e168\"]")
+  private Set<@NotBlank String> clientIds = new HashSet<>();
+
+  /** The users whose authorizations are revoked, or empty for any user. */
+  @Builder.Default
+  @Size(max = 1000, message = "at most 1000 principal ids can be revoked at once")
+  @JsonProperty("principal_ids")
+  @Schema(
+      description = "IDs of the users to revoke, only honored for administrators",
+      example = "[\"0b8f2c3e-7c1a-4f57-9a63-1d0e0d6f3a51\"]")
+  private Set<@NotBlank String> principalIds = new HashSet<>();
+}
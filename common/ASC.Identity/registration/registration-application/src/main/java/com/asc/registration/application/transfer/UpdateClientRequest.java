@@ -112,15 +112,17 @@ public class UpdateClientRequest implements Serializable {
   private String description;
 
   /**
-   * The logo of the client in base64 format. The client logo is expected to be passed as base64.
-   * This field must not be blank.
+   * The logo of the client in base64 format. The client logo is expected to be passed as base64, or
+   * as the logo reference returned by the API to keep the current logo. This field must not be
+   * blank.
    */
   @NotBlank(message = "client logo must not be empty")
   @Pattern(
-      regexp = "^data:image\\/(?:png|jpeg|jpg|svg\\+xml);base64,.*.{1,}",
-      message = "client logo is expected to be passed as base64")
+      regexp =
+          "^(?:data:image\\/(?:png|jpeg|jpg|svg\\+xml);base64,.+|(?:/[\\w.-]+)*/clients/logos/[0-9a-f]{64})$",
+      message = "client logo is expected to be passed as base64 or as a stored logo reference")
   @Schema(
-      description = "The logo of the client in base64 format",
+      description = "The logo of the client in base64 format, or the reference of its current logo",
       example = "data:image/png;base64,...")
   private String logo;
 
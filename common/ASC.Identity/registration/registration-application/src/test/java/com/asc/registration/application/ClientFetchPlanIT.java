@@ -0,0 +1,242 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.asc.common.application.proto.AuthorizationServiceGrpc;
+import com.asc.common.core.domain.value.ClientId;
+import com.asc.common.core.domain.value.TenantId;
+import com.asc.common.core.domain.value.enums.AuthenticationMethod;
+import com.asc.registration.application.service.ConsentService;
+import com.asc.registration.data.client.entity.ClientEntity;
+import com.asc.registration.data.client.repository.JpaClientRepository;
+import com.asc.registration.data.scope.repository.JpaScopeRepository;
+import com.asc.registration.service.ports.output.repository.ClientQueryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Asserts the number of SQL statements each client lookup issues and the number of rows they
+ * return, so that a change to a fetch plan that reintroduces per-client queries or a cartesian
+ * product of the client collections fails the build.
+ */
+@Testcontainers
+@ActiveProfiles({"test", "server"})
+@Import(RegistrationTestBeanConfiguration.class)
+@EnabledIfSystemProperty(named = "RUN_INTEGRATION_TESTS", matches = "true")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    classes = ClientFetchPlanIT.TestApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ClientFetchPlanIT {
+  private static final long TENANT_ID = 42L;
+  private static final String CREATOR_ID = "fetch-plan-creator";
+  private static final int CLIENTS = 5;
+
+  /** Collection rows of each seeded client: 2 methods, 2 redirect URIs, 1 origin and 2 scopes. */
+  private static final int ROWS_PER_CLIENT = 7;
+
+  static MySQLContainer<?> mysql = RegistrationTestContainers.mysql();
+  static GenericContainer<?> redis = RegistrationTestContainers.redis();
+  static RabbitMQContainer rabbitmq = RegistrationTestContainers.rabbitmq();
+
+  static {
+    mysql.start();
+    rabbitmq.start();
+    redis.start();
+  }
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    RegistrationTestContainers.configureMySql(registry, mysql);
+    RegistrationTestContainers.configureRabbitMq(registry, rabbitmq);
+    RegistrationTestContainers.configureRedis(registry, redis);
+  }
+
+  @EntityScan(basePackages = {"com.asc.registration.data", "com.asc.common.data"})
+  @SpringBootApplication(scanBasePackages = {"com.asc.registration", "com.asc.common"})
+  @EnableJpaRepositories(basePackages = {"com.asc.registration.data", "com.asc.common.data"})
+  static class TestApplication {}
+
+  @MockitoBean private ConsentService consentService;
+
+  @MockitoBean
+  private AuthorizationServiceGrpc.AuthorizationServiceBlockingStub authorizationServiceClient;
+
+  @Autowired private JpaClientRepository jpaClientRepository;
+  @Autowired private JpaScopeRepository jpaScopeRepository;
+  @Autowired private ClientQueryRepository clientQueryRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private final List<String> clientIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    jpaClientRepository.deleteAll();
+    clientIds.clear();
+
+    var scopes = new HashSet<>(jpaScopeRepository.findAllById(List.of("openid", "profile")));
+    var now = ZonedDateTime.now(ZoneId.of("UTC"));
+    for (var i = 0; i < CLIENTS; i++) {
+      var clientId = UUID.randomUUID().toString();
+      jpaClientRepository.save(
+          ClientEntity.builder()
+              .clientId(clientId)
+              .tenantId(TENANT_ID)
+              .clientSecret(UUID.randomUUID().toString())
+              .name("Fetch plan client " + i)
+              .authenticationMethods(
+                  Set.of(
+                      AuthenticationMethod.DEFAULT_AUTHENTICATION,
+                      AuthenticationMethod.PKCE_AUTHENTICATION))
+              .redirectUris(Set.of("https://example.com/callback", "https://example.com/cb"))
+              .allowedOrigins(Set.of("https://example.com"))
+              .scopes(scopes)
+              .enabled(true)
+              .createdOn(now.minusMinutes(i))
+              .createdBy(CREATOR_ID)
+              .build());
+      clientIds.add(clientId);
+    }
+  }
+
+  @Test
+  void whenClientIsLoadedById_thenTwoLinearStatementsAreIssued() {
+    var id = new ClientId(UUID.fromString(clientIds.getFirst()));
+
+    var fetched =
+        fetch(
+            () -> {
+              var client = clientQueryRepository.findById(id).orElseThrow();
+              assertEquals(2, client.getClientRedirectInfo().redirectUris().size());
+              return client;
+            });
+
+    assertEquals(2, fetched.statements());
+    assertEquals(1 + ROWS_PER_CLIENT, fetched.rows());
+  }
+
+  @Test
+  void whenClientIsLoadedByTenant_thenTwoLinearStatementsAreIssued() {
+    var id = new ClientId(UUID.fromString(clientIds.getFirst()));
+
+    var fetched =
+        fetch(
+            () ->
+                clientQueryRepository
+                    .findByClientIdAndTenantId(id, new TenantId(TENANT_ID))
+                    .orElseThrow());
+
+    assertEquals(2, fetched.statements());
+    assertEquals(1 + ROWS_PER_CLIENT, fetched.rows());
+  }
+
+  @Test
+  void whenClientsAreLoadedByIds_thenTwoLinearStatementsAreIssued() {
+    var ids = clientIds.stream().map(id -> new ClientId(UUID.fromString(id))).toList();
+
+    var fetched =
+        fetch(
+            () -> {
+              var clients = clientQueryRepository.findAllByClientIds(ids);
+              assertEquals(CLIENTS, clients.size());
+              return clients;
+            });
+
+    assertEquals(2, fetched.statements());
+    assertEquals(CLIENTS * (1 + ROWS_PER_CLIENT), fetched.rows());
+  }
+
+  @Test
+  void whenClientPageIsListed_thenTwoLinearStatementsAreIssued() {
+    var fetched =
+        fetch(
+            () -> {
+              var page =
+                  clientQueryRepository.findAllByTenantId(
+                      new TenantId(TENANT_ID), CLIENTS - 1, null, null);
+              assertEquals(CLIENTS - 1, page.getLimit());
+              page.getData()
+                  .forEach(
+                      client ->
+                          assertEquals(2, client.getClientRedirectInfo().redirectUris().size()));
+              return page;
+            });
+
+    assertEquals(2, fetched.statements());
+    assertEquals(CLIENTS + (CLIENTS - 1) * ROWS_PER_CLIENT, fetched.rows());
+  }
+
+  private Fetched fetch(Supplier<?> action) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    action.get();
+    var rows =
+        Arrays.stream(statistics.getQueries())
+            .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+            .sum();
+    return new Fetched(statistics.getPrepareStatementCount(), rows);
+  }
+
+  /** The statements prepared and the rows returned while running a lookup. */
+  private record Fetched(long statements, long rows) {}
+}
@@ -35,7 +35,6 @@ package com.asc.registration.application;
 
 import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
 import com.asc.common.service.transfer.message.ClientCacheTenantRemoveEvent;
-import com.asc.common.service.transfer.message.ClientRemovedEvent;
 import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
 import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
 import com.asc.common.utilities.crypto.EncryptionService;
@@ -105,7 +104,6 @@ public class RegistrationTestBeanConfiguration {
       ClientQueryRepository clientQueryRepository,
       ClientDomainService clientDomainService,
       EncryptionService encryptionService,
-      AuthorizationMessagePublisher<ClientRemovedEvent> authorizationMessagePublisher,
       ClientDataMapper clientDataMapper,
       RetryExecutor retryExecutor) {
     return new ClientUpdateCommandHandler(
@@ -113,7 +111,6 @@ public class RegistrationTestBeanConfiguration {
         clientQueryRepository,
         clientDomainService,
         encryptionService,
-        authorizationMessagePublisher,
         clientDataMapper,
         retryExecutor);
   }
@@ -35,7 +35,6 @@ package com.asc.registration.container;
 
 import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
 import com.asc.common.service.transfer.message.ClientCacheTenantRemoveEvent;
-import com.asc.common.service.transfer.message.ClientRemovedEvent;
 import com.asc.common.service.transfer.message.TenantClientsRemovedEvent;
 import com.asc.common.service.transfer.message.UserClientsRemovedEvent;
 import com.asc.common.utilities.crypto.EncryptionService;
@@ -144,7 +143,6 @@ public class BeanConfiguration {
    * @param clientQueryRepository the repository for querying existing client data.
    * @param clientDomainService the domain service for client business logic.
    * @param encryptionService the service for encrypting sensitive client data.
-   * @param authorizationMessagePublisher the message publisher for client removal events.
    * @param clientDataMapper the mapper for converting between domain objects and DTOs.
    * @param retryExecutor the executor for handling retry logic on failed operations.
    * @return a new instance of {@link ClientUpdateCommandHandler}.
@@ -155,7 +153,6 @@ public class BeanConfiguration {
       ClientQueryRepository clientQueryRepository,
       ClientDomainService clientDomainService,
       EncryptionService encryptionService,
-      AuthorizationMessagePublisher<ClientRemovedEvent> authorizationMessagePublisher,
       ClientDataMapper clientDataMapper,
       RetryExecutor retryExecutor) {
     return new ClientUpdateCommandHandler(
@@ -163,7 +160,6 @@ public class BeanConfiguration {
         clientQueryRepository,
         clientDomainService,
         encryptionService,
-        authorizationMessagePublisher,
         clientDataMapper,
         retryExecutor);
   }
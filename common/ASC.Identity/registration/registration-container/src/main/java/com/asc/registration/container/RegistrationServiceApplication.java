@@ -48,15 +48,17 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
  * Entry point for the ASC Identity Registration Service application.
  *
  * <p>This application provides APIs for managing registered clients in the ASC Identity ecosystem.
- * It includes features like caching, transaction management, and OpenAPI documentation.
+ * It includes features like caching, scheduling, transaction management, and OpenAPI documentation.
  */
 @EnableCaching
+@EnableScheduling
 @EnableTransactionManagement
 @EntityScan(basePackages = {"com.asc.registration.data", "com.asc.common.data"})
 @EnableJpaRepositories(basePackages = {"com.asc.registration.data", "com.asc.common.data"})
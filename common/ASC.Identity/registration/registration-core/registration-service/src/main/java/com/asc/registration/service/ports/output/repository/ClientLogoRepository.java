@@ -0,0 +1,64 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.service.ports.output.repository;
+
+import com.asc.registration.service.transfer.response.ClientLogoResponse;
+import java.util.Optional;
+
+/**
+ * Repository interface for storing client logos once, addressed by the SHA-256 hash of their
+ * content, so that client records only carry the hash.
+ */
+public interface ClientLogoRepository {
+
+  /**
+   * Stores a logo passed as a base64 data URI, unless a logo with the same content is already
+   * stored.
+   *
+   * <p>A reference to an already stored logo is resolved to its hash without being stored again.
+   *
+   * @param logo The base64 data URI or the reference of a stored logo, may be {@code null}.
+   * @return The hash the logo is addressed by, or {@code null} if no logo was passed.
+   */
+  String save(String logo);
+
+  /**
+   * Finds a logo by the hash of its content.
+   *
+   * @param hash The lowercase hexadecimal SHA-256 hash of the logo content.
+   * @return An {@link Optional} containing the found {@link ClientLogoResponse}, or an empty {@link
+   *     Optional} if no logo is found.
+   */
+  Optional<ClientLogoResponse> findByHash(String hash);
+}
@@ -0,0 +1,62 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.service.ports.output.repository;
+
+import com.asc.registration.service.transfer.message.ClientOutboxMessage;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository interface for the outbox of client changes.
+ *
+ * <p>Client command repositories record an outbox message in the same transaction as the client
+ * change. The messages are then relayed off the request path, so that cache invalidations and
+ * authorization cleanups survive a slow or unavailable message broker.
+ */
+public interface ClientOutboxRepository {
+
+  /**
+   * Claims the oldest pending messages, hands them to the dispatcher and removes them, all within a
+   * single transaction.
+   *
+   * <p>Messages claimed by another instance are skipped, so that several instances can relay the
+   * outbox concurrently. If the dispatcher fails, the messages stay in the outbox and are claimed
+   * again later, so each message is dispatched at least once.
+   *
+   * @param limit The maximum number of messages to claim.
+   * @param dispatcher The callback dispatching the claimed messages.
+   * @return The number of dispatched messages.
+   */
+  int dispatch(int limit, Consumer<List<ClientOutboxMessage>> dispatcher);
+}
@@ -85,6 +85,17 @@ public interface ClientCacheService {
    */
   void evict(ClientId clientId, TenantId tenantId);
 
+  /**
+   * Evicts a client from the cache by its client ID, failing if the cache could not be updated.
+   *
+   * <p>Unlike {@link #evict(ClientId, TenantId)}, a failure is not swallowed, so that callers
+   * relaying durable changes can keep the change and retry the eviction later.
+   *
+   * @param clientId The unique identifier of the client to evict.
+   * @param tenantId The tenant ID to which the client belongs.
+   */
+  void evictOrThrow(ClientId clientId, TenantId tenantId);
+
   /**
    * Evicts all clients from the cache that belong to a specific tenant.
    *
@@ -0,0 +1,66 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.service.transfer.message;
+
+import java.io.Serializable;
+import lombok.*;
+
+/**
+ * ClientOutboxMessage is a Data Transfer Object (DTO) describing a client change recorded in the
+ * outbox within the transaction of the change, to be relayed once the transaction commits.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientOutboxMessage implements Serializable {
+
+  /** The kinds of client changes recorded in the outbox. */
+  public enum Type {
+    /** The client was changed, so cached copies of it have to be evicted. */
+    CLIENT_CHANGED,
+    /** The client was removed, so its authorizations have to be cleaned up as well. */
+    CLIENT_REMOVED
+  }
+
+  /** The kind of the client change. */
+  private Type type;
+
+  /** The identifier of the changed client. */
+  private String clientId;
+
+  /** The identifier of the tenant owning the changed client. */
+  private long tenantId;
+}
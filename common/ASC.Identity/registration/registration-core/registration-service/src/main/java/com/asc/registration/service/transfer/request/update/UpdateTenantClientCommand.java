@@ -73,11 +73,15 @@ public class UpdateTenantClientCommand implements Serializable {
   /** The description of the client. */
   private String description;
 
-  /** The logo of the client, expected to be passed as a base64 string. Must not be blank. */
+  /**
+   * The logo of the client, expected to be passed as a base64 string or as the reference of a
+   * stored logo. Must not be blank.
+   */
   @NotBlank(message = "client logo is expected to be passed as base64")
   @Pattern(
-      regexp = "^data:image\\/(?:png|jpeg|jpg|svg\\+xml);base64,.*.{1,}",
-      message = "Client logo is expected to be passed as base64")
+      regexp =
+          "^(?:data:image\\/(?:png|jpeg|jpg|svg\\+xml);base64,.+|(?:/[\\w.-]+)*/clients/logos/[0-9a-f]{64})$",
+      message = "Client logo is expected to be passed as base64 or as a stored logo reference")
   private String logo;
 
   /** Indicates if PKCE (Proof Key for Code Exchange) is allowed. */
@@ -42,7 +42,11 @@ import com.asc.registration.core.domain.entity.Client;
 import com.asc.registration.core.domain.event.ClientEvent;
 import com.asc.registration.data.client.mapper.ClientDataAccessMapper;
 import com.asc.registration.data.client.repository.JpaClientRepository;
+import com.asc.registration.data.outbox.entity.ClientOutboxEntity;
+import com.asc.registration.data.outbox.repository.JpaClientOutboxRepository;
 import com.asc.registration.service.ports.output.repository.ClientCommandRepository;
+import com.asc.registration.service.ports.output.repository.ClientLogoRepository;
+import com.asc.registration.service.transfer.message.ClientOutboxMessage;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import lombok.RequiredArgsConstructor;
@@ -54,6 +58,9 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Adapter class for handling client command operations and mapping between domain and data layers.
  * Implements the {@link ClientCommandRepository} interface.
+ *
+ * <p>Every change of an existing client is recorded in the client outbox within the transaction of
+ * the change, so that cache invalidations and authorization cleanups are relayed once it commits.
  */
 @Slf4j
 @Repository
@@ -65,7 +72,9 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
 
   private final JpaClientRepository jpaClientRepository;
   private final ClientDataAccessMapper clientDataAccessMapper;
+  private final ClientLogoRepository clientLogoRepository;
   private final DomainEventPublisher<ClientEvent> messagePublisher;
+  private final JpaClientOutboxRepository jpaClientOutboxRepository;
 
   /**
    * Saves a client entity to the database.
@@ -80,6 +89,7 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
     log.debug("Persisting a new client");
 
     var entity = clientDataAccessMapper.toEntity(client);
+    entity.setLogoHash(clientLogoRepository.save(client.getClientInfo().logo()));
     var result = jpaClientRepository.save(entity);
 
     messagePublisher.publish(event);
@@ -104,8 +114,14 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
     log.debug("Updating an existing client");
 
     var entity = clientDataAccessMapper.toEntity(client);
+    entity.setLogoHash(clientLogoRepository.save(client.getClientInfo().logo()));
     var reference = jpaClientRepository.getReferenceById(entity.getClientId());
 
+    if (client.getClientTenantInfo() != null)
+      record(
+          ClientOutboxMessage.Type.CLIENT_CHANGED,
+          client.getId(),
+          client.getClientTenantInfo().tenantId());
     messagePublisher.publish(event);
 
     return clientDataAccessMapper.toDomain(clientDataAccessMapper.merge(entity, reference));
@@ -135,6 +151,7 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
         secret,
         ZonedDateTime.now(ZoneId.of(UTC)));
 
+    record(ClientOutboxMessage.Type.CLIENT_CHANGED, clientId, tenantId);
     messagePublisher.publish(event);
 
     return secret;
@@ -160,6 +177,7 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
         visible,
         ZonedDateTime.now(ZoneId.of(UTC)));
 
+    record(ClientOutboxMessage.Type.CLIENT_CHANGED, clientId, tenantId);
     messagePublisher.publish(event);
   }
 
@@ -183,6 +201,7 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
         enabled,
         ZonedDateTime.now(ZoneId.of(UTC)));
 
+    record(ClientOutboxMessage.Type.CLIENT_CHANGED, clientId, tenantId);
     messagePublisher.publish(event);
   }
 
@@ -199,6 +218,7 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
   public int deleteByTenantIdAndClientId(ClientEvent event, TenantId tenantId, ClientId clientId) {
     log.debug("Persisting invalidated marker");
 
+    record(ClientOutboxMessage.Type.CLIENT_REMOVED, clientId, tenantId);
     messagePublisher.publish(event);
     return jpaClientRepository.deleteByClientIdAndTenantId(
         clientId.getValue().toString(), tenantId.getValue());
@@ -244,4 +264,21 @@ public class ClientCommandRepositoryDomainAdapter implements ClientCommandReposi
 
     return jpaClientRepository.deleteAllByTenantId(tenantId.getValue());
   }
+
+  /**
+   * Records a client change in the client outbox within the current transaction.
+   *
+   * @param type the kind of the client change
+   * @param clientId the client ID
+   * @param tenantId the tenant ID
+   */
+  private void record(ClientOutboxMessage.Type type, ClientId clientId, TenantId tenantId) {
+    jpaClientOutboxRepository.save(
+        ClientOutboxEntity.builder()
+            .type(type)
+            .clientId(clientId.getValue().toString())
+            .tenantId(tenantId.getValue())
+            .createdOn(ZonedDateTime.now(ZoneId.of(UTC)))
+            .build());
+  }
 }
@@ -43,6 +43,7 @@ import com.asc.registration.core.domain.event.ClientEvent;
 import com.asc.registration.data.client.mapper.ClientDataAccessMapper;
 import com.asc.registration.data.client.repository.DynamoClientRepository;
 import com.asc.registration.service.ports.output.repository.ClientCommandRepository;
+import com.asc.registration.service.ports.output.repository.ClientLogoRepository;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import lombok.RequiredArgsConstructor;
@@ -66,6 +67,7 @@ public class ClientCommandRepositoryDynamoDomainAdapter implements ClientCommand
 
   private final DynamoClientRepository dynamoClientRepository;
   private final ClientDataAccessMapper clientDataAccessMapper;
+  private final ClientLogoRepository clientLogoRepository;
   private final DomainEventPublisher<ClientEvent> messagePublisher;
 
   /**
@@ -79,7 +81,9 @@ public class ClientCommandRepositoryDynamoDomainAdapter implements ClientCommand
   public Client saveClient(ClientEvent event, Client client) {
     log.debug("Persisting a new client");
 
-    dynamoClientRepository.save(clientDataAccessMapper.toDynamoEntity(client));
+    var entity = clientDataAccessMapper.toDynamoEntity(client);
+    entity.setLogoHash(clientLogoRepository.save(client.getClientInfo().logo()));
+    dynamoClientRepository.save(entity);
     messagePublisher.publish(event);
     return client;
   }
@@ -95,7 +99,9 @@ public class ClientCommandRepositoryDynamoDomainAdapter implements ClientCommand
   public Client updateClient(ClientEvent event, Client client) {
     log.debug("Updating an existing client");
 
-    var result = dynamoClientRepository.update(clientDataAccessMapper.toDynamoEntity(client));
+    var entity = clientDataAccessMapper.toDynamoEntity(client);
+    entity.setLogoHash(clientLogoRepository.save(client.getClientInfo().logo()));
+    var result = dynamoClientRepository.update(entity);
     messagePublisher.publish(event);
     return clientDataAccessMapper.toDomain(result);
   }
@@ -206,7 +212,10 @@ public class ClientCommandRepositoryDynamoDomainAdapter implements ClientCommand
         userId.getValue(),
         tenantId.getValue());
 
-    dynamoClientRepository.deleteAllByTenantIdAndCreatedBy(tenantId.getValue(), userId.getValue());
+    var result =
+        dynamoClientRepository.deleteAllByTenantIdAndCreatedBy(
+            tenantId.getValue(), userId.getValue());
+    log.debug("Deleted {} clients, {} remaining", result.deleted(), result.remaining());
     return 1;
   }
 
@@ -220,7 +229,8 @@ public class ClientCommandRepositoryDynamoDomainAdapter implements ClientCommand
   public int deleteAllByTenantId(TenantId tenantId) {
     log.debug("Deleting all clients for current tenant {}", tenantId.getValue());
 
-    dynamoClientRepository.deleteAllByTenantId(tenantId.getValue());
+    var result = dynamoClientRepository.deleteAllByTenantId(tenantId.getValue());
+    log.debug("Deleted {} clients, {} remaining", result.deleted(), result.remaining());
     return 1;
   }
 }
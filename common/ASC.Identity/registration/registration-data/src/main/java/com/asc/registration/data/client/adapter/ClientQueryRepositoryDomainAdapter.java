@@ -38,6 +38,7 @@ import com.asc.common.core.domain.value.TenantId;
 import com.asc.common.core.domain.value.UserId;
 import com.asc.common.core.domain.value.enums.ClientVisibility;
 import com.asc.registration.core.domain.entity.Client;
+import com.asc.registration.data.client.entity.ClientSummaryView;
 import com.asc.registration.data.client.mapper.ClientDataAccessMapper;
 import com.asc.registration.data.client.repository.JpaClientRepository;
 import com.asc.registration.service.ports.output.repository.ClientQueryRepository;
@@ -46,10 +47,10 @@ import java.time.ZonedDateTime;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -57,6 +58,13 @@ import org.springframework.transaction.annotation.Transactional;
  * Adapter class for handling client query operations and mapping between domain and data layers.
  * Implements the {@link ClientQueryRepository} interface, providing database access logic for
  * querying client entities using a JPA repository.
+ *
+ * <p>Only the listing pages are read-only transactions, which may be served by a read replica.
+ * Lookups of single clients and of clients by their identifiers refill the client caches, here and
+ * in the authorization service, and are read before a client is rewritten. They always read the
+ * primary, so that a lookup racing a committed update can't put the replaced client back into a
+ * cache it has just been evicted from, even for callers without a session to keep reading their own
+ * writes.
  */
 @Slf4j
 @Repository
@@ -73,13 +81,12 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
    * @param visibility the visibility status of the client (e.g., PUBLIC or PRIVATE)
    * @return an {@link Optional} containing the found client if it exists, or empty otherwise
    */
-  @Transactional(timeout = 2, readOnly = true)
+  @Transactional(timeout = 2)
   public Optional<Client> findByIdAndVisibility(ClientId clientId, ClientVisibility visibility) {
     log.debug("Querying client by client id and visibility");
-    return jpaClientRepository
-        .findByIdAndVisibility(
-            clientId.getValue().toString(), visibility.equals(ClientVisibility.PUBLIC))
-        .map(clientDataAccessMapper::toDomain);
+    return toClient(
+        jpaClientRepository.findSummaryByIdAndVisibility(
+            clientId.getValue().toString(), visibility.equals(ClientVisibility.PUBLIC)));
   }
 
   /**
@@ -88,12 +95,10 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
    * @param clientId the unique identifier of the client
    * @return an {@link Optional} containing the found client if it exists, or empty otherwise
    */
-  @Transactional(timeout = 2, readOnly = true)
+  @Transactional(timeout = 2)
   public Optional<Client> findById(ClientId clientId) {
     log.debug("Querying client by client id");
-    return jpaClientRepository
-        .findById(clientId.getValue().toString())
-        .map(clientDataAccessMapper::toDomain);
+    return toClient(jpaClientRepository.findSummaryById(clientId.getValue().toString()));
   }
 
   /**
@@ -114,26 +119,14 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
       int limit,
       String lastClientId,
       ZonedDateTime lastCreatedOn) {
-    var clients =
+    return toPage(
         jpaClientRepository.findAllByTenantIdAndCreatedByWithCursor(
-            tenantId.getValue(), creatorId.getValue(), lastCreatedOn, limit + 1);
-    var lastClient = clients.size() > limit ? clients.get(limit - 1) : null;
-
-    var data =
-        clients.stream()
-            .limit(limit)
-            .filter(c -> !c.isInvalidated())
-            .map(clientDataAccessMapper::toDomain)
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
-    var builder =
-        PageableResponse.<Client>builder()
-            .lastClientId(lastClient == null ? null : lastClient.getClientId())
-            .lastCreatedOn(lastClient == null ? null : lastClient.getCreatedOn())
-            .limit(limit)
-            .data(data);
-
-    return builder.build();
+            tenantId.getValue(),
+            creatorId.getValue(),
+            lastCreatedOn,
+            lastClientId,
+            Limit.of(limit + 1)),
+        limit);
   }
 
   /**
@@ -150,26 +143,10 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
   public PageableResponse<Client> findAllByTenantId(
       TenantId tenantId, int limit, String lastClientId, ZonedDateTime lastCreatedOn) {
     log.debug("Querying clients by tenant id with pagination");
-    var clients =
+    return toPage(
         jpaClientRepository.findAllByTenantIdWithCursor(
-            tenantId.getValue(), lastCreatedOn, limit + 1);
-    var lastClient = clients.size() > limit ? clients.get(limit - 1) : null;
-
-    var data =
-        clients.stream()
-            .limit(limit)
-            .filter(c -> !c.isInvalidated())
-            .map(clientDataAccessMapper::toDomain)
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
-    var builder =
-        PageableResponse.<Client>builder()
-            .lastClientId(lastClient == null ? null : lastClient.getClientId())
-            .lastCreatedOn(lastClient == null ? null : lastClient.getCreatedOn())
-            .limit(limit)
-            .data(data);
-
-    return builder.build();
+            tenantId.getValue(), lastCreatedOn, lastClientId, Limit.of(limit + 1)),
+        limit);
   }
 
   /**
@@ -179,12 +156,12 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
    * @param tenantId the tenant ID associated with the client
    * @return an {@link Optional} containing the found client if it exists, or empty otherwise
    */
-  @Transactional(timeout = 2, readOnly = true)
+  @Transactional(timeout = 2)
   public Optional<Client> findByClientIdAndTenantId(ClientId clientId, TenantId tenantId) {
     log.debug("Querying client by client id and tenant id");
-    return jpaClientRepository
-        .findByClientIdAndTenantId(clientId.getValue().toString(), tenantId.getValue())
-        .map(clientDataAccessMapper::toDomain);
+    return toClient(
+        jpaClientRepository.findSummaryByClientIdAndTenantId(
+            clientId.getValue().toString(), tenantId.getValue()));
   }
 
   /**
@@ -196,13 +173,12 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
    * @return an {@link Optional} containing the client if found, or an empty {@link Optional} if not
    *     found.
    */
-  @Transactional(timeout = 2, readOnly = true)
+  @Transactional(timeout = 2)
   public Optional<Client> findByClientIdAndTenantIdAndCreatorId(
       ClientId clientId, TenantId tenantId, UserId creatorId) {
-    return jpaClientRepository
-        .findByClientIdAndTenantIdAndCreatedBy(
-            clientId.getValue().toString(), tenantId.getValue(), creatorId.getValue())
-        .map(clientDataAccessMapper::toDomain);
+    return toClient(
+        jpaClientRepository.findSummaryByClientIdAndTenantIdAndCreatedBy(
+            clientId.getValue().toString(), tenantId.getValue(), creatorId.getValue()));
   }
 
   /**
@@ -211,12 +187,61 @@ public class ClientQueryRepositoryDomainAdapter implements ClientQueryRepository
    * @param clientIds a list of client IDs to query
    * @return a {@link List} of clients corresponding to the provided IDs
    */
-  @Transactional(timeout = 2, readOnly = true)
+  @Transactional(timeout = 2)
   public List<Client> findAllByClientIds(List<ClientId> clientIds) {
     log.debug("Querying all clients by client ids");
-    return jpaClientRepository
-        .findAllByClientIds(clientIds.stream().map(i -> i.getValue().toString()).toList())
-        .stream()
+    return toClients(
+        jpaClientRepository.findAllSummariesByClientIds(
+            clientIds.stream().map(i -> i.getValue().toString()).toList()));
+  }
+
+  /**
+   * Builds a page of clients from the client summaries fetched with one extra look-ahead row.
+   *
+   * @param summaries the client summaries, holding at most {@code limit + 1} rows
+   * @param limit the maximum number of clients on the page
+   * @return a {@link PageableResponse} containing the clients and the cursor of the next page
+   */
+  private PageableResponse<Client> toPage(List<ClientSummaryView> summaries, int limit) {
+    var page = summaries.size() > limit ? summaries.subList(0, limit) : summaries;
+    var lastClient = summaries.size() > limit ? page.getLast() : null;
+    var data = new LinkedHashSet<>(toClients(page));
+
+    return PageableResponse.<Client>builder()
+        .lastClientId(lastClient == null ? null : lastClient.getClientId())
+        .lastCreatedOn(lastClient == null ? null : lastClient.getCreatedOn())
+        .limit(limit)
+        .data(data)
+        .build();
+  }
+
+  /**
+   * Maps an optional client summary to a domain client, loading its collections.
+   *
+   * @param summary the client summary, if any
+   * @return an {@link Optional} containing the client, or empty if no summary was found
+   */
+  private Optional<Client> toClient(Optional<ClientSummaryView> summary) {
+    return summary.flatMap(s -> toClients(List.of(s)).stream().findFirst());
+  }
+
+  /**
+   * Maps client summaries to domain clients, preserving their order.
+   *
+   * <p>The collections of all clients are loaded with a single UNION ALL query returning one row
+   * per collection element, rather than being fetch-joined into a cartesian product or initialized
+   * client by client.
+   *
+   * @param summaries the client summaries
+   * @return the clients assembled from the summaries and their collections
+   */
+  private List<Client> toClients(List<ClientSummaryView> summaries) {
+    if (summaries.isEmpty()) return List.of();
+
+    var attributes =
+        jpaClientRepository.findAllAttributesByClientIds(
+            summaries.stream().map(ClientSummaryView::getClientId).toList());
+    return clientDataAccessMapper.toEntities(summaries, attributes).stream()
         .map(clientDataAccessMapper::toDomain)
         .toList();
   }
@@ -0,0 +1,95 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.configuration;
+
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.providers.AwsRegionProvider;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+/**
+ * Configuration of the asynchronous DynamoDB clients used by {@code AsyncDynamoClientRepository}.
+ *
+ * <p>The clients use the Netty NIO HTTP client and share the credentials, region and endpoint
+ * settings of the synchronous clients configured by Spring Cloud AWS. They are only created when
+ * {@code spring.application.dynamodb.client} is set to {@code async}.
+ */
+@Configuration
+@Profile(value = "saas")
+@ConditionalOnProperty(name = "spring.application.dynamodb.client", havingValue = "async")
+public class DynamoAsyncClientConfiguration {
+
+  /**
+   * Creates the asynchronous DynamoDB client.
+   *
+   * @param credentialsProvider the AWS credentials provider
+   * @param regionProvider the AWS region provider
+   * @param endpoint the endpoint override, e.g. for DynamoDB Local, or blank for the default one
+   * @param maxConcurrency the maximum number of concurrent HTTP requests
+   * @return the configured {@link DynamoDbAsyncClient}
+   */
+  @Bean(destroyMethod = "close")
+  public DynamoDbAsyncClient dynamoDbAsyncClient(
+      AwsCredentialsProvider credentialsProvider,
+      AwsRegionProvider regionProvider,
+      @Value("${spring.cloud.aws.dynamodb.endpoint:}") String endpoint,
+      @Value("${spring.application.dynamodb.max-concurrency:100}") int maxConcurrency) {
+    var builder =
+        DynamoDbAsyncClient.builder()
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(maxConcurrency))
+            .credentialsProvider(credentialsProvider)
+            .region(regionProvider.getRegion());
+    if (endpoint != null && !endpoint.isBlank()) builder.endpointOverride(URI.create(endpoint));
+    return builder.build();
+  }
+
+  /**
+   * Creates the asynchronous enhanced DynamoDB client.
+   *
+   * @param dynamoDbAsyncClient the asynchronous DynamoDB client
+   * @return the {@link DynamoDbEnhancedAsyncClient}
+   */
+  @Bean
+  public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(
+      DynamoDbAsyncClient dynamoDbAsyncClient) {
+    return DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(dynamoDbAsyncClient).build();
+  }
+}
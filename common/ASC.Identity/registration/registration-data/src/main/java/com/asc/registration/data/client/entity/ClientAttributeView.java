@@ -0,0 +1,73 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.entity;
+
+/**
+ * Read-only projection of a single collection element of a {@link ClientEntity}, such as a redirect
+ * URI or a scope, loaded for a whole listing page at once.
+ */
+public interface ClientAttributeView {
+  /** Kind of the rows holding authentication methods. */
+  String AUTHENTICATION_METHOD = "authentication_method";
+
+  /** Kind of the rows holding redirect URIs. */
+  String REDIRECT_URI = "redirect_uri";
+
+  /** Kind of the rows holding allowed origins. */
+  String ALLOWED_ORIGIN = "allowed_origin";
+
+  /** Kind of the rows holding scope names. */
+  String SCOPE = "scope";
+
+  /**
+   * Returns the identifier of the client the element belongs to.
+   *
+   * @return the client identifier
+   */
+  String getClientId();
+
+  /**
+   * Returns the kind of the element, one of the constants declared by this interface.
+   *
+   * @return the element kind
+   */
+  String getKind();
+
+  /**
+   * Returns the stored value of the element.
+   *
+   * @return the element value
+   */
+  String getValue();
+}
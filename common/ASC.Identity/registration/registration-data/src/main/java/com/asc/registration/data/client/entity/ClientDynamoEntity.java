@@ -55,6 +55,7 @@ public class ClientDynamoEntity {
   private String name;
   private String description;
   private String logo;
+  private String logoHash;
   private Set<String> authenticationMethods;
   private String websiteUrl;
   private String termsUrl;
@@ -69,6 +70,7 @@ public class ClientDynamoEntity {
   private String createdBy;
   private ZonedDateTime modifiedOn;
   private String modifiedBy;
+  private Integer version;
 
   /**
    * Gets the client ID, which serves as the partition key in DynamoDB.
@@ -123,15 +125,28 @@ public class ClientDynamoEntity {
   }
 
   /**
-   * Gets the logo URL of the client.
+   * Gets the inline base64 logo of the client.
    *
-   * @return the client logo URL.
+   * <p>Only items written before logos were moved to the logo store carry this attribute. It is
+   * removed the next time the client is updated.
+   *
+   * @return the inline client logo.
    */
   @DynamoDbAttribute("logo")
   public String getLogo() {
     return logo;
   }
 
+  /**
+   * Gets the SHA-256 hash of the client logo in the logo store.
+   *
+   * @return the client logo hash.
+   */
+  @DynamoDbAttribute("logo_hash")
+  public String getLogoHash() {
+    return logoHash;
+  }
+
   /**
    * Gets the authentication methods supported by the client.
    *
@@ -295,4 +310,14 @@ public class ClientDynamoEntity {
   public String getModifiedBy() {
     return modifiedBy;
   }
+
+  /**
+   * Gets the version of the client, incremented by every update and used for optimistic locking.
+   *
+   * @return the version, or {@code null} for clients stored before versioning.
+   */
+  @DynamoDbAttribute("version")
+  public Integer getVersion() {
+    return version;
+  }
 }
@@ -55,7 +55,6 @@ import org.springframework.data.annotation.LastModifiedDate;
 @Entity
 @Table(name = "identity_clients")
 public class ClientEntity implements Serializable {
-
   /** The unique identifier for the client. */
   @Id
   @Column(name = "client_id", unique = true, length = 36)
@@ -76,8 +75,8 @@ public class ClientEntity implements Serializable {
   @Lob private String description;
 
   /** The logo for the client. */
-  @Column(name = "logo", columnDefinition = "LONGTEXT")
-  private String logo;
+  @Column(name = "logo_hash", length = 64)
+  private String logoHash;
 
   @ElementCollection(fetch = FetchType.LAZY, targetClass = AuthenticationMethod.class)
   @CollectionTable(
@@ -0,0 +1,161 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.entity;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only projection of a {@link ClientEntity} holding its scalar attributes only, so that
+ * listing pages do not initialize the client collections row by row.
+ */
+public interface ClientSummaryView {
+  /**
+   * Returns the unique identifier of the client.
+   *
+   * @return the client identifier
+   */
+  String getClientId();
+
+  /**
+   * Returns the identifier of the tenant the client belongs to.
+   *
+   * @return the tenant identifier
+   */
+  long getTenantId();
+
+  /**
+   * Returns the client secret.
+   *
+   * @return the client secret
+   */
+  String getClientSecret();
+
+  /**
+   * Returns the name of the client.
+   *
+   * @return the client name
+   */
+  String getName();
+
+  /**
+   * Returns the description of the client.
+   *
+   * @return the client description
+   */
+  String getDescription();
+
+  /**
+   * Returns the SHA-256 hash of the client logo.
+   *
+   * @return the logo hash
+   */
+  String getLogoHash();
+
+  /**
+   * Returns the website URL of the client.
+   *
+   * @return the website URL
+   */
+  String getWebsiteUrl();
+
+  /**
+   * Returns the terms of service URL of the client.
+   *
+   * @return the terms URL
+   */
+  String getTermsUrl();
+
+  /**
+   * Returns the privacy policy URL of the client.
+   *
+   * @return the policy URL
+   */
+  String getPolicyUrl();
+
+  /**
+   * Returns the comma-separated logout redirect URIs of the client.
+   *
+   * @return the logout redirect URIs
+   */
+  String getLogoutRedirectUri();
+
+  /**
+   * Returns whether the client is public.
+   *
+   * @return {@code true} if the client is public
+   */
+  boolean isAccessible();
+
+  /**
+   * Returns whether the client is enabled.
+   *
+   * @return {@code true} if the client is enabled
+   */
+  boolean isEnabled();
+
+  /**
+   * Returns the creation timestamp of the client.
+   *
+   * @return the creation timestamp
+   */
+  ZonedDateTime getCreatedOn();
+
+  /**
+   * Returns the identifier of the user who created the client.
+   *
+   * @return the creator identifier
+   */
+  String getCreatedBy();
+
+  /**
+   * Returns the last modification timestamp of the client.
+   *
+   * @return the modification timestamp
+   */
+  ZonedDateTime getModifiedOn();
+
+  /**
+   * Returns the identifier of the user who last modified the client.
+   *
+   * @return the modifier identifier
+   */
+  String getModifiedBy();
+
+  /**
+   * Returns the optimistic locking version of the client.
+   *
+   * @return the client version
+   */
+  Integer getVersion();
+}
@@ -42,14 +42,21 @@ import com.asc.common.core.domain.value.enums.ClientStatus;
 import com.asc.common.core.domain.value.enums.ClientVisibility;
 import com.asc.registration.core.domain.entity.Client;
 import com.asc.registration.core.domain.value.*;
+import com.asc.registration.data.client.entity.ClientAttributeView;
 import com.asc.registration.data.client.entity.ClientDynamoEntity;
 import com.asc.registration.data.client.entity.ClientEntity;
+import com.asc.registration.data.client.entity.ClientSummaryView;
+import com.asc.registration.data.logo.mapper.ClientLogoDataAccessMapper;
 import com.asc.registration.data.scope.entity.ScopeEntity;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
@@ -57,7 +64,9 @@ import org.springframework.stereotype.Component;
  * access objects.
  */
 @Component
+@RequiredArgsConstructor
 public class ClientDataAccessMapper {
+  private final ClientLogoDataAccessMapper clientLogoDataAccessMapper;
 
   /**
    * Converts a {@link Client} domain object to a {@link ClientEntity}.
@@ -73,7 +82,7 @@ public class ClientDataAccessMapper {
         .name(client.getClientInfo().name())
         .description(client.getClientInfo().description())
         .clientSecret(client.getSecret().value())
-        .logo(client.getClientInfo().logo())
+        .logoHash(clientLogoDataAccessMapper.toHash(client.getClientInfo().logo()))
         .authenticationMethods(client.getAuthenticationMethods())
         .tenantId(client.getClientTenantInfo().tenantId().getValue())
         .websiteUrl(websiteInfo == null ? null : websiteInfo.getWebsiteUrl())
@@ -113,7 +122,11 @@ public class ClientDataAccessMapper {
         .secret(new ClientSecret(entity.getClientSecret()))
         .authenticationMethods(entity.getAuthenticationMethods())
         .scopes(entity.getScopes().stream().map(ScopeEntity::getName).collect(Collectors.toSet()))
-        .clientInfo(new ClientInfo(entity.getName(), entity.getDescription(), entity.getLogo()))
+        .clientInfo(
+            new ClientInfo(
+                entity.getName(),
+                entity.getDescription(),
+                clientLogoDataAccessMapper.toReference(entity.getLogoHash())))
         .clientTenantInfo(new ClientTenantInfo(new TenantId(entity.getTenantId())))
         .clientWebsiteInfo(
             ClientWebsiteInfo.Builder.builder()
@@ -144,6 +157,62 @@ public class ClientDataAccessMapper {
         .build();
   }
 
+  /**
+   * Assembles detached {@link ClientEntity} objects from a page of {@link ClientSummaryView}
+   * projections and the collection elements loaded for that page.
+   *
+   * @param summaries the client summaries, in page order
+   * @param attributes the collection elements of the summarized clients
+   * @return the assembled data access objects, in page order
+   */
+  public List<ClientEntity> toEntities(
+      List<ClientSummaryView> summaries, List<ClientAttributeView> attributes) {
+    var entities = new LinkedHashMap<String, ClientEntity>(summaries.size());
+    for (var summary : summaries)
+      entities.put(
+          summary.getClientId(),
+          ClientEntity.builder()
+              .clientId(summary.getClientId())
+              .tenantId(summary.getTenantId())
+              .clientSecret(summary.getClientSecret())
+              .name(summary.getName())
+              .description(summary.getDescription())
+              .logoHash(summary.getLogoHash())
+              .websiteUrl(summary.getWebsiteUrl())
+              .termsUrl(summary.getTermsUrl())
+              .policyUrl(summary.getPolicyUrl())
+              .logoutRedirectUri(summary.getLogoutRedirectUri())
+              .accessible(summary.isAccessible())
+              .enabled(summary.isEnabled())
+              .createdOn(summary.getCreatedOn())
+              .createdBy(summary.getCreatedBy())
+              .modifiedOn(summary.getModifiedOn())
+              .modifiedBy(summary.getModifiedBy())
+              .version(summary.getVersion())
+              .authenticationMethods(new HashSet<>())
+              .redirectUris(new HashSet<>())
+              .allowedOrigins(new HashSet<>())
+              .scopes(new HashSet<>())
+              .build());
+
+    for (var attribute : attributes) {
+      var entity = entities.get(attribute.getClientId());
+      if (entity == null) continue;
+      var value = attribute.getValue();
+      switch (attribute.getKind()) {
+        case ClientAttributeView.AUTHENTICATION_METHOD ->
+            entity.getAuthenticationMethods().add(AuthenticationMethod.fromMethod(value));
+        case ClientAttributeView.REDIRECT_URI -> entity.getRedirectUris().add(value);
+        case ClientAttributeView.ALLOWED_ORIGIN -> entity.getAllowedOrigins().add(value);
+        case ClientAttributeView.SCOPE ->
+            entity.getScopes().add(ScopeEntity.builder().name(value).build());
+        default -> {}
+      }
+    }
+
+    return new ArrayList<>(entities.values());
+  }
+
   /**
    * Merges changes from an origin {@link ClientEntity} into a destination {@link ClientEntity}.
    *
@@ -159,7 +228,8 @@ public class ClientDataAccessMapper {
         origin.getClientSecret() != null
             ? origin.getClientSecret()
             : destination.getClientSecret());
-    destination.setLogo(origin.getLogo() != null ? origin.getLogo() : destination.getLogo());
+    destination.setLogoHash(
+        origin.getLogoHash() != null ? origin.getLogoHash() : destination.getLogoHash());
     destination.setAuthenticationMethods(
         origin.getAuthenticationMethods() != null
             ? origin.getAuthenticationMethods()
@@ -213,7 +283,7 @@ public class ClientDataAccessMapper {
     dynamoEntity.setName(client.getClientInfo().name());
     dynamoEntity.setDescription(client.getClientInfo().description());
     dynamoEntity.setClientSecret(client.getSecret().value());
-    dynamoEntity.setLogo(client.getClientInfo().logo());
+    dynamoEntity.setLogoHash(clientLogoDataAccessMapper.toHash(client.getClientInfo().logo()));
     dynamoEntity.setAuthenticationMethods(
         client.getAuthenticationMethods().stream().map(Enum::name).collect(Collectors.toSet()));
     dynamoEntity.setTenantId(client.getClientTenantInfo().tenantId().getValue());
@@ -237,6 +307,7 @@ public class ClientDataAccessMapper {
         modified != null
             ? modified.getModifiedBy().getValue()
             : client.getClientCreationInfo().getCreatedBy().getValue());
+    dynamoEntity.setVersion(client.getVersion());
     return dynamoEntity;
   }
 
@@ -257,7 +328,11 @@ public class ClientDataAccessMapper {
         .scopes(dynamoEntity.getScopes())
         .clientInfo(
             new ClientInfo(
-                dynamoEntity.getName(), dynamoEntity.getDescription(), dynamoEntity.getLogo()))
+                dynamoEntity.getName(),
+                dynamoEntity.getDescription(),
+                dynamoEntity.getLogoHash() != null
+                    ? clientLogoDataAccessMapper.toReference(dynamoEntity.getLogoHash())
+                    : dynamoEntity.getLogo()))
         .clientTenantInfo(new ClientTenantInfo(new TenantId(dynamoEntity.getTenantId())))
         .clientWebsiteInfo(
             ClientWebsiteInfo.Builder.builder()
@@ -284,6 +359,7 @@ public class ClientDataAccessMapper {
         .clientStatus(dynamoEntity.isEnabled() ? ClientStatus.ENABLED : ClientStatus.DISABLED)
         .clientVisibility(
             dynamoEntity.isAccessible() ? ClientVisibility.PUBLIC : ClientVisibility.PRIVATE)
+        .clientVersion(dynamoEntity.getVersion() != null ? dynamoEntity.getVersion() : 0)
         .build();
   }
 }
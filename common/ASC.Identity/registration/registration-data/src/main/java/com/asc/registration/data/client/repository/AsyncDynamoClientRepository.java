@@ -0,0 +1,826 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.repository;
+
+import static com.asc.registration.data.client.repository.ClientDynamoRequests.*;
+
+import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.core.domain.exception.OptimisticLockingException;
+import com.asc.registration.data.client.entity.ClientDynamoEntity;
+import com.asc.registration.service.exception.ExceededClientsPerResourceException;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+/**
+ * Non-blocking implementation of {@link DynamoClientRepository} built on the asynchronous DynamoDB
+ * clients.
+ *
+ * <p>Requests are sent through the Netty NIO HTTP client, so no thread is pinned while DynamoDB
+ * processes them, and independent requests are composed to run concurrently: batch gets are split
+ * into chunks fetched in parallel, bulk deletes run several batch writes at once while the next
+ * index page is prefetched, counter cleanups are sent together, and the counter reconciliation
+ * scans the table in parallel segments. The public methods keep the blocking contract of {@link
+ * DynamoClientRepository} and only wait for the composed result.
+ *
+ * <p>Enabled by setting {@code spring.application.dynamodb.client} to {@code async}.
+ */
+@Slf4j
+@Repository
+@Profile(value = "saas")
+@ConditionalOnProperty(name = "spring.application.dynamodb.client", havingValue = "async")
+public class AsyncDynamoClientRepository implements DynamoClientRepository {
+  private static final int SCAN_SEGMENTS = 4;
+
+  private final String tableName;
+  private final DynamoDbAsyncClient dynamoDbAsyncClient;
+  private final DynamoDbAsyncTable<ClientDynamoEntity> clientTable;
+
+  /**
+   * Constructs a new instance of {@code AsyncDynamoClientRepository}.
+   *
+   * @param tableName the name of the DynamoDB table containing client entities, as configured by
+   *     {@code spring.cloud.aws.dynamodb.tables.registeredClient}
+   * @param dynamoDbAsyncClient the asynchronous DynamoDB client
+   * @param dynamoDbEnhancedAsyncClient the asynchronous enhanced DynamoDB client
+   * @throws BeanInitializationException if the provided table name is null or blank
+   */
+  public AsyncDynamoClientRepository(
+      @Value("${spring.cloud.aws.dynamodb.tables.registeredClient}") String tableName,
+      DynamoDbAsyncClient dynamoDbAsyncClient,
+      DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient) {
+    if (tableName == null || tableName.isBlank())
+      throw new BeanInitializationException(
+          "DynamoDB registered client table name is not provided");
+    this.tableName = tableName;
+    this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+    this.clientTable = dynamoDbEnhancedAsyncClient.table(tableName, CLIENT_SCHEMA);
+  }
+
+  /**
+   * Waits for a composed operation and rethrows its failure unwrapped, so that callers see the same
+   * exceptions as with the synchronous repository.
+   *
+   * @param future the composed operation
+   * @param <T> the result type
+   * @return the result of the operation
+   */
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      throw e;
+    }
+  }
+
+  /**
+   * Unwraps the exception passed to a completion stage callback.
+   *
+   * @param error the exception passed to the callback
+   * @return the underlying cause
+   */
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+
+  /**
+   * Returns a stage that completes after the backoff delay of the given attempt.
+   *
+   * @param attempt the zero-based number of the attempt that just failed
+   * @return the delayed stage
+   */
+  private static CompletableFuture<Void> backoff(int attempt) {
+    return CompletableFuture.runAsync(
+        () -> {}, CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Runs the given operations with at most {@link ClientDynamoRequests#BATCH_PARALLELISM} of them
+   * in flight. Operations are spread over lanes, each of which runs its operations one after
+   * another.
+   *
+   * @param operations the operations to run
+   * @return a stage that completes once every operation has completed
+   */
+  private static CompletableFuture<Void> inLanes(List<Supplier<CompletableFuture<?>>> operations) {
+    var lanes = new CompletableFuture<?>[Math.min(BATCH_PARALLELISM, operations.size())];
+    for (var lane = 0; lane < lanes.length; lane++) {
+      CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+      for (var i = lane; i < operations.size(); i += lanes.length) {
+        var operation = operations.get(i);
+        chain = chain.thenCompose(v -> operation.get());
+      }
+      lanes[lane] = chain;
+    }
+    return CompletableFuture.allOf(lanes);
+  }
+
+  /**
+   * Collects the items of the first page emitted by a query publisher.
+   *
+   * @param publisher the query publisher
+   * @return the items of the first page
+   */
+  private static CompletableFuture<List<ClientDynamoEntity>> firstPage(
+      SdkPublisher<Page<ClientDynamoEntity>> publisher) {
+    var items = new ArrayList<ClientDynamoEntity>();
+    return publisher.limit(1).subscribe(page -> items.addAll(page.items())).thenApply(v -> items);
+  }
+
+  /**
+   * Persists a new client entity into DynamoDB.
+   *
+   * <p>The client is written in a single transaction together with increments of the tenant and
+   * creator counters, which enforce the per-tenant and per-user limits atomically.
+   *
+   * @param entity the {@link ClientDynamoEntity} to be saved
+   * @throws ExceededClientsPerResourceException if the tenant or the user has reached the maximum
+   *     allowed number of clients
+   */
+  public void save(ClientDynamoEntity entity) {
+    if (entity.getCreatedBy() == null) return;
+
+    try {
+      await(dynamoDbAsyncClient.transactWriteItems(saveClient(tableName, entity)));
+    } catch (TransactionCanceledException e) {
+      throw saveFailure(e);
+    }
+  }
+
+  /**
+   * Updates an existing client entity in DynamoDB.
+   *
+   * <p>Sends a single field-level update of the mutable attributes, conditioned on the version the
+   * entity was read with, instead of overwriting the whole item.
+   *
+   * @param entity the {@link ClientDynamoEntity} with updated attributes
+   * @return the updated {@link ClientDynamoEntity}, carrying its new version
+   * @throws ClientNotFoundException if the client does not exist for the entity's tenant
+   * @throws OptimisticLockingException if the client was modified since the version was read
+   */
+  public ClientDynamoEntity update(ClientDynamoEntity entity) {
+    var updated =
+        await(
+            updateAttributes(
+                entity.getClientId(),
+                entity.getTenantId(),
+                mutableAttributes(entity),
+                entity.getVersion() != null ? entity.getVersion() : 0));
+    entity.setVersion(updatedVersion(updated));
+    return entity;
+  }
+
+  /**
+   * Retrieves a client entity by its unique client ID.
+   *
+   * @param clientId the unique identifier of the client
+   * @return the corresponding {@link ClientDynamoEntity} if found, or {@code null} otherwise
+   */
+  public ClientDynamoEntity findById(String clientId) {
+    return await(clientTable.getItem(Key.builder().partitionValue(clientId).build()));
+  }
+
+  /**
+   * Retrieves a client entity by its client ID and visibility status.
+   *
+   * @param clientId the unique identifier of the client
+   * @param accessible the desired visibility status (true for accessible, false otherwise)
+   * @return an {@link Optional} containing the matching {@link ClientDynamoEntity} if found, or an
+   *     empty {@link Optional} if not found
+   */
+  public Optional<ClientDynamoEntity> findByIdAndVisibility(String clientId, boolean accessible) {
+    return Optional.ofNullable(findById(clientId))
+        .filter(client -> client.isAccessible() == accessible);
+  }
+
+  /**
+   * Retrieves a client entity by its client ID and tenant ID.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @return an {@link Optional} containing the matching {@link ClientDynamoEntity} if found, or an
+   *     empty {@link Optional} if not found
+   */
+  public Optional<ClientDynamoEntity> findByClientIdAndTenantId(String clientId, long tenantId) {
+    return await(findClient(clientId, tenantId));
+  }
+
+  /**
+   * Fetches a client entity of a tenant.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @return a stage completing with the matching client, if any
+   */
+  private CompletableFuture<Optional<ClientDynamoEntity>> findClient(
+      String clientId, long tenantId) {
+    return clientTable
+        .getItem(Key.builder().partitionValue(clientId).build())
+        .thenApply(client -> Optional.ofNullable(client).filter(c -> c.getTenantId() == tenantId));
+  }
+
+  /**
+   * Retrieves a paginated list of client entities for a specific tenant.
+   *
+   * @param tenantId the tenant identifier
+   * @param limit the maximum number of client entities to return
+   * @param nextClientId the client ID serving as the pagination cursor, or {@code null} for the
+   *     first page
+   * @param nextCreatedOn the creation timestamp serving as the pagination cursor, or {@code null}
+   *     for the first page
+   * @return a list of {@link ClientDynamoEntity} objects matching the query
+   */
+  public List<ClientDynamoEntity> findAllByTenantId(
+      long tenantId, int limit, String nextClientId, ZonedDateTime nextCreatedOn) {
+    return await(
+        firstPage(
+            clientTable
+                .index("tenant-created-index")
+                .query(
+                    pageRequest(
+                        QueryConditional.keyEqualTo(k -> k.partitionValue(tenantId)),
+                        TENANT_ID,
+                        AttributeValue.fromN(String.valueOf(tenantId)),
+                        limit,
+                        nextClientId,
+                        nextCreatedOn))));
+  }
+
+  /**
+   * Retrieves a paginated list of client entities created by a specific creator.
+   *
+   * @param creatorId the identifier of the creator
+   * @param limit the maximum number of client entities to return
+   * @param nextClientId the client ID serving as the pagination cursor, or {@code null} for the
+   *     first page
+   * @param nextCreatedOn the creation timestamp serving as the pagination cursor, or {@code null}
+   *     for the first page
+   * @return a list of {@link ClientDynamoEntity} objects matching the query
+   */
+  public List<ClientDynamoEntity> findAllByCreatorId(
+      String creatorId, int limit, String nextClientId, ZonedDateTime nextCreatedOn) {
+    return await(
+        firstPage(
+            clientTable
+                .index("creator-created-index")
+                .query(
+                    pageRequest(
+                        QueryConditional.keyEqualTo(k -> k.partitionValue(creatorId)),
+                        CREATED_BY,
+                        AttributeValue.fromS(creatorId),
+                        limit,
+                        nextClientId,
+                        nextCreatedOn))));
+  }
+
+  /**
+   * Builds a descending page query on a creation-ordered index.
+   *
+   * @param queryConditional the partition key condition
+   * @param partitionAttribute the name of the index partition key attribute
+   * @param partitionValue the value of the index partition key
+   * @param limit the maximum number of client entities to return
+   * @param nextClientId the client ID cursor, or {@code null} for the first page
+   * @param nextCreatedOn the creation timestamp cursor, or {@code null} for the first page
+   * @return the {@link QueryEnhancedRequest}
+   */
+  private QueryEnhancedRequest pageRequest(
+      QueryConditional queryConditional,
+      String partitionAttribute,
+      AttributeValue partitionValue,
+      int limit,
+      String nextClientId,
+      ZonedDateTime nextCreatedOn) {
+    var builder =
+        QueryEnhancedRequest.builder()
+            .queryConditional(queryConditional)
+            .scanIndexForward(false)
+            .limit(limit + 1);
+    if (nextClientId != null && !nextClientId.isBlank() && nextCreatedOn != null)
+      builder.exclusiveStartKey(
+          Map.of(
+              partitionAttribute,
+              partitionValue,
+              CLIENT_ID,
+              AttributeValue.fromS(nextClientId),
+              CREATED_ON,
+              AttributeValue.fromS(nextCreatedOn.toString())));
+    return builder.build();
+  }
+
+  /**
+   * Retrieves all client entities with any of the specified client IDs.
+   *
+   * <p>The IDs are split into chunks of {@link ClientDynamoRequests#BATCH_GET_LIMIT} keys which are
+   * fetched concurrently. Unprocessed keys are re-requested with exponential backoff and jitter.
+   *
+   * @param clientIds a list of client IDs to search for; if {@code null} or empty, an empty list is
+   *     returned
+   * @return a list of matching {@link ClientDynamoEntity} objects
+   */
+  public List<ClientDynamoEntity> findAllByClientIds(List<String> clientIds) {
+    if (clientIds == null || clientIds.isEmpty()) return Collections.emptyList();
+
+    var keys = clientIds.stream().distinct().map(ClientDynamoRequests::key).toList();
+    var chunks = new ArrayList<CompletableFuture<List<ClientDynamoEntity>>>();
+    for (var i = 0; i < keys.size(); i += BATCH_GET_LIMIT) {
+      var chunk = keys.subList(i, Math.min(i + BATCH_GET_LIMIT, keys.size()));
+      chunks.add(
+          batchGet(
+              Map.of(tableName, KeysAndAttributes.builder().keys(chunk).build()),
+              0,
+              new ArrayList<>()));
+    }
+
+    return await(
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+            .thenApply(v -> chunks.stream().flatMap(chunk -> chunk.join().stream()).toList()));
+  }
+
+  /**
+   * Fetches a chunk of keys, re-requesting unprocessed keys until none are left or {@link
+   * ClientDynamoRequests#BATCH_MAX_ATTEMPTS} is reached.
+   *
+   * @param keys the keys to fetch
+   * @param attempt the zero-based attempt number
+   * @param results receives the fetched clients
+   * @return a stage completing with the fetched clients
+   */
+  private CompletableFuture<List<ClientDynamoEntity>> batchGet(
+      Map<String, KeysAndAttributes> keys, int attempt, List<ClientDynamoEntity> results) {
+    return dynamoDbAsyncClient
+        .batchGetItem(BatchGetItemRequest.builder().requestItems(keys).build())
+        .thenCompose(
+            response -> {
+              for (var item : response.responses().getOrDefault(tableName, List.of()))
+                results.add(CLIENT_SCHEMA.mapToItem(item));
+
+              var unprocessed = response.unprocessedKeys();
+              if (unprocessed == null || unprocessed.isEmpty()) {
+                return CompletableFuture.completedFuture(results);
+              } else if (attempt + 1 >= BATCH_MAX_ATTEMPTS) {
+                log.warn("Could not fetch all requested clients after {} attempts", attempt + 1);
+                return CompletableFuture.completedFuture(results);
+              }
+
+              return backoff(attempt).thenCompose(v -> batchGet(unprocessed, attempt + 1, results));
+            });
+  }
+
+  /**
+   * Deletes a client entity by its client ID and tenant ID.
+   *
+   * <p>The client is deleted in a single transaction together with decrements of the tenant and
+   * creator counters.
+   *
+   * @param clientId the unique identifier of the client to delete
+   * @param tenantId the tenant identifier
+   * @return the deleted {@link ClientDynamoEntity} if deletion was successful, or {@code null}
+   *     otherwise
+   */
+  public ClientDynamoEntity deleteByIdAndTenantId(String clientId, long tenantId) {
+    return await(
+        findClient(clientId, tenantId)
+            .thenCompose(
+                client ->
+                    client
+                        .map(
+                            c ->
+                                dynamoDbAsyncClient
+                                    .transactWriteItems(deleteClient(tableName, c))
+                                    .handle(
+                                        (response, error) -> {
+                                          if (error == null) return c;
+                                          if (unwrap(error)
+                                                  instanceof TransactionCanceledException e
+                                              && isConditionalCheckFailed(
+                                                  e.cancellationReasons(), 0)) return null;
+                                          throw new CompletionException(unwrap(error));
+                                        }))
+                        .orElseGet(() -> CompletableFuture.completedFuture(null))));
+  }
+
+  /** Tally of a bulk deletion, updated by concurrently completing batches. */
+  private static final class DeleteTally {
+    private final Map<Long, Map<String, Long>> deleted = new HashMap<>();
+    private long deletedCount;
+    private long remainingCount;
+
+    synchronized void record(List<ClientDynamoEntity> batch, List<ClientDynamoEntity> removed) {
+      deletedCount += removed.size();
+      remainingCount += batch.size() - removed.size();
+      countDeleted(deleted, removed);
+    }
+
+    synchronized void fail(List<ClientDynamoEntity> batch) {
+      remainingCount += batch.size();
+    }
+
+    synchronized BatchDeleteResult result() {
+      return new BatchDeleteResult(deletedCount, remainingCount);
+    }
+  }
+
+  /**
+   * Batch deletes client entities based on an index query and a delete condition.
+   *
+   * <p>Pages through the index fetching only the attributes needed to delete a client and adjust
+   * its counters. The batches of each page are deleted with bounded parallelism while the next page
+   * is already being fetched.
+   *
+   * @param indexName the name of the DynamoDB index to query
+   * @param partitionAttribute the name of the index partition key attribute
+   * @param partitionValue the value of the index partition key
+   * @param deleteCondition a predicate that determines whether an entity should be deleted
+   * @param tally receives the deleted and remaining counts
+   * @return a stage that completes once every page has been processed
+   */
+  private CompletableFuture<Void> batchDeleteByIndex(
+      String indexName,
+      String partitionAttribute,
+      AttributeValue partitionValue,
+      Predicate<ClientDynamoEntity> deleteCondition,
+      DeleteTally tally) {
+    var request =
+        QueryRequest.builder()
+            .tableName(tableName)
+            .indexName(indexName)
+            .keyConditionExpression("#pk = :pk")
+            .projectionExpression("#id, #tenant, #creator")
+            .expressionAttributeNames(
+                Map.of(
+                    "#pk", partitionAttribute,
+                    "#id", CLIENT_ID,
+                    "#tenant", TENANT_ID,
+                    "#creator", CREATED_BY))
+            .expressionAttributeValues(Map.of(":pk", partitionValue))
+            .limit(QUERY_PAGE_LIMIT)
+            .build();
+    return deletePages(request, dynamoDbAsyncClient.query(request), deleteCondition, tally);
+  }
+
+  /**
+   * Deletes the matching clients of a page, prefetching the next page in the meantime, and then
+   * continues with the next page.
+   *
+   * @param request the base index query
+   * @param page the pending page
+   * @param deleteCondition a predicate that determines whether an entity should be deleted
+   * @param tally receives the deleted and remaining counts
+   * @return a stage that completes once this and all following pages have been processed
+   */
+  private CompletableFuture<Void> deletePages(
+      QueryRequest request,
+      CompletableFuture<QueryResponse> page,
+      Predicate<ClientDynamoEntity> deleteCondition,
+      DeleteTally tally) {
+    return page.thenCompose(
+        response -> {
+          var next =
+              response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                  ? dynamoDbAsyncClient.query(
+                      request.toBuilder().exclusiveStartKey(response.lastEvaluatedKey()).build())
+                  : null;
+
+          var clients =
+              response.items().stream()
+                  .map(CLIENT_SCHEMA::mapToItem)
+                  .filter(deleteCondition)
+                  .toList();
+          var batches = new ArrayList<Supplier<CompletableFuture<?>>>();
+          for (var i = 0; i < clients.size(); i += BATCH_WRITE_LIMIT) {
+            var batch = clients.subList(i, Math.min(i + BATCH_WRITE_LIMIT, clients.size()));
+            batches.add(
+                () ->
+                    deleteBatch(batch, deleteRequests(tableName, batch), 0)
+                        .handle(
+                            (removed, error) -> {
+                              if (error == null) {
+                                tally.record(batch, removed);
+                              } else {
+                                tally.fail(batch);
+                                log.warn(
+                                    "Could not delete a batch of {} clients",
+                                    batch.size(),
+                                    unwrap(error));
+                              }
+                              return null;
+                            }));
+          }
+
+          return inLanes(batches)
+              .thenCompose(
+                  v ->
+                      next == null
+                          ? CompletableFuture.completedFuture(null)
+                          : deletePages(request, next, deleteCondition, tally));
+        });
+  }
+
+  /**
+   * Deletes a single batch of entities, re-submitting unprocessed items and throttled requests with
+   * exponential backoff and full jitter until {@link ClientDynamoRequests#BATCH_MAX_ATTEMPTS} is
+   * reached.
+   *
+   * @param batch the entities of the batch
+   * @param pending the delete requests still to be processed
+   * @param attempt the zero-based attempt number
+   * @return a stage completing with the entities that were deleted
+   */
+  private CompletableFuture<List<ClientDynamoEntity>> deleteBatch(
+      List<ClientDynamoEntity> batch, Map<String, List<WriteRequest>> pending, int attempt) {
+    return dynamoDbAsyncClient
+        .batchWriteItem(BatchWriteItemRequest.builder().requestItems(pending).build())
+        .handle(
+            (response, error) -> {
+              var unprocessed = pending;
+              if (error != null) {
+                if (!(unwrap(error) instanceof AwsServiceException e && e.isThrottlingException()))
+                  return CompletableFuture.<List<ClientDynamoEntity>>failedFuture(unwrap(error));
+              } else {
+                unprocessed = response.unprocessedItems();
+              }
+
+              if (unprocessed == null || unprocessed.isEmpty() || attempt + 1 >= BATCH_MAX_ATTEMPTS)
+                return CompletableFuture.completedFuture(
+                    deletedClients(tableName, batch, unprocessed));
+
+              var retry = unprocessed;
+              return backoff(attempt).thenCompose(v -> deleteBatch(batch, retry, attempt + 1));
+            })
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * Sends counter updates and removals built by {@link ClientDynamoRequests} concurrently.
+   *
+   * @param requests the {@link UpdateItemRequest} and {@link DeleteItemRequest} instances
+   * @return a stage that completes once every request has completed
+   */
+  private CompletableFuture<Void> applyCounterRequests(List<DynamoDbRequest> requests) {
+    var operations = new ArrayList<Supplier<CompletableFuture<?>>>(requests.size());
+    for (var request : requests) {
+      if (request instanceof UpdateItemRequest update)
+        operations.add(() -> dynamoDbAsyncClient.updateItem(update));
+      else if (request instanceof DeleteItemRequest delete)
+        operations.add(() -> dynamoDbAsyncClient.deleteItem(delete));
+    }
+    return inLanes(operations);
+  }
+
+  /**
+   * Deletes all client entities with a specified creator ID for a specific tenant, then adjusts the
+   * affected counters.
+   *
+   * @param tenantId the tenant identifier
+   * @param userId the creator identifier
+   * @return the {@link BatchDeleteResult} with the deleted and remaining client counts
+   */
+  public BatchDeleteResult deleteAllByTenantIdAndCreatedBy(long tenantId, String userId) {
+    var tally = new DeleteTally();
+    return await(
+        batchDeleteByIndex(
+                "creator-created-index",
+                CREATED_BY,
+                AttributeValue.fromS(userId),
+                entity -> userId.equals(entity.getCreatedBy()),
+                tally)
+            .thenCompose(
+                v -> {
+                  var result = tally.result();
+                  return applyCounterRequests(
+                          creatorCounterCleanup(
+                              tableName, userId, tally.deleted, result.remaining() == 0))
+                      .thenApply(r -> result);
+                }));
+  }
+
+  /**
+   * Deletes all client entities associated with a specific tenant, then removes or adjusts the
+   * tenant and creator counters.
+   *
+   * @param tenantId the tenant identifier
+   * @return the {@link BatchDeleteResult} with the deleted and remaining client counts
+   */
+  public BatchDeleteResult deleteAllByTenantId(long tenantId) {
+    var tally = new DeleteTally();
+    return await(
+        batchDeleteByIndex(
+                "tenant-created-index",
+                TENANT_ID,
+                AttributeValue.fromN(String.valueOf(tenantId)),
+                entity -> true,
+                tally)
+            .thenCompose(
+                v -> {
+                  var result = tally.result();
+                  return applyCounterRequests(
+                          tenantCounterCleanup(
+                              tableName,
+                              tenantId,
+                              tally.deleted.getOrDefault(tenantId, Map.of()),
+                              result.remaining() == 0))
+                      .thenApply(r -> result);
+                }));
+  }
+
+  /**
+   * Recalculates the tenant and creator counters from the stored clients.
+   *
+   * <p>The table is scanned in {@value #SCAN_SEGMENTS} parallel segments, then the counters are
+   * written with bounded parallelism.
+   *
+   * @return the number of counter items written
+   */
+  public int reconcileClientCounters() {
+    var counters = new HashMap<String, Long>();
+    var segments = new CompletableFuture<?>[SCAN_SEGMENTS];
+    for (var segment = 0; segment < SCAN_SEGMENTS; segment++)
+      segments[segment] =
+          dynamoDbAsyncClient
+              .scanPaginator(counterScan(tableName, segment, SCAN_SEGMENTS))
+              .subscribe(
+                  response -> {
+                    synchronized (counters) {
+                      response.items().forEach(item -> countItem(counters, item));
+                    }
+                  });
+
+    return await(
+        CompletableFuture.allOf(segments)
+            .thenCompose(
+                v -> {
+                  var puts = new ArrayList<Supplier<CompletableFuture<?>>>(counters.size());
+                  counters.forEach(
+                      (counterKey, count) ->
+                          puts.add(
+                              () ->
+                                  dynamoDbAsyncClient.putItem(
+                                      putCounter(tableName, counterKey, count))));
+                  return inLanes(puts);
+                })
+            .thenApply(v -> counters.size()));
+  }
+
+  /**
+   * Updates the client secret for a specific client entity.
+   *
+   * <p>Only the secret and the modification timestamp are written. The update is conditioned on the
+   * client belonging to the tenant, so the client is not read beforehand.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @param secret the new client secret to set
+   * @param modifiedOn the timestamp when the update is performed
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
+   *     ID
+   */
+  public ClientDynamoEntity updateClientSecret(
+      String clientId, long tenantId, String secret, ZonedDateTime modifiedOn) {
+    return updateClient(
+        clientId, tenantId, Map.of("client_secret", AttributeValue.fromS(secret)), modifiedOn);
+  }
+
+  /**
+   * Updates the visibility status for a specific client entity.
+   *
+   * <p>Only the accessibility flag and the modification timestamp are written. The update is
+   * conditioned on the client belonging to the tenant, so the client is not read beforehand.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @param accessible the new visibility status (true for accessible, false otherwise)
+   * @param modifiedOn the timestamp when the update is performed
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
+   *     ID
+   */
+  public ClientDynamoEntity updateVisibility(
+      String clientId, long tenantId, boolean accessible, ZonedDateTime modifiedOn) {
+    return updateClient(
+        clientId, tenantId, Map.of("accessible", AttributeValue.fromBool(accessible)), modifiedOn);
+  }
+
+  /**
+   * Updates the activation status for a specific client entity.
+   *
+   * <p>Only the enabled flag and the modification timestamp are written. The update is conditioned
+   * on the client belonging to the tenant, so the client is not read beforehand.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @param enabled the new activation status (true if enabled, false otherwise)
+   * @param modifiedOn the timestamp when the update is performed
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
+   *     ID
+   */
+  public ClientDynamoEntity updateActivation(
+      String clientId, long tenantId, boolean enabled, ZonedDateTime modifiedOn) {
+    return updateClient(
+        clientId, tenantId, Map.of("enabled", AttributeValue.fromBool(enabled)), modifiedOn);
+  }
+
+  /**
+   * Writes the given attributes and the modification timestamp of a client.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @param attributes the attributes to set by name
+   * @param modifiedOn the timestamp when the update is performed
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   */
+  private ClientDynamoEntity updateClient(
+      String clientId,
+      long tenantId,
+      Map<String, AttributeValue> attributes,
+      ZonedDateTime modifiedOn) {
+    var changes = new HashMap<>(attributes);
+    changes.put("modified_on", AttributeValue.fromS(modifiedOn.toString()));
+    return updatedClient(
+        clientId, tenantId, await(updateAttributes(clientId, tenantId, changes, null)));
+  }
+
+  /**
+   * Sends a field-level update and translates a failed condition.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @param attributes the attributes to change by name
+   * @param expectedVersion the version the caller has read, or {@code null} to skip the check
+   * @return a stage completing with the updated attributes returned by DynamoDB
+   */
+  private CompletableFuture<Map<String, AttributeValue>> updateAttributes(
+      String clientId,
+      long tenantId,
+      Map<String, AttributeValue> attributes,
+      Integer expectedVersion) {
+    return dynamoDbAsyncClient
+        .updateItem(
+            ClientDynamoRequests.updateClient(
+                tableName, clientId, tenantId, attributes, expectedVersion))
+        .handle(
+            (response, error) -> {
+              if (error == null) return response.attributes();
+              if (unwrap(error) instanceof ConditionalCheckFailedException e)
+                throw updateFailure(e, clientId, tenantId);
+              throw new CompletionException(unwrap(error));
+            });
+  }
+}
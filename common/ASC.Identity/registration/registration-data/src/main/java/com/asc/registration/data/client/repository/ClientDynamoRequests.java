@@ -0,0 +1,618 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.repository;
+
+import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.core.domain.exception.OptimisticLockingException;
+import com.asc.registration.data.client.entity.ClientDynamoEntity;
+import com.asc.registration.service.exception.ExceededClientsPerResourceException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+/**
+ * Builds the low-level DynamoDB requests shared by the synchronous and asynchronous client
+ * repositories.
+ *
+ * <p>The number of clients per tenant and per creator is tracked in counter items stored in the
+ * client table. Counter items carry neither {@code tenant_id} nor {@code created_on}, so they never
+ * show up in the secondary indexes.
+ */
+final class ClientDynamoRequests {
+  static final int CLIENTS_PER_TENANT_LIMIT = 100;
+  static final int CLIENTS_PER_USER_LIMIT = 10;
+
+  static final String CLIENT_ID = "client_id";
+  static final String TENANT_ID = "tenant_id";
+  static final String CREATED_BY = "created_by";
+  static final String CREATED_ON = "created_on";
+  static final String VERSION = "version";
+  static final String CLIENT_COUNT = "client_count";
+  static final String COUNTER_KEY_PREFIX = "counters#tenant#";
+
+  static final int QUERY_PAGE_LIMIT = 1000;
+  static final int BATCH_GET_LIMIT = 100;
+  static final int BATCH_WRITE_LIMIT = 25;
+  static final int BATCH_PARALLELISM = 4;
+  static final int BATCH_MAX_ATTEMPTS = 8;
+  static final long BATCH_BASE_BACKOFF_MILLIS = 50;
+  static final long BATCH_MAX_BACKOFF_MILLIS = 2000;
+
+  static final Set<String> IMMUTABLE_ATTRIBUTES =
+      Set.of(CLIENT_ID, TENANT_ID, CREATED_ON, CREATED_BY, VERSION);
+
+  static final TableSchema<ClientDynamoEntity> CLIENT_SCHEMA =
+      TableSchema.fromBean(ClientDynamoEntity.class);
+
+  private ClientDynamoRequests() {}
+
+  /**
+   * Builds the key of the item holding the number of clients registered for a tenant.
+   *
+   * @param tenantId the tenant identifier
+   * @return the counter item key
+   */
+  static String tenantCounterKey(long tenantId) {
+    return COUNTER_KEY_PREFIX + tenantId;
+  }
+
+  /**
+   * Builds the key of the item holding the number of clients a user registered within a tenant.
+   *
+   * @param tenantId the tenant identifier
+   * @param userId the user identifier
+   * @return the counter item key
+   */
+  static String userCounterKey(long tenantId, String userId) {
+    return COUNTER_KEY_PREFIX + tenantId + "#user#" + userId;
+  }
+
+  /**
+   * Builds the primary key of an item in the client table.
+   *
+   * @param clientId the client identifier or counter key
+   * @return the item key
+   */
+  static Map<String, AttributeValue> key(String clientId) {
+    return Map.of(CLIENT_ID, AttributeValue.fromS(clientId));
+  }
+
+  /**
+   * Builds the transaction that writes a new client and increments the tenant and creator counters.
+   * The conditions on both counters enforce the per-tenant and per-user limits.
+   *
+   * @param tableName the client table name
+   * @param entity the client to write
+   * @return the {@link TransactWriteItemsRequest}
+   */
+  static TransactWriteItemsRequest saveClient(String tableName, ClientDynamoEntity entity) {
+    return TransactWriteItemsRequest.builder()
+        .transactItems(
+            incrementCounter(
+                tableName, tenantCounterKey(entity.getTenantId()), CLIENTS_PER_TENANT_LIMIT),
+            incrementCounter(
+                tableName,
+                userCounterKey(entity.getTenantId(), entity.getCreatedBy()),
+                CLIENTS_PER_USER_LIMIT),
+            TransactWriteItem.builder()
+                .put(
+                    Put.builder()
+                        .tableName(tableName)
+                        .item(CLIENT_SCHEMA.itemToMap(entity, true))
+                        .conditionExpression("attribute_not_exists(#id)")
+                        .expressionAttributeNames(Map.of("#id", CLIENT_ID))
+                        .build())
+                .build())
+        .build();
+  }
+
+  /**
+   * Translates a cancelled {@link #saveClient(String, ClientDynamoEntity)} transaction into the
+   * exception reported to callers.
+   *
+   * @param e the cancellation reported by DynamoDB
+   * @return an {@link ExceededClientsPerResourceException} if a limit was reached, or the original
+   *     exception otherwise
+   */
+  static RuntimeException saveFailure(TransactionCanceledException e) {
+    var reasons = e.cancellationReasons();
+    if (isConditionalCheckFailed(reasons, 0))
+      return new ExceededClientsPerResourceException(
+          "Tenant has reached the maximum allowed number of clients");
+    if (isConditionalCheckFailed(reasons, 1))
+      return new ExceededClientsPerResourceException(
+          "User has reached the maximum allowed number of clients");
+    return e;
+  }
+
+  /**
+   * Builds the transaction that deletes a client of a tenant and decrements its counters.
+   *
+   * @param tableName the client table name
+   * @param client the client to delete, as currently stored
+   * @return the {@link TransactWriteItemsRequest}
+   */
+  static TransactWriteItemsRequest deleteClient(String tableName, ClientDynamoEntity client) {
+    var items = new ArrayList<TransactWriteItem>(3);
+    items.add(
+        TransactWriteItem.builder()
+            .delete(
+                Delete.builder()
+                    .tableName(tableName)
+                    .key(key(client.getClientId()))
+                    .conditionExpression("attribute_exists(#id) AND #tenant = :tenant")
+                    .expressionAttributeNames(Map.of("#id", CLIENT_ID, "#tenant", TENANT_ID))
+                    .expressionAttributeValues(
+                        Map.of(
+                            ":tenant", AttributeValue.fromN(String.valueOf(client.getTenantId()))))
+                    .build())
+            .build());
+    items.add(
+        TransactWriteItem.builder()
+            .update(decrement(tableName, tenantCounterKey(client.getTenantId()), 1))
+            .build());
+    if (client.getCreatedBy() != null)
+      items.add(
+          TransactWriteItem.builder()
+              .update(
+                  decrement(
+                      tableName, userCounterKey(client.getTenantId(), client.getCreatedBy()), 1))
+              .build());
+    return TransactWriteItemsRequest.builder().transactItems(items).build();
+  }
+
+  /**
+   * Checks whether the transaction item at the given position was cancelled by its condition.
+   *
+   * @param reasons the cancellation reasons reported by DynamoDB, in transaction item order
+   * @param position the position of the transaction item
+   * @return {@code true} if the item's condition failed, {@code false} otherwise
+   */
+  static boolean isConditionalCheckFailed(List<CancellationReason> reasons, int position) {
+    return reasons != null
+        && reasons.size() > position
+        && "ConditionalCheckFailed".equals(reasons.get(position).code());
+  }
+
+  /**
+   * Collects the attributes of a client that may change after it has been created. The key, the
+   * tenant, the creation attributes and the version are left out. Attributes without a value are
+   * mapped to a DynamoDB null, which {@link #updateClient} turns into a {@code REMOVE} action, just
+   * like empty sets.
+   *
+   * <p>All mutable attributes are sent rather than only the changed ones: the command port only
+   * receives the mutated client, so telling changed attributes apart would take a read before the
+   * write, which the version condition replaces. Logos are stored by content hash, so the inline
+   * {@code logo} attribute is only ever removed here and the remaining attributes are short.
+   *
+   * @param entity the client holding the new values
+   * @return the mutable attributes by name
+   */
+  static Map<String, AttributeValue> mutableAttributes(ClientDynamoEntity entity) {
+    var attributes = new HashMap<>(CLIENT_SCHEMA.itemToMap(entity, false));
+    IMMUTABLE_ATTRIBUTES.forEach(attributes::remove);
+    return attributes;
+  }
+
+  /**
+   * Builds a field-level update of a client of a tenant.
+   *
+   * <p>Only the given attributes are sent: attributes with a value become {@code SET} actions while
+   * DynamoDB nulls and empty sets become {@code REMOVE} actions. Every update increments the {@code
+   * version} attribute. The condition replaces reading the client beforehand: the update only
+   * applies if the client exists, belongs to the tenant and, when an expected version is given, has
+   * not been modified since that version was read. Clients stored before versioning count as
+   * version zero.
+   *
+   * @param tableName the client table name
+   * @param clientId the client identifier
+   * @param tenantId the tenant identifier
+   * @param attributes the attributes to change by name
+   * @param expectedVersion the version the caller has read, or {@code null} to skip the check
+   * @return the {@link UpdateItemRequest} returning only the updated attributes
+   */
+  static UpdateItemRequest updateClient(
+      String tableName,
+      String clientId,
+      long tenantId,
+      Map<String, AttributeValue> attributes,
+      Integer expectedVersion) {
+    var names = new HashMap<String, String>();
+    var values = new HashMap<String, AttributeValue>();
+    var set = new ArrayList<String>();
+    var remove = new ArrayList<String>();
+
+    var index = 0;
+    for (var attribute : new TreeMap<>(attributes).entrySet()) {
+      var name = "#a" + index;
+      names.put(name, attribute.getKey());
+      var value = attribute.getValue();
+      if (Boolean.TRUE.equals(value.nul()) || (value.hasSs() && value.ss().isEmpty())) {
+        remove.add(name);
+      } else {
+        values.put(":a" + index, value);
+        set.add(name + " = :a" + index);
+      }
+      index++;
+    }
+
+    names.put("#id", CLIENT_ID);
+    names.put("#tenant", TENANT_ID);
+    names.put("#version", VERSION);
+    values.put(":tenant", AttributeValue.fromN(String.valueOf(tenantId)));
+    values.put(":zero", AttributeValue.fromN("0"));
+    values.put(":one", AttributeValue.fromN("1"));
+    set.add("#version = if_not_exists(#version, :zero) + :one");
+
+    var condition = "attribute_exists(#id) AND #tenant = :tenant";
+    if (expectedVersion != null) {
+      values.put(":expected", AttributeValue.fromN(String.valueOf(expectedVersion)));
+      condition +=
+          expectedVersion == 0
+              ? " AND (attribute_not_exists(#version) OR #version = :expected)"
+              : " AND #version = :expected";
+    }
+
+    var expression = "SET " + String.join(", ", set);
+    if (!remove.isEmpty()) expression += " REMOVE " + String.join(", ", remove);
+
+    return UpdateItemRequest.builder()
+        .tableName(tableName)
+        .key(key(clientId))
+        .updateExpression(expression)
+        .conditionExpression(condition)
+        .expressionAttributeNames(names)
+        .expressionAttributeValues(values)
+        .returnValues(ReturnValue.UPDATED_NEW)
+        .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+        .build();
+  }
+
+  /**
+   * Translates a failed {@link #updateClient} condition into the exception reported to callers. The
+   * client as stored at the time of the failure is used to tell a missing client from a concurrent
+   * modification.
+   *
+   * @param e the condition failure reported by DynamoDB
+   * @param clientId the client identifier
+   * @param tenantId the tenant identifier
+   * @return a {@link ClientNotFoundException} if the client does not exist for the tenant, or an
+   *     {@link OptimisticLockingException} if it was modified concurrently
+   */
+  static RuntimeException updateFailure(
+      ConditionalCheckFailedException e, String clientId, long tenantId) {
+    var item = e.item();
+    if (item == null
+        || !item.containsKey(TENANT_ID)
+        || !String.valueOf(tenantId).equals(item.get(TENANT_ID).n()))
+      return new ClientNotFoundException(
+          String.format("Client with id %s for tenant %d was not found", clientId, tenantId));
+    return new OptimisticLockingException(
+        String.format("Client with id %s was modified concurrently", clientId), e);
+  }
+
+  /**
+   * Builds the entity returned from a field-level update out of the attributes DynamoDB reported as
+   * updated.
+   *
+   * @param clientId the client identifier
+   * @param tenantId the tenant identifier
+   * @param updated the updated attributes returned by DynamoDB
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   */
+  static ClientDynamoEntity updatedClient(
+      String clientId, long tenantId, Map<String, AttributeValue> updated) {
+    var item = new HashMap<String, AttributeValue>();
+    if (updated != null) item.putAll(updated);
+    item.putAll(key(clientId));
+    item.put(TENANT_ID, AttributeValue.fromN(String.valueOf(tenantId)));
+    return CLIENT_SCHEMA.mapToItem(item);
+  }
+
+  /**
+   * Reads the version DynamoDB reported after a field-level update.
+   *
+   * @param updated the updated attributes returned by DynamoDB
+   * @return the new version of the client
+   */
+  static int updatedVersion(Map<String, AttributeValue> updated) {
+    return Integer.parseInt(updated.get(VERSION).n());
+  }
+
+  /**
+   * Builds a transactional update that increments a counter unless it has reached the limit.
+   *
+   * @param tableName the client table name
+   * @param counterKey the counter item key
+   * @param limit the maximum value the counter may reach
+   * @return the {@link TransactWriteItem} performing the increment
+   */
+  private static TransactWriteItem incrementCounter(
+      String tableName, String counterKey, int limit) {
+    return TransactWriteItem.builder()
+        .update(
+            Update.builder()
+                .tableName(tableName)
+                .key(key(counterKey))
+                .updateExpression("ADD #count :delta")
+                .conditionExpression("attribute_not_exists(#count) OR #count < :limit")
+                .expressionAttributeNames(Map.of("#count", CLIENT_COUNT))
+                .expressionAttributeValues(
+                    Map.of(
+                        ":delta", AttributeValue.fromN("1"),
+                        ":limit", AttributeValue.fromN(String.valueOf(limit))))
+                .build())
+        .build();
+  }
+
+  /**
+   * Builds an unconditional counter decrement for use inside a transaction.
+   *
+   * @param tableName the client table name
+   * @param counterKey the counter item key
+   * @param delta the number of clients to subtract
+   * @return the {@link Update}
+   */
+  private static Update decrement(String tableName, String counterKey, long delta) {
+    return Update.builder()
+        .tableName(tableName)
+        .key(key(counterKey))
+        .updateExpression("ADD #count :delta")
+        .expressionAttributeNames(Map.of("#count", CLIENT_COUNT))
+        .expressionAttributeValues(Map.of(":delta", AttributeValue.fromN(String.valueOf(-delta))))
+        .build();
+  }
+
+  /**
+   * Builds a standalone counter decrement.
+   *
+   * <p>Decrements are unconditional so that a drifted counter never prevents a client from being
+   * deleted; such drift is corrected by {@link DynamoClientRepository#reconcileClientCounters()}.
+   *
+   * @param tableName the client table name
+   * @param counterKey the counter item key
+   * @param delta the number of clients to subtract
+   * @return the {@link UpdateItemRequest}
+   */
+  static UpdateItemRequest decrementCounter(String tableName, String counterKey, long delta) {
+    var update = decrement(tableName, counterKey, delta);
+    return UpdateItemRequest.builder()
+        .tableName(tableName)
+        .key(update.key())
+        .updateExpression(update.updateExpression())
+        .expressionAttributeNames(update.expressionAttributeNames())
+        .expressionAttributeValues(update.expressionAttributeValues())
+        .build();
+  }
+
+  /**
+   * Builds a request removing a counter item.
+   *
+   * @param tableName the client table name
+   * @param counterKey the counter item key
+   * @return the {@link DeleteItemRequest}
+   */
+  static DeleteItemRequest deleteCounter(String tableName, String counterKey) {
+    return DeleteItemRequest.builder().tableName(tableName).key(key(counterKey)).build();
+  }
+
+  /**
+   * Builds a request overwriting a counter item with an absolute value.
+   *
+   * @param tableName the client table name
+   * @param counterKey the counter item key
+   * @param count the counter value
+   * @return the {@link PutItemRequest}
+   */
+  static PutItemRequest putCounter(String tableName, String counterKey, long count) {
+    return PutItemRequest.builder()
+        .tableName(tableName)
+        .item(
+            Map.of(
+                CLIENT_ID, AttributeValue.fromS(counterKey),
+                CLIENT_COUNT, AttributeValue.fromN(String.valueOf(count))))
+        .build();
+  }
+
+  /**
+   * Builds the counter cleanup requests after a bulk deletion of a tenant's clients.
+   *
+   * <p>If every client was deleted, the counters are removed. Otherwise they are decremented by the
+   * number of deleted clients so that they stay accurate.
+   *
+   * @param tableName the client table name
+   * @param tenantId the tenant identifier
+   * @param creators the number of deleted clients per creator of the tenant
+   * @param complete whether every matching client was deleted
+   * @return the counter requests, each either an {@link UpdateItemRequest} or a {@link
+   *     DeleteItemRequest}
+   */
+  static List<DynamoDbRequest> tenantCounterCleanup(
+      String tableName, long tenantId, Map<String, Long> creators, boolean complete) {
+    var requests = new ArrayList<DynamoDbRequest>(creators.size() + 1);
+    if (complete) {
+      requests.add(deleteCounter(tableName, tenantCounterKey(tenantId)));
+      creators
+          .keySet()
+          .forEach(
+              userId -> requests.add(deleteCounter(tableName, userCounterKey(tenantId, userId))));
+      return requests;
+    }
+
+    var total = creators.values().stream().mapToLong(Long::longValue).sum();
+    if (total > 0) requests.add(decrementCounter(tableName, tenantCounterKey(tenantId), total));
+    creators.forEach(
+        (userId, count) ->
+            requests.add(decrementCounter(tableName, userCounterKey(tenantId, userId), count)));
+    return requests;
+  }
+
+  /**
+   * Builds the counter cleanup requests after a bulk deletion of a creator's clients.
+   *
+   * @param tableName the client table name
+   * @param userId the creator identifier
+   * @param deleted the number of deleted clients grouped by tenant and creator
+   * @param complete whether every matching client was deleted
+   * @return the counter requests, each either an {@link UpdateItemRequest} or a {@link
+   *     DeleteItemRequest}
+   */
+  static List<DynamoDbRequest> creatorCounterCleanup(
+      String tableName, String userId, Map<Long, Map<String, Long>> deleted, boolean complete) {
+    var requests = new ArrayList<DynamoDbRequest>();
+    deleted.forEach(
+        (tenant, creators) -> {
+          var count = creators.getOrDefault(userId, 0L);
+          if (count == 0) return;
+          requests.add(decrementCounter(tableName, tenantCounterKey(tenant), count));
+          requests.add(
+              complete
+                  ? deleteCounter(tableName, userCounterKey(tenant, userId))
+                  : decrementCounter(tableName, userCounterKey(tenant, userId), count));
+        });
+    return requests;
+  }
+
+  /**
+   * Builds the delete requests for a batch of clients.
+   *
+   * @param tableName the client table name
+   * @param batch the clients to delete, at most {@link #BATCH_WRITE_LIMIT}
+   * @return the request items of a {@link BatchWriteItemRequest}
+   */
+  static Map<String, List<WriteRequest>> deleteRequests(
+      String tableName, List<ClientDynamoEntity> batch) {
+    var requests = new ArrayList<WriteRequest>(batch.size());
+    for (var entity : batch)
+      requests.add(
+          WriteRequest.builder()
+              .deleteRequest(DeleteRequest.builder().key(key(entity.getClientId())).build())
+              .build());
+    return Map.of(tableName, requests);
+  }
+
+  /**
+   * Filters out the clients whose delete requests are still unprocessed.
+   *
+   * @param tableName the client table name
+   * @param batch the clients of the batch
+   * @param unprocessed the unprocessed request items, or {@code null} if everything was processed
+   * @return the clients that were deleted
+   */
+  static List<ClientDynamoEntity> deletedClients(
+      String tableName,
+      List<ClientDynamoEntity> batch,
+      Map<String, List<WriteRequest>> unprocessed) {
+    if (unprocessed == null || unprocessed.isEmpty()) return batch;
+
+    var remaining = new HashSet<String>();
+    for (var request : unprocessed.getOrDefault(tableName, List.of()))
+      remaining.add(request.deleteRequest().key().get(CLIENT_ID).s());
+    return batch.stream().filter(entity -> !remaining.contains(entity.getClientId())).toList();
+  }
+
+  /**
+   * Adds deleted clients to the per-tenant and per-creator tallies.
+   *
+   * @param deleted the tallies to update
+   * @param clients the deleted clients
+   */
+  static void countDeleted(Map<Long, Map<String, Long>> deleted, List<ClientDynamoEntity> clients) {
+    for (var client : clients)
+      if (client.getCreatedBy() != null)
+        deleted
+            .computeIfAbsent(client.getTenantId(), t -> new HashMap<>())
+            .merge(client.getCreatedBy(), 1L, Long::sum);
+  }
+
+  /**
+   * Calculates the delay before the next attempt using exponential backoff with full jitter.
+   *
+   * @param attempt the zero-based number of the attempt that just failed
+   * @return the delay in milliseconds
+   */
+  static long backoffMillis(int attempt) {
+    var ceiling = Math.min(BATCH_MAX_BACKOFF_MILLIS, BATCH_BASE_BACKOFF_MILLIS << attempt);
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  /**
+   * Builds a scan returning the attributes needed to recalculate the counters.
+   *
+   * @param tableName the client table name
+   * @param segment the scan segment
+   * @param totalSegments the total number of scan segments
+   * @return the {@link ScanRequest}
+   */
+  static ScanRequest counterScan(String tableName, int segment, int totalSegments) {
+    return ScanRequest.builder()
+        .tableName(tableName)
+        .projectionExpression("#id, #tenant, #creator")
+        .expressionAttributeNames(
+            Map.of("#id", CLIENT_ID, "#tenant", TENANT_ID, "#creator", CREATED_BY))
+        .segment(segment)
+        .totalSegments(totalSegments)
+        .build();
+  }
+
+  /**
+   * Adds a scanned item to the recalculated counters. Existing counter items are registered with
+   * zero so that stale counters are reset.
+   *
+   * @param counters the recalculated counters
+   * @param item the scanned item
+   */
+  static void countItem(Map<String, Long> counters, Map<String, AttributeValue> item) {
+    var clientId = item.get(CLIENT_ID).s();
+    if (clientId.startsWith(COUNTER_KEY_PREFIX)) {
+      counters.putIfAbsent(clientId, 0L);
+      return;
+    }
+
+    var tenant = item.get(TENANT_ID);
+    var creator = item.get(CREATED_BY);
+    if (tenant == null || creator == null) return;
+
+    var tenantId = Long.parseLong(tenant.n());
+    counters.merge(tenantCounterKey(tenantId), 1L, Long::sum);
+    counters.merge(userCounterKey(tenantId, creator.s()), 1L, Long::sum);
+  }
+}
@@ -33,22 +33,40 @@
 
 package com.asc.registration.data.client.repository;
 
+import static com.asc.registration.data.client.repository.ClientDynamoRequests.*;
+
 import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.core.domain.exception.OptimisticLockingException;
 import com.asc.registration.data.client.entity.ClientDynamoEntity;
 import com.asc.registration.service.exception.ExceededClientsPerResourceException;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 /**
  * Repository implementation for managing client entities in DynamoDB.
@@ -56,15 +74,23 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  * <p>This class provides CRUD operations and query methods for {@link ClientDynamoEntity} objects
  * using the AWS SDK's DynamoDB Enhanced Client. It supports pagination, filtering by tenant and
  * creator, and updates to specific client attributes.
+ *
+ * <p>The number of clients per tenant and per creator is tracked in counter items stored in the
+ * same table, which are maintained in the same transactions as the client writes.
+ *
+ * <p>This is the default implementation. {@link AsyncDynamoClientRepository} replaces it when
+ * {@code spring.application.dynamodb.client} is set to {@code async}.
  */
+@Slf4j
 @Repository
 @Profile(value = "saas")
+@ConditionalOnProperty(
+    name = "spring.application.dynamodb.client",
+    havingValue = "sync",
+    matchIfMissing = true)
 public class CoreDynamoClientRepository implements DynamoClientRepository {
-  private final int CLIENTS_PER_TENANT_LIMIT = 100;
-  private final int CLIENTS_PER_USER_LIMIT = 10;
-
-  private static final TableSchema<ClientDynamoEntity> CLIENT_SCHEMA =
-      TableSchema.fromBean(ClientDynamoEntity.class);
+  private final String tableName;
+  private final DynamoDbClient dynamoDbClient;
   private final DynamoDbEnhancedClient dynamoDbEnhancedClient;
   private final DynamoDbTable<ClientDynamoEntity> clientTable;
 
@@ -74,91 +100,64 @@ public class CoreDynamoClientRepository implements DynamoClientRepository {
    *
    * @param tableName the name of the DynamoDB table containing client entities, as configured by
    *     {@code spring.cloud.aws.dynamodb.tables.registeredClient}
+   * @param dynamoDbClient the low-level DynamoDB client used for transactional writes
    * @param dynamoDbEnhancedClient the enhanced DynamoDB client instance
    * @throws BeanInitializationException if the provided table name is null or blank
    */
   public CoreDynamoClientRepository(
       @Value("${spring.cloud.aws.dynamodb.tables.registeredClient}") String tableName,
+      DynamoDbClient dynamoDbClient,
       DynamoDbEnhancedClient dynamoDbEnhancedClient) {
     if (tableName == null || tableName.isBlank())
       throw new BeanInitializationException(
           "DynamoDB registered client table name is not provided");
+    this.tableName = tableName;
+    this.dynamoDbClient = dynamoDbClient;
     this.dynamoDbEnhancedClient = dynamoDbEnhancedClient;
     clientTable = dynamoDbEnhancedClient.table(tableName, CLIENT_SCHEMA);
   }
 
-  /**
-   * Retrieves counters for the total number of clients and those created by a specific user for a
-   * tenant.
-   *
-   * <p>This helper method queries the "tenant-created-index" to count the total number of clients
-   * associated with a tenant and how many of those were created by a specific user. The method
-   * enforces the client limit per tenant.
-   *
-   * @param tenantId the tenant identifier
-   * @param userId the user identifier
-   * @return a {@link Pair} containing the total client count (first) and user-created client count
-   *     (second)
-   */
-  private Pair<Integer, Integer> getClientCounters(long tenantId, String userId) {
-    var index = clientTable.index("tenant-created-index");
-    var queryConditional = QueryConditional.keyEqualTo(k -> k.partitionValue(tenantId));
-
-    var requestBuilder =
-        QueryEnhancedRequest.builder()
-            .queryConditional(queryConditional)
-            .addAttributeToProject("created_by")
-            .limit(CLIENTS_PER_TENANT_LIMIT);
-
-    int total = 0;
-    int userTotal = 0;
-    Map<String, AttributeValue> lastEvaluatedKey = null;
-
-    do {
-      if (total == CLIENTS_PER_TENANT_LIMIT) return Pair.of(total, userTotal);
-      if (lastEvaluatedKey != null) requestBuilder.exclusiveStartKey(lastEvaluatedKey);
-
-      var request = requestBuilder.build();
-      var response = index.query(request);
-      for (var page : response) {
-        for (var entity : page.items()) {
-          total += 1;
-          if (entity.getCreatedBy().equals(userId)) userTotal += 1;
-        }
-        lastEvaluatedKey = page.lastEvaluatedKey();
-      }
-    } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
-
-    return Pair.of(total, userTotal);
-  }
-
   /**
    * Persists a new client entity into DynamoDB.
    *
+   * <p>The client is written in a single transaction together with increments of the tenant and
+   * creator counters. The conditions on both counters enforce the per-tenant and per-user limits
+   * atomically, so concurrent registrations can't exceed them.
+   *
    * @param entity the {@link ClientDynamoEntity} to be saved
+   * @throws ExceededClientsPerResourceException if the tenant or the user has reached the maximum
+   *     allowed number of clients
    */
   public void save(ClientDynamoEntity entity) {
-    if (entity.getCreatedBy() != null) {
-      var counters = getClientCounters(entity.getTenantId(), entity.getCreatedBy());
-      if (counters.getFirst() > CLIENTS_PER_TENANT_LIMIT)
-        throw new ExceededClientsPerResourceException(
-            "Tenant has reached the maximum allowed number of clients");
-      if (counters.getSecond() > CLIENTS_PER_USER_LIMIT)
-        throw new ExceededClientsPerResourceException(
-            "User has reached the maximum allowed number of clients");
-
-      clientTable.putItem(entity);
+    if (entity.getCreatedBy() == null) return;
+
+    try {
+      dynamoDbClient.transactWriteItems(saveClient(tableName, entity));
+    } catch (TransactionCanceledException e) {
+      throw saveFailure(e);
     }
   }
 
   /**
    * Updates an existing client entity in DynamoDB.
    *
+   * <p>Sends a single field-level update of the mutable attributes, conditioned on the version the
+   * entity was read with, instead of overwriting the whole item.
+   *
    * @param entity the {@link ClientDynamoEntity} with updated attributes
-   * @return the updated {@link ClientDynamoEntity}
+   * @return the updated {@link ClientDynamoEntity}, carrying its new version
+   * @throws ClientNotFoundException if the client does not exist for the entity's tenant
+   * @throws OptimisticLockingException if the client was modified since the version was read
    */
   public ClientDynamoEntity update(ClientDynamoEntity entity) {
-    return clientTable.updateItem(entity);
+    var updated =
+        updateAttributes(
+            entity.getClientId(),
+            entity.getTenantId(),
+            mutableAttributes(entity),
+            entity.getVersion() != null ? entity.getVersion() : 0);
+    entity.setVersion(updatedVersion(updated));
+    return entity;
   }
 
   /**
@@ -314,193 +313,347 @@ public class CoreDynamoClientRepository implements DynamoClientRepository {
   /**
    * Deletes a client entity by its client ID and tenant ID.
    *
+   * <p>The client is deleted in a single transaction together with decrements of the tenant and
+   * creator counters.
+   *
    * @param clientId the unique identifier of the client to delete
    * @param tenantId the tenant identifier
    * @return the deleted {@link ClientDynamoEntity} if deletion was successful, or {@code null}
    *     otherwise
    */
   public ClientDynamoEntity deleteByIdAndTenantId(String clientId, long tenantId) {
-    var keyEntity = new ClientDynamoEntity();
-    keyEntity.setClientId(clientId);
-    keyEntity.setTenantId(tenantId);
-    return clientTable.deleteItem(keyEntity);
+    var client = findByClientIdAndTenantId(clientId, tenantId).orElse(null);
+    if (client == null) return null;
+
+    try {
+      dynamoDbClient.transactWriteItems(deleteClient(tableName, client));
+      return client;
+    } catch (TransactionCanceledException e) {
+      if (isConditionalCheckFailed(e.cancellationReasons(), 0)) return null;
+      throw e;
+    }
   }
 
   /**
    * Batch deletes client entities based on an index query and a delete condition.
    *
-   * <p>This helper method performs a query on the specified index and deletes matching entities in
-   * batches. It supports pagination for large result sets and processes deletions in smaller
-   * batches to optimize performance.
+   * <p>This helper method pages through the specified index, fetching only the attributes needed to
+   * delete a client and adjust its counters, and groups matching entities into {@code
+   * BatchWriteItem} requests. Up to {@link ClientDynamoRequests#BATCH_PARALLELISM} requests run
+   * concurrently, and the next page is only fetched once a request slot is free. Unprocessed items
+   * are re-submitted with exponential backoff and jitter.
    *
    * @param indexName the name of the DynamoDB index to query
    * @param queryConditional the query condition to identify matching entities
    * @param deleteCondition a predicate that determines whether an entity should be deleted
+   * @param deleted receives the number of deleted entities grouped by tenant and creator
+   * @return the {@link BatchDeleteResult} with the deleted and remaining entity counts
    */
-  private void batchDeleteByIndex(
+  private BatchDeleteResult batchDeleteByIndex(
       String indexName,
       QueryConditional queryConditional,
-      java.util.function.Predicate<ClientDynamoEntity> deleteCondition) {
-    final int queryLimit = 1000;
-    final int batchSize = 25;
+      Predicate<ClientDynamoEntity> deleteCondition,
+      Map<Long, Map<String, Long>> deleted) {
+    var permits = new Semaphore(BATCH_PARALLELISM);
+    var tasks = new ArrayList<Map.Entry<Integer, Future<List<ClientDynamoEntity>>>>();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var batch = new ArrayList<ClientDynamoEntity>(BATCH_WRITE_LIMIT);
+      Map<String, AttributeValue> lastEvaluatedKey = null;
+
+      do {
+        var requestBuilder =
+            QueryEnhancedRequest.builder()
+                .queryConditional(queryConditional)
+                .attributesToProject(CLIENT_ID, TENANT_ID, CREATED_BY)
+                .limit(QUERY_PAGE_LIMIT);
+        if (lastEvaluatedKey != null) requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+
+        var page = clientTable.index(indexName).query(requestBuilder.build()).iterator().next();
+        for (var entity : page.items()) {
+          if (!deleteCondition.test(entity)) continue;
 
-    Map<String, AttributeValue> lastEvaluatedKey = null;
+          batch.add(entity);
+          if (batch.size() == BATCH_WRITE_LIMIT) {
+            tasks.add(submitBatchDelete(executor, permits, batch));
+            batch = new ArrayList<>(BATCH_WRITE_LIMIT);
+          }
+        }
 
-    do {
-      var requestBuilder =
-          QueryEnhancedRequest.builder().queryConditional(queryConditional).limit(queryLimit);
+        lastEvaluatedKey = page.lastEvaluatedKey();
+      } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
 
-      if (lastEvaluatedKey != null) requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+      if (!batch.isEmpty()) tasks.add(submitBatchDelete(executor, permits, batch));
+    }
 
-      var queryRequest = requestBuilder.build();
-      Page<ClientDynamoEntity> page =
-          clientTable.index(indexName).query(queryRequest).iterator().next();
+    var deletedTotal = 0L;
+    var remaining = 0L;
+    for (var task : tasks) {
+      try {
+        var entities = task.getValue().get();
+        deletedTotal += entities.size();
+        remaining += task.getKey() - entities.size();
+        countDeleted(deleted, entities);
+      } catch (ExecutionException e) {
+        remaining += task.getKey();
+        log.warn("Could not delete a batch of {} clients", task.getKey(), e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        remaining += task.getKey();
+      }
+    }
 
-      var items = page.items();
+    if (remaining > 0)
+      log.warn(
+          "Deleted {} clients from {}, {} could not be deleted",
+          deletedTotal,
+          indexName,
+          remaining);
+    return new BatchDeleteResult(deletedTotal, remaining);
+  }
 
-      for (int i = 0; i < items.size(); i += batchSize) {
-        var end = Math.min(i + batchSize, items.size());
-        var batch = items.subList(i, end);
+  /**
+   * Submits a batch of entities for deletion once one of the parallel request slots is free.
+   *
+   * @param executor the executor running the batch deletions
+   * @param permits the semaphore bounding the number of concurrent requests
+   * @param batch the entities to delete, at most {@link ClientDynamoRequests#BATCH_WRITE_LIMIT}
+   * @return the batch size paired with the future of the entities that were actually deleted
+   */
+  private Map.Entry<Integer, Future<List<ClientDynamoEntity>>> submitBatchDelete(
+      ExecutorService executor, Semaphore permits, List<ClientDynamoEntity> batch) {
+    permits.acquireUninterruptibly();
+    try {
+      return Map.entry(
+          batch.size(),
+          executor.submit(
+              () -> {
+                try {
+                  return deleteBatch(batch);
+                } finally {
+                  permits.release();
+                }
+              }));
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
 
-        var writeBatch =
-            WriteBatch.builder(ClientDynamoEntity.class).mappedTableResource(clientTable);
+  /**
+   * Deletes a single batch of entities, re-submitting unprocessed items and throttled requests with
+   * exponential backoff and full jitter until {@link ClientDynamoRequests#BATCH_MAX_ATTEMPTS} is
+   * reached.
+   *
+   * @param batch the entities to delete, at most {@link ClientDynamoRequests#BATCH_WRITE_LIMIT}
+   * @return the entities that were deleted
+   */
+  private List<ClientDynamoEntity> deleteBatch(List<ClientDynamoEntity> batch) {
+    Map<String, List<WriteRequest>> pending = deleteRequests(tableName, batch);
+    for (var attempt = 0; ; attempt++) {
+      try {
+        pending =
+            dynamoDbClient
+                .batchWriteItem(BatchWriteItemRequest.builder().requestItems(pending).build())
+                .unprocessedItems();
+      } catch (AwsServiceException e) {
+        if (!e.isThrottlingException()) throw e;
+      }
 
-        for (var entity : batch) {
-          if (deleteCondition.test(entity))
-            writeBatch.addDeleteItem(Key.builder().partitionValue(entity.getClientId()).build());
-        }
+      if (pending == null || pending.isEmpty() || attempt + 1 >= BATCH_MAX_ATTEMPTS) break;
 
-        dynamoDbEnhancedClient.batchWriteItem(
-            BatchWriteItemEnhancedRequest.builder().writeBatches(writeBatch.build()).build());
+      try {
+        Thread.sleep(backoffMillis(attempt));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
       }
+    }
 
-      lastEvaluatedKey = page.lastEvaluatedKey();
-    } while (lastEvaluatedKey != null);
+    return deletedClients(tableName, batch, pending);
   }
 
   /**
    * Deletes all client entities with a specified creator ID for a specific tenant.
    *
    * <p>This method uses the "creator-created-index" to query and batch delete client entities
-   * created by a specific user within a tenant.
+   * created by a specific user within a tenant, then subtracts the deleted clients from the tenant
+   * counters and removes the user's counters unless some clients could not be deleted.
    *
    * @param tenantId the tenant identifier
    * @param userId the creator identifier
+   * @return the {@link BatchDeleteResult} with the deleted and remaining client counts
    */
-  public void deleteAllByTenantIdAndCreatedBy(long tenantId, String userId) {
-    batchDeleteByIndex(
-        "creator-created-index",
-        QueryConditional.keyEqualTo(k -> k.partitionValue(userId)),
-        entity -> entity.getCreatedBy() != null && entity.getCreatedBy().equals(userId));
+  public BatchDeleteResult deleteAllByTenantIdAndCreatedBy(long tenantId, String userId) {
+    var deleted = new HashMap<Long, Map<String, Long>>();
+    var result =
+        batchDeleteByIndex(
+            "creator-created-index",
+            QueryConditional.keyEqualTo(k -> k.partitionValue(userId)),
+            entity -> entity.getCreatedBy() != null && entity.getCreatedBy().equals(userId),
+            deleted);
+
+    creatorCounterCleanup(tableName, userId, deleted, result.remaining() == 0)
+        .forEach(this::applyCounterRequest);
+    return result;
   }
 
   /**
    * Deletes all client entities associated with a specific tenant.
    *
    * <p>This method uses the "tenant-created-index" to query and batch delete all client entities
-   * belonging to the specified tenant.
+   * belonging to the specified tenant, then removes the tenant and creator counters. If some
+   * clients could not be deleted, the counters are decremented instead so that they stay accurate.
    *
    * @param tenantId the tenant identifier
+   * @return the {@link BatchDeleteResult} with the deleted and remaining client counts
+   */
+  public BatchDeleteResult deleteAllByTenantId(long tenantId) {
+    var deleted = new HashMap<Long, Map<String, Long>>();
+    var result =
+        batchDeleteByIndex(
+            "tenant-created-index",
+            QueryConditional.keyEqualTo(k -> k.partitionValue(tenantId)),
+            entity -> true,
+            deleted);
+
+    tenantCounterCleanup(
+            tableName, tenantId, deleted.getOrDefault(tenantId, Map.of()), result.remaining() == 0)
+        .forEach(this::applyCounterRequest);
+    return result;
+  }
+
+  /**
+   * Sends a counter update or removal built by {@link ClientDynamoRequests}.
+   *
+   * @param request an {@link UpdateItemRequest} or a {@link DeleteItemRequest}
+   */
+  private void applyCounterRequest(DynamoDbRequest request) {
+    if (request instanceof UpdateItemRequest update) dynamoDbClient.updateItem(update);
+    else if (request instanceof DeleteItemRequest delete) dynamoDbClient.deleteItem(delete);
+  }
+
+  /**
+   * Recalculates the tenant and creator counters from the stored clients.
+   *
+   * <p>Scans the whole table, counts clients per tenant and per creator, and overwrites the counter
+   * items with the results. Counter items that no longer correspond to any client are reset to
+   * zero. Meant to be run once to seed the counters for existing data, or to repair drift, while no
+   * clients are being registered or deleted.
+   *
+   * @return the number of counter items written
    */
-  public void deleteAllByTenantId(long tenantId) {
-    batchDeleteByIndex(
-        "tenant-created-index",
-        QueryConditional.keyEqualTo(k -> k.partitionValue(tenantId)),
-        entity -> true);
+  public int reconcileClientCounters() {
+    var counters = new HashMap<String, Long>();
+    for (var item : dynamoDbClient.scanPaginator(counterScan(tableName, 0, 1)).items())
+      countItem(counters, item);
+
+    counters.forEach(
+        (counterKey, count) -> dynamoDbClient.putItem(putCounter(tableName, counterKey, count)));
+    return counters.size();
   }
 
   /**
    * Updates the client secret for a specific client entity.
    *
-   * <p>This method retrieves the existing client entity, updates its secret and modification
-   * timestamp, and persists the changes.
+   * <p>Only the secret and the modification timestamp are written. The update is conditioned on the
+   * client belonging to the tenant, so the client is not read beforehand.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
    * @param secret the new client secret to set
    * @param modifiedOn the timestamp when the update is performed
-   * @return the updated {@link ClientDynamoEntity}
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
+   *     ID
    */
   public ClientDynamoEntity updateClientSecret(
       String clientId, long tenantId, String secret, ZonedDateTime modifiedOn) {
-    var updatedClient = buildUpdatedClient(clientId, tenantId, "clientSecret", secret, modifiedOn);
-    return clientTable.updateItem(updatedClient);
+    return updateClient(
+        clientId, tenantId, Map.of("client_secret", AttributeValue.fromS(secret)), modifiedOn);
   }
 
   /**
    * Updates the visibility status for a specific client entity.
    *
-   * <p>This method retrieves the existing client entity, updates its accessibility flag and
-   * modification timestamp, and persists the changes.
+   * <p>Only the accessibility flag and the modification timestamp are written. The update is
+   * conditioned on the client belonging to the tenant, so the client is not read beforehand.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
    * @param accessible the new visibility status (true for accessible, false otherwise)
    * @param modifiedOn the timestamp when the update is performed
-   * @return the updated {@link ClientDynamoEntity}
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
+   *     ID
    */
   public ClientDynamoEntity updateVisibility(
       String clientId, long tenantId, boolean accessible, ZonedDateTime modifiedOn) {
-    var updatedClient =
-        buildUpdatedClient(clientId, tenantId, "accessible", accessible, modifiedOn);
-    return clientTable.updateItem(updatedClient);
+    return updateClient(
+        clientId, tenantId, Map.of("accessible", AttributeValue.fromBool(accessible)), modifiedOn);
   }
 
   /**
    * Updates the activation status for a specific client entity.
    *
-   * <p>This method retrieves the existing client entity, updates its enabled flag and modification
-   * timestamp, and persists the changes.
+   * <p>Only the enabled flag and the modification timestamp are written. The update is conditioned
+   * on the client belonging to the tenant, so the client is not read beforehand.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
    * @param enabled the new activation status (true if enabled, false otherwise)
    * @param modifiedOn the timestamp when the update is performed
-   * @return the updated {@link ClientDynamoEntity}
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
+   *     ID
    */
   public ClientDynamoEntity updateActivation(
       String clientId, long tenantId, boolean enabled, ZonedDateTime modifiedOn) {
-    var updatedClient = buildUpdatedClient(clientId, tenantId, "enabled", enabled, modifiedOn);
-    return clientTable.updateItem(updatedClient);
+    return updateClient(
+        clientId, tenantId, Map.of("enabled", AttributeValue.fromBool(enabled)), modifiedOn);
   }
 
   /**
-   * Constructs an updated client entity with modified attributes.
-   *
-   * <p>This helper method retrieves the existing client entity by client ID and tenant ID, updates
-   * the specified attribute with the new value, and sets the modification timestamp.
+   * Writes the given attributes and the modification timestamp of a client.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
-   * @param attributeName the name of the attribute to update ("clientSecret", "accessible", or
-   *     "enabled")
-   * @param value the new value to set for the specified attribute
+   * @param attributes the attributes to set by name
    * @param modifiedOn the timestamp when the update is performed
-   * @return the updated {@link ClientDynamoEntity}
-   * @throws ClientNotFoundException if no client entity is found for the given client ID and tenant
-   *     ID
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
    */
-  private ClientDynamoEntity buildUpdatedClient(
+  private ClientDynamoEntity updateClient(
       String clientId,
       long tenantId,
-      String attributeName,
-      Object value,
+      Map<String, AttributeValue> attributes,
       ZonedDateTime modifiedOn) {
-    var existingClient =
-        findByClientIdAndTenantId(clientId, tenantId)
-            .orElseThrow(
-                () ->
-                    new ClientNotFoundException(
-                        String.format(
-                            "Client with id %s for tenant %d was not found", clientId, tenantId)));
-
-    switch (attributeName) {
-      case "clientSecret" -> existingClient.setClientSecret((String) value);
-      case "accessible" -> existingClient.setAccessible((boolean) value);
-      case "enabled" -> existingClient.setEnabled((boolean) value);
-    }
+    var changes = new HashMap<>(attributes);
+    changes.put("modified_on", AttributeValue.fromS(modifiedOn.toString()));
+    return updatedClient(clientId, tenantId, updateAttributes(clientId, tenantId, changes, null));
+  }
 
-    existingClient.setModifiedOn(modifiedOn.toString());
-    return existingClient;
+  /**
+   * Sends a field-level update and translates a failed condition.
+   *
+   * @param clientId the unique identifier of the client
+   * @param tenantId the tenant identifier
+   * @param attributes the attributes to change by name
+   * @param expectedVersion the version the caller has read, or {@code null} to skip the check
+   * @return the updated attributes returned by DynamoDB
+   */
+  private Map<String, AttributeValue> updateAttributes(
+      String clientId,
+      long tenantId,
+      Map<String, AttributeValue> attributes,
+      Integer expectedVersion) {
+    try {
+      return dynamoDbClient
+          .updateItem(
+              ClientDynamoRequests.updateClient(
+                  tableName, clientId, tenantId, attributes, expectedVersion))
+          .attributes();
+    } catch (ConditionalCheckFailedException e) {
+      throw updateFailure(e, clientId, tenantId);
+    }
   }
 }
@@ -33,6 +33,8 @@
 
 package com.asc.registration.data.client.repository;
 
+import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.core.domain.exception.OptimisticLockingException;
 import com.asc.registration.data.client.entity.ClientDynamoEntity;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -54,8 +56,13 @@ public interface DynamoClientRepository {
   /**
    * Updates an existing client entity in DynamoDB.
    *
+   * <p>Only the mutable attributes are written, on condition that the stored client still has the
+   * version carried by the entity.
+   *
    * @param entity the {@link ClientDynamoEntity} with updated information
-   * @return the updated {@link ClientDynamoEntity}
+   * @return the updated {@link ClientDynamoEntity}, carrying its new version
+   * @throws ClientNotFoundException if the client does not exist for the entity's tenant
+   * @throws OptimisticLockingException if the client was modified since the version was read
    */
   ClientDynamoEntity update(ClientDynamoEntity entity);
 
@@ -135,13 +142,15 @@ public interface DynamoClientRepository {
   /**
    * Updates the client secret for a specific client entity.
    *
-   * <p>The operation updates the client secret and the modification timestamp.
+   * <p>The operation updates the client secret and the modification timestamp without reading the
+   * client first.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
    * @param secret the new client secret
    * @param modifiedOn the timestamp indicating when the update occurred
-   * @return the updated {@link ClientDynamoEntity}
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if the client does not exist for the tenant
    */
   ClientDynamoEntity updateClientSecret(
       String clientId, long tenantId, String secret, ZonedDateTime modifiedOn);
@@ -149,13 +158,15 @@ public interface DynamoClientRepository {
   /**
    * Updates the visibility status of a client entity.
    *
-   * <p>The operation updates the accessibility flag and the modification timestamp.
+   * <p>The operation updates the accessibility flag and the modification timestamp without reading
+   * the client first.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
    * @param accessible the new visibility status (true for accessible, false otherwise)
    * @param modifiedOn the timestamp indicating when the update occurred
-   * @return the updated {@link ClientDynamoEntity}
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if the client does not exist for the tenant
    */
   ClientDynamoEntity updateVisibility(
       String clientId, long tenantId, boolean accessible, ZonedDateTime modifiedOn);
@@ -163,13 +174,15 @@ public interface DynamoClientRepository {
   /**
    * Updates the activation status of a client entity.
    *
-   * <p>The operation updates the enabled flag and the modification timestamp.
+   * <p>The operation updates the enabled flag and the modification timestamp without reading the
+   * client first.
    *
    * @param clientId the unique identifier of the client
    * @param tenantId the tenant identifier
    * @param enabled the new activation status (true if enabled, false otherwise)
    * @param modifiedOn the timestamp indicating when the update occurred
-   * @return the updated {@link ClientDynamoEntity}
+   * @return a {@link ClientDynamoEntity} holding the key, the tenant and the updated attributes
+   * @throws ClientNotFoundException if the client does not exist for the tenant
    */
   ClientDynamoEntity updateActivation(
       String clientId, long tenantId, boolean enabled, ZonedDateTime modifiedOn);
@@ -189,13 +202,22 @@ public interface DynamoClientRepository {
    *
    * @param tenantId the tenant identifier
    * @param userId the identifier of the user who created the clients
+   * @return the {@link BatchDeleteResult} with the deleted and remaining client counts
    */
-  void deleteAllByTenantIdAndCreatedBy(long tenantId, String userId);
+  BatchDeleteResult deleteAllByTenantIdAndCreatedBy(long tenantId, String userId);
 
   /**
    * Deletes all client entities within a specific tenant.
    *
    * @param tenantId the tenant identifier
+   * @return the {@link BatchDeleteResult} with the deleted and remaining client counts
+   */
+  BatchDeleteResult deleteAllByTenantId(long tenantId);
+
+  /**
+   * Recalculates the per-tenant and per-creator client counters from the stored clients.
+   *
+   * @return the number of counter items written
    */
-  void deleteAllByTenantId(long tenantId);
+  int reconcileClientCounters();
 }
@@ -33,11 +33,13 @@
 
 package com.asc.registration.data.client.repository;
 
+import com.asc.registration.data.client.entity.ClientAttributeView;
 import com.asc.registration.data.client.entity.ClientEntity;
-import jakarta.annotation.Nonnull;
+import com.asc.registration.data.client.entity.ClientSummaryView;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -47,117 +49,217 @@ import org.springframework.data.repository.query.Param;
  * JPA repository interface for managing {@link ClientEntity} objects. Provides CRUD operations as
  * well as custom queries to retrieve, update, and delete clients based on tenant, visibility, and
  * pagination criteria.
+ *
+ * <p>Lookups that map clients to the domain read a {@link ClientSummaryView} projection and load
+ * the collections of the matched clients with {@link #findAllAttributesByClientIds}. Fetch-joining
+ * the four collections instead would return the cartesian product of their rows for every client.
  */
 public interface JpaClientRepository extends JpaRepository<ClientEntity, String> {
 
   /**
-   * Retrieves a client entity by its unique identifier, provided that the entity has not been
-   * invalidated.
+   * Retrieves the summary of a client by its unique identifier, provided that the client has not
+   * been invalidated.
    *
-   * @param id the unique identifier of the client entity
-   * @return an {@link Optional} containing the found {@link ClientEntity} if it exists and is
+   * @param id the unique identifier of the client
+   * @return an {@link Optional} containing the found {@link ClientSummaryView} if it exists and is
    *     valid, otherwise an empty {@link Optional}
    */
-  @Nonnull
-  @Query("SELECT c FROM ClientEntity c WHERE c.clientId = :id AND c.invalidated = false")
-  Optional<ClientEntity> findById(@Param("id") @Nonnull String id);
+  @Query(
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.clientId = :id AND c.invalidated = false
+        """)
+  Optional<ClientSummaryView> findSummaryById(@Param("id") String id);
 
   /**
-   * Retrieves a client entity by its unique identifier and accessibility status, ensuring that the
-   * entity has not been invalidated.
+   * Retrieves the summary of a client by its unique identifier and accessibility status, ensuring
+   * that the client has not been invalidated.
    *
-   * @param id the unique identifier of the client entity
+   * @param id the unique identifier of the client
    * @param accessible the desired accessibility status (true for accessible, false otherwise)
-   * @return an {@link Optional} containing the matching {@link ClientEntity} if found, otherwise an
-   *     empty {@link Optional}
+   * @return an {@link Optional} containing the matching {@link ClientSummaryView} if found,
+   *     otherwise an empty {@link Optional}
    */
-  @Nonnull
   @Query(
-      "SELECT c FROM ClientEntity c WHERE c.clientId = :id AND c.invalidated = false AND c.accessible = :accessible")
-  Optional<ClientEntity> findByIdAndVisibility(
-      @Param("id") @Nonnull String id, @Param("accessible") boolean accessible);
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.clientId = :id AND c.invalidated = false AND c.accessible = :accessible
+        """)
+  Optional<ClientSummaryView> findSummaryByIdAndVisibility(
+      @Param("id") String id, @Param("accessible") boolean accessible);
 
   /**
-   * Retrieves a client entity by its client identifier and tenant identifier.
+   * Retrieves the summary of a client by its client identifier and tenant identifier.
    *
    * @param clientId the client identifier
    * @param tenantId the tenant identifier
-   * @return an {@link Optional} containing the matching {@link ClientEntity} if present, otherwise
-   *     an empty {@link Optional}
+   * @return an {@link Optional} containing the matching {@link ClientSummaryView} if present,
+   *     otherwise an empty {@link Optional}
    */
-  Optional<ClientEntity> findByClientIdAndTenantId(String clientId, long tenantId);
+  @Query(
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.clientId = :clientId AND c.tenantId = :tenantId
+        """)
+  Optional<ClientSummaryView> findSummaryByClientIdAndTenantId(
+      @Param("clientId") String clientId, @Param("tenantId") long tenantId);
 
   /**
-   * Retrieves a client entity by its client identifier, tenant identifier, and creator identifier.
+   * Retrieves the summary of a client by its client identifier, tenant identifier, and creator
+   * identifier.
    *
    * @param clientId the client identifier
    * @param tenantId the tenant identifier
-   * @param createdBy the identifier of the creator of the client entity
-   * @return an {@link Optional} containing the matching {@link ClientEntity} if found, otherwise an
-   *     empty {@link Optional}
+   * @param createdBy the identifier of the creator of the client
+   * @return an {@link Optional} containing the matching {@link ClientSummaryView} if found,
+   *     otherwise an empty {@link Optional}
    */
-  Optional<ClientEntity> findByClientIdAndTenantIdAndCreatedBy(
-      String clientId, long tenantId, String createdBy);
+  @Query(
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.clientId = :clientId AND c.tenantId = :tenantId AND c.createdBy = :createdBy
+        """)
+  Optional<ClientSummaryView> findSummaryByClientIdAndTenantIdAndCreatedBy(
+      @Param("clientId") String clientId,
+      @Param("tenantId") long tenantId,
+      @Param("createdBy") String createdBy);
 
   /**
-   * Retrieves a paginated list of both public and private client entities for a specified tenant.
+   * Retrieves a page of both public and private client summaries for a specified tenant.
    *
-   * <p>This query employs cursor-based pagination using the creation timestamp. When {@code
-   * lastCreatedOn} is provided, only client entities created before this timestamp are returned.
+   * <p>This query employs keyset pagination over the {@code (tenant_id, created_on, client_id)}
+   * index. When {@code lastCreatedOn} is provided, only clients created before it, or created at
+   * the same instant with a lower identifier than {@code lastClientId}, are returned.
    *
    * @param tenantId the tenant identifier
    * @param lastCreatedOn the cursor timestamp for pagination (may be {@code null} to fetch the most
    *     recent records)
-   * @param limit the maximum number of client entities to return
-   * @return a list of matching {@link ClientEntity} objects
+   * @param lastClientId the cursor client identifier breaking ties between equal timestamps (may be
+   *     {@code null})
+   * @param limit the maximum number of client summaries to return
+   * @return a list of matching {@link ClientSummaryView} objects
    */
   @Query(
-      value =
-          """
-                          SELECT * FROM identity_clients
-                          WHERE tenant_id = :tenantId
-                            AND is_invalidated = false
-                            AND (:lastCreatedOn IS NULL OR created_on < :lastCreatedOn)
-                          ORDER BY created_on DESC
-                          LIMIT :limit
-                      """,
-      nativeQuery = true)
-  List<ClientEntity> findAllByTenantIdWithCursor(
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.tenantId = :tenantId
+              AND c.invalidated = false
+              AND (:lastCreatedOn IS NULL
+                OR c.createdOn < :lastCreatedOn
+                OR (c.createdOn = :lastCreatedOn AND c.clientId < :lastClientId))
+            ORDER BY c.createdOn DESC, c.clientId DESC
+        """)
+  List<ClientSummaryView> findAllByTenantIdWithCursor(
       @Param("tenantId") long tenantId,
       @Param("lastCreatedOn") ZonedDateTime lastCreatedOn,
-      @Param("limit") int limit);
+      @Param("lastClientId") String lastClientId,
+      Limit limit);
 
   /**
-   * Retrieves a paginated list of both public and private client entities for a specified tenant,
-   * filtered by the creator's identifier.
+   * Retrieves a page of both public and private client summaries for a specified tenant, filtered
+   * by the creator's identifier.
    *
-   * <p>This query employs cursor-based pagination using the creation timestamp. When {@code
-   * lastCreatedOn} is provided, only client entities created before this timestamp are returned.
+   * <p>This query employs keyset pagination over the {@code (tenant_id, created_by, created_on,
+   * client_id)} index. When {@code lastCreatedOn} is provided, only clients created before it, or
+   * created at the same instant with a lower identifier than {@code lastClientId}, are returned.
    *
    * @param tenantId the tenant identifier
    * @param createdBy the identifier of the creator of the client entities
    * @param lastCreatedOn the cursor timestamp for pagination (may be {@code null} to fetch the most
    *     recent records)
-   * @param limit the maximum number of client entities to return
-   * @return a list of matching {@link ClientEntity} objects
+   * @param lastClientId the cursor client identifier breaking ties between equal timestamps (may be
+   *     {@code null})
+   * @param limit the maximum number of client summaries to return
+   * @return a list of matching {@link ClientSummaryView} objects
    */
   @Query(
-      value =
-          """
-                                  SELECT * FROM identity_clients
-                                  WHERE tenant_id = :tenantId
-                                    AND is_invalidated = false
-                                    AND (:lastCreatedOn IS NULL OR created_on < :lastCreatedOn)
-                                    AND created_by = :createdBy
-                                  ORDER BY created_on DESC
-                                  LIMIT :limit
-                              """,
-      nativeQuery = true)
-  List<ClientEntity> findAllByTenantIdAndCreatedByWithCursor(
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.tenantId = :tenantId
+              AND c.createdBy = :createdBy
+              AND c.invalidated = false
+              AND (:lastCreatedOn IS NULL
+                OR c.createdOn < :lastCreatedOn
+                OR (c.createdOn = :lastCreatedOn AND c.clientId < :lastClientId))
+            ORDER BY c.createdOn DESC, c.clientId DESC
+        """)
+  List<ClientSummaryView> findAllByTenantIdAndCreatedByWithCursor(
       @Param("tenantId") long tenantId,
       @Param("createdBy") String createdBy,
       @Param("lastCreatedOn") ZonedDateTime lastCreatedOn,
-      @Param("limit") int limit);
+      @Param("lastClientId") String lastClientId,
+      Limit limit);
+
+  /**
+   * Retrieves the collection elements of the specified clients in a single round-trip.
+   *
+   * <p>Each returned row carries the client identifier, the element kind as declared by {@link
+   * ClientAttributeView} and the stored value.
+   *
+   * @param clientIds the identifiers of the clients on the current page
+   * @return a list of {@link ClientAttributeView} rows for the specified clients
+   */
+  @Query(
+      value =
+          """
+            SELECT client_id AS clientId, 'authentication_method' AS kind,
+                   authentication_method AS value
+            FROM identity_client_authentication_methods WHERE client_id IN (:clientIds)
+            UNION ALL
+            SELECT client_id, 'redirect_uri', redirect_uri
+            FROM identity_client_redirect_uris WHERE client_id IN (:clientIds)
+            UNION ALL
+            SELECT client_id, 'allowed_origin', allowed_origin
+            FROM identity_client_allowed_origins WHERE client_id IN (:clientIds)
+            UNION ALL
+            SELECT client_id, 'scope', scope_name
+            FROM identity_client_scopes WHERE client_id IN (:clientIds)
+        """,
+      nativeQuery = true)
+  List<ClientAttributeView> findAllAttributesByClientIds(
+      @Param("clientIds") List<String> clientIds);
 
   /**
    * Deletes a client entity matching the specified client identifier and tenant identifier.
@@ -265,12 +367,23 @@ public interface JpaClientRepository extends JpaRepository<ClientEntity, String>
       @Param("modifiedOn") ZonedDateTime modifiedOn);
 
   /**
-   * Retrieves a list of client entities whose identifiers are included in the provided list,
-   * filtering out any entities that have been invalidated.
+   * Retrieves the summaries of the clients whose identifiers are included in the provided list,
+   * filtering out any clients that have been invalidated.
    *
    * @param clientIds a list of client identifiers to search for
-   * @return a list of matching {@link ClientEntity} objects
+   * @return a list of matching {@link ClientSummaryView} objects
    */
-  @Query("SELECT c FROM ClientEntity c WHERE c.clientId IN :clientIds AND c.invalidated = false")
-  List<ClientEntity> findAllByClientIds(@Param("clientIds") List<String> clientIds);
+  @Query(
+      """
+            SELECT c.clientId AS clientId, c.tenantId AS tenantId, c.clientSecret AS clientSecret,
+                   c.name AS name, c.description AS description, c.logoHash AS logoHash,
+                   c.websiteUrl AS websiteUrl,
+                   c.termsUrl AS termsUrl, c.policyUrl AS policyUrl,
+                   c.logoutRedirectUri AS logoutRedirectUri, c.accessible AS accessible,
+                   c.enabled AS enabled, c.createdOn AS createdOn, c.createdBy AS createdBy,
+                   c.modifiedOn AS modifiedOn, c.modifiedBy AS modifiedBy, c.version AS version
+            FROM ClientEntity c
+            WHERE c.clientId IN :clientIds AND c.invalidated = false
+        """)
+  List<ClientSummaryView> findAllSummariesByClientIds(@Param("clientIds") List<String> clientIds);
 }
@@ -0,0 +1,74 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.task;
+
+import com.asc.registration.data.client.repository.DynamoClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-off task that seeds the per-tenant and per-creator client counters from existing DynamoDB
+ * data.
+ *
+ * <p>The task is disabled by default. It is meant to be enabled for a single start-up after the
+ * counters are introduced, or whenever they need to be repaired, by setting {@code
+ * spring.application.dynamodb.reconcile-client-counters} to {@code true}.
+ */
+@Slf4j
+@Component
+@Profile(value = "saas")
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "spring.application.dynamodb.reconcile-client-counters",
+    havingValue = "true")
+public class ClientCountersReconciliationTask {
+  private final DynamoClientRepository dynamoClientRepository;
+
+  /** Recalculates the client counters once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void reconcile() {
+    try {
+      log.info("Reconciling DynamoDB client counters");
+      var written = dynamoClientRepository.reconcileClientCounters();
+      log.info("Reconciled {} DynamoDB client counters", written);
+    } catch (Exception e) {
+      log.error("Could not reconcile DynamoDB client counters", e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.logo.adapter;
+
+import com.asc.registration.core.domain.exception.ClientDomainException;
+import com.asc.registration.data.logo.mapper.ClientLogoDataAccessMapper;
+import com.asc.registration.data.logo.repository.JpaClientLogoRepository;
+import com.asc.registration.service.ports.output.repository.ClientLogoRepository;
+import com.asc.registration.service.transfer.response.ClientLogoResponse;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adapter class for storing and retrieving client logos. Implements the {@link
+ * ClientLogoRepository} interface.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ClientLogoRepositoryDomainAdapter implements ClientLogoRepository {
+  private final JpaClientLogoRepository jpaClientLogoRepository;
+  private final ClientLogoDataAccessMapper clientLogoDataAccessMapper;
+
+  /**
+   * Stores a logo passed as a base64 data URI, unless a logo with the same content is already
+   * stored.
+   *
+   * <p>The logo is written in its own transaction, so that client adapters running in read-only
+   * transactions can store logos as well. A logo left behind by a failed client write is simply
+   * reused by the next client with the same logo.
+   *
+   * <p>A reference is only accepted if the logo it points to is stored. Logos are addressed by
+   * their content, so referencing a logo grants nothing beyond uploading the same logo again.
+   *
+   * @param logo the base64 data URI or the reference of a stored logo, may be {@code null}
+   * @return the hash the logo is addressed by, or {@code null} if no logo was passed
+   * @throws ClientDomainException if the reference points to a logo that is not stored
+   */
+  @Transactional(
+      timeout = 2,
+      propagation = Propagation.REQUIRES_NEW,
+      rollbackFor = {Exception.class})
+  public String save(String logo) {
+    if (logo == null || logo.isBlank()) return null;
+
+    var hash = clientLogoDataAccessMapper.toHash(logo);
+    if (hash != null) {
+      if (!jpaClientLogoRepository.existsById(hash))
+        throw new ClientDomainException(String.format("Client logo %s does not exist", hash));
+      return hash;
+    }
+
+    log.debug("Persisting a client logo");
+
+    var entity = clientLogoDataAccessMapper.toEntity(logo);
+    jpaClientLogoRepository.insertIfAbsent(
+        entity.getHash(), entity.getContentType(), entity.getContent(), entity.getCreatedOn());
+    return entity.getHash();
+  }
+
+  /**
+   * Finds a logo by the hash of its content.
+   *
+   * @param hash the lowercase hexadecimal SHA-256 hash of the logo content
+   * @return an optional containing the found logo, or empty if not found
+   */
+  @Transactional(timeout = 2, readOnly = true)
+  public Optional<ClientLogoResponse> findByHash(String hash) {
+    log.debug("Querying client logo by hash");
+
+    return jpaClientLogoRepository.findById(hash).map(clientLogoDataAccessMapper::toResponse);
+  }
+}
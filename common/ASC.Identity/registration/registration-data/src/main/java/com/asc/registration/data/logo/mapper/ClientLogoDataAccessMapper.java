@@ -0,0 +1,145 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.logo.mapper;
+
+import com.asc.registration.data.logo.entity.ClientLogoEntity;
+import com.asc.registration.service.transfer.response.ClientLogoResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper class for converting client logos between base64 data URIs, {@link ClientLogoEntity} data
+ * access objects and the references carried by client records.
+ *
+ * <p>A reference is the path of the logo endpoint, {@code {api}/clients/logos/{hash}}, so that it
+ * can be used as an image source as is.
+ */
+@Component
+public class ClientLogoDataAccessMapper {
+  private static final String DATA_URI_PREFIX = "data:";
+  private static final String LOGO_PATH = "/clients/logos/";
+  private static final Pattern REFERENCE_PATTERN =
+      Pattern.compile(Pattern.quote(LOGO_PATH) + "([0-9a-f]{64})$");
+
+  @Value("${spring.application.web.api:/api/2.0}")
+  private String webApi;
+
+  /**
+   * Converts a base64 data URI to a {@link ClientLogoEntity} addressed by the SHA-256 hash of its
+   * content type and decoded content, so that equal bytes declared with different content types are
+   * stored separately.
+   *
+   * @param dataUri the logo as a data URI, e.g. {@code data:image/png;base64,iVBOR...}
+   * @return the converted data access object
+   * @throws IllegalArgumentException if the value is not a valid base64 data URI
+   */
+  public ClientLogoEntity toEntity(String dataUri) {
+    var separator = dataUri.indexOf(',');
+    if (!dataUri.startsWith(DATA_URI_PREFIX) || separator < 0)
+      throw new IllegalArgumentException("Client logo is expected to be a base64 data URI");
+
+    var header = dataUri.substring(DATA_URI_PREFIX.length(), separator);
+    var parameters = header.indexOf(';');
+    var content = Base64.getDecoder().decode(dataUri.substring(separator + 1));
+    var contentType = parameters < 0 ? header : header.substring(0, parameters);
+    return ClientLogoEntity.builder()
+        .hash(hash(contentType, content))
+        .contentType(contentType)
+        .content(content)
+        .createdOn(ZonedDateTime.now(ZoneId.of("UTC")))
+        .build();
+  }
+
+  /**
+   * Converts a {@link ClientLogoEntity} to a {@link ClientLogoResponse}.
+   *
+   * @param entity the data access object to convert
+   * @return the converted response
+   */
+  public ClientLogoResponse toResponse(ClientLogoEntity entity) {
+    return ClientLogoResponse.builder()
+        .hash(entity.getHash())
+        .contentType(entity.getContentType())
+        .content(entity.getContent())
+        .build();
+  }
+
+  /**
+   * Converts a logo hash to the reference carried by client records.
+   *
+   * @param hash the logo hash, may be {@code null}
+   * @return the logo reference, or {@code null} if no hash was passed
+   */
+  public String toReference(String hash) {
+    return hash == null ? null : webApi + LOGO_PATH + hash;
+  }
+
+  /**
+   * Extracts the logo hash from a logo reference.
+   *
+   * @param logo the logo reference or any other logo value, may be {@code null}
+   * @return the logo hash, or {@code null} if the value is not a logo reference
+   */
+  public String toHash(String logo) {
+    if (logo == null || logo.startsWith(DATA_URI_PREFIX)) return null;
+    var matcher = REFERENCE_PATTERN.matcher(logo);
+    return matcher.find() ? matcher.group(1) : null;
+  }
+
+  /**
+   * Calculates the lowercase hexadecimal SHA-256 hash of the logo content type, a colon and the
+   * logo content, matching the hash calculated by the client logo migration.
+   *
+   * @param contentType the declared content type of the logo
+   * @param content the decoded logo content
+   * @return the logo hash
+   */
+  private String hash(String contentType, byte[] content) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      digest.update((contentType + ":").getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+}
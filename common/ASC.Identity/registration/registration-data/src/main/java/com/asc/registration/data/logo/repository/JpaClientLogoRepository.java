@@ -0,0 +1,74 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.logo.repository;
+
+import com.asc.registration.data.logo.entity.ClientLogoEntity;
+import java.time.ZonedDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * JPA repository interface for managing {@link ClientLogoEntity} objects addressed by the SHA-256
+ * hash of their content.
+ */
+public interface JpaClientLogoRepository extends JpaRepository<ClientLogoEntity, String> {
+
+  /**
+   * Inserts a logo unless a logo with the same hash is already stored.
+   *
+   * <p>Since logos are addressed by their content, an existing row always holds the same bytes and
+   * is left untouched.
+   *
+   * @param hash the lowercase hexadecimal SHA-256 hash of the content
+   * @param contentType the media type of the logo
+   * @param content the decoded logo content
+   * @param createdOn the timestamp indicating when the logo was stored
+   * @return the number of inserted rows (0 or 1)
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+            INSERT IGNORE INTO identity_client_logos (hash, content_type, content, created_on)
+            VALUES (:hash, :contentType, :content, :createdOn)
+        """,
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("hash") String hash,
+      @Param("contentType") String contentType,
+      @Param("content") byte[] content,
+      @Param("createdOn") ZonedDateTime createdOn);
+}
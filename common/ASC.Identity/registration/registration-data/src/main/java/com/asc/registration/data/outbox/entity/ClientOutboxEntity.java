@@ -0,0 +1,73 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.outbox.entity;
+
+import com.asc.registration.service.transfer.message.ClientOutboxMessage;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import lombok.*;
+
+/** Represents a client change recorded in the outbox, pending to be relayed. */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "identity_client_outbox")
+public class ClientOutboxEntity implements Serializable {
+  /** The identifier of the outbox message, increasing in the order of recording. */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  /** The kind of the client change. */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", length = 32, nullable = false)
+  private ClientOutboxMessage.Type type;
+
+  /** The identifier of the changed client. */
+  @Column(name = "client_id", length = 36, nullable = false)
+  private String clientId;
+
+  /** The identifier of the tenant owning the changed client. */
+  @Column(name = "tenant_id", nullable = false)
+  private long tenantId;
+
+  /** The timestamp indicating when the change was recorded. */
+  @Column(name = "created_on", nullable = false)
+  private ZonedDateTime createdOn;
+}
@@ -0,0 +1,64 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.outbox.repository;
+
+import com.asc.registration.data.outbox.entity.ClientOutboxEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/** JPA repository interface for managing {@link ClientOutboxEntity} objects. */
+public interface JpaClientOutboxRepository extends JpaRepository<ClientOutboxEntity, Long> {
+
+  /**
+   * Locks the oldest outbox messages which are not locked by another transaction.
+   *
+   * <p>The messages stay locked until the calling transaction completes. Rows locked by concurrent
+   * relays are skipped rather than waited for.
+   *
+   * @param limit the maximum number of messages to lock
+   * @return the locked {@link ClientOutboxEntity} objects, oldest first
+   */
+  @Query(
+      value =
+          """
+            SELECT * FROM identity_client_outbox
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        """,
+      nativeQuery = true)
+  List<ClientOutboxEntity> claim(@Param("limit") int limit);
+}
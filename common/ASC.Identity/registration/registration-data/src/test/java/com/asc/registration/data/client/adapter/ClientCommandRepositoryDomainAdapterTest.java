@@ -43,9 +43,14 @@ import com.asc.common.core.domain.value.ClientId;
 import com.asc.common.core.domain.value.TenantId;
 import com.asc.registration.core.domain.entity.Client;
 import com.asc.registration.core.domain.event.ClientEvent;
+import com.asc.registration.core.domain.value.ClientInfo;
 import com.asc.registration.data.client.entity.ClientEntity;
 import com.asc.registration.data.client.mapper.ClientDataAccessMapper;
 import com.asc.registration.data.client.repository.JpaClientRepository;
+import com.asc.registration.data.outbox.entity.ClientOutboxEntity;
+import com.asc.registration.data.outbox.repository.JpaClientOutboxRepository;
+import com.asc.registration.service.ports.output.repository.ClientLogoRepository;
+import com.asc.registration.service.transfer.message.ClientOutboxMessage;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +68,8 @@ class ClientCommandRepositoryDomainAdapterTest {
   @Mock private JpaClientRepository jpaClientRepository;
   @Mock private ClientDataAccessMapper clientDataAccessMapper;
   @Mock private DomainEventPublisher<ClientEvent> messagePublisher;
+  @Mock private ClientLogoRepository clientLogoRepository;
+  @Mock private JpaClientOutboxRepository jpaClientOutboxRepository;
 
   private Client client;
   private ClientId clientId;
@@ -123,13 +130,19 @@ class ClientCommandRepositoryDomainAdapterTest {
   @Test
   void whenClientIsSaved_thenClientIsReturned() {
     var clientEntity = mock(ClientEntity.class);
+    var mappedEntity = mock(ClientEntity.class);
+    var logo = "data:image/png;base64,iVBORw0KGgo=";
 
+    when(client.getClientInfo()).thenReturn(new ClientInfo("name", "description", logo));
+    when(clientDataAccessMapper.toEntity(client)).thenReturn(mappedEntity);
+    when(clientLogoRepository.save(logo)).thenReturn("hash");
     when(jpaClientRepository.save(any(ClientEntity.class))).thenReturn(clientEntity);
 
     var savedClient =
         clientCommandRepositoryDomainAdapter.saveClient(mock(ClientEvent.class), client);
 
     verify(clientDataAccessMapper).toEntity(client);
+    verify(mappedEntity).setLogoHash("hash");
     verify(jpaClientRepository).save(any(ClientEntity.class));
     verify(clientDataAccessMapper).toDomain(clientEntity);
     verify(messagePublisher).publish(any(ClientEvent.class));
@@ -158,6 +171,7 @@ class ClientCommandRepositoryDomainAdapterTest {
   @ParameterizedTest
   @ValueSource(ints = {0, 5})
   void whenClientIsDeleted_thenRepositoryAndPublishersAreCalled(int deletedCount) {
+    var outboxCaptor = ArgumentCaptor.forClass(ClientOutboxEntity.class);
     when(jpaClientRepository.deleteByClientIdAndTenantId(anyString(), anyLong()))
         .thenReturn(deletedCount);
 
@@ -167,8 +181,11 @@ class ClientCommandRepositoryDomainAdapterTest {
 
     verify(jpaClientRepository)
         .deleteByClientIdAndTenantId(eq(clientId.getValue().toString()), eq(tenantId.getValue()));
+    verify(jpaClientOutboxRepository).save(outboxCaptor.capture());
     verify(messagePublisher).publish(any(ClientEvent.class));
 
     assertEquals(deletedCount, result);
+    assertEquals(ClientOutboxMessage.Type.CLIENT_REMOVED, outboxCaptor.getValue().getType());
+    assertEquals(clientId.getValue().toString(), outboxCaptor.getValue().getClientId());
   }
 }
@@ -34,14 +34,18 @@
 package com.asc.registration.data.client.adapter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.asc.common.core.domain.value.ClientId;
 import com.asc.common.core.domain.value.TenantId;
+import com.asc.common.core.domain.value.UserId;
 import com.asc.common.core.domain.value.enums.ClientVisibility;
 import com.asc.registration.core.domain.entity.Client;
+import com.asc.registration.data.client.entity.ClientAttributeView;
 import com.asc.registration.data.client.entity.ClientEntity;
+import com.asc.registration.data.client.entity.ClientSummaryView;
 import com.asc.registration.data.client.mapper.ClientDataAccessMapper;
 import com.asc.registration.data.client.repository.JpaClientRepository;
 import java.time.ZonedDateTime;
@@ -50,12 +54,14 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 class ClientQueryRepositoryDomainAdapterTest {
   @InjectMocks private ClientQueryRepositoryDomainAdapter clientQueryRepositoryDomainAdapter;
@@ -89,55 +95,114 @@ class ClientQueryRepositoryDomainAdapterTest {
   @ParameterizedTest
   @EnumSource(OptionalClientLookupKind.class)
   void whenClientIsFoundByLookup_thenReturnOptionalClient(OptionalClientLookupKind kind) {
+    var id = clientId.getValue().toString();
+    var summary = mock(ClientSummaryView.class);
+    var attributes = List.of(mock(ClientAttributeView.class));
+
+    when(summary.getClientId()).thenReturn(id);
+    when(jpaClientRepository.findAllAttributesByClientIds(List.of(id))).thenReturn(attributes);
+    when(clientDataAccessMapper.toEntities(List.of(summary), attributes))
+        .thenReturn(List.of(clientEntity));
+
     switch (kind) {
       case BY_ID_AND_VISIBILITY -> {
-        when(jpaClientRepository.findByIdAndVisibility(anyString(), eq(true)))
-            .thenReturn(Optional.of(clientEntity));
+        when(jpaClientRepository.findSummaryByIdAndVisibility(anyString(), eq(true)))
+            .thenReturn(Optional.of(summary));
         var result =
             clientQueryRepositoryDomainAdapter.findByIdAndVisibility(
                 clientId, ClientVisibility.PUBLIC);
         assertEquals(Optional.of(client), result);
-        verify(jpaClientRepository).findByIdAndVisibility(clientId.getValue().toString(), true);
+        verify(jpaClientRepository).findSummaryByIdAndVisibility(id, true);
       }
       case BY_ID -> {
-        when(jpaClientRepository.findById(anyString())).thenReturn(Optional.of(clientEntity));
+        when(jpaClientRepository.findSummaryById(anyString())).thenReturn(Optional.of(summary));
         var result = clientQueryRepositoryDomainAdapter.findById(clientId);
         assertEquals(Optional.of(client), result);
-        verify(jpaClientRepository).findById(clientId.getValue().toString());
+        verify(jpaClientRepository).findSummaryById(id);
       }
       case BY_CLIENT_ID_AND_TENANT -> {
-        when(jpaClientRepository.findByClientIdAndTenantId(anyString(), anyLong()))
-            .thenReturn(Optional.of(clientEntity));
+        when(jpaClientRepository.findSummaryByClientIdAndTenantId(anyString(), anyLong()))
+            .thenReturn(Optional.of(summary));
         var result =
             clientQueryRepositoryDomainAdapter.findByClientIdAndTenantId(clientId, tenantId);
         assertEquals(Optional.of(client), result);
-        verify(jpaClientRepository)
-            .findByClientIdAndTenantId(clientId.getValue().toString(), tenantId.getValue());
+        verify(jpaClientRepository).findSummaryByClientIdAndTenantId(id, tenantId.getValue());
       }
     }
 
+    verify(jpaClientRepository).findAllAttributesByClientIds(List.of(id));
     verify(clientDataAccessMapper).toDomain(clientEntity);
   }
 
+  @Test
+  void whenClientIsNotFound_thenCollectionsAreNotQueried() {
+    when(jpaClientRepository.findSummaryById(anyString())).thenReturn(Optional.empty());
+
+    var result = clientQueryRepositoryDomainAdapter.findById(clientId);
+
+    assertEquals(Optional.empty(), result);
+    verify(jpaClientRepository, never()).findAllAttributesByClientIds(anyList());
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {1, 5, 10})
   void whenClientsAreQueriedByTenantId_thenReturnPaginatedResponse(int limit) {
-    List<ClientEntity> entities = List.of(clientEntity);
-    ZonedDateTime lastCreatedOn = ZonedDateTime.now();
+    var summary = mock(ClientSummaryView.class);
+    var attributes = List.of(mock(ClientAttributeView.class));
+    var lastClientId = UUID.randomUUID().toString();
+    var lastCreatedOn = ZonedDateTime.now();
 
+    when(summary.getClientId()).thenReturn(clientId.getValue().toString());
     when(jpaClientRepository.findAllByTenantIdWithCursor(
-            eq(tenantId.getValue()), eq(lastCreatedOn), eq(limit + 1)))
-        .thenReturn(entities);
+            tenantId.getValue(), lastCreatedOn, lastClientId, Limit.of(limit + 1)))
+        .thenReturn(List.of(summary));
+    when(jpaClientRepository.findAllAttributesByClientIds(List.of(clientId.getValue().toString())))
+        .thenReturn(attributes);
+    when(clientDataAccessMapper.toEntities(List.of(summary), attributes))
+        .thenReturn(List.of(clientEntity));
 
     var result =
-        clientQueryRepositoryDomainAdapter.findAllByTenantId(tenantId, limit, null, lastCreatedOn);
+        clientQueryRepositoryDomainAdapter.findAllByTenantId(
+            tenantId, limit, lastClientId, lastCreatedOn);
 
     assertEquals(client, result.getData().iterator().next());
-    verify(jpaClientRepository)
-        .findAllByTenantIdWithCursor(eq(tenantId.getValue()), eq(lastCreatedOn), eq(limit + 1));
+    assertNull(result.getLastClientId());
+    assertNull(result.getLastCreatedOn());
+    verify(jpaClientRepository).findAllAttributesByClientIds(anyList());
     verify(clientDataAccessMapper).toDomain(clientEntity);
   }
 
+  @Test
+  void whenMoreClientsThanLimitExist_thenReturnCursorOfLastClientOnPage() {
+    var summaries =
+        IntStream.range(0, 3)
+            .mapToObj(
+                i -> {
+                  var summary = mock(ClientSummaryView.class);
+                  when(summary.getClientId()).thenReturn("client-" + i);
+                  when(summary.getCreatedOn()).thenReturn(ZonedDateTime.now().minusMinutes(i));
+                  return summary;
+                })
+            .toList();
+    var page = summaries.subList(0, 2);
+    var creatorId = new UserId(UUID.randomUUID().toString());
+
+    when(jpaClientRepository.findAllByTenantIdAndCreatedByWithCursor(
+            tenantId.getValue(), creatorId.getValue(), null, null, Limit.of(3)))
+        .thenReturn(summaries);
+    when(jpaClientRepository.findAllAttributesByClientIds(List.of("client-0", "client-1")))
+        .thenReturn(List.of());
+    when(clientDataAccessMapper.toEntities(page, List.of())).thenReturn(List.of(clientEntity));
+
+    var result =
+        clientQueryRepositoryDomainAdapter.findAllByTenantIdAndCreatorId(
+            tenantId, creatorId, 2, null, null);
+
+    assertEquals("client-1", result.getLastClientId());
+    assertEquals(page.getLast().getCreatedOn(), result.getLastCreatedOn());
+    verify(clientDataAccessMapper).toEntities(page, List.of());
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {1, 2})
   void whenClientsAreFoundByClientIds_thenReturnClients(int count) {
@@ -145,26 +210,32 @@ class ClientQueryRepositoryDomainAdapterTest {
         IntStream.range(0, count).mapToObj(i -> new ClientId(UUID.randomUUID())).toList();
     var idStrings = clientIds.stream().map(i -> i.getValue().toString()).toList();
 
+    var summaries = new java.util.ArrayList<ClientSummaryView>();
     var entities = new java.util.ArrayList<ClientEntity>();
     var expectedClients = new java.util.ArrayList<Client>();
 
     for (int i = 0; i < count; i++) {
+      var summary = mock(ClientSummaryView.class);
       var entity = mock(ClientEntity.class);
       var domainClient = mock(Client.class);
-      when(entity.getClientId()).thenReturn(clientIds.get(i).getValue().toString());
+      when(summary.getClientId()).thenReturn(idStrings.get(i));
       when(clientDataAccessMapper.toDomain(entity)).thenReturn(domainClient);
 
+      summaries.add(summary);
       entities.add(entity);
       expectedClients.add(domainClient);
     }
 
-    when(jpaClientRepository.findAllByClientIds(idStrings)).thenReturn(entities);
+    when(jpaClientRepository.findAllSummariesByClientIds(idStrings)).thenReturn(summaries);
+    when(jpaClientRepository.findAllAttributesByClientIds(idStrings)).thenReturn(List.of());
+    when(clientDataAccessMapper.toEntities(summaries, List.of())).thenReturn(entities);
 
     var result = clientQueryRepositoryDomainAdapter.findAllByClientIds(clientIds);
 
     assertEquals(count, result.size());
     assertEquals(expectedClients, result);
-    verify(jpaClientRepository).findAllByClientIds(idStrings);
+    verify(jpaClientRepository).findAllSummariesByClientIds(idStrings);
+    verify(jpaClientRepository).findAllAttributesByClientIds(idStrings);
     for (var entity : entities) {
       verify(clientDataAccessMapper).toDomain(entity);
     }
@@ -0,0 +1,216 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.asc.common.core.domain.value.ClientId;
+import com.asc.common.core.domain.value.TenantId;
+import com.asc.common.core.domain.value.UserId;
+import com.asc.common.core.domain.value.enums.ClientVisibility;
+import com.asc.common.data.routing.ReplicaLagProbe;
+import com.asc.common.data.routing.ReplicaRoutingDataSource;
+import com.asc.common.data.routing.ReplicaRoutingProperties;
+import com.asc.registration.data.client.mapper.ClientDataAccessMapper;
+import com.asc.registration.data.client.repository.JpaClientRepository;
+import com.asc.registration.service.ports.output.repository.ClientQueryRepository;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.stubbing.Answer;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes the {@link ClientQueryRepositoryDomainAdapter} through a {@link ReplicaRoutingDataSource}
+ * wired the way the replica routing configuration wires it, with a replica that is in sync.
+ */
+class ClientQueryRepositoryRoutingTest {
+  private static final ClientId CLIENT_ID = new ClientId(UUID.randomUUID());
+  private static final TenantId TENANT_ID = new TenantId(1L);
+  private static final UserId CREATOR_ID = new UserId(UUID.randomUUID().toString());
+
+  private DataSource primary;
+  private DataSource replica;
+  private ReplicaRoutingDataSource routingDataSource;
+  private DataSource dataSource;
+  private DataSourceTransactionManager transactionManager;
+  private JpaClientRepository jpaClientRepository;
+  private ClientQueryRepository clientQueryRepository;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    primary = mockDataSource();
+    replica = mockDataSource();
+
+    var properties = new ReplicaRoutingProperties();
+    properties.setLagCheckInterval(Duration.ofMillis(5));
+    properties.setStickiness(Duration.ofMinutes(1));
+    var checks = new CountDownLatch(2);
+    ReplicaLagProbe lagProbe =
+        ignored -> {
+          checks.countDown();
+          return Optional.of(Duration.ZERO);
+        };
+
+    routingDataSource =
+        new ReplicaRoutingDataSource(primary, replica, properties, lagProbe, () -> null);
+    routingDataSource.afterPropertiesSet();
+    assertTrue(checks.await(5, TimeUnit.SECONDS), "The replica lag was never checked");
+
+    dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    dataSource.getConnection().close();
+    clearInvocations(primary, replica);
+
+    jpaClientRepository = mock(JpaClientRepository.class);
+    var adapter =
+        new ClientQueryRepositoryDomainAdapter(
+            jpaClientRepository, mock(ClientDataAccessMapper.class));
+    var proxyFactory = new ProxyFactory(adapter);
+    proxyFactory.addAdvice(
+        new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+    clientQueryRepository = (ClientQueryRepository) proxyFactory.getProxy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    routingDataSource.destroy();
+  }
+
+  static Stream<Arguments> primaryLookups() {
+    return Stream.of(
+        Arguments.of("findById", (Consumer<ClientQueryRepository>) r -> r.findById(CLIENT_ID)),
+        Arguments.of(
+            "findByIdAndVisibility",
+            (Consumer<ClientQueryRepository>)
+                r -> r.findByIdAndVisibility(CLIENT_ID, ClientVisibility.PUBLIC)),
+        Arguments.of(
+            "findByClientIdAndTenantId",
+            (Consumer<ClientQueryRepository>)
+                r -> r.findByClientIdAndTenantId(CLIENT_ID, TENANT_ID)),
+        Arguments.of(
+            "findByClientIdAndTenantIdAndCreatorId",
+            (Consumer<ClientQueryRepository>)
+                r -> r.findByClientIdAndTenantIdAndCreatorId(CLIENT_ID, TENANT_ID, CREATOR_ID)),
+        Arguments.of(
+            "findAllByClientIds",
+            (Consumer<ClientQueryRepository>) r -> r.findAllByClientIds(List.of(CLIENT_ID))));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("primaryLookups")
+  void givenClientUpdatedAndEvictedOnAnotherSession_whenCacheRefillLookupRuns_thenPrimaryIsRead(
+      String name, Consumer<ClientQueryRepository> lookup) throws Exception {
+    CompletableFuture.runAsync(
+            () ->
+                new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> useConnection()))
+        .get(5, TimeUnit.SECONDS);
+    clearInvocations(primary, replica);
+    stubRepositoryToUseConnection();
+
+    lookup.accept(clientQueryRepository);
+
+    verify(primary).getConnection();
+    verify(replica, never()).getConnection();
+  }
+
+  @Test
+  void givenReplicaInSync_whenClientsAreListed_thenReplicaIsRead() throws Exception {
+    stubRepositoryToUseConnection();
+
+    clientQueryRepository.findAllByTenantId(TENANT_ID, 10, null, null);
+    clientQueryRepository.findAllByTenantIdAndCreatorId(TENANT_ID, CREATOR_ID, 10, null, null);
+
+    verify(replica, times(2)).getConnection();
+    verify(primary, never()).getConnection();
+  }
+
+  private void stubRepositoryToUseConnection() {
+    Answer<Object> answer =
+        invocation -> {
+          useConnection();
+          return invocation.getMethod().getReturnType() == Optional.class
+              ? Optional.empty()
+              : List.of();
+        };
+    when(jpaClientRepository.findSummaryById(any())).then(answer);
+    when(jpaClientRepository.findSummaryByIdAndVisibility(any(), anyBoolean())).then(answer);
+    when(jpaClientRepository.findSummaryByClientIdAndTenantId(any(), anyLong())).then(answer);
+    when(jpaClientRepository.findSummaryByClientIdAndTenantIdAndCreatedBy(any(), anyLong(), any()))
+        .then(answer);
+    when(jpaClientRepository.findAllSummariesByClientIds(any())).then(answer);
+    when(jpaClientRepository.findAllByTenantIdWithCursor(anyLong(), any(), any(), any()))
+        .then(answer);
+    when(jpaClientRepository.findAllByTenantIdAndCreatedByWithCursor(
+            anyLong(), any(), any(), any(), any()))
+        .then(answer);
+  }
+
+  private void useConnection() {
+    try {
+      DataSourceUtils.getConnection(dataSource).createStatement();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static DataSource mockDataSource() throws Exception {
+    var source = mock(DataSource.class);
+    when(source.getConnection()).then(invocation -> mock(Connection.class));
+    return source;
+  }
+}
@@ -0,0 +1,227 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.data.client.entity.ClientDynamoEntity;
+import com.asc.registration.service.exception.ExceededClientsPerResourceException;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "RUN_INTEGRATION_TESTS", matches = "true")
+class AsyncDynamoClientRepositoryIT {
+  private static final String TABLE_NAME = "RegisteredClient";
+  private static final int DYNAMODB_PORT = 8000;
+
+  static GenericContainer<?> dynamodb =
+      new GenericContainer<>("amazon/dynamodb-local:latest")
+          .withCommand("-jar DynamoDBLocal.jar -inMemory -sharedDb")
+          .withExposedPorts(DYNAMODB_PORT);
+
+  private DynamoDbAsyncClient client;
+  private AsyncDynamoClientRepository repository;
+
+  @BeforeAll
+  void startContainer() {
+    dynamodb.start();
+    client =
+        DynamoDbAsyncClient.builder()
+            .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+            .endpointOverride(
+                URI.create(
+                    "http://" + dynamodb.getHost() + ":" + dynamodb.getMappedPort(DYNAMODB_PORT)))
+            .credentialsProvider(
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy")))
+            .region(Region.US_EAST_1)
+            .build();
+    repository =
+        new AsyncDynamoClientRepository(
+            TABLE_NAME,
+            client,
+            DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(client).build());
+  }
+
+  @AfterAll
+  void stopContainer() {
+    client.close();
+    dynamodb.stop();
+  }
+
+  @BeforeEach
+  void createTable() {
+    if (client.listTables().join().tableNames().contains(TABLE_NAME))
+      client.deleteTable(DeleteTableRequest.builder().tableName(TABLE_NAME).build()).join();
+
+    client
+        .createTable(
+            CreateTableRequest.builder()
+                .tableName(TABLE_NAME)
+                .keySchema(key("client_id", KeyType.HASH))
+                .attributeDefinitions(
+                    attribute("client_id", ScalarAttributeType.S),
+                    attribute("tenant_id", ScalarAttributeType.N),
+                    attribute("created_by", ScalarAttributeType.S),
+                    attribute("created_on", ScalarAttributeType.S))
+                .globalSecondaryIndexes(
+                    index("tenant-created-index", "tenant_id"),
+                    index("creator-created-index", "created_by"))
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .build())
+        .join();
+  }
+
+  private static KeySchemaElement key(String name, KeyType type) {
+    return KeySchemaElement.builder().attributeName(name).keyType(type).build();
+  }
+
+  private static AttributeDefinition attribute(String name, ScalarAttributeType type) {
+    return AttributeDefinition.builder().attributeName(name).attributeType(type).build();
+  }
+
+  private static GlobalSecondaryIndex index(String name, String partitionKey) {
+    return GlobalSecondaryIndex.builder()
+        .indexName(name)
+        .keySchema(key(partitionKey, KeyType.HASH), key("created_on", KeyType.RANGE))
+        .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+        .build();
+  }
+
+  private static ClientDynamoEntity client(long tenantId, String userId) {
+    var entity = new ClientDynamoEntity();
+    entity.setClientId(UUID.randomUUID().toString());
+    entity.setTenantId(tenantId);
+    entity.setName("client");
+    entity.setCreatedBy(userId);
+    entity.setCreatedOn(ZonedDateTime.now().toString());
+    return entity;
+  }
+
+  private long counter(String key) {
+    var item =
+        client
+            .getItem(
+                GetItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of("client_id", AttributeValue.fromS(key)))
+                    .consistentRead(true)
+                    .build())
+            .join()
+            .item();
+    return item == null || item.isEmpty() ? 0 : Long.parseLong(item.get("client_count").n());
+  }
+
+  @Test
+  void givenClients_whenSavingAndDeleting_thenMaintainsCounters() {
+    var first = client(1, "user");
+    repository.save(first);
+    repository.save(client(1, "user"));
+
+    assertEquals(2, counter(ClientDynamoRequests.tenantCounterKey(1)));
+    assertTrue(repository.findByClientIdAndTenantId(first.getClientId(), 1).isPresent());
+    assertTrue(repository.findByClientIdAndTenantId(first.getClientId(), 2).isEmpty());
+
+    assertNull(repository.deleteByIdAndTenantId(first.getClientId(), 2));
+    assertNotNull(repository.deleteByIdAndTenantId(first.getClientId(), 1));
+
+    assertEquals(1, counter(ClientDynamoRequests.tenantCounterKey(1)));
+    assertEquals(1, counter(ClientDynamoRequests.userCounterKey(1, "user")));
+  }
+
+  @Test
+  void givenUserAtLimit_whenSaving_thenThrowsExceededClientsPerResource() {
+    for (var i = 0; i < ClientDynamoRequests.CLIENTS_PER_USER_LIMIT; i++)
+      repository.save(client(1, "user"));
+
+    assertThrows(
+        ExceededClientsPerResourceException.class, () -> repository.save(client(1, "user")));
+  }
+
+  @Test
+  void givenMoreIdsThanBatchLimit_whenFindingAllByClientIds_thenFetchesEveryChunk() {
+    var ids = new ArrayList<String>();
+    for (var i = 0; i < 3 * ClientDynamoRequests.CLIENTS_PER_USER_LIMIT; i++) {
+      var entity = client(1, "user-" + (i % 3));
+      repository.save(entity);
+      ids.add(entity.getClientId());
+    }
+    for (var i = 0; i < ClientDynamoRequests.BATCH_GET_LIMIT; i++)
+      ids.add(UUID.randomUUID().toString());
+    ids.add(ids.getFirst());
+
+    assertEquals(
+        3 * ClientDynamoRequests.CLIENTS_PER_USER_LIMIT, repository.findAllByClientIds(ids).size());
+  }
+
+  @Test
+  void givenManyClients_whenDeletingAllByTenant_thenDeletesEveryBatchAndCounter() {
+    for (var i = 0; i < 90; i++)
+      repository.save(client(1, "user-" + (i % ClientDynamoRequests.CLIENTS_PER_USER_LIMIT)));
+    repository.save(client(2, "user"));
+
+    assertEquals(new BatchDeleteResult(90, 0), repository.deleteAllByTenantId(1));
+    assertEquals(0, counter(ClientDynamoRequests.tenantCounterKey(1)));
+    assertEquals(0, counter(ClientDynamoRequests.userCounterKey(1, "user-0")));
+    assertEquals(1, counter(ClientDynamoRequests.tenantCounterKey(2)));
+    assertEquals(2, repository.reconcileClientCounters());
+  }
+
+  @Test
+  void givenMissingClient_whenUpdatingActivation_thenThrowsClientNotFound() {
+    assertThrows(
+        ClientNotFoundException.class,
+        () -> repository.updateActivation("missing", 1, false, ZonedDateTime.now()));
+  }
+}
@@ -0,0 +1,148 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.core.domain.exception.OptimisticLockingException;
+import com.asc.registration.data.client.entity.ClientDynamoEntity;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+class ClientDynamoRequestsTest {
+  private static final String TABLE_NAME = "RegisteredClient";
+
+  @Test
+  void givenChangedAttributes_whenBuildingUpdate_thenSetsOnlyThoseAttributesAndBumpsVersion() {
+    var request =
+        ClientDynamoRequests.updateClient(
+            TABLE_NAME, "client", 1, Map.of("enabled", AttributeValue.fromBool(false)), null);
+
+    assertEquals(
+        "SET #a0 = :a0, #version = if_not_exists(#version, :zero) + :one",
+        request.updateExpression());
+    assertEquals("enabled", request.expressionAttributeNames().get("#a0"));
+    assertEquals("attribute_exists(#id) AND #tenant = :tenant", request.conditionExpression());
+    assertEquals("1", request.expressionAttributeValues().get(":tenant").n());
+  }
+
+  @Test
+  void givenNullAndEmptyAttributes_whenBuildingUpdate_thenRemovesThem() {
+    var entity = new ClientDynamoEntity();
+    entity.setClientId("client");
+    entity.setTenantId(1);
+    entity.setName("client");
+    entity.setLogo("data:image/png;base64,logo");
+    entity.setScopes(Set.of());
+    entity.setCreatedOn(ZonedDateTime.now().toString());
+    entity.setCreatedBy("user");
+
+    var attributes = ClientDynamoRequests.mutableAttributes(entity);
+    var request = ClientDynamoRequests.updateClient(TABLE_NAME, "client", 1, attributes, 3);
+
+    assertFalse(attributes.containsKey("tenant_id"));
+    assertFalse(attributes.containsKey("created_by"));
+    assertTrue(request.updateExpression().contains(" REMOVE "));
+    assertTrue(
+        request.expressionAttributeValues().values().stream()
+            .noneMatch(value -> Boolean.TRUE.equals(value.nul()) || value.hasSs()));
+    assertEquals(
+        "attribute_exists(#id) AND #tenant = :tenant AND #version = :expected",
+        request.conditionExpression());
+    assertEquals("3", request.expressionAttributeValues().get(":expected").n());
+  }
+
+  @Test
+  void givenHashedLogo_whenBuildingUpdate_thenRemovesInlineLogo() {
+    var entity = new ClientDynamoEntity();
+    entity.setClientId("client");
+    entity.setTenantId(1);
+    entity.setName("client");
+    entity.setLogoHash("hash");
+
+    var request =
+        ClientDynamoRequests.updateClient(
+            TABLE_NAME, "client", 1, ClientDynamoRequests.mutableAttributes(entity), 3);
+
+    var logo =
+        request.expressionAttributeNames().entrySet().stream()
+            .filter(name -> name.getValue().equals("logo"))
+            .map(Map.Entry::getKey)
+            .findFirst()
+            .orElseThrow();
+    assertTrue(request.updateExpression().matches(".* REMOVE .*" + logo + "\\b.*"));
+    assertFalse(request.updateExpression().contains(logo + " = "));
+  }
+
+  @Test
+  void givenInitialVersion_whenBuildingUpdate_thenAcceptsClientsWithoutVersion() {
+    var request =
+        ClientDynamoRequests.updateClient(
+            TABLE_NAME, "client", 1, Map.of("name", AttributeValue.fromS("client")), 0);
+
+    assertTrue(
+        request
+            .conditionExpression()
+            .endsWith("AND (attribute_not_exists(#version) OR #version = :expected)"));
+  }
+
+  @Test
+  void givenFailedCondition_whenTranslating_thenDistinguishesMissingClientFromConflict() {
+    var missing = ConditionalCheckFailedException.builder().message("failed").build();
+    var otherTenant =
+        ConditionalCheckFailedException.builder()
+            .message("failed")
+            .item(Map.of("tenant_id", AttributeValue.fromN("2")))
+            .build();
+    var modified =
+        ConditionalCheckFailedException.builder()
+            .message("failed")
+            .item(Map.of("tenant_id", AttributeValue.fromN("1")))
+            .build();
+
+    assertInstanceOf(
+        ClientNotFoundException.class, ClientDynamoRequests.updateFailure(missing, "client", 1));
+    assertInstanceOf(
+        ClientNotFoundException.class,
+        ClientDynamoRequests.updateFailure(otherTenant, "client", 1));
+    assertInstanceOf(
+        OptimisticLockingException.class,
+        ClientDynamoRequests.updateFailure(modified, "client", 1));
+  }
+}
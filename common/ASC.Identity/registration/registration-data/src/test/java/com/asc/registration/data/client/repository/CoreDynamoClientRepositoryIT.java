@@ -0,0 +1,400 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.client.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.asc.registration.core.domain.exception.ClientNotFoundException;
+import com.asc.registration.core.domain.exception.OptimisticLockingException;
+import com.asc.registration.data.client.entity.ClientDynamoEntity;
+import com.asc.registration.service.exception.ExceededClientsPerResourceException;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "RUN_INTEGRATION_TESTS", matches = "true")
+class CoreDynamoClientRepositoryIT {
+  private static final String TABLE_NAME = "RegisteredClient";
+  private static final int DYNAMODB_PORT = 8000;
+
+  static GenericContainer<?> dynamodb =
+      new GenericContainer<>("amazon/dynamodb-local:latest")
+          .withCommand("-jar DynamoDBLocal.jar -inMemory -sharedDb")
+          .withExposedPorts(DYNAMODB_PORT);
+
+  private DynamoDbClient client;
+  private CoreDynamoClientRepository repository;
+
+  /**
+   * Forwards to DynamoDB Local, but throttles the first batch writes: every other call fails with
+   * {@link ProvisionedThroughputExceededException}, the others only process the first item and
+   * return the rest as unprocessed.
+   */
+  static class ThrottlingDynamoDbClient implements DynamoDbClient {
+    private final DynamoDbClient delegate;
+    private final AtomicInteger throttledCalls;
+
+    ThrottlingDynamoDbClient(DynamoDbClient delegate, int throttledCalls) {
+      this.delegate = delegate;
+      this.throttledCalls = new AtomicInteger(throttledCalls);
+    }
+
+    public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+      var call = throttledCalls.getAndDecrement();
+      if (call <= 0) return delegate.batchWriteItem(request);
+      if (call % 2 == 0)
+        throw ProvisionedThroughputExceededException.builder().message("Throttled").build();
+
+      var processed = new HashMap<String, List<WriteRequest>>();
+      var unprocessed = new HashMap<String, List<WriteRequest>>();
+      request
+          .requestItems()
+          .forEach(
+              (table, writes) -> {
+                processed.put(table, writes.subList(0, 1));
+                if (writes.size() > 1) unprocessed.put(table, writes.subList(1, writes.size()));
+              });
+      delegate.batchWriteItem(BatchWriteItemRequest.builder().requestItems(processed).build());
+      return BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build();
+    }
+
+    public QueryResponse query(QueryRequest request) {
+      return delegate.query(request);
+    }
+
+    public GetItemResponse getItem(GetItemRequest request) {
+      return delegate.getItem(request);
+    }
+
+    public UpdateItemResponse updateItem(UpdateItemRequest request) {
+      return delegate.updateItem(request);
+    }
+
+    public DeleteItemResponse deleteItem(DeleteItemRequest request) {
+      return delegate.deleteItem(request);
+    }
+
+    public TransactWriteItemsResponse transactWriteItems(TransactWriteItemsRequest request) {
+      return delegate.transactWriteItems(request);
+    }
+
+    public String serviceName() {
+      return SERVICE_NAME;
+    }
+
+    public void close() {}
+  }
+
+  @BeforeAll
+  void startContainer() {
+    dynamodb.start();
+    client =
+        DynamoDbClient.builder()
+            .endpointOverride(
+                URI.create(
+                    "http://" + dynamodb.getHost() + ":" + dynamodb.getMappedPort(DYNAMODB_PORT)))
+            .credentialsProvider(
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy")))
+            .region(Region.US_EAST_1)
+            .build();
+    repository =
+        new CoreDynamoClientRepository(
+            TABLE_NAME, client, DynamoDbEnhancedClient.builder().dynamoDbClient(client).build());
+  }
+
+  @AfterAll
+  void stopContainer() {
+    client.close();
+    dynamodb.stop();
+  }
+
+  @BeforeEach
+  void createTable() {
+    if (client.listTables().tableNames().contains(TABLE_NAME))
+      client.deleteTable(DeleteTableRequest.builder().tableName(TABLE_NAME).build());
+
+    client.createTable(
+        CreateTableRequest.builder()
+            .tableName(TABLE_NAME)
+            .keySchema(key("client_id", KeyType.HASH))
+            .attributeDefinitions(
+                attribute("client_id", ScalarAttributeType.S),
+                attribute("tenant_id", ScalarAttributeType.N),
+                attribute("created_by", ScalarAttributeType.S),
+                attribute("created_on", ScalarAttributeType.S))
+            .globalSecondaryIndexes(
+                index("tenant-created-index", "tenant_id"),
+                index("creator-created-index", "created_by"))
+            .billingMode(BillingMode.PAY_PER_REQUEST)
+            .build());
+  }
+
+  private static KeySchemaElement key(String name, KeyType type) {
+    return KeySchemaElement.builder().attributeName(name).keyType(type).build();
+  }
+
+  private static AttributeDefinition attribute(String name, ScalarAttributeType type) {
+    return AttributeDefinition.builder().attributeName(name).attributeType(type).build();
+  }
+
+  private static GlobalSecondaryIndex index(String name, String partitionKey) {
+    return GlobalSecondaryIndex.builder()
+        .indexName(name)
+        .keySchema(key(partitionKey, KeyType.HASH), key("created_on", KeyType.RANGE))
+        .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+        .build();
+  }
+
+  private static ClientDynamoEntity client(long tenantId, String userId) {
+    var entity = new ClientDynamoEntity();
+    entity.setClientId(UUID.randomUUID().toString());
+    entity.setTenantId(tenantId);
+    entity.setName("client");
+    entity.setCreatedBy(userId);
+    entity.setCreatedOn(ZonedDateTime.now().toString());
+    return entity;
+  }
+
+  private long counter(String key) {
+    var item =
+        client
+            .getItem(
+                GetItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of("client_id", AttributeValue.fromS(key)))
+                    .consistentRead(true)
+                    .build())
+            .item();
+    return item == null || item.isEmpty() ? 0 : Long.parseLong(item.get("client_count").n());
+  }
+
+  @Test
+  void givenClients_whenSavingAndDeleting_thenMaintainsCounters() {
+    var first = client(1, "user");
+    var second = client(1, "user");
+    repository.save(first);
+    repository.save(second);
+    repository.save(client(1, "other"));
+
+    assertEquals(3, counter(ClientDynamoRequests.tenantCounterKey(1)));
+    assertEquals(2, counter(ClientDynamoRequests.userCounterKey(1, "user")));
+
+    assertNotNull(repository.deleteByIdAndTenantId(first.getClientId(), 1));
+    assertNull(repository.deleteByIdAndTenantId(second.getClientId(), 2));
+
+    assertEquals(2, counter(ClientDynamoRequests.tenantCounterKey(1)));
+    assertEquals(1, counter(ClientDynamoRequests.userCounterKey(1, "user")));
+  }
+
+  @Test
+  void givenUserLimitReached_whenSaving_thenThrowsAndKeepsCounters() {
+    for (var i = 0; i < ClientDynamoRequests.CLIENTS_PER_USER_LIMIT; i++)
+      repository.save(client(1, "user"));
+
+    assertThrows(
+        ExceededClientsPerResourceException.class, () -> repository.save(client(1, "user")));
+    assertEquals(
+        ClientDynamoRequests.CLIENTS_PER_USER_LIMIT,
+        counter(ClientDynamoRequests.tenantCounterKey(1)));
+  }
+
+  @Test
+  void givenConcurrentSaves_whenTenantLimitIsReached_thenNeverExceedsIt() throws Exception {
+    var tasks = new ArrayList<Callable<Boolean>>();
+    for (var i = 0; i < ClientDynamoRequests.CLIENTS_PER_TENANT_LIMIT + 20; i++) {
+      var userId = "user-" + (i % 20);
+      tasks.add(
+          () -> {
+            try {
+              repository.save(client(1, userId));
+              return true;
+            } catch (ExceededClientsPerResourceException | TransactionCanceledException e) {
+              return false;
+            }
+          });
+    }
+
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      executor.invokeAll(tasks);
+    }
+
+    var stored = client.scan(ScanRequest.builder().tableName(TABLE_NAME).build()).items();
+    var clients = stored.stream().filter(item -> item.containsKey("tenant_id")).count();
+    assertTrue(clients <= ClientDynamoRequests.CLIENTS_PER_TENANT_LIMIT);
+    assertEquals(clients, counter(ClientDynamoRequests.tenantCounterKey(1)));
+  }
+
+  @Test
+  void givenClientsWithoutCounters_whenReconciling_thenSeedsCounters() {
+    var entity = client(5, "user");
+    var schema = TableSchema.fromBean(ClientDynamoEntity.class);
+    client.putItem(
+        PutItemRequest.builder()
+            .tableName(TABLE_NAME)
+            .item(schema.itemToMap(entity, true))
+            .build());
+    client.putItem(
+        PutItemRequest.builder()
+            .tableName(TABLE_NAME)
+            .item(
+                Map.of(
+                    "client_id",
+                    AttributeValue.fromS(ClientDynamoRequests.tenantCounterKey(6)),
+                    "client_count",
+                    AttributeValue.fromN("4")))
+            .build());
+
+    assertEquals(3, repository.reconcileClientCounters());
+    assertEquals(1, counter(ClientDynamoRequests.tenantCounterKey(5)));
+    assertEquals(1, counter(ClientDynamoRequests.userCounterKey(5, "user")));
+    assertEquals(0, counter(ClientDynamoRequests.tenantCounterKey(6)));
+  }
+
+  @Test
+  void givenTenantClients_whenDeletingAllByTenant_thenRemovesCounters() {
+    repository.save(client(1, "user"));
+    repository.save(client(1, "other"));
+
+    repository.deleteAllByTenantId(1);
+
+    assertEquals(0, counter(ClientDynamoRequests.tenantCounterKey(1)));
+    assertEquals(0, counter(ClientDynamoRequests.userCounterKey(1, "user")));
+    assertEquals(0, counter(ClientDynamoRequests.userCounterKey(1, "other")));
+  }
+
+  private CoreDynamoClientRepository repository(DynamoDbClient dynamoDbClient) {
+    return new CoreDynamoClientRepository(
+        TABLE_NAME,
+        dynamoDbClient,
+        DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build());
+  }
+
+  private void saveClients(long tenantId, int count) {
+    for (var i = 0; i < count; i++)
+      repository.save(
+          client(tenantId, "user-" + (i % ClientDynamoRequests.CLIENTS_PER_USER_LIMIT)));
+  }
+
+  private long storedClients() {
+    return client
+        .scanPaginator(ScanRequest.builder().tableName(TABLE_NAME).build())
+        .items()
+        .stream()
+        .filter(item -> item.containsKey("tenant_id"))
+        .count();
+  }
+
+  @Test
+  void givenManyClients_whenDeletingAllByTenant_thenDeletesEveryBatch() {
+    saveClients(1, 90);
+    saveClients(2, 5);
+
+    var result = repository.deleteAllByTenantId(1);
+
+    assertEquals(new BatchDeleteResult(90, 0), result);
+    assertEquals(5, storedClients());
+    assertEquals(5, counter(ClientDynamoRequests.tenantCounterKey(2)));
+  }
+
+  @Test
+  void givenThrottledBatchWrites_whenDeletingAllByTenant_thenRetriesUnprocessedItems() {
+    saveClients(1, 60);
+
+    var result = repository(new ThrottlingDynamoDbClient(client, 12)).deleteAllByTenantId(1);
+
+    assertEquals(new BatchDeleteResult(60, 0), result);
+    assertEquals(0, storedClients());
+    assertEquals(0, counter(ClientDynamoRequests.tenantCounterKey(1)));
+  }
+
+  @Test
+  void givenPersistentThrottling_whenDeletingAllByTenant_thenReportsRemainingClients() {
+    saveClients(1, 60);
+
+    var result =
+        repository(new ThrottlingDynamoDbClient(client, Integer.MAX_VALUE)).deleteAllByTenantId(1);
+
+    assertEquals(60, result.deleted() + result.remaining());
+    assertTrue(result.remaining() > 0);
+    assertEquals(result.remaining(), storedClients());
+    assertEquals(result.remaining(), counter(ClientDynamoRequests.tenantCounterKey(1)));
+  }
+
+  @Test
+  void givenStaleVersion_whenUpdating_thenThrowsOptimisticLocking() {
+    var entity = client(1, "user");
+    entity.setLogo("data:image/png;base64,logo");
+    repository.save(entity);
+
+    var updated = repository.updateActivation(entity.getClientId(), 1, true, ZonedDateTime.now());
+    entity.setName("renamed");
+
+    assertTrue(updated.isEnabled());
+    assertEquals(1, updated.getVersion());
+    assertThrows(OptimisticLockingException.class, () -> repository.update(entity));
+
+    entity.setVersion(1);
+    assertEquals(2, repository.update(entity).getVersion());
+    var stored = repository.findById(entity.getClientId());
+    assertEquals("renamed", stored.getName());
+    assertEquals("data:image/png;base64,logo", stored.getLogo());
+    assertThrows(
+        ClientNotFoundException.class,
+        () -> repository.updateVisibility(entity.getClientId(), 2, true, ZonedDateTime.now()));
+  }
+}
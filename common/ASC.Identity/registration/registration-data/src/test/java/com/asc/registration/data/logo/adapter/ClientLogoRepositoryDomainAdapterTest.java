@@ -0,0 +1,134 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.data.logo.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.asc.registration.core.domain.exception.ClientDomainException;
+import com.asc.registration.data.logo.entity.ClientLogoEntity;
+import com.asc.registration.data.logo.mapper.ClientLogoDataAccessMapper;
+import com.asc.registration.data.logo.repository.JpaClientLogoRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ClientLogoRepositoryDomainAdapterTest {
+  @Mock private JpaClientLogoRepository jpaClientLogoRepository;
+
+  private ClientLogoDataAccessMapper clientLogoDataAccessMapper;
+  private ClientLogoRepositoryDomainAdapter clientLogoRepositoryDomainAdapter;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+
+    clientLogoDataAccessMapper = new ClientLogoDataAccessMapper();
+    ReflectionTestUtils.setField(clientLogoDataAccessMapper, "webApi", "/api/2.0");
+    clientLogoRepositoryDomainAdapter =
+        new ClientLogoRepositoryDomainAdapter(jpaClientLogoRepository, clientLogoDataAccessMapper);
+  }
+
+  @Test
+  void givenInlineLogo_whenSaving_thenLogoIsStoredUnderContentHash() throws Exception {
+    var content = new byte[] {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+    var digest = MessageDigest.getInstance("SHA-256");
+    digest.update("image/png:".getBytes(StandardCharsets.UTF_8));
+    var expectedHash = HexFormat.of().formatHex(digest.digest(content));
+
+    var hash =
+        clientLogoRepositoryDomainAdapter.save(
+            "data:image/png;base64," + Base64.getEncoder().encodeToString(content));
+
+    assertEquals(expectedHash, hash);
+    verify(jpaClientLogoRepository)
+        .insertIfAbsent(eq(expectedHash), eq("image/png"), aryEq(content), any());
+  }
+
+  @Test
+  void givenLogoReference_whenSaving_thenHashIsReturnedWithoutStoring() {
+    var hash = "a".repeat(64);
+    when(jpaClientLogoRepository.existsById(hash)).thenReturn(true);
+
+    var result =
+        clientLogoRepositoryDomainAdapter.save(clientLogoDataAccessMapper.toReference(hash));
+
+    assertEquals(hash, result);
+    verify(jpaClientLogoRepository, never()).insertIfAbsent(anyString(), anyString(), any(), any());
+  }
+
+  @Test
+  void givenReferenceToMissingLogo_whenSaving_thenSaveIsRejected() {
+    var reference = clientLogoDataAccessMapper.toReference("c".repeat(64));
+
+    assertThrows(
+        ClientDomainException.class, () -> clientLogoRepositoryDomainAdapter.save(reference));
+  }
+
+  @Test
+  void givenNoLogo_whenSaving_thenNothingIsStored() {
+    assertNull(clientLogoRepositoryDomainAdapter.save(null));
+    assertNull(clientLogoRepositoryDomainAdapter.save(" "));
+    verifyNoInteractions(jpaClientLogoRepository);
+  }
+
+  @Test
+  void givenStoredLogo_whenFindingByHash_thenContentIsReturned() {
+    var hash = "b".repeat(64);
+    var content = new byte[] {1, 2, 3};
+    when(jpaClientLogoRepository.findById(hash))
+        .thenReturn(
+            Optional.of(
+                ClientLogoEntity.builder()
+                    .hash(hash)
+                    .contentType("image/svg+xml")
+                    .content(content)
+                    .build()));
+
+    var result = clientLogoRepositoryDomainAdapter.findByHash(hash);
+
+    assertTrue(result.isPresent());
+    assertEquals("image/svg+xml", result.get().getContentType());
+    assertArrayEquals(content, result.get().getContent());
+  }
+}
@@ -53,6 +53,10 @@ import org.springframework.stereotype.Component;
 /**
  * RabbitClientAuditMessageListener listens for audit messages from RabbitMQ and processes them.
  *
+ * <p>Audit messages may arrive one per RabbitMQ message or as batch messages produced by {@link
+ * com.asc.common.messaging.publisher.RabbitAuthorizationAuditMessagePublisher}. The batch listener
+ * container splits batch messages into single audit messages, so both arrive here as one list.
+ *
  * <p>This listener is only loaded when RabbitMQ client classes are available on the classpath.
  */
 @Slf4j
@@ -33,11 +33,7 @@
 
 package com.asc.registration.messaging.listener;
 
-import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
-import com.asc.common.service.transfer.message.ClientCacheRemoveEvent;
 import com.asc.registration.core.domain.event.ClientCreatedEvent;
-import com.asc.registration.core.domain.event.ClientDeletedEvent;
-import com.asc.registration.core.domain.event.ClientUpdatedEvent;
 import com.asc.registration.service.ports.output.resilience.ClientCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,17 +43,17 @@ import org.springframework.transaction.event.TransactionalEventListener;
 /**
  * ClientCacheEventListener listens for client domain events and updates the cache transactionally.
  *
- * <p>This listener handles cache population and cleanup based on client domain events. It processes
- * events after the transaction commits to ensure cache consistency with the database state. It also
- * publishes cache removal events to RabbitMQ for multi-region cache invalidation.
+ * <p>This listener populates the cache with newly created clients. It processes events after the
+ * transaction commits to ensure cache consistency with the database state. Cache invalidations of
+ * changed and removed clients are handled by {@link ClientInvalidationEventListener} or, when
+ * clients are stored in the database, relayed from the client outbox by {@link
+ * com.asc.registration.messaging.publisher.ClientOutboxRelay}.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ClientCacheEventListener {
   private final ClientCacheService clientCacheService;
-  private final AuthorizationMessagePublisher<ClientCacheRemoveEvent>
-      clientCacheRemoveMessagePublisher;
 
   /**
    * Handles client created events by populating the cache with the new client.
@@ -70,56 +66,4 @@ public class ClientCacheEventListener {
         "Handling client created event for client ID: {}", event.getClient().getId().getValue());
     clientCacheService.put(event.getClient());
   }
-
-  /**
-   * Handles client updated events by evicting the cache and publishing a removal event for
-   * multi-region cache invalidation.
-   *
-   * @param event The client updated event.
-   */
-  @TransactionalEventListener
-  public void handleClientUpdated(ClientUpdatedEvent event) {
-    log.debug(
-        "Handling client updated event for client ID: {}", event.getClient().getId().getValue());
-    var client = event.getClient();
-    var tenantId =
-        client.getClientTenantInfo() != null ? client.getClientTenantInfo().tenantId() : null;
-
-    if (tenantId != null) {
-      clientCacheService.evict(client.getId(), tenantId);
-      clientCacheRemoveMessagePublisher.publish(
-          ClientCacheRemoveEvent.builder()
-              .clientId(client.getId().getValue().toString())
-              .tenantId(tenantId.getValue())
-              .build());
-    } else {
-      log.warn("Cannot evict cache for client without tenant info: {}", client.getId().getValue());
-    }
-  }
-
-  /**
-   * Handles client deleted events by evicting the client from the cache and publishing a removal
-   * event for multi-region cache invalidation.
-   *
-   * @param event The client deleted event.
-   */
-  @TransactionalEventListener
-  public void handleClientDeleted(ClientDeletedEvent event) {
-    log.debug(
-        "Handling client deleted event for client ID: {}", event.getClient().getId().getValue());
-    var client = event.getClient();
-    var tenantId =
-        client.getClientTenantInfo() != null ? client.getClientTenantInfo().tenantId() : null;
-
-    if (tenantId != null) {
-      clientCacheService.evict(client.getId(), tenantId);
-      clientCacheRemoveMessagePublisher.publish(
-          ClientCacheRemoveEvent.builder()
-              .clientId(client.getId().getValue().toString())
-              .tenantId(tenantId.getValue())
-              .build());
-    } else {
-      log.warn("Cannot evict cache for client without tenant info: {}", client.getId().getValue());
-    }
-  }
 }
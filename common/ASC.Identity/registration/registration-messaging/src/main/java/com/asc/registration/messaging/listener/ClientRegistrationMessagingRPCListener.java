@@ -35,11 +35,17 @@ package com.asc.registration.messaging.listener;
 
 import com.asc.common.core.domain.value.ClientId;
 import com.asc.common.service.transfer.message.ClientRetrievedEvent;
+import com.asc.common.service.transfer.message.ClientsRetrievedEvent;
 import com.asc.common.service.transfer.message.RetrieveClientMessage;
+import com.asc.common.service.transfer.message.RetrieveClientsMessage;
 import com.asc.common.service.transfer.response.ClientResponse;
 import com.asc.registration.service.mapper.ClientDataMapper;
 import com.asc.registration.service.ports.output.repository.ClientQueryRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,7 +59,8 @@ import org.springframework.stereotype.Component;
  * RabbitMQ RPC listener for cross-region client retrieval requests.
  *
  * <p>This component handles RPC requests to fetch client information from a remote region during
- * token introspection. It is only active in the "saas" profile for multi-region deployments.
+ * token introspection, one client at a time or in batches. It is only active in the "saas" profile
+ * for multi-region deployments.
  *
  * <p>This listener is only loaded when RabbitMQ client classes are available on the classpath.
  */
@@ -124,4 +131,52 @@ public class ClientRegistrationMessagingRPCListener {
       return null;
     }
   }
+
+  /**
+   * Handles batched client retrieval RPC requests from remote regions.
+   *
+   * <p>Resolves all well-formed client IDs of the batch with a single query. Malformed IDs are
+   * reported as not found, like unknown ones. A client that can't be mapped is reported as failed
+   * without affecting the others, and if the query fails every ID is reported as failed.
+   *
+   * @param request the message containing the client IDs to retrieve
+   * @return the {@link ClientsRetrievedEvent} with the found clients by requested ID (secrets
+   *     encrypted)
+   */
+  @RabbitHandler
+  public ClientsRetrievedEvent receiveClientsRetrieval(RetrieveClientsMessage request) {
+    var requested = new HashMap<ClientId, String>();
+    for (var id : new HashSet<>(request.getClientIds())) {
+      try {
+        requested.put(new ClientId(UUID.fromString(id)), id);
+      } catch (IllegalArgumentException e) {
+        log.warn("Received malformed client ID: {}", id);
+      }
+    }
+
+    log.info("Received client retrieval request for {} IDs", requested.size());
+
+    if (requested.isEmpty()) return ClientsRetrievedEvent.builder().clients(Map.of()).build();
+
+    var clients = new HashMap<String, ClientRetrievedEvent>();
+    var failed = new ArrayList<String>();
+    try {
+      for (var client : clientQueryRepository.findAllByClientIds(List.copyOf(requested.keySet()))) {
+        var id = requested.get(client.getId());
+        try {
+          clients.put(id, buildClientRetrievedEvent(clientMapper.toClientResponse(client)));
+        } catch (Exception e) {
+          log.warn("Failed to map client with ID: {}", id, e);
+          failed.add(id);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Failed to retrieve {} clients", requested.size(), e);
+      return ClientsRetrievedEvent.builder().failed(List.copyOf(requested.values())).build();
+    }
+
+    log.info("Found {} of {} requested clients", clients.size(), requested.size());
+
+    return ClientsRetrievedEvent.builder().clients(clients).failed(failed).build();
+  }
 }
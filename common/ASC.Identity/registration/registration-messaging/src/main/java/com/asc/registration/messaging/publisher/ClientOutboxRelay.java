@@ -0,0 +1,182 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.messaging.publisher;
+
+import com.asc.common.core.domain.value.ClientId;
+import com.asc.common.core.domain.value.TenantId;
+import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
+import com.asc.common.service.ports.output.message.publisher.ConfirmedBatchPublisher;
+import com.asc.common.service.transfer.message.ClientCacheRemoveEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import com.asc.registration.core.domain.event.ClientEvent;
+import com.asc.registration.service.ports.output.repository.ClientOutboxRepository;
+import com.asc.registration.service.ports.output.resilience.ClientCacheService;
+import com.asc.registration.service.transfer.message.ClientOutboxMessage;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * ClientOutboxRelay relays the client outbox off the request path.
+ *
+ * <p>For every recorded client change, the relay evicts the client from the cache and publishes a
+ * cache removal event. For removed clients, it also publishes a client removal event for
+ * authorization cleanup. Messages are relayed in batches, each of which is removed from the outbox
+ * only once the cache evictions succeeded and the broker confirmed all of its messages, so that no
+ * change is lost while the cache or the broker is slow or down.
+ *
+ * <p>The outbox is relayed right after a client change commits and polled periodically, so that
+ * messages recorded by failed relays or other instances are picked up as well. Concurrent relays
+ * claim disjoint messages.
+ *
+ * <p>This relay is only active outside the SaaS profile, where clients are stored in the database.
+ */
+@Slf4j
+@Component
+@Profile("!saas")
+public class ClientOutboxRelay implements DisposableBean {
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(Thread.ofVirtual().name("client-outbox-relay").factory());
+  private final AtomicBoolean relayRequested = new AtomicBoolean();
+
+  private final ClientOutboxRepository clientOutboxRepository;
+  private final ClientCacheService clientCacheService;
+  private final AuthorizationMessagePublisher<ClientCacheRemoveEvent>
+      clientCacheRemoveMessagePublisher;
+  private final AuthorizationMessagePublisher<ClientRemovedEvent> clientRemovedMessagePublisher;
+  private final ObjectProvider<ConfirmedBatchPublisher> confirmedBatchPublisher;
+  private final int batchSize;
+
+  /**
+   * Constructs a new {@link ClientOutboxRelay}.
+   *
+   * @param clientOutboxRepository the outbox of client changes
+   * @param clientCacheService the cache of clients
+   * @param clientCacheRemoveMessagePublisher the publisher of cache removal events
+   * @param clientRemovedMessagePublisher the publisher of client removal events
+   * @param confirmedBatchPublisher the publisher waiting for broker confirms, if a broker is used
+   * @param batchSize the maximum number of messages relayed in a single batch
+   */
+  public ClientOutboxRelay(
+      ClientOutboxRepository clientOutboxRepository,
+      ClientCacheService clientCacheService,
+      AuthorizationMessagePublisher<ClientCacheRemoveEvent> clientCacheRemoveMessagePublisher,
+      AuthorizationMessagePublisher<ClientRemovedEvent> clientRemovedMessagePublisher,
+      ObjectProvider<ConfirmedBatchPublisher> confirmedBatchPublisher,
+      @Value("${spring.application.outbox.batch-size:100}") int batchSize) {
+    this.clientOutboxRepository = clientOutboxRepository;
+    this.clientCacheService = clientCacheService;
+    this.clientCacheRemoveMessagePublisher = clientCacheRemoveMessagePublisher;
+    this.clientRemovedMessagePublisher = clientRemovedMessagePublisher;
+    this.confirmedBatchPublisher = confirmedBatchPublisher;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Requests the outbox to be relayed once a client change commits. Requests arriving while a relay
+   * is pending are coalesced into it.
+   *
+   * @param event The client event of the committed change.
+   */
+  @TransactionalEventListener
+  public void handleClientEvent(ClientEvent event) {
+    if (relayRequested.compareAndSet(false, true))
+      executor.execute(
+          () -> {
+            relayRequested.set(false);
+            relay();
+          });
+  }
+
+  /** Relays batches of pending outbox messages until the outbox is drained. */
+  @Scheduled(fixedDelayString = "${spring.application.outbox.poll-interval:PT5S}")
+  public void relay() {
+    try {
+      int relayed;
+      do {
+        relayed = clientOutboxRepository.dispatch(batchSize, this::publish);
+        if (relayed > 0) log.debug("Relayed {} client outbox messages", relayed);
+      } while (relayed == batchSize);
+    } catch (Exception e) {
+      log.warn("Could not relay the client outbox, retrying with the next poll", e);
+    }
+  }
+
+  /** Stops relaying after client changes. */
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Publishes a batch of outbox messages, waiting for the broker to confirm them.
+   *
+   * @param messages The claimed outbox messages.
+   */
+  private void publish(List<ClientOutboxMessage> messages) {
+    var publisher = confirmedBatchPublisher.getIfAvailable();
+    if (publisher == null) messages.forEach(this::publish);
+    else publisher.publish(() -> messages.forEach(this::publish));
+  }
+
+  /**
+   * Evicts the changed client from the cache and publishes the events of its change. A failed
+   * eviction fails the whole batch, which then stays in the outbox for the next poll.
+   *
+   * @param message The outbox message.
+   */
+  private void publish(ClientOutboxMessage message) {
+    clientCacheService.evictOrThrow(
+        new ClientId(UUID.fromString(message.getClientId())), new TenantId(message.getTenantId()));
+    clientCacheRemoveMessagePublisher.publish(
+        ClientCacheRemoveEvent.builder()
+            .clientId(message.getClientId())
+            .tenantId(message.getTenantId())
+            .build());
+
+    if (message.getType() == ClientOutboxMessage.Type.CLIENT_REMOVED)
+      clientRemovedMessagePublisher.publish(
+          ClientRemovedEvent.builder().clientId(message.getClientId()).build());
+  }
+}
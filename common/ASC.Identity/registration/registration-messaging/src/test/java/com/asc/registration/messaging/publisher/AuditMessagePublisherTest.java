@@ -36,33 +36,38 @@ package com.asc.registration.messaging.publisher;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.*;
 
+import com.asc.common.messaging.configuration.RabbitAuditPublisherConfigurationProperties;
 import com.asc.common.messaging.publisher.RabbitAuthorizationAuditMessagePublisher;
 import com.asc.common.service.transfer.message.AuditMessage;
+import java.time.Duration;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
 
 @ExtendWith(MockitoExtension.class)
 public class AuditMessagePublisherTest {
-  @InjectMocks private RabbitAuthorizationAuditMessagePublisher publisher;
-  @Mock private AmqpTemplate amqpClient;
+  @Mock private ConnectionFactory connectionFactory;
+  @Mock private MessageConverter messageConverter;
   @Mock private AuditMessage auditMessage;
 
   @ParameterizedTest
-  @CsvSource({"false,none", "true,publish failed", "true,timeout", "true,broker down"})
-  void whenPublishFailsOrSucceeds_thenExceptionIsNotPropagated(
-      boolean shouldThrow, String exceptionMessage) {
-    if (shouldThrow) {
-      doThrow(new RuntimeException(exceptionMessage))
-          .when(amqpClient)
-          .convertAndSend(anyString(), anyString(), (Object) any());
-    }
+  @ValueSource(ints = {1, 10, 100})
+  void whenPublishing_thenBrokerIsNotContactedOnCallingThread(int messages) {
+    var properties = new RabbitAuditPublisherConfigurationProperties();
+    properties.setBatchWindow(Duration.ofHours(1));
+    properties.setBatchSize(1_000);
+    properties.setBufferCapacity(10);
+    var publisher =
+        new RabbitAuthorizationAuditMessagePublisher(
+            connectionFactory, messageConverter, properties, "eu");
 
-    assertDoesNotThrow(() -> publisher.publish(auditMessage));
-    verify(amqpClient).convertAndSend(anyString(), anyString(), (Object) any());
+    for (var i = 0; i < messages; i++) assertDoesNotThrow(() -> publisher.publish(auditMessage));
+
+    verify(connectionFactory, never()).createConnection();
+    verifyNoInteractions(messageConverter);
   }
 }
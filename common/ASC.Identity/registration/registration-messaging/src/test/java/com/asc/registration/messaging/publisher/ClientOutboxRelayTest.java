@@ -0,0 +1,179 @@
+// Copyright (C) Ascensio System SIA, 2009-2026
+//
+// This program is a free software product. You can redistribute it and/or
+// modify it under the terms of the GNU Affero General Public License (AGPL)
+// version 3 as published by the Free Software Foundation, together with the
+// additional terms provided in the LICENSE file.
+//
+// This program is distributed WITHOUT ANY WARRANTY; without even the implied
+// warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. For
+// details, see the GNU AGPL at: https://www.gnu.org/licenses/agpl-3.0.html
+//
+// You can contact Ascensio System SIA by email at info@onlyoffice.com
+// or by postal mail at 20A-6 Ernesta Birznieka-Upisha Street, Riga,
+// LV-1050, Latvia, European Union.
+//
+// The interactive user interfaces in modified versions of the Program
+// are required to display Appropriate Legal Notices in accordance with
+// Section 5 of the GNU AGPL version 3.
+//
+// No trademark rights are granted under this License.
+//
+// All non-code elements of the Product, including illustrations,
+// icon sets, and technical writing content, are licensed under the
+// Creative Commons Attribution-ShareAlike 4.0 International License:
+// https://creativecommons.org/licenses/by-sa/4.0/legalcode
+//
+// This license applies only to such non-code elements and does not
+// modify or replace the licensing terms applicable to the Program's
+// source code, which remains licensed under the GNU Affero General
+// Public License v3.
+//
+// SPDX-License-Identifier: AGPL-3.0-only
+
+package com.asc.registration.messaging.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.asc.common.core.domain.value.ClientId;
+import com.asc.common.core.domain.value.TenantId;
+import com.asc.common.service.ports.output.message.publisher.AuthorizationMessagePublisher;
+import com.asc.common.service.ports.output.message.publisher.ConfirmedBatchPublisher;
+import com.asc.common.service.transfer.message.ClientCacheRemoveEvent;
+import com.asc.common.service.transfer.message.ClientRemovedEvent;
+import com.asc.registration.service.ports.output.repository.ClientOutboxRepository;
+import com.asc.registration.service.ports.output.resilience.ClientCacheService;
+import com.asc.registration.service.transfer.message.ClientOutboxMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+public class ClientOutboxRelayTest {
+  @Mock private ClientOutboxRepository clientOutboxRepository;
+  @Mock private ClientCacheService clientCacheService;
+  @Mock private AuthorizationMessagePublisher<ClientCacheRemoveEvent> cacheRemovePublisher;
+  @Mock private AuthorizationMessagePublisher<ClientRemovedEvent> clientRemovedPublisher;
+  @Mock private ObjectProvider<ConfirmedBatchPublisher> confirmedBatchPublisher;
+
+  private ClientOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay =
+        new ClientOutboxRelay(
+            clientOutboxRepository,
+            clientCacheService,
+            cacheRemovePublisher,
+            clientRemovedPublisher,
+            confirmedBatchPublisher,
+            2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    relay.destroy();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void givenPendingMessages_whenRelaying_thenEventsArePublishedUntilOutboxIsDrained() {
+    var changed = message(ClientOutboxMessage.Type.CLIENT_CHANGED);
+    var removed = message(ClientOutboxMessage.Type.CLIENT_REMOVED);
+    var batchPublisher = mock(ConfirmedBatchPublisher.class);
+    when(confirmedBatchPublisher.getIfAvailable()).thenReturn(batchPublisher);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(batchPublisher)
+        .publish(any(Runnable.class));
+    when(clientOutboxRepository.dispatch(eq(2), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation
+                  .<Consumer<List<ClientOutboxMessage>>>getArgument(1)
+                  .accept(List.of(changed, removed));
+              return 2;
+            })
+        .thenReturn(0);
+
+    relay.relay();
+
+    verify(clientOutboxRepository, times(2)).dispatch(anyInt(), any(Consumer.class));
+    verify(batchPublisher).publish(any(Runnable.class));
+    verify(clientCacheService, times(2)).evictOrThrow(any(ClientId.class), eq(new TenantId(1L)));
+    verify(cacheRemovePublisher, times(2)).publish(any(ClientCacheRemoveEvent.class));
+    verify(clientRemovedPublisher)
+        .publish(ClientRemovedEvent.builder().clientId(removed.getClientId()).build());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void givenFailingBroker_whenRelaying_thenFailureIsContained() {
+    when(confirmedBatchPublisher.getIfAvailable()).thenReturn(null);
+    doThrow(new IllegalStateException("broker is down"))
+        .when(cacheRemovePublisher)
+        .publish(any(ClientCacheRemoveEvent.class));
+    when(clientOutboxRepository.dispatch(eq(2), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation
+                  .<Consumer<List<ClientOutboxMessage>>>getArgument(1)
+                  .accept(List.of(message(ClientOutboxMessage.Type.CLIENT_CHANGED)));
+              return 1;
+            });
+
+    relay.relay();
+
+    verify(clientOutboxRepository).dispatch(anyInt(), any(Consumer.class));
+    verifyNoInteractions(clientRemovedPublisher);
+  }
+
+  @Test
+  void givenFailingCacheEviction_whenRelaying_thenMessagesStayInOutbox() {
+    var outbox =
+        new ArrayList<>(
+            List.of(
+                message(ClientOutboxMessage.Type.CLIENT_CHANGED),
+                message(ClientOutboxMessage.Type.CLIENT_REMOVED)));
+    when(confirmedBatchPublisher.getIfAvailable()).thenReturn(null);
+    doThrow(new IllegalStateException("cache is down"))
+        .when(clientCacheService)
+        .evictOrThrow(any(ClientId.class), any(TenantId.class));
+    when(clientOutboxRepository.dispatch(eq(2), any()))
+        .thenAnswer(
+            invocation -> {
+              var batch = List.copyOf(outbox);
+              invocation.<Consumer<List<ClientOutboxMessage>>>getArgument(1).accept(batch);
+              outbox.removeAll(batch);
+              return batch.size();
+            });
+
+    relay.relay();
+
+    assertEquals(2, outbox.size());
+    verifyNoInteractions(cacheRemovePublisher, clientRemovedPublisher);
+  }
+
+  private ClientOutboxMessage message(ClientOutboxMessage.Type type) {
+    return ClientOutboxMessage.builder()
+        .type(type)
+        .clientId(UUID.randomUUID().toString())
+        .tenantId(1L)
+        .build();
+  }
+}